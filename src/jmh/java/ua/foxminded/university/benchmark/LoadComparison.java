@@ -0,0 +1,205 @@
+package ua.foxminded.university.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Closed-loop HTTP load driver used to compare the platform-thread and virtual-thread request modes.
+ * Run the application once per mode against the same database, then for each run:
+ *
+ * mvn -P benchmark test-compile exec:exec -Dbenchmark.main=ua.foxminded.university.benchmark.LoadComparison
+ *     -Dbenchmark.args="http://localhost:8080 admin@mail.com:secret 400 60"
+ */
+public class LoadComparison {
+
+    private static final List<String> DEFAULT_PATHS = List.of(
+        "/api/lectures/feed?limit=50",
+        "/api/lectures/group/list?id=1",
+        "/api/marks/student/list?id=1",
+        "/api/marks/subject/list?id=1");
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\":\"([^\"]+)\"");
+    private static final double[] PERCENTILES = {50, 95, 99};
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("Usage: LoadComparison <base-url> <email:password> <concurrency> <seconds> [paths...]");
+            System.exit(1);
+        }
+
+        String baseUrl = args[0];
+        int concurrency = Integer.parseInt(args[2]);
+        Duration duration = Duration.ofSeconds(Long.parseLong(args[3]));
+        List<String> paths = args.length > 4 ? Arrays.asList(args).subList(4, args.length) : DEFAULT_PATHS;
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        String authorization = "Bearer " + issueToken(client, baseUrl, args[1]);
+
+        run(client, baseUrl, authorization, paths, concurrency, duration.dividedBy(3));
+        Result[] results = run(client, baseUrl, authorization, paths, concurrency, duration);
+        print(results, paths, concurrency, duration);
+    }
+
+    private static String issueToken(HttpClient client, String baseUrl, String credentials) throws Exception {
+        String basic = Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/token"))
+            .header("Authorization", "Basic " + basic)
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Token request failed with " + response.statusCode());
+        }
+
+        return matcher.group(1);
+    }
+
+    private static Result[] run(HttpClient client, String baseUrl, String authorization, List<String> paths,
+                                int concurrency, Duration duration) throws InterruptedException {
+        List<HttpRequest> requests = paths.stream()
+            .map(path -> HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build())
+            .toList();
+        Result[][] workerResults = new Result[concurrency][];
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        for (int worker = 0; worker < concurrency; worker++) {
+            int id = worker;
+            Thread thread = new Thread(() -> {
+                Result[] results = newResults(paths.size());
+
+                for (int i = id; System.nanoTime() < deadline; i++) {
+                    int path = i % requests.size();
+                    long start = System.nanoTime();
+                    boolean ok;
+
+                    try {
+                        ok = client.send(requests.get(path), HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+
+                    results[path].record(System.nanoTime() - start, ok);
+                }
+
+                workerResults[id] = results;
+                done.countDown();
+            }, "load-" + worker);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        done.await();
+        Result[] merged = newResults(paths.size());
+
+        for (Result[] results : workerResults) {
+            for (int path = 0; path < merged.length; path++) {
+                merged[path].merge(results[path]);
+            }
+        }
+
+        return merged;
+    }
+
+    private static void print(Result[] results, List<String> paths, int concurrency, Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+        Result total = new Result();
+        System.out.printf("concurrency=%d duration=%ss%n", concurrency, duration.toSeconds());
+        System.out.printf("%-36s %9s %7s %9s %9s %9s %9s %9s%n",
+            "path", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+
+        for (int path = 0; path < results.length; path++) {
+            printRow(paths.get(path), results[path], seconds);
+            total.merge(results[path]);
+        }
+
+        printRow("total", total, seconds);
+    }
+
+    private static void printRow(String name, Result result, double seconds) {
+        long[] latencies = result.sorted();
+        double[] values = new double[PERCENTILES.length];
+
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            values[i] = millis(percentile(latencies, PERCENTILES[i]));
+        }
+
+        System.out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, result.size, result.errors,
+            result.size / seconds, values[0], values[1], values[2],
+            millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static Result[] newResults(int size) {
+        Result[] results = new Result[size];
+
+        for (int i = 0; i < size; i++) {
+            results[i] = new Result();
+        }
+
+        return results;
+    }
+
+    private static class Result {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+
+            latencies[size++] = nanos;
+
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void merge(Result other) {
+            if (size + other.size > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+            }
+
+            System.arraycopy(other.latencies, 0, latencies, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package ua.foxminded.university.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.foxminded.university.data.EntityData;
+import ua.foxminded.university.domain.Group;
+import ua.foxminded.university.domain.Lecture;
+import ua.foxminded.university.domain.LectureRoom;
+import ua.foxminded.university.domain.Student;
+import ua.foxminded.university.domain.Subject;
+import ua.foxminded.university.domain.Teacher;
+import ua.foxminded.university.dto.group.GroupNestedDTO;
+import ua.foxminded.university.dto.group.GroupRequestDTO;
+import ua.foxminded.university.dto.group.GroupResponseDTO;
+import ua.foxminded.university.dto.lecture.LectureRequestDTO;
+import ua.foxminded.university.dto.lecture.LectureResponseDTO;
+import ua.foxminded.university.dto.student.StudentNestedDTO;
+import ua.foxminded.university.dto.student.StudentRequestDTO;
+import ua.foxminded.university.dto.student.StudentResponseDTO;
+import ua.foxminded.university.dto.subject.SubjectNestedDTO;
+import ua.foxminded.university.dto.subject.SubjectRequestDTO;
+import ua.foxminded.university.dto.subject.SubjectResponseDTO;
+import ua.foxminded.university.dto.teacher.TeacherNestedDTO;
+import ua.foxminded.university.dto.teacher.TeacherRequestDTO;
+import ua.foxminded.university.dto.teacher.TeacherResponseDTO;
+import ua.foxminded.university.service.interfaces.LectureService;
+import ua.foxminded.university.service.interfaces.SubjectService;
+import ua.foxminded.university.util.mappers.GroupMapper;
+import ua.foxminded.university.util.mappers.LectureMapper;
+import ua.foxminded.university.util.mappers.StudentMapper;
+import ua.foxminded.university.util.mappers.SubjectMapper;
+import ua.foxminded.university.util.mappers.TeacherMapper;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/*
+ * Per-entity cost of the mapping layer in both directions. Run with the gc profiler to see allocation per operation:
+ *
+ * mvn -P benchmark test-compile exec:exec -Djmh.args="MapperBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperBenchmark {
+
+    private LectureMapper lectureMapper;
+    private GroupMapper groupMapper;
+    private TeacherMapper teacherMapper;
+    private StudentMapper studentMapper;
+    private SubjectMapper subjectMapper;
+
+    private Lecture lecture;
+    private Group group;
+    private Teacher teacher;
+    private Student student;
+    private Subject subject;
+
+    private LectureRequestDTO lectureRequest;
+    private GroupRequestDTO groupRequest;
+    private TeacherRequestDTO teacherRequest;
+    private StudentRequestDTO studentRequest;
+    private SubjectRequestDTO subjectRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Subject> subjects = EntityData.setSubjects();
+        List<Lecture> lectures = EntityData.setLectures();
+        SubjectService subjectService = stub(SubjectService.class, id -> subjects.get((id - 1) % subjects.size()));
+        LectureService lectureService = stub(LectureService.class, id -> lectures.get((id - 1) % lectures.size()));
+
+        lectureMapper = new LectureMapper(lectureService, null);
+        groupMapper = new GroupMapper(null, subjectService, lectureService);
+        teacherMapper = new TeacherMapper(null, subjectService);
+        studentMapper = new StudentMapper(null);
+        subjectMapper = new SubjectMapper(subjectService);
+
+        lecture = setUpLecture();
+        group = setUpGroup();
+        teacher = setUpTeacher();
+        student = setUpStudent();
+        subject = EntityData.setExpectedSubjects().get(0);
+
+        lectureRequest = lectureMapper.convertToLectureRequestDTO(lecture);
+        groupRequest = groupMapper.convertToGroupRequestDTO(group);
+        teacherRequest = teacherMapper.convertToTeacherDTO(teacher);
+        studentRequest = studentMapper.convertToStudentRequestDTO(student);
+        studentRequest.setPassword("Password1!");
+        subjectRequest = subjectMapper.convertToSubjectRequestDTO(subject);
+    }
+
+    @Benchmark
+    public LectureResponseDTO lectureToResponse() {
+        return lectureMapper.convertToLectureResponseDTO(lecture);
+    }
+
+    @Benchmark
+    public LectureRequestDTO lectureToRequest() {
+        return lectureMapper.convertToLectureRequestDTO(lecture);
+    }
+
+    @Benchmark
+    public Lecture requestToLecture() {
+        return lectureMapper.convertToLecture(lectureRequest);
+    }
+
+    @Benchmark
+    public GroupResponseDTO groupToResponse() {
+        return groupMapper.convertToGroupResponseDTO(group);
+    }
+
+    @Benchmark
+    public GroupResponseDTO groupToResponseWhenFindAll() {
+        return groupMapper.convertToGroupResponseDTOWhenFindAll(group);
+    }
+
+    @Benchmark
+    public GroupNestedDTO groupToNested() {
+        return groupMapper.convertToGroupNestedDTO(group);
+    }
+
+    @Benchmark
+    public GroupRequestDTO groupToRequest() {
+        return groupMapper.convertToGroupRequestDTO(group);
+    }
+
+    @Benchmark
+    public Group requestToGroup() {
+        return groupMapper.convertToGroup(groupRequest);
+    }
+
+    @Benchmark
+    public TeacherResponseDTO teacherToResponse() {
+        return teacherMapper.convertToTeacherResponseDTO(teacher);
+    }
+
+    @Benchmark
+    public TeacherNestedDTO teacherToNested() {
+        return teacherMapper.convertToTeacherNestedDTO(teacher);
+    }
+
+    @Benchmark
+    public TeacherRequestDTO teacherToRequest() {
+        return teacherMapper.convertToTeacherDTO(teacher);
+    }
+
+    @Benchmark
+    public Teacher requestToTeacher() {
+        return teacherMapper.convertToTeacher(teacherRequest);
+    }
+
+    @Benchmark
+    public StudentResponseDTO studentToResponse() {
+        return studentMapper.convertToDTOWhenFindOne(student);
+    }
+
+    @Benchmark
+    public StudentResponseDTO studentToResponseWhenFindAll() {
+        return studentMapper.convertToDTOWhenFindAll(student);
+    }
+
+    @Benchmark
+    public StudentNestedDTO studentToNested() {
+        return studentMapper.convertToStudentNestedDTO(student);
+    }
+
+    @Benchmark
+    public StudentRequestDTO studentToRequest() {
+        return studentMapper.convertToStudentRequestDTO(student);
+    }
+
+    @Benchmark
+    public Student requestToStudent() {
+        return studentMapper.convertToStudent(studentRequest);
+    }
+
+    @Benchmark
+    public SubjectResponseDTO subjectToResponse() {
+        return subjectMapper.convertToSubjectResponseDTO(subject);
+    }
+
+    @Benchmark
+    public SubjectResponseDTO subjectToResponseWhenFindAll() {
+        return subjectMapper.convertToSubjectResponseDTOWhenFindAll(subject);
+    }
+
+    @Benchmark
+    public SubjectNestedDTO subjectToNested() {
+        return subjectMapper.convertToSubjectNestedDTO(subject);
+    }
+
+    @Benchmark
+    public SubjectRequestDTO subjectToRequest() {
+        return subjectMapper.convertToSubjectRequestDTO(subject);
+    }
+
+    @Benchmark
+    public Subject requestToSubject() {
+        return subjectMapper.convertToSubject(subjectRequest);
+    }
+
+    private Lecture setUpLecture() {
+        Lecture lecture = EntityData.setExpectedLectures().get(0);
+        lecture.getTeacher().setEmployee(EntityData.setExpectedEmployees().get(0));
+        lecture.setDuration(EntityData.setExpectedDurations().get(0));
+        lecture.setRoom(LectureRoom.builder().id(1).number(104).capacity(30).build());
+        lecture.getGroups().forEach(group -> group.setName("Org_ch-" + group.getId()));
+        return lecture;
+    }
+
+    private Group setUpGroup() {
+        Group group = EntityData.setExpectedGroups().get(0);
+        group.setDepartment(EntityData.setDepartments().get(0));
+        group.setStudents(EntityData.setExpectedStudents());
+        return group;
+    }
+
+    private Teacher setUpTeacher() {
+        Teacher teacher = EntityData.setExpectedTeachers().get(0);
+        teacher.getEmployee().setAddress(EntityData.setExpectedAddresses().get(0));
+        return teacher;
+    }
+
+    private Student setUpStudent() {
+        Student student = EntityData.setExpectedStudents().get(0);
+        student.setAddress(EntityData.setExpectedAddresses().get(0));
+        student.setGroup(EntityData.setExpectedGroups().get(0));
+        student.setMarks(EntityData.setExpectedMarks());
+        return student;
+    }
+
+    private static <T> T stub(Class<T> service, IntFunction<?> find) {
+        return service.cast(Proxy.newProxyInstance(service.getClassLoader(), new Class<?>[]{service},
+            (proxy, method, args) -> {
+                if (method.getName().equals("find") && args != null && args.length == 1
+                    && args[0] instanceof Integer id) {
+                    return find.apply(id);
+                }
+
+                throw new UnsupportedOperationException(method.getName());
+            }));
+    }
+}
@@ -0,0 +1,109 @@
+package ua.foxminded.university.benchmark;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.PropertyMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.foxminded.university.data.EntityData;
+import ua.foxminded.university.domain.Lecture;
+import ua.foxminded.university.domain.LectureRoom;
+import ua.foxminded.university.domain.Teacher;
+import ua.foxminded.university.dto.lecture.LectureRequestDTO;
+import ua.foxminded.university.dto.lecture.LectureResponseDTO;
+import ua.foxminded.university.dto.teacher.TeacherResponseDTO;
+import ua.foxminded.university.util.mappers.LectureMapper;
+import ua.foxminded.university.util.mappers.TeacherMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Per-row cost of a ModelMapper built for every call (how util/mappers worked before the type maps were created once
+ * per mapper) against the mappers as they are now. The perCall* methods reproduce the old method bodies verbatim.
+ *
+ * mvn -P benchmark test-compile exec:exec -Djmh.args="MapperTypeMapBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperTypeMapBenchmark {
+
+    private LectureMapper lectureMapper;
+    private TeacherMapper teacherMapper;
+
+    private Lecture lecture;
+    private Teacher teacher;
+    private LectureRequestDTO lectureRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lectureMapper = new LectureMapper(null, null);
+        teacherMapper = new TeacherMapper(null, null);
+
+        lecture = EntityData.setExpectedLectures().get(0);
+        lecture.getTeacher().setEmployee(EntityData.setExpectedEmployees().get(0));
+        lecture.setDuration(EntityData.setExpectedDurations().get(0));
+        lecture.setRoom(LectureRoom.builder().id(1).number(104).capacity(30).build());
+        lecture.getGroups().forEach(group -> group.setName("Org_ch-" + group.getId()));
+
+        teacher = EntityData.setExpectedTeachers().get(0);
+        teacher.getEmployee().setAddress(EntityData.setExpectedAddresses().get(0));
+
+        lectureRequest = lectureMapper.convertToLectureRequestDTO(lecture);
+    }
+
+    @Benchmark
+    public LectureResponseDTO lectureToResponsePerCall() {
+        return new ModelMapper().map(lecture, LectureResponseDTO.class);
+    }
+
+    @Benchmark
+    public LectureResponseDTO lectureToResponseShared() {
+        return lectureMapper.convertToLectureResponseDTO(lecture);
+    }
+
+    @Benchmark
+    public Lecture requestToLecturePerCall() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setAmbiguityIgnored(true);
+        return modelMapper.map(lectureRequest, Lecture.class);
+    }
+
+    @Benchmark
+    public Lecture requestToLectureShared() {
+        return lectureMapper.convertToLecture(lectureRequest);
+    }
+
+    @Benchmark
+    public TeacherResponseDTO teacherToResponsePerCall() {
+        PropertyMap<Teacher, TeacherResponseDTO> findOne = new PropertyMap<>() {
+            @Override
+            protected void configure() {
+                skip(destination.getEmployee().getId());
+                skip(destination.getEmployee().getBirthDate());
+                skip(destination.getEmployee().getPassword());
+                skip(destination.getEmployee().getRole());
+                skip(destination.getEmployee().getAddress());
+                skip(destination.getEmployee().getEmploymentDate());
+                skip(destination.getEmployee().getEmploymentType());
+            }
+        };
+        return new ModelMapper().addMappings(findOne).map(teacher);
+    }
+
+    @Benchmark
+    public TeacherResponseDTO teacherToResponseShared() {
+        return teacherMapper.convertToTeacherResponseDTO(teacher);
+    }
+}
@@ -0,0 +1,97 @@
+package ua.foxminded.university.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.util.analytics.MarkColumns;
+import ua.foxminded.university.util.analytics.MarkStatistics;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MarkColumnsBenchmark {
+
+    private static final int SUBJECTS = 2_000;
+    private static final int GROUP_SIZE = 30;
+    private static final int DEPARTMENT_SIZE = 3_000;
+    private static final int FACULTY_SIZE = 30_000;
+    private static final MarkValue[] VALUES = MarkValue.values();
+
+    @Param("10000000")
+    private int marks;
+
+    @Param("300000")
+    private int students;
+
+    private MarkColumns columns;
+    private BitSet group;
+    private BitSet department;
+    private BitSet faculty;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        columns = new MarkColumns(marks);
+
+        for (int markId = 1; markId <= marks; markId++) {
+            columns.put(markId, 1 + random.nextInt(students), 1 + random.nextInt(SUBJECTS),
+                VALUES[random.nextInt(VALUES.length)]);
+        }
+
+        group = range(GROUP_SIZE);
+        department = range(DEPARTMENT_SIZE);
+        faculty = range(FACULTY_SIZE);
+    }
+
+    @Benchmark
+    public MarkStatistics subject() {
+        return new MarkStatistics(columns.countBySubject(1 + random.nextInt(SUBJECTS)));
+    }
+
+    @Benchmark
+    public MarkStatistics group() {
+        return new MarkStatistics(columns.countByStudents(group));
+    }
+
+    @Benchmark
+    public MarkStatistics department() {
+        return new MarkStatistics(columns.countByStudents(department));
+    }
+
+    @Benchmark
+    public MarkStatistics faculty() {
+        return new MarkStatistics(columns.countByStudents(faculty));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void update() {
+        columns.put(1 + random.nextInt(marks), 1 + random.nextInt(students), 1 + random.nextInt(SUBJECTS),
+            VALUES[random.nextInt(VALUES.length)]);
+    }
+
+    private BitSet range(int size) {
+        BitSet ids = new BitSet(students + 1);
+        int from = 1 + random.nextInt(students - size);
+        ids.set(from, from + size);
+        return ids;
+    }
+}
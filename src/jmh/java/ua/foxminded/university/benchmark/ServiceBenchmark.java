@@ -0,0 +1,316 @@
+package ua.foxminded.university.benchmark;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ua.foxminded.university.UniversityApplication;
+import ua.foxminded.university.domain.*;
+import ua.foxminded.university.service.interfaces.*;
+import ua.foxminded.university.util.dataset.DatasetLoader;
+import ua.foxminded.university.util.dataset.UniversityDataset;
+import ua.foxminded.university.util.exceptions.EntityExistsException;
+import ua.foxminded.university.util.pagination.LecturePageRequest;
+
+import javax.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/*
+ * Boots the application without the web layer against in-memory H2 in PostgreSQL mode, loads a UniversityDataset
+ * of the given number of students and times service read and write paths, reporting latency percentiles and the
+ * number of JDBC statements per call.
+ *
+ * mvn -P benchmark test-compile exec:exec -Dbenchmark.main=ua.foxminded.university.benchmark.ServiceBenchmark
+ *     -Dbenchmark.args="100000 200 10"
+ *
+ * Arguments are the number of students (1000), measured calls per path (200) and the time budget per path in
+ * seconds (10). 1M students need a heap of about 8 GB, e.g. -Dbenchmark.jvmArgs=-Xmx8g.
+ */
+public class ServiceBenchmark {
+
+    private static final String URL =
+        "jdbc:h2:mem:university;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=GROUPS,VALUE,DATE;"
+            + "DB_CLOSE_DELAY=-1";
+    private static final double[] PERCENTILES = {50, 90, 99};
+    private static final LocalDate FIRST_FREE_DATE = UniversityDataset.TERM_START.plusYears(1);
+
+    private final UniversityDataset dataset;
+    private final int iterations;
+    private final long budgetNanos;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private ConfigurableApplicationContext context;
+    private Statistics statistics;
+    private int sequence;
+
+    public ServiceBenchmark(UniversityDataset dataset, int iterations, int budgetSeconds) {
+        this.dataset = dataset;
+        this.iterations = iterations;
+        this.budgetNanos = budgetSeconds * 1_000_000_000L;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int budgetSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        ServiceBenchmark benchmark = new ServiceBenchmark(new UniversityDataset(students), iterations, budgetSeconds);
+
+        benchmark.load();
+        benchmark.start();
+
+        try {
+            benchmark.run();
+        } finally {
+            benchmark.context.close();
+        }
+    }
+
+    private void load() throws SQLException {
+        long start = System.nanoTime();
+
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM 'classpath:/1.schema.sql'");
+            new DatasetLoader(connection).load(dataset);
+        }
+
+        System.out.printf("Loaded %d students, %d employees, %d groups, %d lectures, %d marks in %d ms%n",
+            dataset.students(), dataset.employees(), dataset.groups(), dataset.lectures(), dataset.marks(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void start() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = new SpringApplicationBuilder(UniversityApplication.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.main.banner-mode=off",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.url=" + URL,
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=never",
+                "--logging.level.root=warn",
+                "--logging.level.ua.foxminded.university.service=off");
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    private void run() {
+        StudentService studentService = context.getBean(StudentService.class);
+        GroupService groupService = context.getBean(GroupService.class);
+        SubjectService subjectService = context.getBean(SubjectService.class);
+        TeacherService teacherService = context.getBean(TeacherService.class);
+        EmployeeService employeeService = context.getBean(EmployeeService.class);
+        LectureService lectureService = context.getBean(LectureService.class);
+        MarkService markService = context.getBean(MarkService.class);
+        DepartmentService departmentService = context.getBean(DepartmentService.class);
+        FacultyService facultyService = context.getBean(FacultyService.class);
+
+        System.out.printf("%-34s %6s %9s %9s %9s %9s %10s%n",
+            "path", "calls", "p50 ms", "p90 ms", "p99 ms", "max ms", "stmts/call");
+
+        measure("FacultyService.findAll", i -> facultyService::findAll);
+        measure("DepartmentService.findAll", i -> departmentService::findAll);
+        measure("GroupService.findAll", i -> groupService::findAll);
+        measure("GroupService.findByDepartment", i -> {
+            int id = randomId(dataset.departments());
+            return () -> groupService.findByDepartment(id);
+        });
+        measure("StudentService.findAll", i -> studentService::findAll);
+        measure("StudentService.find", i -> {
+            int id = randomId(dataset.students());
+            return () -> studentService.find(id);
+        });
+        measure("StudentService.findByGroup", i -> {
+            int id = randomId(dataset.groups());
+            return () -> studentService.findByGroup(id);
+        });
+        measure("EmployeeService.findAll", i -> employeeService::findAll);
+        measure("TeacherService.findAll", i -> teacherService::findAll);
+        measure("TeacherService.findBySubject", i -> {
+            int id = randomId(dataset.subjects());
+            return () -> teacherService.findBySubject(id);
+        });
+        measure("SubjectService.findAll", i -> subjectService::findAll);
+        measure("SubjectService.findByGroup", i -> {
+            int id = randomId(dataset.groups());
+            return () -> subjectService.findByGroup(id);
+        });
+        measure("LectureService.findRows", i -> lectureService::findRows);
+        measure("LectureService.findPage", i -> () -> lectureService.findPage(LecturePageRequest.builder()
+            .from(UniversityDataset.TERM_START)
+            .groupId(randomId(dataset.groups()))
+            .size(50)
+            .build()));
+        measure("LectureService.findByGroup", i -> {
+            int id = randomId(dataset.groups());
+            return () -> lectureService.findByGroup(id);
+        });
+        measure("MarkService.findByStudent", i -> {
+            int id = randomId(dataset.students());
+            return () -> markService.findByStudent(id);
+        });
+        measure("MarkService.findBySubject", i -> {
+            int id = dataset.subjectOfGroup(randomId(dataset.groups()),
+                random.nextInt(UniversityDataset.MARKS_PER_STUDENT));
+            return () -> markService.findBySubject(id);
+        });
+
+        measure("StudentService.add", i -> {
+            Student student = newStudent();
+            return () -> studentService.add(student);
+        });
+        measure("StudentService.add duplicate", i -> {
+            Student student = newStudent();
+            Student existing = studentService.find(randomId(dataset.students()));
+            student.setFirstName(existing.getFirstName());
+            student.setLastName(existing.getLastName());
+            student.setGender(existing.getGender());
+            student.setBirthDate(existing.getBirthDate());
+            student.setPhoneNumber(existing.getPhoneNumber());
+            return () -> expectExists(() -> studentService.add(student));
+        });
+        measure("StudentService.update", i -> {
+            int id = randomId(dataset.students());
+            Student student = studentService.find(id);
+            student.setPassword(null);
+            student.setLastName("Updated" + i);
+            return () -> studentService.update(id, student);
+        });
+        measure("GroupService.add", i -> {
+            Group group = Group.builder()
+                .name("B-" + next())
+                .department(Department.builder().id(randomId(dataset.departments())).build())
+                .subjects(new ArrayList<>())
+                .build();
+            return () -> groupService.add(group);
+        });
+        measure("SubjectService.add", i -> {
+            Subject subject = Subject.builder()
+                .name("Elective " + next())
+                .startDate(FIRST_FREE_DATE)
+                .endDate(FIRST_FREE_DATE.plusWeeks(16))
+                .build();
+            return () -> subjectService.add(subject);
+        });
+        measure("LectureService.add", i -> {
+            int group = randomId(dataset.groups());
+            int subject = dataset.subjectOfGroup(group, 0);
+            Lecture lecture = Lecture.builder()
+                .subject(Subject.builder().id(subject).build())
+                .teacher(Teacher.builder().id(randomId(dataset.teachers())).build())
+                .groups(List.of(Group.builder().id(group).build()))
+                .room(LectureRoom.builder().id(randomId(dataset.rooms())).build())
+                .duration(Duration.builder().id(randomId(dataset.durations())).build())
+                .date(FIRST_FREE_DATE.plusDays(next()))
+                .build();
+            return () -> lectureService.add(lecture);
+        });
+        measure("MarkService.add", i -> {
+            int student = randomId(dataset.students());
+            int subject = dataset.subjectOfGroup(dataset.groupOfStudent(student),
+                UniversityDataset.SUBJECTS_PER_GROUP - 1);
+            Mark mark = Mark.builder()
+                .value(MarkValue.values()[random.nextInt(MarkValue.values().length)])
+                .student(Student.builder().id(student).build())
+                .subject(Subject.builder().id(subject).build())
+                .build();
+            return () -> {
+                try {
+                    markService.add(mark);
+                } catch (EntityExistsException e) {
+                    // the same student drawn twice, the duplicate check still ran
+                }
+            };
+        });
+    }
+
+    private void measure(String name, IntFunction<Runnable> preparation) {
+        long[] latencies = new long[iterations];
+        long statements = 0;
+        long deadline = System.nanoTime() + budgetNanos;
+        int warmups = Math.max(1, iterations / 10);
+        int calls = 0;
+
+        for (int i = 0; i < warmups && System.nanoTime() < deadline; i++) {
+            preparation.apply(i).run();
+        }
+
+        while (calls < iterations && (calls == 0 || System.nanoTime() < deadline)) {
+            Runnable call = preparation.apply(warmups + calls);
+            long statementsBefore = statistics.getPrepareStatementCount();
+            long start = System.nanoTime();
+            call.run();
+            latencies[calls++] = System.nanoTime() - start;
+            statements += statistics.getPrepareStatementCount() - statementsBefore;
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, calls);
+        Arrays.sort(sorted);
+        System.out.printf("%-34s %6d %9.2f %9.2f %9.2f %9.2f %10.1f%n", name, calls,
+            millis(percentile(sorted, PERCENTILES[0])), millis(percentile(sorted, PERCENTILES[1])),
+            millis(percentile(sorted, PERCENTILES[2])), millis(sorted[sorted.length - 1]),
+            (double) statements / calls);
+    }
+
+    private Student newStudent() {
+        int number = next();
+        return Student.builder()
+            .firstName("Bench" + number)
+            .lastName("Student" + number)
+            .gender(Gender.FEMALE)
+            .birthDate(LocalDate.of(2005, 1, 1).plusDays(number % 3650))
+            .email("bench" + number + "@university.edu")
+            .phoneNumber(String.format("(099)%07d", number))
+            .password("Bench1!pass")
+            .address(Address.builder()
+                .country("Ukraine")
+                .city("Kyiv")
+                .street("Benchmark " + number % 100)
+                .postcode("01001")
+                .build())
+            .group(Group.builder().id(randomId(dataset.groups())).build())
+            .educationForm(Employment.FULL_TIME)
+            .enrollmentDate(FIRST_FREE_DATE)
+            .build();
+    }
+
+    private static void expectExists(Runnable call) {
+        try {
+            call.run();
+        } catch (EntityExistsException e) {
+            return;
+        }
+
+        throw new IllegalStateException("Expected a duplicate to be rejected");
+    }
+
+    private int randomId(int bound) {
+        return 1 + random.nextInt(bound);
+    }
+
+    private int next() {
+        return ++sequence;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
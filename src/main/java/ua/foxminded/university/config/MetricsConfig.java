@@ -0,0 +1,112 @@
+package ua.foxminded.university.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import ua.foxminded.university.util.metrics.RepositoryMetrics;
+import ua.foxminded.university.util.metrics.RepositoryMetricsInterceptor;
+import ua.foxminded.university.util.metrics.RequestLatencyFilter;
+import ua.foxminded.university.util.metrics.SlowQueryLog;
+import ua.foxminded.university.util.metrics.SlowQueryProperties;
+import ua.foxminded.university.util.metrics.SqlBudgetFilter;
+import ua.foxminded.university.util.metrics.SqlBudgetProperties;
+import ua.foxminded.university.util.metrics.SqlTimingProxy;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({SqlBudgetProperties.class, SlowQueryProperties.class})
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(
+        ObjectProvider<RepositoryMetrics> repositoryMetrics) {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            new RepositoryMetricsInterceptor(repositoryInformation.getRepositoryInterface(),
+                                repositoryMetrics::getObject))));
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlTimingPostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource
+                    ? SqlTimingProxy.wrap(dataSource, slowQueryLog::getObject) : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(SqlBudgetProperties properties) {
+        FilterRegistrationBean<SqlBudgetFilter> registration =
+            new FilterRegistrationBean<>(new SqlBudgetFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public RequestLatencyFilter requestLatencyFilter(MeterRegistry meterRegistry,
+                                                     @Value("${university.latency.slo-millis:500}") long sloMillis,
+                                                     @Value("${university.latency.log-interval:PT1M}")
+                                                     Duration logInterval) {
+        return new RequestLatencyFilter(meterRegistry, Duration.ofMillis(sloMillis), logInterval);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestLatencyFilter> requestLatencyFilterRegistration(
+        RequestLatencyFilter requestLatencyFilter) {
+        FilterRegistrationBean<RequestLatencyFilter> registration = new FilterRegistrationBean<>(requestLatencyFilter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public WebMvcConfigurer requestLatencyInterceptorConfigurer(RequestLatencyFilter requestLatencyFilter) {
+        return new WebMvcConfigurer() {
+
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(requestLatencyFilter);
+            }
+        };
+    }
+
+    @Autowired
+    public void registerEntityLoadListener(EntityManagerFactory entityManagerFactory,
+                                           RepositoryMetrics repositoryMetrics) {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_LOAD, repositoryMetrics);
+    }
+}
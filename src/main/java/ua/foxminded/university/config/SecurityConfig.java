@@ -2,27 +2,68 @@ package ua.foxminded.university.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import ua.foxminded.university.security.AccessTokenFilter;
+import ua.foxminded.university.security.AccessTokenProvider;
+import ua.foxminded.university.security.CachingAuthenticationProvider;
+import ua.foxminded.university.security.CredentialCache;
+import ua.foxminded.university.security.OffloadingPasswordEncoder;
+import ua.foxminded.university.security.PasswordHashingExecutor;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final String[] ADMIN_API_PATTERNS = {"/api/cache/**", "/api/hashing/**", "/actuator/**"};
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration)
         throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    @Bean
+    public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                         PasswordEncoder passwordEncoder,
+                                                         CredentialCache credentialCache) {
+        return new CachingAuthenticationProvider(userDetailsService, passwordEncoder, credentialCache);
+    }
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain accessTokenFilterChain(HttpSecurity http, AccessTokenProvider accessTokenProvider)
+        throws Exception {
+        http.requestMatcher(new AndRequestMatcher(new OrRequestMatcher(new AntPathRequestMatcher("/api/**"),
+                new AntPathRequestMatcher("/actuator/**")), AccessTokenFilter::hasAccessToken))
+            .addFilterBefore(new AccessTokenFilter(accessTokenProvider), BasicAuthenticationFilter.class)
+            .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            .and()
+            .csrf().disable()
+            .authorizeRequests()
+            .antMatchers(ADMIN_API_PATTERNS).hasRole("ADMIN")
+            .anyRequest().authenticated();
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.httpBasic()
+            .and()
+            .csrf().ignoringAntMatchers("/api/auth/token")
             .and()
             .authorizeRequests()
             .antMatchers("/auth/login",
@@ -37,6 +78,7 @@ public class SecurityConfig {
                 "/university-docs",
                 "/swagger-ui/index.html")
             .permitAll()
+            .antMatchers(ADMIN_API_PATTERNS).hasRole("ADMIN")
             .anyRequest().authenticated()
             .and()
             .formLogin().loginPage("/auth/login")
@@ -51,7 +93,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder getPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder getPasswordEncoder(PasswordHashingExecutor hashingExecutor) {
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(), hashingExecutor);
     }
 }
@@ -33,6 +33,7 @@ public class LecturesController {
 
     private final LectureService lectureService;
     private final LectureMapper lectureMapper;
+    private final LectureAssembler lectureAssembler;
     private final SubjectMapper subjectMapper;
     private final TeacherMapper teacherMapper;
     private final RoomMapper roomMapper;
@@ -41,6 +42,7 @@ public class LecturesController {
 
     public LecturesController(LectureService lectureService,
                               LectureMapper lectureMapper,
+                              LectureAssembler lectureAssembler,
                               SubjectMapper subjectMapper,
                               TeacherMapper teacherMapper,
                               RoomMapper roomMapper,
@@ -48,6 +50,7 @@ public class LecturesController {
                               GroupMapper groupMapper) {
         this.lectureService = lectureService;
         this.lectureMapper = lectureMapper;
+        this.lectureAssembler = lectureAssembler;
         this.subjectMapper = subjectMapper;
         this.teacherMapper = teacherMapper;
         this.roomMapper = roomMapper;
@@ -58,9 +61,7 @@ public class LecturesController {
     @GetMapping()
     public String showAll(Model model) {
         log.debug("Searching to show all lectures");
-        List<LectureResponseDTO> lecturesDTO = lectureService.findAll().stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRows());
         model.addAttribute("lectures", lecturesDTO);
         log.debug("Show all {}", Objects.requireNonNull(model.getAttribute("lectures")));
         addNewObjectsAttributesToView(model);
@@ -72,9 +73,7 @@ public class LecturesController {
     @GetMapping("/subject/list")
     public String showBySubject(@RequestParam("id") int id, Model model) {
         log.debug("Searching by subject id={}", id);
-        List<LectureResponseDTO> lecturesDTO = lectureService.findBySubject(id).stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRowsBySubject(id));
         model.addAttribute("lectures", lecturesDTO);
         log.debug("Show by subject id {}", Objects.requireNonNull(model.getAttribute("lectures")));
         addStringAttributesToView(model);
@@ -84,9 +83,7 @@ public class LecturesController {
     @GetMapping("/teacher/list")
     public String showByTeacher(@RequestParam("id") int id, Model model) {
         log.debug("Searching by teacher id={}", id);
-        List<LectureResponseDTO> lecturesDTO = lectureService.findByTeacher(id).stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRowsByTeacher(id));
         model.addAttribute("lectures", lecturesDTO);
         log.debug("Show by teacher id {}", Objects.requireNonNull(model.getAttribute("lectures")));
         addStringAttributesToView(model);
@@ -96,9 +93,7 @@ public class LecturesController {
     @GetMapping("/group/list")
     public String showByGroup(@RequestParam("id") int id, Model model) {
         log.debug("Searching by group id={}", id);
-        List<LectureResponseDTO> lecturesDTO = lectureService.findByGroup(id).stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRowsByGroup(id));
         model.addAttribute("lectures", lecturesDTO);
         log.debug("Show by group id {}", Objects.requireNonNull(model.getAttribute("lectures")));
         addStringAttributesToView(model);
@@ -108,9 +103,7 @@ public class LecturesController {
     @GetMapping("/room/list")
     public String showByRoom(@RequestParam("id") int id, Model model) {
         log.debug("Searching by room id={}", id);
-        List<LectureResponseDTO> lecturesDTO = lectureService.findByRoom(id).stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRowsByRoom(id));
         model.addAttribute("lectures", lecturesDTO);
         log.debug("Show by room id {}", Objects.requireNonNull(model.getAttribute("lectures")));
         addStringAttributesToView(model);
@@ -120,9 +113,7 @@ public class LecturesController {
     @GetMapping("/duration/list")
     public String showByDuration(@RequestParam("id") int id, Model model) {
         log.debug("Searching by duration id={}", id);
-        List<LectureResponseDTO> lecturesDTO = lectureService.findByDuration(id).stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRowsByDuration(id));
         model.addAttribute("lectures", lecturesDTO);
         log.debug("Show by duration id {}", Objects.requireNonNull(model.getAttribute("lectures")));
         addStringAttributesToView(model);
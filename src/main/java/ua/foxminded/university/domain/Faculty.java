@@ -1,6 +1,8 @@
 package ua.foxminded.university.domain;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.List;
@@ -8,6 +10,8 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "faculties")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "faculties")
 @Getter
 @Setter
 @ToString
@@ -20,7 +20,8 @@ public class Lecture {
 
     @Id
     @Column(name = "lecture_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lectures_id_seq")
+    @SequenceGenerator(name = "lectures_id_seq", sequenceName = "lectures_id_seq", allocationSize = 50)
     private int id;
 
     @ManyToOne
@@ -48,10 +49,21 @@ public class Lecture {
     @JoinColumn(name = "duration_id", referencedColumnName = "duration_id")
     private Duration duration;
 
+    /* Copy of the duration start time, so the timetable feed seeks and sorts on lectures_date_idx alone */
+    @Column(name = "start_time")
+    @Setter(AccessLevel.NONE)
+    private String startTime;
+
     @Column(name = "date", nullable = false)
     @DateTimeFormat(pattern = "yyyy-MM-dd")
     private LocalDate date;
 
+    @PrePersist
+    @PreUpdate
+    private void copyStartTime() {
+        startTime = duration == null ? null : duration.getStartTime();
+    }
+
     public void addGroup(Group group) {
         groups.add(group);
     }
@@ -0,0 +1,26 @@
+package ua.foxminded.university.dto.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheRegionStatisticsDTO {
+
+    @Schema(example = "groups")
+    private String region;
+
+    @Schema(example = "120")
+    private long hitCount;
+
+    @Schema(example = "8")
+    private long missCount;
+
+    @Schema(example = "8")
+    private long putCount;
+
+    @Schema(example = "0.9375")
+    private double hitRatio;
+}
@@ -0,0 +1,26 @@
+package ua.foxminded.university.dto.lecture;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import ua.foxminded.university.util.timetable.LectureBulkStatus;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LectureBulkResultDTO {
+
+    @Schema(example = "0")
+    private int index;
+
+    @Schema(example = "CREATED")
+    private LectureBulkStatus status;
+
+    @Schema(example = "6")
+    private Integer id;
+
+    @Schema(example = "[\"subject: must not be null\"]")
+    private List<String> errors;
+}
@@ -0,0 +1,25 @@
+package ua.foxminded.university.dto.lecture;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LectureCheckResultDTO {
+
+    @Schema(example = "0")
+    private int index;
+
+    @Schema(example = "false")
+    private boolean available;
+
+    @Schema(example = "[\"Room with id=1 is already booked on 2030-09-01 in the same time by lecture 3\"]")
+    private List<String> conflicts;
+
+    @Schema(example = "[\"subject: must not be null\"]")
+    private List<String> errors;
+}
@@ -0,0 +1,12 @@
+package ua.foxminded.university.dto.lecture;
+
+import lombok.Value;
+
+@Value
+public class LectureGroupRow {
+
+    int lectureId;
+    int id;
+    String name;
+    String departmentName;
+}
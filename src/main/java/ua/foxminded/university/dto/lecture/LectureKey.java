@@ -0,0 +1,24 @@
+package ua.foxminded.university.dto.lecture;
+
+import lombok.Value;
+import ua.foxminded.university.domain.Lecture;
+
+import java.time.LocalDate;
+
+@Value
+public class LectureKey {
+
+    LocalDate date;
+    Integer subjectId;
+    Integer teacherId;
+    Integer roomId;
+    Integer durationId;
+
+    public static LectureKey of(Lecture lecture) {
+        return new LectureKey(lecture.getDate(),
+            lecture.getSubject().getId(),
+            lecture.getTeacher().getId(),
+            lecture.getRoom().getId(),
+            lecture.getDuration().getId());
+    }
+}
@@ -0,0 +1,23 @@
+package ua.foxminded.university.dto.lecture;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LecturePageDTO {
+
+    @ToString.Exclude
+    private List<LectureResponseDTO> lectures;
+
+    @Schema(example = "MjAyMi0wMS0zMXwwOTowMHwxNQ")
+    private String nextCursor;
+}
@@ -0,0 +1,18 @@
+package ua.foxminded.university.dto.lecture;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+@Value
+public class LectureRow {
+
+    int id;
+    String subjectName;
+    LocalDate date;
+    Integer durationId;
+    String durationStartTime;
+    Integer lectureRoomNumber;
+    String teacherEmployeeLastName;
+    String teacherEmployeeFirstName;
+}
@@ -0,0 +1,16 @@
+package ua.foxminded.university.dto.lecture;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+@Value
+public class LectureSlot {
+
+    int lectureId;
+    LocalDate date;
+    Integer durationId;
+    Integer roomId;
+    Integer teacherId;
+    Integer groupId;
+}
@@ -0,0 +1,48 @@
+package ua.foxminded.university.dto.lecture;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.List;
+
+import static ua.foxminded.university.util.validators.ValidatorMessages.NOT_EMPTY_MESSAGE;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimetableGenerationRequestDTO {
+
+    @Schema(example = "2030-09-02")
+    @NotNull(message = NOT_EMPTY_MESSAGE)
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate from;
+
+    @Schema(example = "2030-12-27")
+    @NotNull(message = NOT_EMPTY_MESSAGE)
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate to;
+
+    @Schema(description = "faculty whose groups are scheduled, 0 for every faculty", example = "1")
+    private int facultyId;
+
+    @Schema(description = "subjects to schedule, all subjects running in the window when empty", example = "[1, 2]")
+    private List<Integer> subjectIds;
+
+    @Schema(example = "1")
+    @Min(1)
+    @Max(5)
+    @Builder.Default
+    private int lecturesPerWeek = 1;
+
+    @Schema(example = "30")
+    @Min(1)
+    @Max(60)
+    @Builder.Default
+    private int timeBudgetSeconds = 30;
+}
@@ -0,0 +1,36 @@
+package ua.foxminded.university.dto.lecture;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimetableGenerationResultDTO {
+
+    @Schema(example = "640")
+    private int requested;
+
+    @Schema(example = "638")
+    private int created;
+
+    @Schema(description = "placed lectures rejected on save because the timetable changed meanwhile", example = "0")
+    private int rejected;
+
+    @Schema(example = "84")
+    private int attempts;
+
+    @Schema(example = "false")
+    private boolean timedOut;
+
+    @Schema(example = "1250")
+    private long searchMillis;
+
+    @Schema(example = "900")
+    private long saveMillis;
+
+    private List<UnplacedLectureDTO> unplaced;
+}
@@ -0,0 +1,22 @@
+package ua.foxminded.university.dto.lecture;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UnplacedLectureDTO {
+
+    @Schema(example = "2030-09-02")
+    private LocalDate weekStart;
+
+    @Schema(example = "1")
+    private int subjectId;
+
+    @Schema(example = "1")
+    private int groupId;
+}
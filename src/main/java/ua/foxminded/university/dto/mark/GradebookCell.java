@@ -0,0 +1,12 @@
+package ua.foxminded.university.dto.mark;
+
+import lombok.Value;
+import ua.foxminded.university.domain.MarkValue;
+
+@Value
+public class GradebookCell {
+
+    int studentId;
+    int subjectId;
+    MarkValue value;
+}
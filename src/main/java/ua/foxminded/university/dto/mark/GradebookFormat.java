@@ -0,0 +1,25 @@
+package ua.foxminded.university.dto.mark;
+
+import org.springframework.http.MediaType;
+
+public enum GradebookFormat {
+
+    JSON(MediaType.APPLICATION_JSON, "json"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    GradebookFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
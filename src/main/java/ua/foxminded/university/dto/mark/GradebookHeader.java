@@ -0,0 +1,10 @@
+package ua.foxminded.university.dto.mark;
+
+import lombok.Value;
+
+@Value
+public class GradebookHeader {
+
+    int id;
+    String name;
+}
@@ -0,0 +1,28 @@
+package ua.foxminded.university.dto.mark;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import javax.validation.constraints.NotNull;
+
+import static ua.foxminded.university.util.validators.ValidatorMessages.NOT_EMPTY_MESSAGE;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradebookQueryDTO {
+
+    @Schema(enumAsRef = true)
+    @NotNull(message = NOT_EMPTY_MESSAGE)
+    private GradebookScope scope;
+
+    @Schema(example = "1")
+    @NotNull(message = NOT_EMPTY_MESSAGE)
+    private Integer id;
+
+    @Schema(enumAsRef = true)
+    @NotNull(message = NOT_EMPTY_MESSAGE)
+    @Builder.Default
+    private GradebookFormat format = GradebookFormat.JSON;
+}
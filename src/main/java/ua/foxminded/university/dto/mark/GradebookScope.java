@@ -0,0 +1,6 @@
+package ua.foxminded.university.dto.mark;
+
+public enum GradebookScope {
+
+    GROUP, DEPARTMENT, FACULTY
+}
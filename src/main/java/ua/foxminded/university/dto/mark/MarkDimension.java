@@ -0,0 +1,6 @@
+package ua.foxminded.university.dto.mark;
+
+public enum MarkDimension {
+
+    SUBJECT, GROUP, DEPARTMENT, FACULTY
+}
@@ -0,0 +1,13 @@
+package ua.foxminded.university.dto.mark;
+
+import lombok.Value;
+import ua.foxminded.university.domain.MarkValue;
+
+@Value
+public class MarkFact {
+
+    int markId;
+    Integer studentId;
+    Integer subjectId;
+    MarkValue value;
+}
@@ -0,0 +1,31 @@
+package ua.foxminded.university.dto.mark;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import ua.foxminded.university.domain.MarkValue;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MarkStatisticsDTO {
+
+    @Schema(enumAsRef = true)
+    private MarkDimension dimension;
+
+    @Schema(example = "1")
+    private int id;
+
+    @Schema(example = "120")
+    private long count;
+
+    @Schema(description = "mean on the A=5 to E=1 scale, absent without marks", example = "3.75")
+    private Double average;
+
+    private Map<MarkValue, Long> distribution;
+
+    @Schema(description = "mark at or below which the given percent of marks fall, E being the lowest")
+    private Map<Integer, MarkValue> percentiles;
+}
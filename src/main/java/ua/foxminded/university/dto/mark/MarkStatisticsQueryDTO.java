@@ -0,0 +1,30 @@
+package ua.foxminded.university.dto.mark;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+import static ua.foxminded.university.util.validators.ValidatorMessages.NOT_EMPTY_MESSAGE;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MarkStatisticsQueryDTO {
+
+    @Schema(enumAsRef = true)
+    @NotNull(message = NOT_EMPTY_MESSAGE)
+    private MarkDimension dimension;
+
+    @Schema(example = "1")
+    @NotNull(message = NOT_EMPTY_MESSAGE)
+    private Integer id;
+
+    @Schema(example = "[25, 50, 75]")
+    @Builder.Default
+    private List<@NotNull @Min(1) @Max(100) Integer> percentiles = List.of(25, 50, 75);
+}
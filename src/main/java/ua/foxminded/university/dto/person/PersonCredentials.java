@@ -0,0 +1,15 @@
+package ua.foxminded.university.dto.person;
+
+import lombok.ToString;
+import lombok.Value;
+import ua.foxminded.university.domain.Role;
+
+@Value
+public class PersonCredentials {
+
+    int id;
+    String email;
+    @ToString.Exclude
+    String password;
+    Role role;
+}
@@ -0,0 +1,35 @@
+package ua.foxminded.university.dto.room;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+import static ua.foxminded.university.util.validators.ValidatorMessages.NOT_EMPTY_MESSAGE;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FreeRoomQueryDTO {
+
+    @Schema(example = "2030-09-02")
+    @NotNull(message = NOT_EMPTY_MESSAGE)
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate from;
+
+    @Schema(description = "last date the room should be free on, the first date when empty", example = "2030-09-06")
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate to;
+
+    @Schema(example = "1")
+    @NotNull(message = NOT_EMPTY_MESSAGE)
+    private Integer durationId;
+
+    @Schema(example = "30")
+    @Min(0)
+    private int capacity;
+}
@@ -0,0 +1,25 @@
+package ua.foxminded.university.dto.security;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccessTokenDTO {
+
+    @Schema(example = "AQAAAZKx3v0sAAAAAQ.Hx2Yb0Zr1n5a6l1j9o8nq4dB0hWw7zX3cQm2kJ5pT1E")
+    private String accessToken;
+
+    @Schema(example = "Bearer")
+    private String tokenType;
+
+    @Schema(example = "900")
+    private long expiresIn;
+
+    @Schema(example = "2030-09-02T09:15:00Z")
+    private Instant expiresAt;
+}
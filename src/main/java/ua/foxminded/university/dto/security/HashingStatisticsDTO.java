@@ -0,0 +1,38 @@
+package ua.foxminded.university.dto.security;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HashingStatisticsDTO {
+
+    @Schema(example = "2")
+    private int poolSize;
+
+    @Schema(example = "1")
+    private int activeCount;
+
+    @Schema(example = "3")
+    private int queueSize;
+
+    @Schema(example = "61")
+    private int queueRemainingCapacity;
+
+    @Schema(example = "120")
+    private long completedCount;
+
+    @Schema(example = "0")
+    private long rejectedCount;
+
+    @Schema(example = "12.5")
+    private double averageWaitMillis;
+
+    @Schema(example = "180.0")
+    private double maxWaitMillis;
+
+    @Schema(example = "95.2")
+    private double averageHashMillis;
+}
@@ -0,0 +1,15 @@
+package ua.foxminded.university.dto.subject;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+@Value
+public class SubjectDemand {
+
+    int subjectId;
+    LocalDate startDate;
+    LocalDate endDate;
+    int groupId;
+    long headcount;
+}
@@ -0,0 +1,10 @@
+package ua.foxminded.university.dto.subject;
+
+import lombok.Value;
+
+@Value
+public class SubjectTeacherLink {
+
+    int subjectId;
+    int teacherId;
+}
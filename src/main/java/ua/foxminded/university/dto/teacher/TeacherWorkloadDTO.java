@@ -0,0 +1,16 @@
+package ua.foxminded.university.dto.teacher;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeacherWorkloadDTO {
+
+    private TeacherNestedDTO teacher;
+
+    private List<WorkloadDTO> workloads;
+}
@@ -0,0 +1,32 @@
+package ua.foxminded.university.dto.teacher;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import ua.foxminded.university.util.timetable.TeacherWorkload.Period;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkloadDTO {
+
+    @Schema(enumAsRef = true)
+    private Period period;
+
+    @Schema(example = "2030-09-02")
+    private LocalDate from;
+
+    @Schema(example = "2030-09-08")
+    private LocalDate to;
+
+    @Schema(example = "6")
+    private int lectures;
+
+    @Schema(example = "480")
+    private long minutes;
+
+    @Schema(example = "8.0")
+    private double hours;
+}
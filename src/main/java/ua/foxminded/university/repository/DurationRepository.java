@@ -1,13 +1,27 @@
 package ua.foxminded.university.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ua.foxminded.university.domain.Duration;
 
+import javax.persistence.QueryHint;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 @Repository
 public interface DurationRepository extends JpaRepository<Duration, Integer> {
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     boolean existsByStartTime(String startTime);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     boolean existsByEndTime(String endTime);
+
+    @Modifying
+    @Query("update Lecture l set l.startTime = :startTime where l.duration.id = :id")
+    int updateLectureStartTimes(@Param("id") int id, @Param("startTime") String startTime);
 }
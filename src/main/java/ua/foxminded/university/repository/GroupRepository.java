@@ -1,15 +1,22 @@
 package ua.foxminded.university.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ua.foxminded.university.domain.Group;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Integer> {
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<Group> findByName(String name);
 
     List<Group> findByDepartmentId(int id);
@@ -17,4 +24,10 @@ public interface GroupRepository extends JpaRepository<Group, Integer> {
     List<Group> findBySubjectsId(int id);
 
     List<Group> findByLecturesId(int id);
+
+    @Query("select g.id from Group g where g.department.id = :id")
+    List<Integer> findIdsByDepartmentId(@Param("id") int id);
+
+    @Query("select g.id from Group g join g.department d where d.faculty.id = :id")
+    List<Integer> findIdsByFacultyId(@Param("id") int id);
 }
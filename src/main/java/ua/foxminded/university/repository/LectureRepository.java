@@ -1,18 +1,36 @@
 package ua.foxminded.university.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ua.foxminded.university.domain.Duration;
 import ua.foxminded.university.domain.Lecture;
-import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.dto.lecture.LectureGroupRow;
+import ua.foxminded.university.dto.lecture.LectureKey;
+import ua.foxminded.university.dto.lecture.LectureRow;
+import ua.foxminded.university.dto.lecture.LectureSlot;
+import ua.foxminded.university.util.pagination.LectureCursor;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface LectureRepository extends JpaRepository<Lecture, Integer> {
 
+    String SELECT_ROWS = "select new ua.foxminded.university.dto.lecture.LectureRow(l.id, s.name, l.date," +
+        " d.id, d.startTime, r.number, e.lastName, e.firstName) from Lecture l left join l.subject s" +
+        " left join l.teacher t left join t.employee e left join l.room r left join l.duration d";
+
     @Query("select case when count(l) > 0 then true else false end from Lecture l" +
         " where l.date=?1 and l.subject.id=?2 and l.teacher.id=?3 and l.room.id=?4 and l.duration.id=?5")
     boolean existsSameLecture(LocalDate date, int subjectId, int teacherId, int roomId, int durationId);
@@ -26,4 +44,81 @@ public interface LectureRepository extends JpaRepository<Lecture, Integer> {
     List<Lecture> findByDurationId(int id);
 
     List<Lecture> findByGroupsId(int id);
+
+    @Query(SELECT_ROWS + " order by l.id")
+    List<LectureRow> findRows();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_ROWS + " order by l.id")
+    Stream<LectureRow> streamRows();
+
+    @Query(SELECT_ROWS + " where s.id = ?1 order by l.id")
+    List<LectureRow> findRowsBySubjectId(int id);
+
+    @Query(SELECT_ROWS + " where t.id = ?1 order by l.id")
+    List<LectureRow> findRowsByTeacherId(int id);
+
+    @Query(SELECT_ROWS + " where r.id = ?1 order by l.id")
+    List<LectureRow> findRowsByRoomId(int id);
+
+    @Query(SELECT_ROWS + " where d.id = ?1 order by l.id")
+    List<LectureRow> findRowsByDurationId(int id);
+
+    @Query(SELECT_ROWS + " join l.groups g where g.id = ?1 order by l.id")
+    List<LectureRow> findRowsByGroupId(int id);
+
+    @Query("select new ua.foxminded.university.dto.lecture.LectureGroupRow(l.id, g.id, g.name, dep.name)" +
+        " from Lecture l join l.groups g left join g.department dep where l.id in :ids order by g.id")
+    List<LectureGroupRow> findGroupRows(@Param("ids") Collection<Integer> lectureIds);
+
+    @Query("select new ua.foxminded.university.dto.lecture.LectureKey(l.date, s.id, t.id, r.id, d.id)" +
+        " from Lecture l left join l.subject s left join l.teacher t left join l.room r left join l.duration d" +
+        " where l.date in :dates")
+    List<LectureKey> findKeysByDateIn(@Param("dates") Collection<LocalDate> dates);
+
+    @Query("select s.id from Subject s where s.id in :ids")
+    Set<Integer> findExistingSubjectIds(@Param("ids") Collection<Integer> ids);
+
+    @Query("select t.id from Teacher t where t.id in :ids")
+    Set<Integer> findExistingTeacherIds(@Param("ids") Collection<Integer> ids);
+
+    @Query("select r.id from LectureRoom r where r.id in :ids")
+    Set<Integer> findExistingRoomIds(@Param("ids") Collection<Integer> ids);
+
+    @Query("select d.id from Duration d where d.id in :ids")
+    Set<Integer> findExistingDurationIds(@Param("ids") Collection<Integer> ids);
+
+    @Query("select d from Duration d where d.id in :ids")
+    List<Duration> findDurations(@Param("ids") Collection<Integer> ids);
+
+    @Query("select g.id from Group g where g.id in :ids")
+    Set<Integer> findExistingGroupIds(@Param("ids") Collection<Integer> ids);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new ua.foxminded.university.dto.lecture.LectureSlot(l.id, l.date, d.id, r.id, t.id, g.id)" +
+        " from Lecture l left join l.duration d left join l.room r left join l.teacher t left join l.groups g" +
+        " order by l.id")
+    List<LectureSlot> findSlots();
+
+    @Query(SELECT_ROWS +
+        " where l.date between :from and :to" +
+        " and (:groupId = 0 or exists (select g.id from Group g join g.lectures gl where gl.id = l.id and g.id = :groupId))" +
+        " and (:teacherId = 0 or t.id = :teacherId)" +
+        " and (:roomId = 0 or r.id = :roomId)" +
+        " and l.date >= :date and (l.date > :date" +
+        " or (:durationId < " + LectureCursor.NO_DURATION + " and (l.startTime > :startTime or l.startTime is null" +
+        " or (l.startTime = :startTime and (l.duration.id > :durationId" +
+        " or (l.duration.id = :durationId and l.id > :id)))))" +
+        " or (l.startTime is null and l.id > :id))" +
+        " order by l.date, l.startTime nulls last, l.duration.id nulls last, l.id")
+    Slice<LectureRow> findPageAfter(@Param("date") LocalDate date,
+                                    @Param("startTime") String startTime,
+                                    @Param("durationId") int durationId,
+                                    @Param("id") int id,
+                                    @Param("from") LocalDate from,
+                                    @Param("to") LocalDate to,
+                                    @Param("groupId") int groupId,
+                                    @Param("teacherId") int teacherId,
+                                    @Param("roomId") int roomId,
+                                    Pageable pageable);
 }
@@ -2,11 +2,20 @@ package ua.foxminded.university.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ua.foxminded.university.domain.Mark;
 import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.dto.mark.GradebookCell;
+import ua.foxminded.university.dto.mark.MarkFact;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface MarkRepository extends JpaRepository<Mark, Integer> {
@@ -18,4 +27,19 @@ public interface MarkRepository extends JpaRepository<Mark, Integer> {
     List<Mark> findByStudentId(int id);
 
     List<Mark> findBySubjectId(int id);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select m from Mark m left join fetch m.student st left join fetch st.address left join fetch m.subject" +
+        " order by m.id")
+    Stream<Mark> streamAll();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "10000"))
+    @Query("select new ua.foxminded.university.dto.mark.MarkFact(m.id, st.id, s.id, m.value) from Mark m" +
+        " left join m.student st left join m.subject s")
+    Stream<MarkFact> streamFacts();
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "10000"))
+    @Query("select new ua.foxminded.university.dto.mark.GradebookCell(st.id, s.id, min(m.value)) from Mark m" +
+        " join m.student st join m.subject s where st.group.id in :ids group by st.id, s.id")
+    Stream<GradebookCell> streamGradebookCells(@Param("ids") Collection<Integer> groupIds);
 }
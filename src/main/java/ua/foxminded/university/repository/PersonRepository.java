@@ -1,13 +1,30 @@
 package ua.foxminded.university.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ua.foxminded.university.domain.Gender;
 import ua.foxminded.university.domain.Person;
+import ua.foxminded.university.dto.person.PersonCredentials;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 @Repository
 public interface PersonRepository extends JpaRepository<Person, Integer> {
 
     Optional<Person> findByEmail(String email);
+
+    @Query("select new ua.foxminded.university.dto.person.PersonCredentials(p.id, p.email, p.password, p.role)" +
+        " from Person p where p.email=?1")
+    Optional<PersonCredentials> findCredentialsByEmail(String email);
+
+    @Query("select new ua.foxminded.university.dto.person.PersonCredentials(p.id, p.email, p.password, p.role)" +
+        " from Person p where p.id=?1")
+    PersonCredentials findCredentialsById(int id);
+
+    @Query("select case when count(p.id) > 0 then true else false end from Person p" +
+        " where p.firstName=?1 and p.lastName=?2 and p.gender=?3 and p.birthDate=?4 and p.phoneNumber=?5 and p.id<>?6")
+    boolean existsSamePerson(String firstName, String lastName, Gender gender, LocalDate birthDate,
+                             String phoneNumber, int id);
 }
@@ -1,13 +1,39 @@
 package ua.foxminded.university.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ua.foxminded.university.domain.Student;
+import ua.foxminded.university.dto.mark.GradebookHeader;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Integer> {
 
     List<Student> findByGroupId(int id);
+
+    @Query("select s.id from Student s where s.group.id = :id")
+    List<Integer> findIdsByGroupId(@Param("id") int id);
+
+    @Query("select s.id from Student s join s.group g where g.department.id = :id")
+    List<Integer> findIdsByDepartmentId(@Param("id") int id);
+
+    @Query("select s.id from Student s join s.group g join g.department d where d.faculty.id = :id")
+    List<Integer> findIdsByFacultyId(@Param("id") int id);
+
+    @Query("select new ua.foxminded.university.dto.mark.GradebookHeader(s.id, concat(s.lastName, ' ', s.firstName))" +
+        " from Student s where s.group.id in :ids order by s.lastName, s.firstName, s.id")
+    List<GradebookHeader> findGradebookHeaders(@Param("ids") Collection<Integer> groupIds);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select s from Student s left join fetch s.group left join fetch s.address order by s.id")
+    Stream<Student> streamAll();
 }
@@ -1,15 +1,51 @@
 package ua.foxminded.university.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ua.foxminded.university.domain.Subject;
+import ua.foxminded.university.dto.mark.GradebookHeader;
+import ua.foxminded.university.dto.subject.SubjectDemand;
+import ua.foxminded.university.dto.subject.SubjectTeacherLink;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SubjectRepository extends JpaRepository<Subject, Integer> {
 
+    String SELECT_DEMAND = "select new ua.foxminded.university.dto.subject.SubjectDemand(s.id, s.startDate, s.endDate," +
+        " g.id, count(st)) from Subject s join s.groups g left join g.students st left join g.department d" +
+        " left join d.faculty f where s.startDate <= :to and s.endDate >= :from" +
+        " and (:facultyId = 0 or f.id = :facultyId)";
+    String GROUP_DEMAND = " group by s.id, s.startDate, s.endDate, g.id order by s.id, g.id";
+
     List<Subject> findByGroupsId(int id);
 
     List<Subject> findByTeachersId(int id);
+
+    @Query("select case when count(s) > 0 then true else false end from Subject s" +
+        " where s.name=?1 and s.startDate=?2 and s.endDate=?3 and s.id<>?4")
+    boolean existsSameSubject(String name, LocalDate startDate, LocalDate endDate, int id);
+
+    @Query(SELECT_DEMAND + GROUP_DEMAND)
+    List<SubjectDemand> findDemand(@Param("from") LocalDate from,
+                                   @Param("to") LocalDate to,
+                                   @Param("facultyId") int facultyId);
+
+    @Query(SELECT_DEMAND + " and s.id in :ids" + GROUP_DEMAND)
+    List<SubjectDemand> findDemandBySubjectIds(@Param("from") LocalDate from,
+                                               @Param("to") LocalDate to,
+                                               @Param("facultyId") int facultyId,
+                                               @Param("ids") Collection<Integer> subjectIds);
+
+    @Query("select new ua.foxminded.university.dto.subject.SubjectTeacherLink(s.id, t.id)" +
+        " from Subject s join s.teachers t where s.id in :ids order by s.id, t.id")
+    List<SubjectTeacherLink> findTeacherLinks(@Param("ids") Collection<Integer> subjectIds);
+
+    @Query("select distinct new ua.foxminded.university.dto.mark.GradebookHeader(s.id, s.name) from Mark m" +
+        " join m.subject s join m.student st where st.group.id in :ids order by s.name, s.id")
+    List<GradebookHeader> findGradebookHeaders(@Param("ids") Collection<Integer> groupIds);
 }
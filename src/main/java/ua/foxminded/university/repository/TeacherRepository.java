@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 import ua.foxminded.university.domain.Employee;
 import ua.foxminded.university.domain.Teacher;
 import ua.foxminded.university.dto.employee.EmployeeNestedDTO;
+import ua.foxminded.university.dto.teacher.TeacherNestedDTO;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,10 +15,19 @@ import java.util.Optional;
 @Repository
 public interface TeacherRepository extends JpaRepository<Teacher, Integer> {
 
+    String SELECT_NESTED = "select new ua.foxminded.university.dto.teacher.TeacherNestedDTO(t.id, e.firstName," +
+        " e.lastName, d.name, e.jobTitle) from Teacher t join t.employee e left join e.department d";
+
     Boolean existsByEmployeeId(int id);
 
     List<Teacher> findBySubjectsId(int id);
 
     @Query("SELECT t FROM Teacher t JOIN t.employee e WHERE e.department.id=:id")
     List<Teacher> findByDepartmentId(@Param("id") int id);
+
+    @Query(SELECT_NESTED + " where d.id=:id order by e.lastName, e.firstName, t.id")
+    List<TeacherNestedDTO> findNestedByDepartmentId(@Param("id") int id);
+
+    @Query(SELECT_NESTED + " where t.id=:id")
+    Optional<TeacherNestedDTO> findNestedById(@Param("id") int id);
 }
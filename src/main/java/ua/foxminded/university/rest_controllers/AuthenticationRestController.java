@@ -0,0 +1,97 @@
+package ua.foxminded.university.rest_controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import ua.foxminded.university.dto.security.AccessTokenDTO;
+import ua.foxminded.university.security.AccessToken;
+import ua.foxminded.university.security.AccessTokenProvider;
+import ua.foxminded.university.security.PersonDetails;
+import ua.foxminded.university.util.exceptions.AccessTokenException;
+
+@Slf4j
+@Tag(name = "Authentication", description = "The access token API")
+@RestController
+@RequestMapping("/api/auth")
+public class AuthenticationRestController extends DefaultController {
+
+    private static final String CREDENTIALS_REQUIRED = "Access token can only be issued for a password login";
+    private static final String ACCESS_TOKEN_REQUIRED = "Bearer access token required";
+
+    private final AccessTokenProvider accessTokenProvider;
+
+    @Autowired
+    public AuthenticationRestController(AccessTokenProvider accessTokenProvider) {
+        this.accessTokenProvider = accessTokenProvider;
+    }
+
+    @Operation(summary = "Issues a short-lived access token for the person authenticated by password")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Issued access token",
+            content = {@Content(mediaType = "application/json",
+                schema = @Schema(implementation = AccessTokenDTO.class))}),
+        @ApiResponse(responseCode = "401", description = "Not authenticated by password",
+            content = @Content(mediaType = "text/plain")),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @PostMapping("/token")
+    public AccessTokenDTO issue(Authentication authentication) {
+        if (!(authentication.getPrincipal() instanceof PersonDetails personDetails)
+            || authentication.getCredentials() instanceof AccessToken) {
+            throw new AccessTokenException(CREDENTIALS_REQUIRED);
+        }
+
+        log.debug("Issuing access token for person with id={}", personDetails.getPerson().getId());
+        return accessTokenProvider.issue(personDetails.getPerson());
+    }
+
+    @Operation(summary = "Exchanges the presented access token for a new one and revokes the presented one")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Refreshed access token",
+            content = {@Content(mediaType = "application/json",
+                schema = @Schema(implementation = AccessTokenDTO.class))}),
+        @ApiResponse(responseCode = "401", description = "Missing, expired or revoked access token or expired session",
+            content = @Content(mediaType = "text/plain")),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @PostMapping("/token/refresh")
+    public AccessTokenDTO refresh(Authentication authentication) {
+        AccessToken accessToken = getAccessToken(authentication);
+        log.debug("Refreshing access token with id={}", accessToken.id());
+        return accessTokenProvider.refresh(accessToken);
+    }
+
+    @Operation(summary = "Revokes the presented access token")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Revoked access token"),
+        @ApiResponse(responseCode = "401", description = "Missing, expired or revoked access token",
+            content = @Content(mediaType = "text/plain")),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @PostMapping("/token/revoke")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void revoke(Authentication authentication) {
+        AccessToken accessToken = getAccessToken(authentication);
+        log.debug("Revoking access token with id={}", accessToken.id());
+        accessTokenProvider.revoke(accessToken);
+    }
+
+    private AccessToken getAccessToken(Authentication authentication) {
+        if (authentication.getCredentials() instanceof AccessToken accessToken) {
+            return accessToken;
+        }
+
+        throw new AccessTokenException(ACCESS_TOKEN_REQUIRED);
+    }
+}
@@ -0,0 +1,65 @@
+package ua.foxminded.university.rest_controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ua.foxminded.university.dto.cache.CacheRegionStatisticsDTO;
+import ua.foxminded.university.service.interfaces.CacheStatisticsService;
+
+import java.util.List;
+
+@Slf4j
+@Tag(name = "Cache", description = "The second-level cache API")
+@RestController
+@RequestMapping("/api/cache")
+public class CacheStatisticsRestController extends DefaultController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    public CacheStatisticsRestController(CacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    @Operation(summary = "Gets hit/miss statistics of every second-level cache region")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Found cache region statistics",
+            content = {@Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = CacheRegionStatisticsDTO.class)))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping("/statistics")
+    public List<CacheRegionStatisticsDTO> showStatistics() {
+        log.debug("Searching to show cache region statistics");
+        List<CacheRegionStatisticsDTO> statistics = cacheStatisticsService.findRegionStatistics();
+        log.trace("Show cache region statistics {}", statistics);
+        return statistics;
+    }
+
+    @Operation(summary = "Evicts every second-level cache region and resets its statistics")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cleared cache and statistics",
+            content = {@Content(mediaType = "application/json",
+                schema = @Schema(example = "OK"))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @DeleteMapping("/statistics")
+    public ResponseEntity<HttpStatus> clear() {
+        log.debug("Clearing second-level cache");
+        cacheStatisticsService.clear();
+        log.trace("Success when clearing second-level cache");
+        return ResponseEntity.ok(HttpStatus.OK);
+    }
+}
@@ -9,8 +9,11 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ua.foxminded.university.domain.ErrorModel;
 import ua.foxminded.university.domain.ErrorResponse;
+import ua.foxminded.university.util.exceptions.AccessTokenException;
 import ua.foxminded.university.util.exceptions.EntityExistsException;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
+import ua.foxminded.university.util.exceptions.GradebookTooLargeException;
+import ua.foxminded.university.util.exceptions.HashingRejectedException;
 import ua.foxminded.university.util.exceptions.ValidationException;
 
 import java.util.ArrayList;
@@ -36,6 +39,27 @@ public class GlobalRestExceptionHandler {
         return exception.getLocalizedMessage();
     }
 
+    @ExceptionHandler(GradebookTooLargeException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleGradebookTooLargeException(GradebookTooLargeException exception) {
+        log.error(exception.getMessage(), exception);
+        return exception.getLocalizedMessage();
+    }
+
+    @ExceptionHandler(HashingRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handleHashingRejectedException(HashingRejectedException exception) {
+        log.error(exception.getMessage(), exception);
+        return exception.getLocalizedMessage();
+    }
+
+    @ExceptionHandler(AccessTokenException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public String handleAccessTokenException(AccessTokenException exception) {
+        log.error(exception.getMessage(), exception);
+        return exception.getLocalizedMessage();
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public String handleGeneralException(Exception exception) {
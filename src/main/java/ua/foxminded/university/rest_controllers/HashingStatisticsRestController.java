@@ -0,0 +1,44 @@
+package ua.foxminded.university.rest_controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ua.foxminded.university.dto.security.HashingStatisticsDTO;
+import ua.foxminded.university.security.PasswordHashingExecutor;
+
+@Slf4j
+@Tag(name = "Hashing", description = "The password hashing executor API")
+@RestController
+@RequestMapping("/api/hashing")
+public class HashingStatisticsRestController extends DefaultController {
+
+    private final PasswordHashingExecutor hashingExecutor;
+
+    @Autowired
+    public HashingStatisticsRestController(PasswordHashingExecutor hashingExecutor) {
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    @Operation(summary = "Gets queue and timing statistics of the password hashing executor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Found password hashing statistics",
+            content = {@Content(mediaType = "application/json",
+                schema = @Schema(implementation = HashingStatisticsDTO.class))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping("/statistics")
+    public HashingStatisticsDTO showStatistics() {
+        log.debug("Searching to show password hashing statistics");
+        HashingStatisticsDTO statistics = hashingExecutor.getStatistics();
+        log.trace("Show password hashing statistics {}", statistics);
+        return statistics;
+    }
+}
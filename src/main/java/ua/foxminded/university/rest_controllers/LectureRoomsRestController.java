@@ -16,14 +16,24 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import ua.foxminded.university.domain.ErrorResponse;
 import ua.foxminded.university.domain.LectureRoom;
+import ua.foxminded.university.dto.room.FreeRoomQueryDTO;
 import ua.foxminded.university.dto.room.RoomRequestDTO;
 import ua.foxminded.university.dto.room.RoomResponseDTO;
 import ua.foxminded.university.service.interfaces.LectureRoomService;
+import ua.foxminded.university.service.interfaces.TimetableService;
 import ua.foxminded.university.util.mappers.RoomMapper;
 import ua.foxminded.university.util.validators.RoomValidator;
 
 import javax.validation.Valid;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static ua.foxminded.university.util.validators.ValidatorMessages.DATE_RANGE_MESSAGE;
 
 @Slf4j
 @Tag(name = "Lecture Room", description = "The Lecture Room API")
@@ -34,14 +44,17 @@ public class LectureRoomsRestController extends DefaultController {
     private final LectureRoomService roomService;
     private final RoomMapper roomMapper;
     private final RoomValidator roomValidator;
+    private final TimetableService timetableService;
 
     @Autowired
     public LectureRoomsRestController(LectureRoomService roomService,
                                       RoomMapper roomMapper,
-                                      RoomValidator roomValidator) {
+                                      RoomValidator roomValidator,
+                                      TimetableService timetableService) {
         this.roomService = roomService;
         this.roomMapper = roomMapper;
         this.roomValidator = roomValidator;
+        this.timetableService = timetableService;
     }
 
     @Operation(summary = "Gets all rooms")
@@ -62,6 +75,44 @@ public class LectureRoomsRestController extends DefaultController {
         return roomsDTO;
     }
 
+    @Operation(summary = "Gets rooms that are free in the slot on every date of the range",
+        description = "Rooms are ordered by capacity, smallest fitting room first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Found free rooms",
+            content = {@Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = RoomRequestDTO.class)))}),
+        @ApiResponse(responseCode = "400", description = "Query had validation errors, threw Validation Exception",
+            content = {@Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = ErrorResponse.class)))}),
+        @ApiResponse(responseCode = "404", description = "Duration not found",
+            content = @Content(mediaType = "text/plain",
+                schema = @Schema(example = "Duration not found"))),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping("/free")
+    public List<RoomRequestDTO> showFree(@Valid FreeRoomQueryDTO queryDTO, BindingResult bindingResult) {
+        log.debug("Searching free rooms for {}", queryDTO);
+        LocalDate from = queryDTO.getFrom();
+        LocalDate to = queryDTO.getTo() == null ? from : queryDTO.getTo();
+
+        if (from != null && (to.isBefore(from) || to.isAfter(from.plusYears(1)))) {
+            bindingResult.rejectValue("to", "range", DATE_RANGE_MESSAGE);
+        }
+
+        checkForErrors(bindingResult);
+        Map<Integer, RoomRequestDTO> candidates = roomMapper.getRoomsDTO().stream()
+            .filter(roomDTO -> roomDTO.getCapacity() >= queryDTO.getCapacity())
+            .sorted(Comparator.comparing(RoomRequestDTO::getCapacity).thenComparing(RoomRequestDTO::getNumber))
+            .collect(Collectors.toMap(RoomRequestDTO::getId, Function.identity(), (first, second) -> first,
+                LinkedHashMap::new));
+        List<RoomRequestDTO> roomsDTO = timetableService.findFreeRooms(from, to, queryDTO.getDurationId(),
+                List.copyOf(candidates.keySet())).stream()
+            .map(candidates::get)
+            .toList();
+        log.trace("Show free {}", roomsDTO);
+        return roomsDTO;
+    }
+
     @Operation(summary = "Gets room by its id")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Found room by its id",
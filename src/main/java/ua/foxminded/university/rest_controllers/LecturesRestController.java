@@ -10,19 +10,46 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ua.foxminded.university.domain.ErrorResponse;
 import ua.foxminded.university.domain.Lecture;
+import ua.foxminded.university.dto.lecture.LectureBulkResultDTO;
+import ua.foxminded.university.dto.lecture.LectureCheckResultDTO;
+import ua.foxminded.university.dto.lecture.LecturePageDTO;
 import ua.foxminded.university.dto.lecture.LectureRequestDTO;
 import ua.foxminded.university.dto.lecture.LectureResponseDTO;
+import ua.foxminded.university.dto.lecture.TimetableGenerationRequestDTO;
+import ua.foxminded.university.dto.lecture.TimetableGenerationResultDTO;
+import ua.foxminded.university.service.interfaces.ExportService;
 import ua.foxminded.university.service.interfaces.LectureService;
+import ua.foxminded.university.service.interfaces.TimetableGeneratorService;
+import ua.foxminded.university.service.interfaces.TimetableService;
+import ua.foxminded.university.util.export.NdjsonExporter;
+import ua.foxminded.university.util.mappers.LectureAssembler;
 import ua.foxminded.university.util.mappers.LectureMapper;
+import ua.foxminded.university.util.pagination.LectureCursor;
+import ua.foxminded.university.util.pagination.LecturePageRequest;
+import ua.foxminded.university.util.timetable.Conflict;
+import ua.foxminded.university.util.timetable.LectureBulkResult;
+import ua.foxminded.university.util.timetable.TimetableGenerationRequest;
 
 import javax.validation.Valid;
+import javax.validation.Validator;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
+
+import static ua.foxminded.university.util.timetable.LectureBulkStatus.INVALID;
+import static ua.foxminded.university.util.export.NdjsonExporter.NDJSON_VALUE;
+import static ua.foxminded.university.util.validators.ValidatorMessages.DATE_RANGE_MESSAGE;
 
 @Slf4j
 @Tag(name="Lecture", description = "The Lecture API")
@@ -32,11 +59,30 @@ public class LecturesRestController extends DefaultController {
 
     private final LectureService lectureService;
     private final LectureMapper lectureMapper;
+    private final LectureAssembler lectureAssembler;
+    private final Validator validator;
+    private final ExportService exportService;
+    private final NdjsonExporter ndjsonExporter;
+    private final TimetableService timetableService;
+    private final TimetableGeneratorService timetableGeneratorService;
 
     @Autowired
-    public LecturesRestController(LectureService lectureService, LectureMapper lectureMapper) {
+    public LecturesRestController(LectureService lectureService,
+                                  LectureMapper lectureMapper,
+                                  LectureAssembler lectureAssembler,
+                                  Validator validator,
+                                  ExportService exportService,
+                                  NdjsonExporter ndjsonExporter,
+                                  TimetableService timetableService,
+                                  TimetableGeneratorService timetableGeneratorService) {
         this.lectureService = lectureService;
         this.lectureMapper = lectureMapper;
+        this.lectureAssembler = lectureAssembler;
+        this.validator = validator;
+        this.exportService = exportService;
+        this.ndjsonExporter = ndjsonExporter;
+        this.timetableService = timetableService;
+        this.timetableGeneratorService = timetableGeneratorService;
     }
 
     @Operation(summary = "Gets all lectures")
@@ -52,13 +98,64 @@ public class LecturesRestController extends DefaultController {
     @GetMapping()
     public List<LectureResponseDTO> showAll() {
         log.debug("Searching to show all lectures");
-        List<LectureResponseDTO> lecturesDTO = lectureService.findAll().stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRows());
         log.trace("Show all {}", lecturesDTO);
         return lecturesDTO;
     }
 
+    @Operation(summary = "Exports all lectures as newline-delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streamed all lectures, one JSON object per line",
+            content = {@Content(mediaType = NDJSON_VALUE,
+                schema = @Schema(implementation = LectureResponseDTO.class))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        log.debug("Exporting all lectures");
+        return ndjsonExporter.export("lectures", lectures ->
+            exportService.forEachLectureChunk(rows -> lectureAssembler.assemble(rows).forEach(lectures)));
+    }
+
+    @Operation(summary = "Gets a page of the lectures timetable ordered by date, start time and id")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Found a page of lectures",
+            content = {@Content(mediaType = "application/json",
+                schema = @Schema(implementation = LecturePageDTO.class))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping("/feed")
+    public LecturePageDTO showFeed(@Parameter(description = "cursor returned with the previous page")
+                                   @RequestParam(value = "cursor", required = false) LectureCursor cursor,
+                                   @Parameter(description = "first date of the window")
+                                   @RequestParam(value = "from", required = false)
+                                   @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+                                   @Parameter(description = "last date of the window")
+                                   @RequestParam(value = "to", required = false)
+                                   @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to,
+                                   @Parameter(description = "group's id to be filtered by")
+                                   @RequestParam(value = "group", defaultValue = "0") int groupId,
+                                   @Parameter(description = "teacher's id to be filtered by")
+                                   @RequestParam(value = "teacher", defaultValue = "0") int teacherId,
+                                   @Parameter(description = "room's id to be filtered by")
+                                   @RequestParam(value = "room", defaultValue = "0") int roomId,
+                                   @Parameter(description = "page size, at most 500")
+                                   @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        log.debug("Searching lectures page after cursor {}", cursor);
+        LecturePageRequest pageRequest = LecturePageRequest.builder()
+            .cursor(cursor)
+            .from(from)
+            .to(to)
+            .groupId(groupId)
+            .teacherId(teacherId)
+            .roomId(roomId)
+            .size(limit)
+            .build();
+        LecturePageDTO pageDTO = lectureAssembler.assemblePage(lectureService.findPage(pageRequest));
+        log.trace("Show lectures page {}", pageDTO);
+        return pageDTO;
+    }
+
     @Operation(summary = "Gets lectures list by subject")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Found lectures list by subject",
@@ -73,9 +170,7 @@ public class LecturesRestController extends DefaultController {
     public List<LectureResponseDTO> showBySubject(@Parameter(description = "subject's id to be searched")
                                                       @RequestParam("id") int id) {
         log.debug("Searching by subject id={}", id);
-        List<LectureResponseDTO> lecturesDTO = lectureService.findBySubject(id).stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRowsBySubject(id));
         log.trace("Show by subject id {}", lecturesDTO);
         return lecturesDTO;
     }
@@ -94,9 +189,7 @@ public class LecturesRestController extends DefaultController {
     public List<LectureResponseDTO> showByTeacher(@Parameter(description = "teacher's id to be searched")
                                                       @RequestParam("id") int id) {
         log.debug("Searching by teacher id={}", id);
-        List<LectureResponseDTO> lecturesDTO = lectureService.findByTeacher(id).stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRowsByTeacher(id));
         log.trace("Show by teacher id {}", lecturesDTO);
         return lecturesDTO;
     }
@@ -115,9 +208,7 @@ public class LecturesRestController extends DefaultController {
     public List<LectureResponseDTO> showByGroup(@Parameter(description = "group's id to be searched")
                                                     @RequestParam("id") int id) {
         log.debug("Searching by group id={}", id);
-        List<LectureResponseDTO> lecturesDTO = lectureService.findByGroup(id).stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRowsByGroup(id));
         log.trace("Show by group id {}", lecturesDTO);
         return lecturesDTO;
     }
@@ -136,9 +227,7 @@ public class LecturesRestController extends DefaultController {
     public List<LectureResponseDTO> showByRoom(@Parameter(description = "room's id to be searched")
                                                    @RequestParam("id") int id) {
         log.debug("Searching by room id={}", id);
-        List<LectureResponseDTO> lecturesDTO = lectureService.findByRoom(id).stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRowsByRoom(id));
         log.trace("Show by room id {}", lecturesDTO);
         return lecturesDTO;
     }
@@ -157,9 +246,7 @@ public class LecturesRestController extends DefaultController {
     public List<LectureResponseDTO> showByDuration(@Parameter(description = "duration's id to be searched")
                                                        @RequestParam("id") int id) {
         log.debug("Searching by duration id={}", id);
-        List<LectureResponseDTO> lecturesDTO = lectureService.findByDuration(id).stream()
-            .map(lectureMapper::convertToLectureResponseDTO)
-            .toList();
+        List<LectureResponseDTO> lecturesDTO = lectureAssembler.assemble(lectureService.findRowsByDuration(id));
         log.trace("Show by duration id {}", lecturesDTO);
         return lecturesDTO;
     }
@@ -188,6 +275,111 @@ public class LecturesRestController extends DefaultController {
         return ResponseEntity.ok(HttpStatus.OK);
     }
 
+    @Operation(summary = "Creates lectures in bulk and reports the outcome of every item")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Saved every valid new lecture",
+            content = {@Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = LectureBulkResultDTO.class)))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @PostMapping("/bulk")
+    public List<LectureBulkResultDTO> createAll(@RequestBody List<LectureRequestDTO> lecturesDTO) {
+        log.debug("Saving {} lectures in bulk", lecturesDTO.size());
+        List<List<String>> errors = lecturesDTO.stream()
+            .map(this::validate)
+            .toList();
+        List<Integer> validIndexes = findValidIndexes(errors);
+        List<Lecture> lectures = validIndexes.stream()
+            .map(i -> lectureMapper.convertToLecture(lecturesDTO.get(i)))
+            .toList();
+        LectureBulkResultDTO[] report = new LectureBulkResultDTO[lecturesDTO.size()];
+
+        for (int i = 0; i < report.length; i++) {
+            if (!errors.get(i).isEmpty()) {
+                report[i] = new LectureBulkResultDTO(i, INVALID, null, errors.get(i));
+            }
+        }
+
+        List<LectureBulkResult> saved = lectureService.addAll(lectures);
+
+        for (int i = 0; i < saved.size(); i++) {
+            int index = validIndexes.get(i);
+            report[index] = lectureMapper.convertToLectureBulkResultDTO(index, saved.get(i));
+        }
+
+        List<LectureBulkResultDTO> results = List.of(report);
+        log.trace("Bulk report {}", results);
+        return results;
+    }
+
+    @Operation(summary = "Checks lectures against the timetable and each other without saving them")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Checked every lecture for room, teacher and group overlaps",
+            content = {@Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = LectureCheckResultDTO.class)))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @PostMapping("/conflicts")
+    public List<LectureCheckResultDTO> checkConflicts(@RequestBody List<LectureRequestDTO> lecturesDTO) {
+        log.debug("Checking {} lectures for conflicts", lecturesDTO.size());
+        List<List<String>> errors = lecturesDTO.stream()
+            .map(this::validate)
+            .toList();
+        List<Integer> validIndexes = findValidIndexes(errors);
+        List<List<Conflict>> conflicts = timetableService.check(validIndexes.stream()
+            .map(i -> lectureMapper.convertToLecture(lecturesDTO.get(i)))
+            .toList());
+        LectureCheckResultDTO[] report = new LectureCheckResultDTO[lecturesDTO.size()];
+
+        for (int i = 0; i < report.length; i++) {
+            report[i] = new LectureCheckResultDTO(i, false, List.of(), errors.get(i));
+        }
+
+        for (int i = 0; i < conflicts.size(); i++) {
+            List<String> messages = conflicts.get(i).stream().map(Conflict::getMessage).toList();
+            report[validIndexes.get(i)].setAvailable(messages.isEmpty());
+            report[validIndexes.get(i)].setConflicts(messages);
+        }
+
+        List<LectureCheckResultDTO> results = List.of(report);
+        log.trace("Conflicts report {}", results);
+        return results;
+    }
+
+    @Operation(summary = "Generates a clash-free timetable for the subjects running in a date window and saves it")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Saved every lecture that could be placed",
+            content = {@Content(mediaType = "application/json",
+                schema = @Schema(implementation = TimetableGenerationResultDTO.class))}),
+        @ApiResponse(responseCode = "400", description = "Request had validation errors, threw Validation Exception",
+            content = {@Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = ErrorResponse.class)))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @PostMapping("/generate")
+    public TimetableGenerationResultDTO generate(@RequestBody @Valid TimetableGenerationRequestDTO requestDTO,
+                                                 BindingResult bindingResult) {
+        log.debug("Generating timetable for {}", requestDTO);
+        LocalDate from = requestDTO.getFrom();
+        LocalDate to = requestDTO.getTo();
+
+        if (from != null && to != null && (to.isBefore(from) || to.isAfter(from.plusYears(1)))) {
+            bindingResult.rejectValue("to", "range", DATE_RANGE_MESSAGE);
+        }
+
+        checkForErrors(bindingResult);
+        TimetableGenerationResultDTO resultDTO = timetableGeneratorService.generate(TimetableGenerationRequest.builder()
+            .from(from)
+            .to(to)
+            .facultyId(requestDTO.getFacultyId())
+            .subjectIds(requestDTO.getSubjectIds())
+            .lecturesPerWeek(requestDTO.getLecturesPerWeek())
+            .timeBudget(Duration.ofSeconds(requestDTO.getTimeBudgetSeconds()))
+            .build());
+        log.trace("Generated timetable {}", resultDTO);
+        return resultDTO;
+    }
+
     @Operation(summary = "Gets lecture by its id to update")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Found lecture by its id to update",
@@ -257,4 +449,30 @@ public class LecturesRestController extends DefaultController {
         log.trace("Success when removing lecture with id={}", id);
         return ResponseEntity.ok(HttpStatus.OK);
     }
+
+    private List<Integer> findValidIndexes(List<List<String>> errors) {
+        return IntStream.range(0, errors.size())
+            .filter(i -> errors.get(i).isEmpty())
+            .boxed()
+            .toList();
+    }
+
+    private List<String> validate(LectureRequestDTO lectureDTO) {
+        List<String> errors = new ArrayList<>();
+        requireReference(lectureDTO.getSubject(), "subject", errors);
+        requireReference(lectureDTO.getTeacher(), "teacher", errors);
+        requireReference(lectureDTO.getRoom(), "room", errors);
+        requireReference(lectureDTO.getDuration(), "duration", errors);
+        validator.validate(lectureDTO).stream()
+            .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .forEach(errors::add);
+        return errors;
+    }
+
+    private void requireReference(Object reference, String field, List<String> errors) {
+        if (reference == null) {
+            errors.add(field + ": must not be null");
+        }
+    }
 }
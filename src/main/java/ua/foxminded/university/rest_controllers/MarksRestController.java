@@ -13,16 +13,28 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ua.foxminded.university.domain.ErrorResponse;
 import ua.foxminded.university.domain.Mark;
+import ua.foxminded.university.dto.mark.GradebookQueryDTO;
 import ua.foxminded.university.dto.mark.MarkRequestDTO;
 import ua.foxminded.university.dto.mark.MarkResponseDTO;
+import ua.foxminded.university.dto.mark.MarkStatisticsDTO;
+import ua.foxminded.university.dto.mark.MarkStatisticsQueryDTO;
+import ua.foxminded.university.service.interfaces.ExportService;
+import ua.foxminded.university.service.interfaces.GradebookService;
 import ua.foxminded.university.service.interfaces.MarkService;
+import ua.foxminded.university.service.interfaces.MarkStatisticsService;
+import ua.foxminded.university.util.analytics.Gradebook;
+import ua.foxminded.university.util.export.GradebookExporter;
+import ua.foxminded.university.util.export.NdjsonExporter;
 import ua.foxminded.university.util.mappers.MarkMapper;
 
 import javax.validation.Valid;
 import java.util.List;
 
+import static ua.foxminded.university.util.export.NdjsonExporter.NDJSON_VALUE;
+
 @Slf4j
 @Tag(name = "Mark", description = "The Mark API")
 @RestController
@@ -31,10 +43,23 @@ public class MarksRestController extends DefaultController {
 
     private final MarkService markService;
     private final MarkMapper markMapper;
+    private final ExportService exportService;
+    private final NdjsonExporter ndjsonExporter;
+    private final MarkStatisticsService markStatisticsService;
+    private final GradebookService gradebookService;
+    private final GradebookExporter gradebookExporter;
 
-    public MarksRestController(MarkService markService, MarkMapper markMapper) {
+    public MarksRestController(MarkService markService, MarkMapper markMapper,
+                               ExportService exportService, NdjsonExporter ndjsonExporter,
+                               MarkStatisticsService markStatisticsService,
+                               GradebookService gradebookService, GradebookExporter gradebookExporter) {
         this.markService = markService;
         this.markMapper = markMapper;
+        this.exportService = exportService;
+        this.ndjsonExporter = ndjsonExporter;
+        this.markStatisticsService = markStatisticsService;
+        this.gradebookService = gradebookService;
+        this.gradebookExporter = gradebookExporter;
     }
 
     @Operation(summary = "Gets all marks")
@@ -57,6 +82,62 @@ public class MarksRestController extends DefaultController {
         return marksDTO;
     }
 
+    @Operation(summary = "Exports all marks as newline-delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streamed all marks, one JSON object per line",
+            content = {@Content(mediaType = NDJSON_VALUE,
+                schema = @Schema(implementation = MarkResponseDTO.class))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        log.debug("Exporting all marks");
+        return ndjsonExporter.export("marks", marks ->
+            exportService.forEachMark(mark -> marks.accept(markMapper.convertToMarkResponseDTO(mark))));
+    }
+
+    @Operation(summary = "Gets mark distribution, average and percentiles of a subject, group, department or faculty")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Counted marks",
+            content = {@Content(mediaType = "application/json",
+                schema = @Schema(implementation = MarkStatisticsDTO.class))}),
+        @ApiResponse(responseCode = "400", description = "Query had validation errors, threw Validation Exception",
+            content = {@Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = ErrorResponse.class)))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping("/statistics")
+    public MarkStatisticsDTO showStatistics(@Valid MarkStatisticsQueryDTO queryDTO, BindingResult bindingResult) {
+        log.debug("Counting marks for {}", queryDTO);
+        checkForErrors(bindingResult);
+        MarkStatisticsDTO statisticsDTO = markStatisticsService.find(queryDTO.getDimension(), queryDTO.getId(),
+            queryDTO.getPercentiles());
+        log.trace("Show statistics {}", statisticsDTO);
+        return statisticsDTO;
+    }
+
+    @Operation(summary = "Exports the best mark of every student in every subject of a group, department or faculty")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streamed gradebook as JSON or CSV",
+            content = {@Content(mediaType = "application/json"), @Content(mediaType = "text/csv")}),
+        @ApiResponse(responseCode = "400", description = "Query had validation errors or gradebook was too large",
+            content = {@Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = ErrorResponse.class)))}),
+        @ApiResponse(responseCode = "404", description = "Groups not found",
+            content = @Content(mediaType = "text/plain",
+                schema = @Schema(example = "Not found"))),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping("/gradebook")
+    public ResponseEntity<StreamingResponseBody> exportGradebook(@Valid GradebookQueryDTO queryDTO,
+                                                                 BindingResult bindingResult) {
+        log.debug("Exporting gradebook for {}", queryDTO);
+        checkForErrors(bindingResult);
+        Gradebook gradebook = gradebookService.find(queryDTO.getScope(), queryDTO.getId());
+        String name = "gradebook-" + queryDTO.getScope().name().toLowerCase() + "-" + queryDTO.getId();
+        return gradebookExporter.export(name, gradebook, queryDTO.getFormat());
+    }
+
     @Operation(summary = "Gets marks list by subject")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Found marks list by subject",
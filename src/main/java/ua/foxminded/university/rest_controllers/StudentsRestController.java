@@ -14,17 +14,22 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ua.foxminded.university.domain.ErrorResponse;
 import ua.foxminded.university.domain.Student;
 import ua.foxminded.university.dto.student.StudentRequestDTO;
 import ua.foxminded.university.dto.student.StudentResponseDTO;
+import ua.foxminded.university.service.interfaces.ExportService;
 import ua.foxminded.university.service.interfaces.StudentService;
+import ua.foxminded.university.util.export.NdjsonExporter;
 import ua.foxminded.university.util.mappers.StudentMapper;
 import ua.foxminded.university.util.validators.PersonValidator;
 
 import javax.validation.Valid;
 import java.util.List;
 
+import static ua.foxminded.university.util.export.NdjsonExporter.NDJSON_VALUE;
+
 @Slf4j
 @Tag(name = "Student", description = "The Student API")
 @RestController
@@ -34,14 +39,20 @@ public class StudentsRestController extends DefaultController {
     private final StudentService studentService;
     private final PersonValidator personValidator;
     private final StudentMapper studentMapper;
+    private final ExportService exportService;
+    private final NdjsonExporter ndjsonExporter;
 
     @Autowired
     public StudentsRestController(StudentService studentService,
                                   PersonValidator personValidator,
-                                  StudentMapper studentMapper) {
+                                  StudentMapper studentMapper,
+                                  ExportService exportService,
+                                  NdjsonExporter ndjsonExporter) {
         this.studentService = studentService;
         this.personValidator = personValidator;
         this.studentMapper = studentMapper;
+        this.exportService = exportService;
+        this.ndjsonExporter = ndjsonExporter;
     }
 
     @Operation(summary = "Gets all students")
@@ -64,6 +75,20 @@ public class StudentsRestController extends DefaultController {
         return studentsDTO;
     }
 
+    @Operation(summary = "Exports all students as newline-delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Streamed all students, one JSON object per line",
+            content = {@Content(mediaType = NDJSON_VALUE,
+                schema = @Schema(implementation = StudentResponseDTO.class))}),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        log.debug("Exporting all students");
+        return ndjsonExporter.export("students", students ->
+            exportService.forEachStudent(student -> students.accept(studentMapper.convertToDTOWhenFindAll(student))));
+    }
+
     @Operation(summary = "Gets students list by group")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Found students list by group",
@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -18,11 +19,14 @@ import ua.foxminded.university.domain.ErrorResponse;
 import ua.foxminded.university.domain.Teacher;
 import ua.foxminded.university.dto.teacher.TeacherRequestDTO;
 import ua.foxminded.university.dto.teacher.TeacherResponseDTO;
+import ua.foxminded.university.dto.teacher.TeacherWorkloadDTO;
 import ua.foxminded.university.service.interfaces.TeacherService;
+import ua.foxminded.university.service.interfaces.WorkloadService;
 import ua.foxminded.university.util.mappers.TeacherMapper;
 import ua.foxminded.university.util.validators.TeacherValidator;
 
 import javax.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -34,14 +38,17 @@ public class TeachersRestController extends DefaultController {
     private final TeacherService teacherService;
     private final TeacherMapper teacherMapper;
     private final TeacherValidator teacherValidator;
+    private final WorkloadService workloadService;
 
     @Autowired
     public TeachersRestController(TeacherService teacherService,
                                   TeacherMapper teacherMapper,
-                                  TeacherValidator teacherValidator) {
+                                  TeacherValidator teacherValidator,
+                                  WorkloadService workloadService) {
         this.teacherService = teacherService;
         this.teacherMapper = teacherMapper;
         this.teacherValidator = teacherValidator;
+        this.workloadService = workloadService;
     }
 
     @Operation(summary = "Gets all teachers")
@@ -85,6 +92,50 @@ public class TeachersRestController extends DefaultController {
         return teachersDTO;
     }
 
+    @Operation(summary = "Gets week, month and semester workload of every teacher of the department")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Found workload of the department's teachers",
+            content = {@Content(mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = TeacherWorkloadDTO.class)))}),
+        @ApiResponse(responseCode = "404", description = "Teachers not found",
+            content = @Content(mediaType = "text/plain",
+                schema = @Schema(example = "Not found"))),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping("/department/workload")
+    public List<TeacherWorkloadDTO> showWorkloadByDepartment(@Parameter(description = "department's id to be searched")
+                                                             @RequestParam("id") int id,
+                                                             @Parameter(description = "date to report on, today if empty")
+                                                             @RequestParam(value = "date", required = false)
+                                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        log.debug("Searching workload by department id={} on {}", id, date);
+        List<TeacherWorkloadDTO> workloadsDTO = workloadService.findByDepartment(id, dateOrToday(date));
+        log.trace("Show workload {}", workloadsDTO);
+        return workloadsDTO;
+    }
+
+    @Operation(summary = "Gets week, month and semester workload of the teacher")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Found workload of the teacher",
+            content = {@Content(mediaType = "application/json",
+                schema = @Schema(implementation = TeacherWorkloadDTO.class))}),
+        @ApiResponse(responseCode = "404", description = "Teacher not found",
+            content = @Content(mediaType = "text/plain",
+                schema = @Schema(example = "Teacher not found"))),
+        @ApiResponse(responseCode = "500", description = SERVER_ERROR_DESCRIPTION,
+            content = @Content(mediaType = "text/plain"))})
+    @GetMapping("/{id}/workload")
+    public TeacherWorkloadDTO showWorkload(@Parameter(description = "teacher's id to be searched")
+                                           @PathVariable("id") int id,
+                                           @Parameter(description = "date to report on, today if empty")
+                                           @RequestParam(value = "date", required = false)
+                                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        log.debug("Searching workload of teacher with id={} on {}", id, date);
+        TeacherWorkloadDTO workloadDTO = workloadService.findByTeacher(id, dateOrToday(date));
+        log.trace("Show workload {}", workloadDTO);
+        return workloadDTO;
+    }
+
     @Operation(summary = "Gets teachers list by subject")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Found teachers list by subject",
@@ -215,4 +266,8 @@ public class TeachersRestController extends DefaultController {
         log.trace("Success when removing teacher with id={}", id);
         return ResponseEntity.ok(HttpStatus.OK);
     }
+
+    private LocalDate dateOrToday(LocalDate date) {
+        return date == null ? LocalDate.now() : date;
+    }
 }
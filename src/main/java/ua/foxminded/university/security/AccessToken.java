@@ -0,0 +1,9 @@
+package ua.foxminded.university.security;
+
+import ua.foxminded.university.domain.Role;
+
+import java.time.Instant;
+
+public record AccessToken(long id, int personId, String email, Role role, Instant authenticatedAt, Instant issuedAt,
+                          Instant expiresAt) {
+}
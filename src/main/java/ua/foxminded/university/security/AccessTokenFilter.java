@@ -0,0 +1,63 @@
+package ua.foxminded.university.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import ua.foxminded.university.dto.person.PersonCredentials;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+
+@Slf4j
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    public static final String BEARER_PREFIX = AccessTokenProvider.TOKEN_TYPE + " ";
+    private static final String INVALID_TOKEN_CHALLENGE = AccessTokenProvider.TOKEN_TYPE + " error=\"invalid_token\"";
+
+    private final AccessTokenProvider accessTokenProvider;
+
+    public AccessTokenFilter(AccessTokenProvider accessTokenProvider) {
+        this.accessTokenProvider = accessTokenProvider;
+    }
+
+    public static boolean hasAccessToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String token = request.getHeader(HttpHeaders.AUTHORIZATION).substring(BEARER_PREFIX.length()).trim();
+        Optional<AccessToken> accessToken = accessTokenProvider.verify(token);
+
+        if (accessToken.isEmpty()) {
+            log.debug("Rejected access token for {}", request.getRequestURI());
+            SecurityContextHolder.clearContext();
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, INVALID_TOKEN_CHALLENGE);
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        AccessToken verified = accessToken.get();
+        PersonDetails personDetails = new PersonDetails(
+            new PersonCredentials(verified.personId(), verified.email(), null, verified.role()));
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+            personDetails, verified, personDetails.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        chain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !hasAccessToken(request);
+    }
+}
@@ -0,0 +1,188 @@
+package ua.foxminded.university.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ua.foxminded.university.domain.Role;
+import ua.foxminded.university.dto.person.PersonCredentials;
+import ua.foxminded.university.dto.security.AccessTokenDTO;
+import ua.foxminded.university.util.exceptions.AccessTokenException;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.*;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class AccessTokenProvider {
+
+    public static final String TOKEN_TYPE = "Bearer";
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(15);
+    static final Duration SESSION_LIFETIME = Duration.ofHours(12);
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SESSION_EXPIRED = "Session expired, access token can only be issued for a password login";
+    private static final byte VERSION = 2;
+    private static final char SEPARATOR = '.';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKey secretKey;
+    private final TokenDenyList denyList;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::createMac);
+
+    @Autowired
+    public AccessTokenProvider(@Value("${university.security.access-token-key:}") String encodedKey,
+                               TokenDenyList denyList) {
+        this(createKey(encodedKey), denyList, Clock.systemUTC());
+    }
+
+    AccessTokenProvider(SecretKey secretKey, TokenDenyList denyList, Clock clock) {
+        this.secretKey = secretKey;
+        this.denyList = denyList;
+        this.clock = clock;
+    }
+
+    public AccessTokenDTO issue(PersonCredentials credentials) {
+        Instant issuedAt = clock.instant().truncatedTo(ChronoUnit.MILLIS);
+        return issue(credentials.getId(), credentials.getEmail(), credentials.getRole(), issuedAt, issuedAt);
+    }
+
+    /* A refreshed token keeps the time of the password login, so a session ends after SESSION_LIFETIME however
+    often its tokens are refreshed */
+    public AccessTokenDTO refresh(AccessToken accessToken) {
+        Instant issuedAt = clock.instant().truncatedTo(ChronoUnit.MILLIS);
+        denyList.deny(accessToken);
+
+        if (!accessToken.authenticatedAt().plus(SESSION_LIFETIME).isAfter(issuedAt)) {
+            throw new AccessTokenException(SESSION_EXPIRED);
+        }
+
+        return issue(accessToken.personId(), accessToken.email(), accessToken.role(), accessToken.authenticatedAt(),
+            issuedAt);
+    }
+
+    private AccessTokenDTO issue(int personId, String email, Role role, Instant authenticatedAt, Instant issuedAt) {
+        Instant sessionEnd = authenticatedAt.plus(SESSION_LIFETIME);
+        Instant expiresAt = issuedAt.plus(TIME_TO_LIVE);
+        AccessToken accessToken = new AccessToken(random.nextLong(), personId, email, role, authenticatedAt, issuedAt,
+            expiresAt.isBefore(sessionEnd) ? expiresAt : sessionEnd);
+        log.debug("Issued access token with id={} to person with id={}", accessToken.id(), accessToken.personId());
+
+        return AccessTokenDTO.builder()
+            .accessToken(encode(accessToken))
+            .tokenType(TOKEN_TYPE)
+            .expiresIn(Duration.between(issuedAt, accessToken.expiresAt()).toSeconds())
+            .expiresAt(accessToken.expiresAt())
+            .build();
+    }
+
+    public void revoke(AccessToken accessToken) {
+        denyList.deny(accessToken);
+    }
+
+    public Optional<AccessToken> verify(String token) {
+        int separator = token.indexOf(SEPARATOR);
+
+        if (separator < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] payload = DECODER.decode(token.substring(0, separator));
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+
+            if (!MessageDigest.isEqual(signature, sign(payload))) {
+                return Optional.empty();
+            }
+
+            AccessToken accessToken = read(payload);
+
+            if (!accessToken.expiresAt().isAfter(clock.instant()) || denyList.isDenied(accessToken)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(accessToken);
+        } catch (IllegalArgumentException | IOException e) {
+            log.debug("Rejected malformed access token", e);
+            return Optional.empty();
+        }
+    }
+
+    private String encode(AccessToken accessToken) {
+        byte[] payload = write(accessToken);
+        return ENCODER.encodeToString(payload) + SEPARATOR + ENCODER.encodeToString(sign(payload));
+    }
+
+    private byte[] write(AccessToken accessToken) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(VERSION);
+            output.writeLong(accessToken.id());
+            output.writeInt(accessToken.personId());
+            output.writeUTF(accessToken.email());
+            output.writeUTF(accessToken.role().name());
+            output.writeLong(accessToken.authenticatedAt().toEpochMilli());
+            output.writeLong(accessToken.issuedAt().toEpochMilli());
+            output.writeLong(accessToken.expiresAt().toEpochMilli());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private AccessToken read(byte[] payload) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+
+        if (input.readByte() != VERSION) {
+            throw new IOException("Unsupported access token version");
+        }
+
+        return new AccessToken(input.readLong(), input.readInt(), input.readUTF(), Role.valueOf(input.readUTF()),
+            Instant.ofEpochMilli(input.readLong()), Instant.ofEpochMilli(input.readLong()),
+            Instant.ofEpochMilli(input.readLong()));
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static SecretKey createKey(String encodedKey) {
+        if (!encodedKey.isBlank()) {
+            return new SecretKeySpec(Base64.getDecoder().decode(encodedKey), ALGORITHM);
+        }
+
+        log.warn("No university.security.access-token-key configured, access tokens are valid on this node only");
+
+        try {
+            return KeyGenerator.getInstance(ALGORITHM).generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ua.foxminded.university.security;
+
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import ua.foxminded.university.dto.person.PersonCredentials;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class CachingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final CredentialCache credentialCache;
+
+    public CachingAuthenticationProvider(UserDetailsService userDetailsService,
+                                         PasswordEncoder passwordEncoder,
+                                         CredentialCache credentialCache) {
+        this.credentialCache = credentialCache;
+        setUserDetailsService(userDetailsService);
+        setPasswordEncoder(passwordEncoder);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (Objects.isNull(authentication.getName()) || Objects.isNull(authentication.getCredentials())) {
+            return super.authenticate(authentication);
+        }
+
+        String rawPassword = authentication.getCredentials().toString();
+        Optional<PersonCredentials> cached = credentialCache.find(authentication.getName(), rawPassword);
+
+        if (cached.isPresent()) {
+            PersonDetails personDetails = new PersonDetails(cached.get());
+            return createSuccessAuthentication(personDetails, authentication, personDetails);
+        }
+
+        Authentication result = super.authenticate(authentication);
+
+        if (result.getPrincipal() instanceof PersonDetails personDetails) {
+            credentialCache.put(personDetails.getPerson(), rawPassword);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+package ua.foxminded.university.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.foxminded.university.dto.person.PersonCredentials;
+import ua.foxminded.university.util.events.CredentialsChangedEvent;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+@Component
+public class CredentialCache {
+
+    static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+    static final int MAXIMUM_SIZE = 10_000;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte SEPARATOR = 0;
+
+    private final SecretKey secretKey;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::createMac);
+    private final Cache<String, Entry> entries;
+
+    public CredentialCache() {
+        this(Ticker.systemTicker());
+    }
+
+    CredentialCache(Ticker ticker) {
+        try {
+            secretKey = KeyGenerator.getInstance(ALGORITHM).generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        entries = Caffeine.newBuilder()
+            .expireAfterWrite(TIME_TO_LIVE)
+            .maximumSize(MAXIMUM_SIZE)
+            .ticker(ticker)
+            .build();
+    }
+
+    public Optional<PersonCredentials> find(String email, String rawPassword) {
+        Entry entry = entries.getIfPresent(email);
+
+        if (entry == null || !MessageDigest.isEqual(entry.digest(), digest(email, rawPassword))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(entry.credentials());
+    }
+
+    public void put(PersonCredentials credentials, String rawPassword) {
+        entries.put(credentials.getEmail(), new Entry(credentials, digest(credentials.getEmail(), rawPassword)));
+    }
+
+    public void invalidate(int personId) {
+        entries.asMap().values().removeIf(entry -> entry.credentials().getId() == personId);
+        log.debug("Invalidated verified credentials of person with id={}", personId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCredentialsChanged(CredentialsChangedEvent event) {
+        invalidate(event.personId());
+    }
+
+    private byte[] digest(String email, String rawPassword) {
+        Mac mac = macs.get();
+        mac.update(email.getBytes(UTF_8));
+        mac.update(SEPARATOR);
+        return mac.doFinal(rawPassword.getBytes(UTF_8));
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(PersonCredentials credentials, byte[] digest) {
+    }
+}
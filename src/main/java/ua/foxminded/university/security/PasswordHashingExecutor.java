@@ -0,0 +1,111 @@
+package ua.foxminded.university.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ua.foxminded.university.dto.security.HashingStatisticsDTO;
+import ua.foxminded.university.util.exceptions.HashingRejectedException;
+import ua.foxminded.university.util.exceptions.ServiceException;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    static final int QUEUE_CAPACITY = 64;
+    private static final String THREAD_NAME = "password-hashing-";
+    private static final String REJECTED_MESSAGE = "Too many passwords are being hashed, try again later";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0);
+
+    public PasswordHashingExecutor() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), QUEUE_CAPACITY);
+    }
+
+    PasswordHashingExecutor(int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public <T> T call(Supplier<T> task) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                waitNanos.add(started - submitted);
+                maxWaitNanos.accumulate(started - submitted);
+
+                try {
+                    return task.get();
+                } finally {
+                    hashNanos.add(System.nanoTime() - started);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Rejected password hashing, {} tasks queued", executor.getQueue().size());
+            throw new HashingRejectedException(REJECTED_MESSAGE, e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServiceException(e.getCause());
+        }
+    }
+
+    public HashingStatisticsDTO getStatistics() {
+        long completed = executor.getCompletedTaskCount();
+        return HashingStatisticsDTO.builder()
+            .poolSize(executor.getPoolSize())
+            .activeCount(executor.getActiveCount())
+            .queueSize(executor.getQueue().size())
+            .queueRemainingCapacity(executor.getQueue().remainingCapacity())
+            .completedCount(completed)
+            .rejectedCount(rejected.sum())
+            .averageWaitMillis(average(waitNanos.sum(), completed))
+            .maxWaitMillis(maxWaitNanos.get() / NANOS_PER_MILLI)
+            .averageHashMillis(average(hashNanos.sum(), completed))
+            .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private double average(long nanos, long count) {
+        return count == 0 ? 0 : nanos / NANOS_PER_MILLI / count;
+    }
+}
@@ -3,16 +3,16 @@ package ua.foxminded.university.security;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
-import ua.foxminded.university.domain.Person;
+import ua.foxminded.university.dto.person.PersonCredentials;
 
 import java.util.Collection;
 import java.util.Collections;
 
 public class PersonDetails implements UserDetails {
 
-    private final Person person;
+    private final PersonCredentials person;
 
-    public PersonDetails(Person person) {
+    public PersonDetails(PersonCredentials person) {
         this.person = person;
     }
 
@@ -51,7 +51,7 @@ public class PersonDetails implements UserDetails {
         return true;
     }
 
-    public Person getPerson() {
+    public PersonCredentials getPerson() {
         return this.person;
     }
 }
@@ -0,0 +1,60 @@
+package ua.foxminded.university.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.foxminded.university.util.events.CredentialsChangedEvent;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class TokenDenyList {
+
+    private final Clock clock;
+    private final Map<Long, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> revokedPersons = new ConcurrentHashMap<>();
+
+    public TokenDenyList() {
+        this(Clock.systemUTC());
+    }
+
+    TokenDenyList(Clock clock) {
+        this.clock = clock;
+    }
+
+    public boolean isDenied(AccessToken accessToken) {
+        if (revokedTokens.containsKey(accessToken.id())) {
+            return true;
+        }
+
+        Long revokedAt = revokedPersons.get(accessToken.personId());
+        return revokedAt != null && accessToken.issuedAt().toEpochMilli() <= revokedAt;
+    }
+
+    public void deny(AccessToken accessToken) {
+        long now = clock.millis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedTokens.put(accessToken.id(), accessToken.expiresAt().toEpochMilli());
+        log.debug("Denied access token with id={} of person with id={}", accessToken.id(), accessToken.personId());
+    }
+
+    public void denyAll(int personId) {
+        long now = clock.millis();
+        long oldest = now - AccessTokenProvider.TIME_TO_LIVE.toMillis();
+        revokedPersons.values().removeIf(revokedAt -> revokedAt < oldest);
+        revokedPersons.put(personId, now);
+        log.debug("Denied access tokens issued so far to person with id={}", personId);
+    }
+
+    public int size() {
+        return revokedTokens.size() + revokedPersons.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCredentialsChanged(CredentialsChangedEvent event) {
+        denyAll(event.personId());
+    }
+}
@@ -0,0 +1,65 @@
+package ua.foxminded.university.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import ua.foxminded.university.dto.cache.CacheRegionStatisticsDTO;
+import ua.foxminded.university.service.interfaces.CacheStatisticsService;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@Slf4j
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public CacheStatisticsServiceImpl(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public List<CacheRegionStatisticsDTO> findRegionStatistics() {
+        Statistics statistics = getSessionFactory().getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .sorted()
+            .map(region -> toDTO(region, statistics.getCacheRegionStatistics(region)))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @Override
+    public void clear() {
+        log.info("Clearing second-level cache and its statistics");
+        SessionFactory sessionFactory = getSessionFactory();
+        sessionFactory.getCache().evictAllRegions();
+        sessionFactory.getStatistics().clear();
+    }
+
+    private SessionFactory getSessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private CacheRegionStatisticsDTO toDTO(String region, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return null;
+        }
+        long hits = regionStatistics.getHitCount();
+        long misses = regionStatistics.getMissCount();
+        long lookups = hits + misses;
+        return CacheRegionStatisticsDTO.builder()
+            .region(region)
+            .hitCount(hits)
+            .missCount(misses)
+            .putCount(regionStatistics.getPutCount())
+            .hitRatio(lookups == 0 ? 0 : (double) hits / lookups)
+            .build();
+    }
+}
@@ -2,11 +2,13 @@ package ua.foxminded.university.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.repository.DepartmentRepository;
 import ua.foxminded.university.domain.Department;
 import ua.foxminded.university.service.interfaces.DepartmentService;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
 import java.util.List;
@@ -22,16 +24,20 @@ public class DepartmentServiceImpl implements DepartmentService {
     private static final String MESSAGE = format(ENTITY_NOT_FOUND, Department.class.getSimpleName());
 
     private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public DepartmentServiceImpl(DepartmentRepository departmentRepository) {
+    public DepartmentServiceImpl(DepartmentRepository departmentRepository,
+                                 ApplicationEventPublisher eventPublisher) {
         this.departmentRepository = departmentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
     public void add(Department department) {
         departmentRepository.save(department);
+        eventPublisher.publishEvent(new EntityChangedEvent(Department.class));
     }
 
     @Override
@@ -39,6 +45,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     public void update(int id, Department updatedDepartment) {
         ifNotFoundThenException(id);
         departmentRepository.save(updatedDepartment);
+        eventPublisher.publishEvent(new EntityChangedEvent(Department.class));
     }
 
     @Override
@@ -46,6 +53,7 @@ public class DepartmentServiceImpl implements DepartmentService {
     public void delete(int id) {
         ifNotFoundThenException(id);
         departmentRepository.deleteById(id);
+        eventPublisher.publishEvent(new EntityChangedEvent(Department.class));
     }
 
     @Override
@@ -2,11 +2,13 @@ package ua.foxminded.university.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.repository.DurationRepository;
 import ua.foxminded.university.domain.Duration;
 import ua.foxminded.university.service.interfaces.DurationService;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
 import java.util.List;
@@ -22,16 +24,20 @@ public class DurationServiceImpl implements DurationService {
     private static final String MESSAGE = format(ENTITY_NOT_FOUND, Duration.class.getSimpleName());
 
     private final DurationRepository durationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public DurationServiceImpl(DurationRepository durationRepository) {
+    public DurationServiceImpl(DurationRepository durationRepository,
+                               ApplicationEventPublisher eventPublisher) {
         this.durationRepository = durationRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
     public void add(Duration duration) {
         durationRepository.save(duration);
+        eventPublisher.publishEvent(new EntityChangedEvent(Duration.class));
     }
 
     @Override
@@ -39,6 +45,9 @@ public class DurationServiceImpl implements DurationService {
     public void update(int id, Duration updatedDuration) {
         ifNotFoundThenException(id);
         durationRepository.save(updatedDuration);
+        int lectures = durationRepository.updateLectureStartTimes(id, updatedDuration.getStartTime());
+        log.debug("Copied start time {} to {} lectures", updatedDuration.getStartTime(), lectures);
+        eventPublisher.publishEvent(new EntityChangedEvent(Duration.class));
     }
 
     @Override
@@ -47,6 +56,7 @@ public class DurationServiceImpl implements DurationService {
         ifNotFoundThenException(id);
         durationRepository.deleteById(id);
 
+        eventPublisher.publishEvent(new EntityChangedEvent(Duration.class));
     }
 
     @Override
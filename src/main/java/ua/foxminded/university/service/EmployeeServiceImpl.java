@@ -2,18 +2,23 @@ package ua.foxminded.university.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.domain.*;
+import ua.foxminded.university.dto.person.PersonCredentials;
 import ua.foxminded.university.repository.AddressRepository;
 import ua.foxminded.university.repository.EmployeeRepository;
 import ua.foxminded.university.repository.PersonRepository;
 import ua.foxminded.university.service.interfaces.EmployeeService;
+import ua.foxminded.university.util.events.CredentialsChangedEvent;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 import ua.foxminded.university.util.exceptions.EntityExistsException;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
 import java.util.List;
+import java.util.Objects;
 
 import static ua.foxminded.university.domain.Role.*;
 import static java.lang.String.format;
@@ -31,13 +36,15 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final AddressRepository addressRepository;
     private final PersonRepository personRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository, AddressRepository addressRepository, PersonRepository personRepository, PasswordEncoder passwordEncoder) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, AddressRepository addressRepository, PersonRepository personRepository, PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher) {
         this.employeeRepository = employeeRepository;
         this.addressRepository = addressRepository;
         this.personRepository = personRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -52,6 +59,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         employeeRepository.save(employee);
         employee.getAddress().setPerson(employee);
+        eventPublisher.publishEvent(new EntityChangedEvent(Employee.class));
     }
 
     @Override
@@ -60,10 +68,16 @@ public class EmployeeServiceImpl implements EmployeeService {
         ifNotFoundThenException(id);
         ifAlreadyExistThenException(updatedEmployee);
         Address addressToUpdate = addressRepository.findByPersonId(id);
-        updatedEmployee.setPassword(passwordEncoder.encode(updatedEmployee.getPassword()));
+        PersonCredentials storedCredentials = personRepository.findCredentialsById(id);
+        updatedEmployee.setPassword(encodeIfChanged(storedCredentials, updatedEmployee.getPassword()));
         updatedEmployee.getAddress().setId(addressToUpdate.getId());
         updatedEmployee.getAddress().setPerson(updatedEmployee);
         employeeRepository.save(updatedEmployee);
+
+        if (credentialsChanged(storedCredentials, updatedEmployee)) {
+            eventPublisher.publishEvent(new CredentialsChangedEvent(id));
+        }
+        eventPublisher.publishEvent(new EntityChangedEvent(Employee.class));
     }
 
     @Override
@@ -71,6 +85,8 @@ public class EmployeeServiceImpl implements EmployeeService {
     public void delete(int id) {
         ifNotFoundThenException(id);
         employeeRepository.deleteById(id);
+        eventPublisher.publishEvent(new CredentialsChangedEvent(id));
+        eventPublisher.publishEvent(new EntityChangedEvent(Employee.class));
     }
 
     @Override
@@ -102,21 +118,26 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     private void ifAlreadyExistThenException(Employee employee) {
-        if (employee.getId() == 0) {
+        if (personRepository.existsSamePerson(employee.getFirstName(), employee.getLastName(), employee.getGender(),
+            employee.getBirthDate(), employee.getPhoneNumber(), employee.getId())) {
+            log.error("Exists {}", employee);
+            throw new EntityExistsException(EXISTS_MESSAGE);
+        }
+    }
 
-            if (personRepository.findAll().contains(employee)) {
-                log.error("Exists {}", employee);
-                throw new EntityExistsException(EXISTS_MESSAGE);
-            }
+    private String encodeIfChanged(PersonCredentials storedCredentials, String password) {
+        if (Objects.isNull(password) || password.isEmpty()) {
+            log.debug("Password of person with id={} is unchanged, keeping its hash", storedCredentials.getId());
+            return storedCredentials.getPassword();
+        }
 
-        } else {
+        return passwordEncoder.encode(password);
+    }
 
-            if ((!personRepository.findById(employee.getId()).get().equals(employee))
-                && (personRepository.findAll().contains(employee))) {
-                log.error("Exists {}", employee);
-                throw new EntityExistsException(EXISTS_MESSAGE);
-            }
-        }
+    private boolean credentialsChanged(PersonCredentials storedCredentials, Person updatedPerson) {
+        return !Objects.equals(storedCredentials.getPassword(), updatedPerson.getPassword())
+            || !Objects.equals(storedCredentials.getEmail(), updatedPerson.getEmail())
+            || storedCredentials.getRole() != updatedPerson.getRole();
     }
 
     private void ifNotFoundThenException(int id) {
@@ -0,0 +1,91 @@
+package ua.foxminded.university.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ua.foxminded.university.domain.Mark;
+import ua.foxminded.university.domain.Student;
+import ua.foxminded.university.dto.lecture.LectureRow;
+import ua.foxminded.university.repository.LectureRepository;
+import ua.foxminded.university.repository.MarkRepository;
+import ua.foxminded.university.repository.StudentRepository;
+import ua.foxminded.university.service.interfaces.ExportService;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final StudentRepository studentRepository;
+    private final MarkRepository markRepository;
+    private final LectureRepository lectureRepository;
+    private final EntityManager entityManager;
+
+    @Autowired
+    public ExportServiceImpl(StudentRepository studentRepository,
+                             MarkRepository markRepository,
+                             LectureRepository lectureRepository,
+                             EntityManager entityManager) {
+        this.studentRepository = studentRepository;
+        this.markRepository = markRepository;
+        this.lectureRepository = lectureRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void forEachStudent(Consumer<Student> action) {
+        log.debug("Exporting students");
+        forEachDetached(studentRepository.streamAll(), action);
+    }
+
+    @Override
+    public void forEachMark(Consumer<Mark> action) {
+        log.debug("Exporting marks");
+        forEachDetached(markRepository.streamAll(), action);
+    }
+
+    @Override
+    public void forEachLectureChunk(Consumer<List<LectureRow>> action) {
+        log.debug("Exporting lectures");
+        try (Stream<LectureRow> rows = lectureRepository.streamRows()) {
+            List<LectureRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            Iterator<LectureRow> iterator = rows.iterator();
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    action.accept(List.copyOf(chunk));
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    private <T> void forEachDetached(Stream<T> entities, Consumer<T> action) {
+        try (entities) {
+            Iterator<T> iterator = entities.iterator();
+            int count = 0;
+
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+
+                if (++count % CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+
+            log.debug("Exported {} rows", count);
+        }
+    }
+}
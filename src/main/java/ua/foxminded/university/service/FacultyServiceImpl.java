@@ -2,12 +2,15 @@ package ua.foxminded.university.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.repository.FacultyRepository;
+import ua.foxminded.university.domain.Department;
 import ua.foxminded.university.domain.Faculty;
 import ua.foxminded.university.service.interfaces.FacultyService;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
 import java.util.List;
@@ -23,16 +26,20 @@ public class FacultyServiceImpl implements FacultyService {
     private static final String MESSAGE = format(ENTITY_NOT_FOUND, Faculty.class.getSimpleName());
 
     private final FacultyRepository facultyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public FacultyServiceImpl(FacultyRepository facultyRepository) {
+    public FacultyServiceImpl(FacultyRepository facultyRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.facultyRepository = facultyRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
     public void add(Faculty faculty) {
         facultyRepository.save(faculty);
+        eventPublisher.publishEvent(new EntityChangedEvent(Faculty.class));
     }
 
     @Override
@@ -40,6 +47,7 @@ public class FacultyServiceImpl implements FacultyService {
     public void update(int id, Faculty updatedFaculty) {
         ifNotFoundThenException(id);
         facultyRepository.save(updatedFaculty);
+        eventPublisher.publishEvent(new EntityChangedEvent(Faculty.class));
     }
 
     @Override
@@ -47,6 +55,9 @@ public class FacultyServiceImpl implements FacultyService {
     public void delete(int id) {
         ifNotFoundThenException(id);
         facultyRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(Faculty.class, id));
+        /* Faculty#removeFaculty detached its departments, so snapshots built over departments have to reload */
+        eventPublisher.publishEvent(new EntityChangedEvent(Department.class));
     }
 
     @Override
@@ -0,0 +1,81 @@
+package ua.foxminded.university.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ua.foxminded.university.dto.mark.GradebookCell;
+import ua.foxminded.university.dto.mark.GradebookHeader;
+import ua.foxminded.university.dto.mark.GradebookScope;
+import ua.foxminded.university.repository.GroupRepository;
+import ua.foxminded.university.repository.MarkRepository;
+import ua.foxminded.university.repository.StudentRepository;
+import ua.foxminded.university.repository.SubjectRepository;
+import ua.foxminded.university.service.interfaces.GradebookService;
+import ua.foxminded.university.util.analytics.Gradebook;
+import ua.foxminded.university.util.exceptions.EntityNotFoundException;
+import ua.foxminded.university.util.exceptions.GradebookTooLargeException;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static ua.foxminded.university.util.exceptions.ExceptionConstants.NOT_FOUND;
+
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class GradebookServiceImpl implements GradebookService {
+
+    static final int MAX_CELLS = 1 << 24;
+    private static final String TOO_LARGE_MESSAGE = "Gradebook of %d students and %d subjects exceeds %d cells";
+
+    private final GroupRepository groupRepository;
+    private final StudentRepository studentRepository;
+    private final SubjectRepository subjectRepository;
+    private final MarkRepository markRepository;
+
+    @Autowired
+    public GradebookServiceImpl(GroupRepository groupRepository,
+                                StudentRepository studentRepository,
+                                SubjectRepository subjectRepository,
+                                MarkRepository markRepository) {
+        this.groupRepository = groupRepository;
+        this.studentRepository = studentRepository;
+        this.subjectRepository = subjectRepository;
+        this.markRepository = markRepository;
+    }
+
+    @Override
+    public Gradebook find(GradebookScope scope, int id) {
+        List<Integer> groupIds = switch (scope) {
+            case GROUP -> groupRepository.existsById(id) ? List.of(id) : List.of();
+            case DEPARTMENT -> groupRepository.findIdsByDepartmentId(id);
+            case FACULTY -> groupRepository.findIdsByFacultyId(id);
+        };
+
+        if (groupIds.isEmpty()) {
+            log.error("Failed to find groups of {} with id={}", scope, id);
+            throw new EntityNotFoundException(NOT_FOUND);
+        }
+
+        List<GradebookHeader> students = studentRepository.findGradebookHeaders(groupIds);
+        List<GradebookHeader> subjects = subjectRepository.findGradebookHeaders(groupIds);
+
+        if ((long) students.size() * subjects.size() > MAX_CELLS) {
+            log.error("Refused to build gradebook of {} with id={}", scope, id);
+            throw new GradebookTooLargeException(format(TOO_LARGE_MESSAGE, students.size(), subjects.size(),
+                MAX_CELLS));
+        }
+
+        Gradebook gradebook = new Gradebook(students, subjects);
+
+        try (Stream<GradebookCell> cells = markRepository.streamGradebookCells(groupIds)) {
+            cells.forEach(cell -> gradebook.put(cell.getStudentId(), cell.getSubjectId(), cell.getValue()));
+        }
+
+        log.debug("Built gradebook of {} with id={}: {} students, {} subjects", scope, id, gradebook.rows(),
+            gradebook.columns());
+        return gradebook;
+    }
+}
@@ -2,11 +2,13 @@ package ua.foxminded.university.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.domain.*;
 import ua.foxminded.university.repository.GroupRepository;
 import ua.foxminded.university.service.interfaces.GroupService;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
 import java.util.List;
@@ -22,10 +24,13 @@ public class GroupServiceImpl implements GroupService {
     private static final String MESSAGE = format(ENTITY_NOT_FOUND, Group.class.getSimpleName());
 
     private final GroupRepository groupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public GroupServiceImpl(GroupRepository groupRepository) {
+    public GroupServiceImpl(GroupRepository groupRepository,
+                            ApplicationEventPublisher eventPublisher) {
         this.groupRepository = groupRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -33,6 +38,7 @@ public class GroupServiceImpl implements GroupService {
     public void add(Group group) {
         groupRepository.save(group);
         group.getSubjects().forEach(subject -> subject.addGroup(group));
+        eventPublisher.publishEvent(new EntityChangedEvent(Group.class));
     }
 
     @Override
@@ -41,6 +47,7 @@ public class GroupServiceImpl implements GroupService {
         Group groupToUpdate = findGroup(id);
         groupToUpdate.merge(updatedGroup);
         groupRepository.save(updatedGroup);
+        eventPublisher.publishEvent(new EntityChangedEvent(Group.class));
     }
 
     @Override
@@ -53,6 +60,7 @@ public class GroupServiceImpl implements GroupService {
         }
 
         groupRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(Group.class, id));
     }
 
     @Override
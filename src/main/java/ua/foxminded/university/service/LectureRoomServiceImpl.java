@@ -2,11 +2,13 @@ package ua.foxminded.university.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.repository.LectureRoomRepository;
 import ua.foxminded.university.domain.LectureRoom;
 import ua.foxminded.university.service.interfaces.LectureRoomService;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
 import java.util.List;
@@ -22,16 +24,20 @@ public class LectureRoomServiceImpl implements LectureRoomService {
     private static final String MESSAGE = format(ENTITY_NOT_FOUND, LectureRoom.class.getSimpleName());
 
     private final LectureRoomRepository roomRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public LectureRoomServiceImpl(LectureRoomRepository roomRepository) {
+    public LectureRoomServiceImpl(LectureRoomRepository roomRepository,
+                                  ApplicationEventPublisher eventPublisher) {
         this.roomRepository = roomRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
     public void add(LectureRoom room) {
         roomRepository.save(room);
+        eventPublisher.publishEvent(new EntityChangedEvent(LectureRoom.class));
     }
 
     @Override
@@ -39,6 +45,7 @@ public class LectureRoomServiceImpl implements LectureRoomService {
     public void update(int id, LectureRoom updatedRoom) {
         ifNotFoundThenException(id);
         roomRepository.save(updatedRoom);
+        eventPublisher.publishEvent(new EntityChangedEvent(LectureRoom.class));
     }
 
     @Override
@@ -46,6 +53,7 @@ public class LectureRoomServiceImpl implements LectureRoomService {
     public void delete(int id) {
         ifNotFoundThenException(id);
         roomRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(LectureRoom.class, id));
     }
 
     @Override
@@ -2,17 +2,40 @@ package ua.foxminded.university.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.domain.*;
+import ua.foxminded.university.dto.lecture.LectureGroupRow;
+import ua.foxminded.university.dto.lecture.LectureKey;
+import ua.foxminded.university.dto.lecture.LectureRow;
 import ua.foxminded.university.repository.LectureRepository;
 import ua.foxminded.university.service.interfaces.LectureService;
+import ua.foxminded.university.service.interfaces.TimetableService;
 import ua.foxminded.university.util.exceptions.EntityExistsException;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
+import ua.foxminded.university.util.exceptions.TimetableConflictException;
+import ua.foxminded.university.util.pagination.LectureCursor;
+import ua.foxminded.university.util.pagination.LecturePageRequest;
+import ua.foxminded.university.util.timetable.Conflict;
+import ua.foxminded.university.util.timetable.LectureBulkResult;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static ua.foxminded.university.util.exceptions.ExceptionConstants.*;
 
 @Service
@@ -22,26 +45,82 @@ public class LectureServiceImpl implements LectureService {
 
     private static final String NOT_FOUND_MESSAGE = format(ENTITY_NOT_FOUND, Lecture.class.getSimpleName());
     private static final String EXISTS_MESSAGE = format(ENTITY_EXISTS, Lecture.class.getSimpleName());
+    private static final LocalDate FIRST_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LAST_DATE = LocalDate.of(9999, 12, 31);
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int IDS_CHUNK_SIZE = 1000;
 
     private final LectureRepository lectureRepository;
+    private final TimetableService timetableService;
 
     @Autowired
-    public LectureServiceImpl(LectureRepository lectureRepository) {
+    public LectureServiceImpl(LectureRepository lectureRepository, TimetableService timetableService) {
         this.lectureRepository = lectureRepository;
+        this.timetableService = timetableService;
     }
 
     @Override
     @Transactional
     public void add(Lecture lecture) {
         ifAlreadyExistThenException(lecture);
+        ifConflictsThenException(timetableService.book(lecture));
+        attachDurations(List.of(lecture));
         lectureRepository.save(lecture);
     }
 
+    @Override
+    @Transactional
+    public List<LectureBulkResult> addAll(List<Lecture> lectures) {
+        List<List<String>> missingReferences = findMissingReferences(lectures);
+        Set<LectureKey> takenKeys = findTakenKeys(lectures);
+        List<LectureBulkResult> results = new ArrayList<>(lectures.size());
+        List<Integer> createdIndexes = new ArrayList<>();
+        List<Lecture> newLectures = new ArrayList<>();
+
+        for (int i = 0; i < lectures.size(); i++) {
+            Lecture lecture = lectures.get(i);
+
+            if (!missingReferences.get(i).isEmpty()) {
+                results.add(LectureBulkResult.invalid(lecture, missingReferences.get(i)));
+                continue;
+            }
+
+            if (!takenKeys.add(LectureKey.of(lecture))) {
+                results.add(LectureBulkResult.exists(lecture, EXISTS_MESSAGE));
+                continue;
+            }
+
+            List<Conflict> conflicts = timetableService.book(lecture);
+
+            if (conflicts.isEmpty()) {
+                createdIndexes.add(i);
+                newLectures.add(lecture);
+                results.add(null);
+            } else {
+                results.add(LectureBulkResult.conflict(lecture, conflicts));
+            }
+        }
+
+        log.debug("Saving {} of {} lectures, the rest are invalid, already exist or conflict", newLectures.size(),
+            lectures.size());
+        attachDurations(newLectures);
+        List<Lecture> savedLectures = lectureRepository.saveAll(newLectures);
+
+        for (int i = 0; i < savedLectures.size(); i++) {
+            results.set(createdIndexes.get(i), LectureBulkResult.created(savedLectures.get(i)));
+        }
+
+        return results;
+    }
+
     @Override
     @Transactional
     public void update(int id, Lecture updatedLecture) {
         ifNotFoundThenException(id);
         ifAlreadyExistThenException(updatedLecture);
+        ifConflictsThenException(timetableService.book(updatedLecture));
+        attachDurations(List.of(updatedLecture));
         lectureRepository.save(updatedLecture);
     }
 
@@ -49,6 +128,7 @@ public class LectureServiceImpl implements LectureService {
     @Transactional
     public void delete(int id) {
         ifNotFoundThenException(id);
+        timetableService.release(id);
         lectureRepository.deleteById(id);
     }
 
@@ -103,6 +183,71 @@ public class LectureServiceImpl implements LectureService {
         return lectures;
     }
 
+    @Override
+    public List<LectureRow> findRows() {
+        List<LectureRow> rows = lectureRepository.findRows();
+        ifListIsEmptyThenException(rows);
+        return rows;
+    }
+
+    @Override
+    public List<LectureRow> findRowsBySubject(int id) {
+        List<LectureRow> rows = lectureRepository.findRowsBySubjectId(id);
+        ifListIsEmptyThenException(rows);
+        return rows;
+    }
+
+    @Override
+    public List<LectureRow> findRowsByTeacher(int id) {
+        List<LectureRow> rows = lectureRepository.findRowsByTeacherId(id);
+        ifListIsEmptyThenException(rows);
+        return rows;
+    }
+
+    @Override
+    public List<LectureRow> findRowsByRoom(int id) {
+        List<LectureRow> rows = lectureRepository.findRowsByRoomId(id);
+        ifListIsEmptyThenException(rows);
+        return rows;
+    }
+
+    @Override
+    public List<LectureRow> findRowsByDuration(int id) {
+        List<LectureRow> rows = lectureRepository.findRowsByDurationId(id);
+        ifListIsEmptyThenException(rows);
+        return rows;
+    }
+
+    @Override
+    public List<LectureRow> findRowsByGroup(int id) {
+        List<LectureRow> rows = lectureRepository.findRowsByGroupId(id);
+        ifListIsEmptyThenException(rows);
+        return rows;
+    }
+
+    @Override
+    public List<LectureGroupRow> findGroupRows(Collection<Integer> lectureIds) {
+        List<Integer> ids = List.copyOf(lectureIds);
+        List<LectureGroupRow> rows = new ArrayList<>();
+
+        for (int i = 0; i < ids.size(); i += IDS_CHUNK_SIZE) {
+            rows.addAll(lectureRepository.findGroupRows(ids.subList(i, Math.min(i + IDS_CHUNK_SIZE, ids.size()))));
+        }
+
+        return rows;
+    }
+
+    @Override
+    public Slice<LectureRow> findPage(LecturePageRequest pageRequest) {
+        LocalDate from = Objects.requireNonNullElse(pageRequest.from(), FIRST_DATE);
+        LocalDate to = Objects.requireNonNullElse(pageRequest.to(), LAST_DATE);
+        LectureCursor cursor = Objects.requireNonNullElse(pageRequest.cursor(), LectureCursor.startingFrom(from));
+        int size = pageRequest.size() > 0 ? Math.min(pageRequest.size(), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        log.debug("Searching lectures page after {} between {} and {}", cursor, from, to);
+        return lectureRepository.findPageAfter(cursor.date(), cursor.startTime(), cursor.durationId(), cursor.id(),
+            from, to, pageRequest.groupId(), pageRequest.teacherId(), pageRequest.roomId(), PageRequest.ofSize(size));
+    }
+
     private void ifNotFoundThenException(int id) {
         if (!lectureRepository.existsById(id)) {
             log.error("Lecture with id={} not found", id);
@@ -110,13 +255,105 @@ public class LectureServiceImpl implements LectureService {
         }
     }
 
-    private void ifListIsEmptyThenException(List<Lecture> lectures) {
+    private void ifListIsEmptyThenException(List<?> lectures) {
         if (lectures.isEmpty()) {
             log.error("Fail when searching for lectures list");
             throw new EntityNotFoundException(NOT_FOUND);
         }
     }
 
+    private Set<LectureKey> findTakenKeys(List<Lecture> lectures) {
+        List<LocalDate> dates = lectures.stream()
+            .map(Lecture::getDate)
+            .distinct()
+            .toList();
+        Set<LectureKey> keys = new HashSet<>();
+
+        for (int i = 0; i < dates.size(); i += IDS_CHUNK_SIZE) {
+            keys.addAll(lectureRepository.findKeysByDateIn(dates.subList(i, Math.min(i + IDS_CHUNK_SIZE, dates.size()))));
+        }
+
+        return keys;
+    }
+
+    private List<List<String>> findMissingReferences(List<Lecture> lectures) {
+        Set<Integer> subjectIds = findExisting(lectures, lecture -> Stream.ofNullable(lecture.getSubject())
+            .map(Subject::getId), lectureRepository::findExistingSubjectIds);
+        Set<Integer> teacherIds = findExisting(lectures, lecture -> Stream.ofNullable(lecture.getTeacher())
+            .map(Teacher::getId), lectureRepository::findExistingTeacherIds);
+        Set<Integer> roomIds = findExisting(lectures, lecture -> Stream.ofNullable(lecture.getRoom())
+            .map(LectureRoom::getId), lectureRepository::findExistingRoomIds);
+        Set<Integer> durationIds = findExisting(lectures, lecture -> Stream.ofNullable(lecture.getDuration())
+            .map(Duration::getId), lectureRepository::findExistingDurationIds);
+        Set<Integer> groupIds = findExisting(lectures, lecture -> Stream.ofNullable(lecture.getGroups())
+            .flatMap(List::stream)
+            .map(Group::getId), lectureRepository::findExistingGroupIds);
+
+        return lectures.stream()
+            .map(lecture -> {
+                List<String> errors = new ArrayList<>();
+                requireExisting("subject", Subject.class, lecture.getSubject(), Subject::getId, subjectIds, errors);
+                requireExisting("teacher", Teacher.class, lecture.getTeacher(), Teacher::getId, teacherIds, errors);
+                requireExisting("room", LectureRoom.class, lecture.getRoom(), LectureRoom::getId, roomIds, errors);
+                requireExisting("duration", Duration.class, lecture.getDuration(), Duration::getId, durationIds, errors);
+                Objects.requireNonNullElse(lecture.getGroups(), List.<Group>of()).stream()
+                    .filter(group -> !groupIds.contains(group.getId()))
+                    .forEach(group -> errors.add(notFound("groups", Group.class, group.getId())));
+                return errors;
+            })
+            .toList();
+    }
+
+    /* Lectures copy the start time of their duration when saved, so they have to hold the loaded durations */
+    private void attachDurations(List<Lecture> lectures) {
+        List<Integer> ids = lectures.stream()
+            .map(Lecture::getDuration)
+            .filter(Objects::nonNull)
+            .map(Duration::getId)
+            .distinct()
+            .toList();
+
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Duration> durations = lectureRepository.findDurations(ids).stream()
+            .collect(toMap(Duration::getId, identity()));
+        lectures.stream()
+            .filter(lecture -> lecture.getDuration() != null)
+            .forEach(lecture -> lecture.setDuration(durations.getOrDefault(lecture.getDuration().getId(),
+                lecture.getDuration())));
+    }
+
+    private Set<Integer> findExisting(List<Lecture> lectures, Function<Lecture, Stream<Integer>> references,
+                                      Function<Collection<Integer>, Set<Integer>> query) {
+        List<Integer> ids = lectures.stream()
+            .flatMap(references)
+            .distinct()
+            .toList();
+        Set<Integer> existing = new HashSet<>();
+
+        for (int i = 0; i < ids.size(); i += IDS_CHUNK_SIZE) {
+            existing.addAll(query.apply(ids.subList(i, Math.min(i + IDS_CHUNK_SIZE, ids.size()))));
+        }
+
+        return existing;
+    }
+
+    private <T> void requireExisting(String field, Class<T> type, T reference, ToIntFunction<T> id,
+                                     Set<Integer> existing, List<String> errors) {
+        if (reference == null) {
+            errors.add(field + ": must not be null");
+        } else if (!existing.contains(id.applyAsInt(reference))) {
+            errors.add(notFound(field, type, id.applyAsInt(reference)));
+        }
+    }
+
+    private String notFound(String field, Class<?> type, int id) {
+        log.error("{} with id={} not found", type.getSimpleName(), id);
+        return field + ": " + format(ENTITY_NOT_FOUND, type.getSimpleName()) + " (id=" + id + ")";
+    }
+
     private void ifAlreadyExistThenException(Lecture lecture) {
         if (lecture.getId() == 0) {
 
@@ -140,6 +377,13 @@ public class LectureServiceImpl implements LectureService {
         }
     }
 
+    private void ifConflictsThenException(List<Conflict> conflicts) {
+        if (!conflicts.isEmpty()) {
+            log.error("Timetable conflicts {}", conflicts);
+            throw new TimetableConflictException(conflicts);
+        }
+    }
+
     private boolean exist(Lecture lecture) {
         return lectureRepository.existsSameLecture(lecture.getDate(),
             lecture.getSubject().getId(),
@@ -7,6 +7,7 @@ import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.repository.MarkRepository;
 import ua.foxminded.university.domain.Mark;
 import ua.foxminded.university.service.interfaces.MarkService;
+import ua.foxminded.university.service.interfaces.MarkStatisticsService;
 import ua.foxminded.university.util.exceptions.EntityExistsException;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
@@ -24,10 +25,12 @@ public class MarkServiceImpl implements MarkService {
     private static final String EXISTS_MESSAGE = format(ENTITY_EXISTS, Mark.class.getSimpleName());
 
     private final MarkRepository markRepository;
+    private final MarkStatisticsService markStatisticsService;
 
     @Autowired
-    public MarkServiceImpl(MarkRepository markRepository) {
+    public MarkServiceImpl(MarkRepository markRepository, MarkStatisticsService markStatisticsService) {
         this.markRepository = markRepository;
+        this.markStatisticsService = markStatisticsService;
     }
 
     @Override
@@ -35,6 +38,7 @@ public class MarkServiceImpl implements MarkService {
     public void add(Mark mark) {
         ifAlreadyExistThenException(mark);
         markRepository.save(mark);
+        markStatisticsService.record(mark);
     }
 
     @Override
@@ -43,6 +47,7 @@ public class MarkServiceImpl implements MarkService {
         ifNotFoundThenException(id);
         ifAlreadyExistThenException(updatedMark);
         markRepository.save(updatedMark);
+        markStatisticsService.record(updatedMark);
     }
 
     @Override
@@ -50,6 +55,7 @@ public class MarkServiceImpl implements MarkService {
     public void delete(int id) {
         ifNotFoundThenException(id);
         markRepository.deleteById(id);
+        markStatisticsService.remove(id);
     }
 
     @Override
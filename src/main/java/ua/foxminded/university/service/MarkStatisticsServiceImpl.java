@@ -0,0 +1,196 @@
+package ua.foxminded.university.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.foxminded.university.domain.Mark;
+import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.domain.Student;
+import ua.foxminded.university.domain.Subject;
+import ua.foxminded.university.dto.mark.MarkDimension;
+import ua.foxminded.university.dto.mark.MarkFact;
+import ua.foxminded.university.dto.mark.MarkStatisticsDTO;
+import ua.foxminded.university.repository.MarkRepository;
+import ua.foxminded.university.repository.StudentRepository;
+import ua.foxminded.university.service.interfaces.MarkStatisticsService;
+import ua.foxminded.university.util.analytics.MarkColumns;
+import ua.foxminded.university.util.analytics.MarkStatistics;
+import ua.foxminded.university.util.events.EntityChangedEvent;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class MarkStatisticsServiceImpl implements MarkStatisticsService {
+
+    private final MarkRepository markRepository;
+    private final StudentRepository studentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final List<Consumer<MarkColumns>> journal = new ArrayList<>();
+    private volatile MarkColumns columns = new MarkColumns();
+    private volatile boolean loaded;
+    private boolean loading;
+
+    @Autowired
+    public MarkStatisticsServiceImpl(MarkRepository markRepository,
+                                     StudentRepository studentRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.markRepository = markRepository;
+        this.studentRepository = studentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public MarkStatisticsDTO find(MarkDimension dimension, int id, List<Integer> percentiles) {
+        ensureLoaded();
+        long start = System.nanoTime();
+        MarkStatistics statistics = new MarkStatistics(switch (dimension) {
+            case SUBJECT -> columns.countBySubject(id);
+            case GROUP -> columns.countByStudents(toBitSet(studentRepository.findIdsByGroupId(id)));
+            case DEPARTMENT -> columns.countByStudents(toBitSet(studentRepository.findIdsByDepartmentId(id)));
+            case FACULTY -> columns.countByStudents(toBitSet(studentRepository.findIdsByFacultyId(id)));
+        });
+        log.debug("Counted {} marks of {} with id={} in {} us",
+            statistics.total(), dimension, id, (System.nanoTime() - start) / 1_000);
+        Map<Integer, MarkValue> percentileValues = new LinkedHashMap<>();
+        percentiles.forEach(percentile -> statistics.percentile(percentile)
+            .ifPresent(value -> percentileValues.put(percentile, value)));
+        return MarkStatisticsDTO.builder()
+            .dimension(dimension)
+            .id(id)
+            .count(statistics.total())
+            .average(statistics.average().isPresent() ? statistics.average().getAsDouble() : null)
+            .distribution(statistics.distribution())
+            .percentiles(percentileValues)
+            .build();
+    }
+
+    @Override
+    public void record(Mark mark) {
+        afterCommit(() -> {
+            int studentId = mark.getStudent() == null ? 0 : mark.getStudent().getId();
+            int subjectId = mark.getSubject() == null ? 0 : mark.getSubject().getId();
+            apply(markColumns -> markColumns.put(mark.getId(), studentId, subjectId, mark.getValue()));
+        });
+    }
+
+    @Override
+    public void remove(int markId) {
+        afterCommit(() -> apply(markColumns -> markColumns.remove(markId)));
+    }
+
+    @Override
+    public void reload() {
+        long start = System.nanoTime();
+
+        synchronized (journal) {
+            loading = true;
+            journal.clear();
+        }
+
+        MarkColumns fresh = new MarkColumns((int) markRepository.count());
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<MarkFact> facts = markRepository.streamFacts()) {
+                facts.forEach(fact -> fresh.put(fact.getMarkId(), idOrZero(fact.getStudentId()),
+                    idOrZero(fact.getSubjectId()), fact.getValue()));
+            }
+        });
+
+        synchronized (journal) {
+            journal.forEach(change -> change.accept(fresh));
+            journal.clear();
+            columns = fresh;
+            loading = false;
+        }
+
+        loaded = true;
+        log.info("Loaded {} marks into the analytics columns in {} ms",
+            fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensureLoaded();
+    }
+
+    /*
+     * Deleting a student or a subject leaves its marks with a null reference instead of removing them, so the rows
+     * stay and only lose the deleted id, the same way a reload would read them.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!loaded || !event.isDeletion()) {
+            return;
+        }
+
+        int id = event.deletedId();
+
+        if (event.entityType() == Student.class) {
+            log.debug("Detaching marks of deleted student with id={}", id);
+            apply(markColumns -> markColumns.detachStudent(id));
+        } else if (event.entityType() == Subject.class) {
+            log.debug("Detaching marks of deleted subject with id={}", id);
+            apply(markColumns -> markColumns.detachSubject(id));
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private void apply(Consumer<MarkColumns> change) {
+        synchronized (journal) {
+            change.accept(columns);
+
+            if (loading) {
+                journal.add(change);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    change.run();
+                }
+            }
+        });
+    }
+
+    private BitSet toBitSet(List<Integer> studentIds) {
+        BitSet students = new BitSet();
+        studentIds.forEach(students::set);
+        return students;
+    }
+
+    private int idOrZero(Integer id) {
+        return id == null ? 0 : id;
+    }
+}
@@ -6,7 +6,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import ua.foxminded.university.domain.Person;
+import ua.foxminded.university.dto.person.PersonCredentials;
 import ua.foxminded.university.repository.PersonRepository;
 import ua.foxminded.university.security.PersonDetails;
 
@@ -25,7 +25,7 @@ public class PersonDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        Optional<Person> person = personRepository.findByEmail(email);
+        Optional<PersonCredentials> person = personRepository.findCredentialsByEmail(email);
 
         if (person.isEmpty()) {
             log.error("Not found by email {}", email);
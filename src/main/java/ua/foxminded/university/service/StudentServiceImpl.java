@@ -2,16 +2,20 @@ package ua.foxminded.university.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.domain.Address;
 import ua.foxminded.university.domain.Person;
 import ua.foxminded.university.domain.Student;
+import ua.foxminded.university.dto.person.PersonCredentials;
 import ua.foxminded.university.repository.AddressRepository;
 import ua.foxminded.university.repository.PersonRepository;
 import ua.foxminded.university.repository.StudentRepository;
 import ua.foxminded.university.service.interfaces.StudentService;
+import ua.foxminded.university.util.events.CredentialsChangedEvent;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 import ua.foxminded.university.util.exceptions.EntityExistsException;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
@@ -34,16 +38,19 @@ public class StudentServiceImpl implements StudentService {
     private final PersonRepository personRepository;
     private final AddressRepository addressRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public StudentServiceImpl(StudentRepository studentRepository,
                               PersonRepository personRepository,
                               AddressRepository addressRepository,
-                              PasswordEncoder passwordEncoder) {
+                              PasswordEncoder passwordEncoder,
+                              ApplicationEventPublisher eventPublisher) {
         this.studentRepository = studentRepository;
         this.personRepository = personRepository;
         this.addressRepository = addressRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -66,10 +73,15 @@ public class StudentServiceImpl implements StudentService {
         ifNotFoundThenException(id);
         ifAlreadyExistThenException(updatedStudent);
         Address addressToUpdate = addressRepository.findByPersonId(id);
-        updatedStudent.setPassword(passwordEncoder.encode(updatedStudent.getPassword()));
+        PersonCredentials storedCredentials = personRepository.findCredentialsById(id);
+        updatedStudent.setPassword(encodeIfChanged(storedCredentials, updatedStudent.getPassword()));
         updatedStudent.getAddress().setId(addressToUpdate.getId());
         updatedStudent.getAddress().setPerson(updatedStudent);
         studentRepository.save(updatedStudent);
+
+        if (credentialsChanged(storedCredentials, updatedStudent)) {
+            eventPublisher.publishEvent(new CredentialsChangedEvent(id));
+        }
     }
 
     @Override
@@ -77,6 +89,8 @@ public class StudentServiceImpl implements StudentService {
     public void delete(int id) {
         ifNotFoundThenException(id);
         studentRepository.deleteById(id);
+        eventPublisher.publishEvent(new CredentialsChangedEvent(id));
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(Student.class, id));
     }
 
     @Override
@@ -103,19 +117,26 @@ public class StudentServiceImpl implements StudentService {
     }
 
     private void ifAlreadyExistThenException(Student student) {
-        if (student.getId() == 0) {
-            if (personRepository.findAll().contains(student)) {
-                log.error("Exists {}", student);
-                throw new EntityExistsException(EXISTS_MESSAGE);
-            }
-
-        } else {
-            if ((!personRepository.findById(student.getId()).get().equals(student))
-                && (personRepository.findAll().contains(student))) {
-                log.error("Exists {}", student);
-                throw new EntityExistsException(EXISTS_MESSAGE);
-            }
+        if (personRepository.existsSamePerson(student.getFirstName(), student.getLastName(), student.getGender(),
+            student.getBirthDate(), student.getPhoneNumber(), student.getId())) {
+            log.error("Exists {}", student);
+            throw new EntityExistsException(EXISTS_MESSAGE);
+        }
+    }
+
+    private String encodeIfChanged(PersonCredentials storedCredentials, String password) {
+        if (Objects.isNull(password) || password.isEmpty()) {
+            log.debug("Password of person with id={} is unchanged, keeping its hash", storedCredentials.getId());
+            return storedCredentials.getPassword();
         }
+
+        return passwordEncoder.encode(password);
+    }
+
+    private boolean credentialsChanged(PersonCredentials storedCredentials, Person updatedPerson) {
+        return !Objects.equals(storedCredentials.getPassword(), updatedPerson.getPassword())
+            || !Objects.equals(storedCredentials.getEmail(), updatedPerson.getEmail())
+            || storedCredentials.getRole() != updatedPerson.getRole();
     }
 
     private void ifNotFoundThenException(int id) {
@@ -2,11 +2,13 @@ package ua.foxminded.university.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.repository.SubjectRepository;
 import ua.foxminded.university.domain.*;
 import ua.foxminded.university.service.interfaces.SubjectService;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 import ua.foxminded.university.util.exceptions.EntityExistsException;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
@@ -24,10 +26,13 @@ public class SubjectServiceImpl implements SubjectService {
     private static final String EXISTS_MESSAGE = format(ENTITY_EXISTS, Subject.class.getSimpleName());
 
     private final SubjectRepository subjectRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public SubjectServiceImpl(SubjectRepository subjectRepository) {
+    public SubjectServiceImpl(SubjectRepository subjectRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.subjectRepository = subjectRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -35,6 +40,7 @@ public class SubjectServiceImpl implements SubjectService {
     public void add(Subject subject) {
         ifAlreadyExistThenException(subject);
         subjectRepository.save(subject);
+        eventPublisher.publishEvent(new EntityChangedEvent(Subject.class));
     }
 
     @Override
@@ -43,6 +49,7 @@ public class SubjectServiceImpl implements SubjectService {
         ifNotFoundThenException(id);
         ifAlreadyExistThenException(updatedSubject);
         subjectRepository.save(updatedSubject);
+        eventPublisher.publishEvent(new EntityChangedEvent(Subject.class));
     }
 
     @Override
@@ -50,6 +57,7 @@ public class SubjectServiceImpl implements SubjectService {
     public void delete(int id) {
         ifNotFoundThenException(id);
         subjectRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(Subject.class, id));
     }
 
     @Override
@@ -82,17 +90,10 @@ public class SubjectServiceImpl implements SubjectService {
     }
 
     private void ifAlreadyExistThenException(Subject subject) {
-        if (subject.getId() == 0) {
-            if (subjectRepository.findAll().contains(subject)) {
-                log.error("Exists {}", subject);
-                throw new EntityExistsException(EXISTS_MESSAGE);
-            }
-
-        } else {
-            if ((!subjectRepository.findById(subject.getId()).get().equals(subject)) && (subjectRepository.findAll().contains(subject))) {
-                log.error("Exists {}", subject);
-                throw new EntityExistsException(EXISTS_MESSAGE);
-            }
+        if (subjectRepository.existsSameSubject(subject.getName(), subject.getStartDate(), subject.getEndDate(),
+            subject.getId())) {
+            log.error("Exists {}", subject);
+            throw new EntityExistsException(EXISTS_MESSAGE);
         }
     }
 
@@ -2,11 +2,13 @@ package ua.foxminded.university.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ua.foxminded.university.domain.*;
 import ua.foxminded.university.repository.TeacherRepository;
 import ua.foxminded.university.service.interfaces.TeacherService;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
 import java.util.List;
@@ -22,10 +24,13 @@ public class TeacherServiceImpl implements TeacherService {
     private static final String MESSAGE = format(ENTITY_NOT_FOUND, Teacher.class.getSimpleName());
 
     private final TeacherRepository teacherRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public TeacherServiceImpl(TeacherRepository teacherRepository) {
+    public TeacherServiceImpl(TeacherRepository teacherRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.teacherRepository = teacherRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -34,6 +39,7 @@ public class TeacherServiceImpl implements TeacherService {
         teacherRepository.save(teacher);
         teacher.getEmployee().setTeacher(teacher);
         teacher.getSubjects().forEach(subject -> subject.addTeacher(teacher));
+        eventPublisher.publishEvent(new EntityChangedEvent(Teacher.class));
     }
 
     @Override
@@ -43,6 +49,7 @@ public class TeacherServiceImpl implements TeacherService {
         updatedTeacher.setEmployee(teacherToUpdate.getEmployee());
         teacherToUpdate.merge(updatedTeacher);
         teacherRepository.save(updatedTeacher);
+        eventPublisher.publishEvent(new EntityChangedEvent(Teacher.class));
     }
 
     @Override
@@ -54,6 +61,7 @@ public class TeacherServiceImpl implements TeacherService {
         }
 
         teacherRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(Teacher.class, id));
     }
 
     @Override
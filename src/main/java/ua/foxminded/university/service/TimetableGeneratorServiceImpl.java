@@ -0,0 +1,155 @@
+package ua.foxminded.university.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ua.foxminded.university.domain.*;
+import ua.foxminded.university.dto.lecture.TimetableGenerationResultDTO;
+import ua.foxminded.university.dto.lecture.UnplacedLectureDTO;
+import ua.foxminded.university.dto.subject.SubjectDemand;
+import ua.foxminded.university.dto.subject.SubjectTeacherLink;
+import ua.foxminded.university.repository.LectureRoomRepository;
+import ua.foxminded.university.repository.SubjectRepository;
+import ua.foxminded.university.service.interfaces.LectureService;
+import ua.foxminded.university.service.interfaces.TimetableGeneratorService;
+import ua.foxminded.university.service.interfaces.TimetableService;
+import ua.foxminded.university.util.timetable.LectureBulkResult;
+import ua.foxminded.university.util.timetable.TimetableGenerationRequest;
+import ua.foxminded.university.util.timetable.TimetableGenerator;
+import ua.foxminded.university.util.timetable.TimetableGenerator.Placement;
+import ua.foxminded.university.util.timetable.TimetableGenerator.Plan;
+import ua.foxminded.university.util.timetable.TimetableGenerator.Room;
+import ua.foxminded.university.util.timetable.TimetableGenerator.Session;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static ua.foxminded.university.util.timetable.LectureBulkStatus.CREATED;
+import static ua.foxminded.university.util.timetable.TimetableGenerator.DAYS_PER_WEEK;
+
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class TimetableGeneratorServiceImpl implements TimetableGeneratorService {
+
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private final SubjectRepository subjectRepository;
+    private final LectureRoomRepository roomRepository;
+    private final TimetableService timetableService;
+    private final LectureService lectureService;
+
+    @Autowired
+    public TimetableGeneratorServiceImpl(SubjectRepository subjectRepository,
+                                         LectureRoomRepository roomRepository,
+                                         TimetableService timetableService,
+                                         LectureService lectureService) {
+        this.subjectRepository = subjectRepository;
+        this.roomRepository = roomRepository;
+        this.timetableService = timetableService;
+        this.lectureService = lectureService;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TimetableGenerationResultDTO generate(TimetableGenerationRequest request) {
+        long start = System.nanoTime();
+        List<SubjectDemand> demand = findDemand(request);
+        List<Session> sessions = createSessions(request, demand, findTeachers(demand));
+        List<Room> rooms = roomRepository.findAll().stream()
+            .map(room -> new Room(room.getId(), Objects.requireNonNullElse(room.getCapacity(), 0)))
+            .toList();
+        TimetableGenerator generator = new TimetableGenerator(rooms, timetableService.findSlots());
+        log.debug("Generating timetable for {} lectures between {} and {}", sessions.size(), request.from(),
+            request.to());
+        Plan plan = generator.generate(sessions, timetableService.findBookings(request.from(), request.to()),
+            request.timeBudget(), PARALLELISM);
+        long searched = System.nanoTime();
+        List<Lecture> lectures = plan.placements().stream()
+            .map(this::toLecture)
+            .toList();
+        List<LectureBulkResult> saved = lectures.isEmpty() ? List.of() : lectureService.addAll(lectures);
+        int created = (int) saved.stream().filter(result -> result.status() == CREATED).count();
+        long finished = System.nanoTime();
+        log.info("Generated {} of {} lectures in {} attempts, search {} ms, save {} ms", created, sessions.size(),
+            plan.attempts(), (searched - start) / 1_000_000, (finished - searched) / 1_000_000);
+        return TimetableGenerationResultDTO.builder()
+            .requested(sessions.size())
+            .created(created)
+            .rejected(saved.size() - created)
+            .attempts(plan.attempts())
+            .timedOut(plan.timedOut())
+            .searchMillis((searched - start) / 1_000_000)
+            .saveMillis((finished - searched) / 1_000_000)
+            .unplaced(plan.unplaced().stream()
+                .map(session -> new UnplacedLectureDTO(session.weekStart(), session.subjectId(), session.groupId()))
+                .toList())
+            .build();
+    }
+
+    private List<SubjectDemand> findDemand(TimetableGenerationRequest request) {
+        if (request.subjectIds() == null || request.subjectIds().isEmpty()) {
+            return subjectRepository.findDemand(request.from(), request.to(), request.facultyId());
+        }
+
+        return subjectRepository.findDemandBySubjectIds(request.from(), request.to(), request.facultyId(),
+            request.subjectIds());
+    }
+
+    private Map<Integer, List<Integer>> findTeachers(List<SubjectDemand> demand) {
+        List<Integer> subjectIds = demand.stream()
+            .map(SubjectDemand::getSubjectId)
+            .distinct()
+            .toList();
+
+        if (subjectIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return subjectRepository.findTeacherLinks(subjectIds).stream()
+            .collect(Collectors.groupingBy(SubjectTeacherLink::getSubjectId,
+                Collectors.mapping(SubjectTeacherLink::getTeacherId, Collectors.toList())));
+    }
+
+    private List<Session> createSessions(TimetableGenerationRequest request, List<SubjectDemand> demand,
+                                         Map<Integer, List<Integer>> teachers) {
+        List<Session> sessions = new ArrayList<>();
+
+        for (LocalDate week = TimetableGenerator.weekStart(request.from()); !week.isAfter(request.to());
+             week = week.plusWeeks(1)) {
+            LocalDate weekFirst = week.isBefore(request.from()) ? request.from() : week;
+            LocalDate weekEnd = week.plusDays(DAYS_PER_WEEK - 1L);
+            LocalDate weekLast = weekEnd.isAfter(request.to()) ? request.to() : weekEnd;
+
+            for (SubjectDemand subject : demand) {
+                LocalDate first = subject.getStartDate().isAfter(weekFirst) ? subject.getStartDate() : weekFirst;
+                LocalDate last = subject.getEndDate().isBefore(weekLast) ? subject.getEndDate() : weekLast;
+
+                for (int i = 0; i < request.lecturesPerWeek() && !first.isAfter(last); i++) {
+                    sessions.add(new Session(week, subject.getSubjectId(), subject.getGroupId(),
+                        (int) subject.getHeadcount(), teachers.getOrDefault(subject.getSubjectId(), List.of()),
+                        first, last));
+                }
+            }
+        }
+
+        return sessions;
+    }
+
+    private Lecture toLecture(Placement placement) {
+        return Lecture.builder()
+            .date(placement.date())
+            .subject(Subject.builder().id(placement.session().subjectId()).build())
+            .teacher(Teacher.builder().id(placement.teacherId()).build())
+            .room(LectureRoom.builder().id(placement.roomId()).build())
+            .duration(Duration.builder().id(placement.durationId()).build())
+            .groups(new ArrayList<>(List.of(Group.builder().id(placement.session().groupId()).build())))
+            .build();
+    }
+}
@@ -0,0 +1,238 @@
+package ua.foxminded.university.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ua.foxminded.university.domain.*;
+import ua.foxminded.university.dto.lecture.LectureSlot;
+import ua.foxminded.university.repository.DurationRepository;
+import ua.foxminded.university.repository.LectureRepository;
+import ua.foxminded.university.service.interfaces.TimetableService;
+import ua.foxminded.university.util.events.EntityChangedEvent;
+import ua.foxminded.university.util.exceptions.EntityNotFoundException;
+import ua.foxminded.university.util.timetable.Booking;
+import ua.foxminded.university.util.timetable.Conflict;
+import ua.foxminded.university.util.timetable.Conflict.Resource;
+import ua.foxminded.university.util.timetable.TeacherWorkload.Workload;
+import ua.foxminded.university.util.timetable.TimetableIndex;
+import ua.foxminded.university.util.timetable.TimetableIndex.Slot;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static ua.foxminded.university.util.exceptions.ExceptionConstants.ENTITY_NOT_FOUND;
+
+@Service
+@Slf4j
+public class TimetableServiceImpl implements TimetableService {
+
+    private static final Map<Class<?>, Resource> RESOURCES =
+        Map.of(LectureRoom.class, Resource.ROOM, Teacher.class, Resource.TEACHER, Group.class, Resource.GROUP);
+    private static final String DURATION_NOT_FOUND = format(ENTITY_NOT_FOUND, Duration.class.getSimpleName());
+
+    private final LectureRepository lectureRepository;
+    private final DurationRepository durationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TimetableIndex index = new TimetableIndex();
+    private volatile boolean loaded;
+
+    @Autowired
+    public TimetableServiceImpl(LectureRepository lectureRepository,
+                                DurationRepository durationRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.lectureRepository = lectureRepository;
+        this.durationRepository = durationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public List<Conflict> book(Lecture lecture) {
+        ifNoTransactionThenException();
+        ensureLoaded();
+        Booking booking = Booking.of(lecture);
+        List<Conflict> conflicts = index.reserve(booking);
+
+        if (!conflicts.isEmpty()) {
+            log.warn("Failed to book {}, conflicts {}", booking, conflicts);
+            return conflicts;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    index.commit(booking, booking.lectureId() == lecture.getId()
+                        ? booking
+                        : booking.withLectureId(lecture.getId()));
+                } else {
+                    index.cancel(booking);
+                }
+            }
+        });
+        return conflicts;
+    }
+
+    @Override
+    public void release(int lectureId) {
+        ifNoTransactionThenException();
+        ensureLoaded();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    index.release(lectureId);
+                }
+            }
+        });
+    }
+
+    @Override
+    public List<List<Conflict>> check(List<Lecture> lectures) {
+        ensureLoaded();
+        TimetableIndex batch = new TimetableIndex();
+        batch.setSlots(index.getSlots());
+        List<List<Conflict>> conflicts = new ArrayList<>(lectures.size());
+
+        for (Lecture lecture : lectures) {
+            Booking booking = Booking.of(lecture);
+            List<Conflict> lectureConflicts = new ArrayList<>(index.findConflicts(booking));
+            lectureConflicts.addAll(batch.reserve(booking));
+            conflicts.add(lectureConflicts);
+        }
+
+        return conflicts;
+    }
+
+    @Override
+    public List<Booking> findBookings(LocalDate from, LocalDate to) {
+        ensureLoaded();
+        return index.findBetween(from, to);
+    }
+
+    @Override
+    public List<Integer> findFreeRooms(LocalDate from, LocalDate to, int durationId, List<Integer> roomIds) {
+        ensureLoaded();
+
+        if (!index.isIndexed(durationId)) {
+            log.warn("Duration with id={} is not in the timetable index", durationId);
+            throw new EntityNotFoundException(DURATION_NOT_FOUND);
+        }
+
+        return index.findFreeRooms(from, to, durationId, roomIds);
+    }
+
+    @Override
+    public List<Workload> findWorkload(int teacherId, LocalDate date) {
+        ensureLoaded();
+        return index.findWorkload(teacherId, date);
+    }
+
+    @Override
+    public Map<Integer, Slot> findSlots() {
+        ensureLoaded();
+        return index.getSlots();
+    }
+
+    @Override
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        index.startLoading();
+        List<LectureSlot> slots = transactionTemplate.execute(status -> {
+            index.setSlots(toSlots(durationRepository.findAll()));
+            return lectureRepository.findSlots();
+        });
+        index.load(toBookings(Objects.requireNonNull(slots)));
+        loaded = true;
+        log.info("Loaded {} lectures into the timetable index in {} ms",
+            index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensureLoaded();
+    }
+
+    /*
+     * Bookings only hold ids, so saving a room, teacher or group changes nothing here. A duration change moves the
+     * slots and needs a reload; deleting a room, teacher or group leaves its lectures in place without it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+
+        if (event.entityType() == Duration.class) {
+            log.debug("Reloading the timetable index after a duration changed");
+            reload();
+        } else if (event.isDeletion() && RESOURCES.containsKey(event.entityType())) {
+            log.debug("Releasing bookings of deleted {} with id={}", event.entityType().getSimpleName(),
+                event.deletedId());
+            index.releaseResource(RESOURCES.get(event.entityType()), event.deletedId());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private void ifNoTransactionThenException() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.error("Tried to change the timetable outside of a transaction");
+            throw new IllegalStateException("Timetable changes require an active transaction");
+        }
+    }
+
+    private Map<Integer, Slot> toSlots(List<Duration> durations) {
+        Map<Integer, Slot> slots = new HashMap<>();
+
+        for (Duration duration : durations) {
+            Slot.parse(duration.getStartTime(), duration.getEndTime()).ifPresentOrElse(
+                slot -> slots.put(duration.getId(), slot),
+                () -> log.warn("Duration {} has no parsable time range, only the same slot is treated as overlapping",
+                    duration));
+        }
+
+        return slots;
+    }
+
+    private List<Booking> toBookings(List<LectureSlot> slots) {
+        Map<Integer, List<LectureSlot>> slotsByLecture = slots.stream()
+            .collect(Collectors.groupingBy(LectureSlot::getLectureId, LinkedHashMap::new, Collectors.toList()));
+        return slotsByLecture.values().stream()
+            .map(lectureSlots -> {
+                LectureSlot slot = lectureSlots.get(0);
+                Set<Integer> groupIds = lectureSlots.stream()
+                    .map(LectureSlot::getGroupId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toUnmodifiableSet());
+                return new Booking(slot.getLectureId(), slot.getDate(), slot.getDurationId(), slot.getRoomId(),
+                    slot.getTeacherId(), groupIds);
+            })
+            .toList();
+    }
+}
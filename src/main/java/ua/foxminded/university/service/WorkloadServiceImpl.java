@@ -0,0 +1,81 @@
+package ua.foxminded.university.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ua.foxminded.university.domain.Teacher;
+import ua.foxminded.university.dto.teacher.TeacherNestedDTO;
+import ua.foxminded.university.dto.teacher.TeacherWorkloadDTO;
+import ua.foxminded.university.dto.teacher.WorkloadDTO;
+import ua.foxminded.university.repository.TeacherRepository;
+import ua.foxminded.university.service.interfaces.TimetableService;
+import ua.foxminded.university.service.interfaces.WorkloadService;
+import ua.foxminded.university.util.exceptions.EntityNotFoundException;
+import ua.foxminded.university.util.timetable.TeacherWorkload.Workload;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static java.lang.String.format;
+import static ua.foxminded.university.util.exceptions.ExceptionConstants.ENTITY_NOT_FOUND;
+import static ua.foxminded.university.util.exceptions.ExceptionConstants.NOT_FOUND;
+
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class WorkloadServiceImpl implements WorkloadService {
+
+    private static final String MESSAGE = format(ENTITY_NOT_FOUND, Teacher.class.getSimpleName());
+    private static final double MINUTES_PER_HOUR = 60.0;
+
+    private final TeacherRepository teacherRepository;
+    private final TimetableService timetableService;
+
+    @Autowired
+    public WorkloadServiceImpl(TeacherRepository teacherRepository, TimetableService timetableService) {
+        this.teacherRepository = teacherRepository;
+        this.timetableService = timetableService;
+    }
+
+    @Override
+    public TeacherWorkloadDTO findByTeacher(int teacherId, LocalDate date) {
+        TeacherNestedDTO teacher = teacherRepository.findNestedById(teacherId).orElseThrow(() -> {
+            log.error("Failed to find teacher with id={}", teacherId);
+            return new EntityNotFoundException(MESSAGE);
+        });
+        return toWorkloadDTO(teacher, date);
+    }
+
+    @Override
+    public List<TeacherWorkloadDTO> findByDepartment(int departmentId, LocalDate date) {
+        List<TeacherNestedDTO> teachers = teacherRepository.findNestedByDepartmentId(departmentId);
+
+        if (teachers.isEmpty()) {
+            log.error("Failed to find teachers of department with id={}", departmentId);
+            throw new EntityNotFoundException(NOT_FOUND);
+        }
+
+        return teachers.stream()
+            .map(teacher -> toWorkloadDTO(teacher, date))
+            .toList();
+    }
+
+    private TeacherWorkloadDTO toWorkloadDTO(TeacherNestedDTO teacher, LocalDate date) {
+        List<WorkloadDTO> workloads = timetableService.findWorkload(teacher.getId(), date).stream()
+            .map(this::toWorkloadDTO)
+            .toList();
+        return new TeacherWorkloadDTO(teacher, workloads);
+    }
+
+    private WorkloadDTO toWorkloadDTO(Workload workload) {
+        return WorkloadDTO.builder()
+            .period(workload.period())
+            .from(workload.from())
+            .to(workload.to())
+            .lectures(workload.load().lectures())
+            .minutes(workload.load().minutes())
+            .hours(workload.load().minutes() / MINUTES_PER_HOUR)
+            .build();
+    }
+}
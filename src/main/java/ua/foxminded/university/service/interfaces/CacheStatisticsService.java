@@ -0,0 +1,12 @@
+package ua.foxminded.university.service.interfaces;
+
+import ua.foxminded.university.dto.cache.CacheRegionStatisticsDTO;
+
+import java.util.List;
+
+public interface CacheStatisticsService {
+
+    List<CacheRegionStatisticsDTO> findRegionStatistics();
+
+    void clear();
+}
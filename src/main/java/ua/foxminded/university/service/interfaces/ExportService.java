@@ -0,0 +1,17 @@
+package ua.foxminded.university.service.interfaces;
+
+import ua.foxminded.university.domain.Mark;
+import ua.foxminded.university.domain.Student;
+import ua.foxminded.university.dto.lecture.LectureRow;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ExportService {
+
+    void forEachStudent(Consumer<Student> action);
+
+    void forEachMark(Consumer<Mark> action);
+
+    void forEachLectureChunk(Consumer<List<LectureRow>> action);
+}
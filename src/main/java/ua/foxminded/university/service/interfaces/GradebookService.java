@@ -0,0 +1,9 @@
+package ua.foxminded.university.service.interfaces;
+
+import ua.foxminded.university.dto.mark.GradebookScope;
+import ua.foxminded.university.util.analytics.Gradebook;
+
+public interface GradebookService {
+
+    Gradebook find(GradebookScope scope, int id);
+}
@@ -1,11 +1,19 @@
 package ua.foxminded.university.service.interfaces;
 
+import org.springframework.data.domain.Slice;
 import ua.foxminded.university.domain.Lecture;
+import ua.foxminded.university.dto.lecture.LectureGroupRow;
+import ua.foxminded.university.dto.lecture.LectureRow;
+import ua.foxminded.university.util.pagination.LecturePageRequest;
+import ua.foxminded.university.util.timetable.LectureBulkResult;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LectureService extends GenericService<Lecture> {
 
+    List<LectureBulkResult> addAll(List<Lecture> lectures);
+
     List<Lecture> findBySubject(int id);
 
     List<Lecture> findByTeacher(int id);
@@ -15,4 +23,20 @@ public interface LectureService extends GenericService<Lecture> {
     List<Lecture> findByDuration(int id);
 
     List<Lecture> findByGroup(int id);
+
+    List<LectureRow> findRows();
+
+    List<LectureRow> findRowsBySubject(int id);
+
+    List<LectureRow> findRowsByTeacher(int id);
+
+    List<LectureRow> findRowsByRoom(int id);
+
+    List<LectureRow> findRowsByDuration(int id);
+
+    List<LectureRow> findRowsByGroup(int id);
+
+    List<LectureGroupRow> findGroupRows(Collection<Integer> lectureIds);
+
+    Slice<LectureRow> findPage(LecturePageRequest pageRequest);
 }
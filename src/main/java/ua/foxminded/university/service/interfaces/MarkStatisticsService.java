@@ -0,0 +1,18 @@
+package ua.foxminded.university.service.interfaces;
+
+import ua.foxminded.university.domain.Mark;
+import ua.foxminded.university.dto.mark.MarkDimension;
+import ua.foxminded.university.dto.mark.MarkStatisticsDTO;
+
+import java.util.List;
+
+public interface MarkStatisticsService {
+
+    MarkStatisticsDTO find(MarkDimension dimension, int id, List<Integer> percentiles);
+
+    void record(Mark mark);
+
+    void remove(int markId);
+
+    void reload();
+}
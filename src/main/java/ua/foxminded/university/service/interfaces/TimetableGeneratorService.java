@@ -0,0 +1,9 @@
+package ua.foxminded.university.service.interfaces;
+
+import ua.foxminded.university.dto.lecture.TimetableGenerationResultDTO;
+import ua.foxminded.university.util.timetable.TimetableGenerationRequest;
+
+public interface TimetableGeneratorService {
+
+    TimetableGenerationResultDTO generate(TimetableGenerationRequest request);
+}
@@ -0,0 +1,30 @@
+package ua.foxminded.university.service.interfaces;
+
+import ua.foxminded.university.domain.Lecture;
+import ua.foxminded.university.util.timetable.Booking;
+import ua.foxminded.university.util.timetable.Conflict;
+import ua.foxminded.university.util.timetable.TeacherWorkload.Workload;
+import ua.foxminded.university.util.timetable.TimetableIndex.Slot;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface TimetableService {
+
+    List<Conflict> book(Lecture lecture);
+
+    void release(int lectureId);
+
+    List<List<Conflict>> check(List<Lecture> lectures);
+
+    List<Booking> findBookings(LocalDate from, LocalDate to);
+
+    List<Integer> findFreeRooms(LocalDate from, LocalDate to, int durationId, List<Integer> roomIds);
+
+    List<Workload> findWorkload(int teacherId, LocalDate date);
+
+    Map<Integer, Slot> findSlots();
+
+    void reload();
+}
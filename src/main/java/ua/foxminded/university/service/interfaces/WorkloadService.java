@@ -0,0 +1,13 @@
+package ua.foxminded.university.service.interfaces;
+
+import ua.foxminded.university.dto.teacher.TeacherWorkloadDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface WorkloadService {
+
+    TeacherWorkloadDTO findByTeacher(int teacherId, LocalDate date);
+
+    List<TeacherWorkloadDTO> findByDepartment(int departmentId, LocalDate date);
+}
@@ -0,0 +1,106 @@
+package ua.foxminded.university.util.analytics;
+
+import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.dto.mark.GradebookHeader;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class Gradebook {
+
+    private static final byte EMPTY = 0;
+    private static final MarkValue[] VALUES = MarkValue.values();
+
+    private final Headers students;
+    private final Headers subjects;
+    private final byte[] cells;
+
+    public Gradebook(List<GradebookHeader> students, List<GradebookHeader> subjects) {
+        this.students = new Headers(students);
+        this.subjects = new Headers(subjects);
+        this.cells = new byte[Math.multiplyExact(students.size(), subjects.size())];
+    }
+
+    public boolean put(int studentId, int subjectId, MarkValue value) {
+        int row = students.indexOf(studentId);
+        int column = subjects.indexOf(subjectId);
+
+        if (row < 0 || column < 0) {
+            return false;
+        }
+
+        cells[row * columns() + column] = (byte) (value.ordinal() + 1);
+        return true;
+    }
+
+    public MarkValue get(int row, int column) {
+        byte cell = cells[row * columns() + column];
+        return cell == EMPTY ? null : VALUES[cell - 1];
+    }
+
+    public int rows() {
+        return students.ids.length;
+    }
+
+    public int columns() {
+        return subjects.ids.length;
+    }
+
+    public int studentId(int row) {
+        return students.ids[row];
+    }
+
+    public String studentName(int row) {
+        return students.names[row];
+    }
+
+    public int subjectId(int column) {
+        return subjects.ids[column];
+    }
+
+    public String subjectName(int column) {
+        return subjects.names[column];
+    }
+
+    private static final class Headers {
+
+        private final int[] ids;
+        private final String[] names;
+        private final long[] positionsById;
+
+        private Headers(List<GradebookHeader> headers) {
+            ids = new int[headers.size()];
+            names = new String[headers.size()];
+            positionsById = new long[headers.size()];
+
+            for (int i = 0; i < ids.length; i++) {
+                GradebookHeader header = headers.get(i);
+                ids[i] = header.getId();
+                names[i] = header.getName();
+                positionsById[i] = (long) header.getId() << Integer.SIZE | i;
+            }
+
+            Arrays.sort(positionsById);
+        }
+
+        private int indexOf(int id) {
+            int low = 0;
+            int high = positionsById.length - 1;
+
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int middleId = (int) (positionsById[middle] >> Integer.SIZE);
+
+                if (middleId < id) {
+                    low = middle + 1;
+                } else if (middleId > id) {
+                    high = middle - 1;
+                } else {
+                    return (int) positionsById[middle];
+                }
+            }
+
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package ua.foxminded.university.util.analytics;
+
+import ua.foxminded.university.domain.MarkValue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public class MarkColumns {
+
+    public static final int VALUES = MarkValue.values().length;
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final int ABSENT = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int[] markIds;
+    private int[] studentIds;
+    private int[] subjectIds;
+    private byte[] values;
+    private int[] rowsByMarkId = new int[0];
+    private int size;
+
+    public MarkColumns() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public MarkColumns(int capacity) {
+        int initialCapacity = Math.max(capacity, 1);
+        markIds = new int[initialCapacity];
+        studentIds = new int[initialCapacity];
+        subjectIds = new int[initialCapacity];
+        values = new byte[initialCapacity];
+    }
+
+    public void put(int markId, int studentId, int subjectId, MarkValue value) {
+        if (markId <= 0) {
+            throw new IllegalArgumentException("Mark id should be positive, but was " + markId);
+        }
+
+        write(() -> {
+            int row = row(markId);
+
+            if (row == ABSENT) {
+                row = append(markId);
+            }
+
+            studentIds[row] = studentId;
+            subjectIds[row] = subjectId;
+            values[row] = (byte) value.ordinal();
+        });
+    }
+
+    public void remove(int markId) {
+        write(() -> {
+            int row = row(markId);
+
+            if (row == ABSENT) {
+                return;
+            }
+
+            int last = --size;
+            rowsByMarkId[markId] = ABSENT;
+
+            if (row != last) {
+                markIds[row] = markIds[last];
+                studentIds[row] = studentIds[last];
+                subjectIds[row] = subjectIds[last];
+                values[row] = values[last];
+                rowsByMarkId[markIds[row]] = row;
+            }
+        });
+    }
+
+    /* A mark outlives its student or subject with a null reference, so its row stays, just as a reload keeps it */
+    public void detachStudent(int studentId) {
+        write(() -> detach(studentIds, studentId));
+    }
+
+    public void detachSubject(int subjectId) {
+        write(() -> detach(subjectIds, subjectId));
+    }
+
+    public int size() {
+        return read(() -> size);
+    }
+
+    public long[] countBySubject(int subjectId) {
+        return read(() -> IntStream.range(0, chunks()).parallel()
+            .mapToObj(chunk -> {
+                long[] counts = new long[VALUES];
+
+                for (int row = chunk * CHUNK_SIZE, end = chunkEnd(chunk); row < end; row++) {
+                    if (subjectIds[row] == subjectId) {
+                        counts[values[row]]++;
+                    }
+                }
+
+                return counts;
+            })
+            .reduce(new long[VALUES], MarkColumns::sum));
+    }
+
+    public long[] countByStudents(BitSet students) {
+        return read(() -> IntStream.range(0, chunks()).parallel()
+            .mapToObj(chunk -> {
+                long[] counts = new long[VALUES];
+
+                for (int row = chunk * CHUNK_SIZE, end = chunkEnd(chunk); row < end; row++) {
+                    if (students.get(studentIds[row])) {
+                        counts[values[row]]++;
+                    }
+                }
+
+                return counts;
+            })
+            .reduce(new long[VALUES], MarkColumns::sum));
+    }
+
+    private void detach(int[] ids, int id) {
+        for (int row = 0; row < size; row++) {
+            if (ids[row] == id) {
+                ids[row] = 0;
+            }
+        }
+    }
+
+    private int row(int markId) {
+        return markId >= 0 && markId < rowsByMarkId.length ? rowsByMarkId[markId] : ABSENT;
+    }
+
+    private int append(int markId) {
+        if (size == markIds.length) {
+            int capacity = markIds.length + (markIds.length >> 1) + 1;
+            markIds = Arrays.copyOf(markIds, capacity);
+            studentIds = Arrays.copyOf(studentIds, capacity);
+            subjectIds = Arrays.copyOf(subjectIds, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        if (markId >= rowsByMarkId.length) {
+            int length = rowsByMarkId.length;
+            rowsByMarkId = Arrays.copyOf(rowsByMarkId, Math.max(markId + 1, length + (length >> 1)));
+            Arrays.fill(rowsByMarkId, length, rowsByMarkId.length, ABSENT);
+        }
+
+        markIds[size] = markId;
+        rowsByMarkId[markId] = size;
+        return size++;
+    }
+
+    private int chunks() {
+        return (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    private int chunkEnd(int chunk) {
+        return Math.min(size, (chunk + 1) * CHUNK_SIZE);
+    }
+
+    private static long[] sum(long[] first, long[] second) {
+        long[] counts = new long[VALUES];
+
+        for (int i = 0; i < VALUES; i++) {
+            counts[i] = first[i] + second[i];
+        }
+
+        return counts;
+    }
+
+    private <T> T read(Supplier<T> action) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+
+        try {
+            return action.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void write(Runnable action) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+
+        try {
+            action.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ua.foxminded.university.util.analytics;
+
+import ua.foxminded.university.domain.MarkValue;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+import static ua.foxminded.university.util.analytics.MarkColumns.VALUES;
+
+public record MarkStatistics(long[] counts) {
+
+    public static int points(MarkValue value) {
+        return VALUES - value.ordinal();
+    }
+
+    public long total() {
+        long total = 0;
+
+        for (long count : counts) {
+            total += count;
+        }
+
+        return total;
+    }
+
+    public Map<MarkValue, Long> distribution() {
+        Map<MarkValue, Long> distribution = new EnumMap<>(MarkValue.class);
+
+        for (MarkValue value : MarkValue.values()) {
+            distribution.put(value, counts[value.ordinal()]);
+        }
+
+        return distribution;
+    }
+
+    public OptionalDouble average() {
+        long total = total();
+
+        if (total == 0) {
+            return OptionalDouble.empty();
+        }
+
+        long points = 0;
+
+        for (MarkValue value : MarkValue.values()) {
+            points += counts[value.ordinal()] * points(value);
+        }
+
+        return OptionalDouble.of((double) points / total);
+    }
+
+    public Optional<MarkValue> percentile(int percentile) {
+        if (percentile < 1 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile should be between 1 and 100, but was " + percentile);
+        }
+
+        long total = total();
+        long rank = (total * percentile + 99) / 100;
+        long seen = 0;
+
+        for (int ordinal = VALUES - 1; ordinal >= 0 && total > 0; ordinal--) {
+            seen += counts[ordinal];
+
+            if (seen >= rank) {
+                return Optional.of(MarkValue.values()[ordinal]);
+            }
+        }
+
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,45 @@
+package ua.foxminded.university.util.cache;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public class ListSnapshot<T> {
+
+    private final Supplier<List<T>> loader;
+    private final Set<Class<?>> dependencies;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot<T>> current = new AtomicReference<>();
+
+    public ListSnapshot(Supplier<List<T>> loader, Class<?>... dependencies) {
+        this.loader = loader;
+        this.dependencies = Set.of(dependencies);
+    }
+
+    public List<T> get() {
+        long expectedVersion = version.get();
+        Snapshot<T> snapshot = current.get();
+        if (snapshot != null && snapshot.version() == expectedVersion) {
+            return snapshot.items();
+        }
+        Snapshot<T> rebuilt = new Snapshot<>(expectedVersion, List.copyOf(loader.get()));
+        current.accumulateAndGet(rebuilt, (previous, candidate) ->
+            previous == null || previous.version() < candidate.version() ? candidate : previous);
+        return rebuilt.items();
+    }
+
+    public void invalidate(Class<?> entityType) {
+        if (dependencies.contains(entityType)) {
+            version.incrementAndGet();
+        }
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    private record Snapshot<T>(long version, List<T> items) {
+    }
+}
@@ -0,0 +1,15 @@
+package ua.foxminded.university.util.converters;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import ua.foxminded.university.util.pagination.LectureCursor;
+
+@Component
+public class LectureCursorConverter implements Converter<String, LectureCursor> {
+
+    @Override
+    public LectureCursor convert(@NonNull String cursor) {
+        return LectureCursor.decode(cursor);
+    }
+}
@@ -0,0 +1,70 @@
+package ua.foxminded.university.util.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Slf4j
+@Component
+@Profile("dataset")
+public class DatasetInitializer implements ApplicationRunner {
+
+    private static final String SCHEMA = "1.schema.sql";
+
+    private final DataSource dataSource;
+    private final int students;
+    private final boolean recreateSchema;
+
+    @Autowired
+    public DatasetInitializer(DataSource dataSource,
+                              @Value("${university.dataset.students:1000}") int students,
+                              @Value("${university.dataset.recreate-schema:false}") boolean recreateSchema) {
+        this.dataSource = dataSource;
+        this.students = students;
+        this.recreateSchema = recreateSchema;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        UniversityDataset dataset = new UniversityDataset(students);
+        long start = System.nanoTime();
+        long rows;
+
+        try (Connection connection = dataSource.getConnection()) {
+            if (recreateSchema) {
+                log.warn("Recreating the schema from {} before loading the dataset", SCHEMA);
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource(SCHEMA));
+            } else if (hasPeople(connection)) {
+                throw new IllegalStateException("The dataset needs an empty schema, set "
+                    + "university.dataset.recreate-schema=true to replace the existing data");
+            }
+
+            rows = new DatasetLoader(connection).load(dataset);
+        }
+
+        log.info("Loaded {} students, {} employees, {} groups, {} lectures and {} marks ({} rows) in {} s",
+            dataset.students(), dataset.employees(), dataset.groups(), dataset.lectures(), dataset.marks(), rows,
+            (System.nanoTime() - start) / 1_000_000_000);
+        log.info("Every person signs in with password '{}', e.g. {} as a student and {} as the admin",
+            UniversityDataset.PASSWORD, dataset.studentEmail(1), dataset.adminEmail());
+    }
+
+    private static boolean hasPeople(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT 1 FROM people LIMIT 1")) {
+            return resultSet.next();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package ua.foxminded.university.util.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/*
+ * Streams a dataset into an empty schema in one transaction: through COPY on PostgreSQL and through JDBC batches on
+ * any other database, H2 included.
+ */
+@Slf4j
+public class DatasetLoader {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+
+    private final Connection connection;
+    private final boolean copy;
+
+    public DatasetLoader(Connection connection) throws SQLException {
+        this.connection = connection;
+        this.copy = connection.isWrapperFor(PGConnection.class);
+    }
+
+    public long load(UniversityDataset dataset) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        long rows = 0;
+        connection.setAutoCommit(false);
+
+        try {
+            for (DatasetTable table : dataset.tables()) {
+                long start = System.nanoTime();
+                rows += copy ? copy(table) : insert(table);
+                log.info("Loaded {} rows into {} in {} ms", table.rows(), table.name(),
+                    (System.nanoTime() - start) / 1_000_000);
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                for (String reset : dataset.identityResets()) {
+                    statement.execute(reset);
+                }
+            }
+
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+
+        return rows;
+    }
+
+    private long insert(DatasetTable table) throws SQLException {
+        Object[] values = new Object[table.columns().size()];
+
+        try (PreparedStatement statement = connection.prepareStatement(table.insertSql())) {
+            for (int row = 1; row <= table.rows(); row++) {
+                table.writer().write(row, values);
+
+                for (int column = 0; column < values.length; column++) {
+                    statement.setObject(column + 1, values[column]);
+                }
+
+                statement.addBatch();
+
+                if (row % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+
+            statement.executeBatch();
+        }
+
+        return table.rows();
+    }
+
+    private long copy(DatasetTable table) throws SQLException {
+        Object[] values = new Object[table.columns().size()];
+        StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(table.copySql());
+
+        try {
+            for (int row = 1; row <= table.rows(); row++) {
+                table.writer().write(row, values);
+
+                for (int column = 0; column < values.length; column++) {
+                    if (column > 0) {
+                        buffer.append('\t');
+                    }
+
+                    appendCopyValue(buffer, values[column]);
+                }
+
+                buffer.append('\n');
+
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    flush(copyIn, buffer);
+                }
+            }
+
+            flush(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void appendCopyValue(StringBuilder buffer, Object value) {
+        if (value == null) {
+            buffer.append("\\N");
+            return;
+        }
+
+        String text = value.toString();
+
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+
+            switch (character) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(character);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package ua.foxminded.university.util.dataset;
+
+import java.util.List;
+
+public record DatasetTable(String name, List<String> columns, int rows, RowWriter writer) {
+
+    @FunctionalInterface
+    public interface RowWriter {
+
+        void write(int row, Object[] values);
+    }
+
+    public String insertSql() {
+        return "INSERT INTO " + name + " (" + String.join(", ", columns) + ") VALUES ("
+            + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+    }
+
+    public String copySql() {
+        return "COPY " + name + " (" + String.join(", ", columns) + ") FROM STDIN";
+    }
+}
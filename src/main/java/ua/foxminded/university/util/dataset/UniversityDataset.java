@@ -0,0 +1,330 @@
+package ua.foxminded.university.util.dataset;
+
+import ua.foxminded.university.domain.Role;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/*
+ * A synthetic university sized by its number of students. Rows are generated on the fly from their position, ids are
+ * assigned explicitly in insertion order, so every count below is also the highest id of its table.
+ */
+public class UniversityDataset {
+
+    public static final int GROUP_SIZE = 25;
+    public static final int GROUPS_PER_DEPARTMENT = 20;
+    public static final int DEPARTMENTS_PER_FACULTY = 5;
+    public static final int STUDENTS_PER_EMPLOYEE = 15;
+    public static final int SUBJECTS_PER_GROUP = 8;
+    public static final int TEACHERS_PER_SUBJECT = 2;
+    public static final int LECTURE_WEEKS = 4;
+    public static final int MARKS_PER_STUDENT = 4;
+    public static final LocalDate TERM_START = LocalDate.of(2030, 9, 2);
+    public static final String PASSWORD = "secret";
+    private static final String PASSWORD_HASH = "$2a$10$sZTx7POYFthEz.2bvbFAb.7SiFPBqVvNk00qCzSVcPcRm7y7Tk8dm";
+    private static final String EMAIL_DOMAIN = "@university.edu";
+    private static final int LECTURE_ALLOCATION_SIZE = 50;
+    private static final String[][] DURATIONS = {{"08:30", "09:50"}, {"10:00", "11:20"}, {"11:40", "13:00"},
+        {"13:30", "14:50"}, {"15:00", "16:20"}, {"16:30", "17:50"}};
+    private static final String[] SUBJECTS = {"Mathematics", "Physics", "Chemistry", "History", "Philosophy",
+        "Economics", "Informatics", "English"};
+    private static final String[] MALE_NAMES = {"Ivan", "Petro", "Andrii", "Oleksandr", "Dmytro", "Mykola", "Taras",
+        "Yurii", "Serhii", "Bohdan", "Maksym", "Vasyl"};
+    private static final String[] FEMALE_NAMES = {"Olena", "Iryna", "Oksana", "Nataliia", "Kateryna", "Mariia",
+        "Sofiia", "Anna", "Yuliia", "Daryna", "Tetiana", "Viktoriia"};
+    private static final String[] LAST_NAMES = {"Shevchenko", "Kovalenko", "Bondarenko", "Tkachenko", "Kravchenko",
+        "Oliinyk", "Shevchuk", "Polishchuk", "Lysenko", "Moroz", "Melnyk", "Savchenko", "Rudenko", "Marchenko",
+        "Petrenko", "Klymenko", "Pavlenko", "Boiko", "Kovalchuk", "Tkachuk"};
+    private static final String[] REGIONS = {"Kyivska", "Lvivska", "Odeska", "Kharkivska", "Dnipropetrovska",
+        "Poltavska", "Vinnytska", "Zhytomyrska"};
+    private static final String[] CITIES = {"Kyiv", "Lviv", "Odesa", "Kharkiv", "Dnipro", "Poltava", "Vinnytsia",
+        "Zhytomyr", "Chernihiv", "Cherkasy"};
+    private static final String[] STREETS = {"Khreshchatyk", "Sadova", "Shevchenka", "Franka", "Ukrainky",
+        "Hrushevskoho", "Nezalezhnosti", "Soborna"};
+    private static final String[] GENDERS = {"MALE", "FEMALE"};
+    private static final String[] EDUCATION_FORMS = {"FULL_TIME", "FULL_TIME", "PART_TIME", "DISTANCE"};
+    private static final String[] EMPLOYMENT_TYPES = {"FULL_TIME", "FULL_TIME", "PART_TIME"};
+    private static final String[] JOB_TITLES = {"ASSISTANT", "TEACHER", "SENIOR_TEACHER", "DOCENT", "PROFESSOR"};
+    private static final String[] DEGREES = {"BACHELOR", "MASTER", "DOCTOR"};
+    private static final String[] MARK_VALUES = {"A", "B", "B", "C", "C", "C", "D", "E"};
+
+    private final int students;
+    private final int groups;
+    private final int departments;
+    private final int faculties;
+    private final int employees;
+    private final int teachers;
+    private final int subjects;
+    private final int rooms;
+    private final int lectures;
+
+    public UniversityDataset(int students) {
+        if (students < 1) {
+            throw new IllegalArgumentException("A dataset needs at least one student, got " + students);
+        }
+
+        this.students = students;
+        groups = ceilDiv(students, GROUP_SIZE);
+        departments = ceilDiv(groups, GROUPS_PER_DEPARTMENT);
+        faculties = ceilDiv(departments, DEPARTMENTS_PER_FACULTY);
+        employees = Math.max(TEACHERS_PER_SUBJECT * 2, students / STUDENTS_PER_EMPLOYEE);
+        teachers = employees * 2 / 3;
+        subjects = departments * SUBJECTS_PER_GROUP;
+        rooms = Math.max(10, groups / 4);
+        lectures = groups * SUBJECTS_PER_GROUP * LECTURE_WEEKS;
+    }
+
+    public List<DatasetTable> tables() {
+        return List.of(
+            table("faculties", List.of("faculty_id", "faculty_name"), faculties, (id, values) -> {
+                values[0] = id;
+                values[1] = "Faculty " + word(id);
+            }),
+            table("departments", List.of("department_id", "department_name", "faculty_id"), departments,
+                (id, values) -> {
+                    values[0] = id;
+                    values[1] = "Department " + word(id);
+                    values[2] = 1 + (id - 1) / DEPARTMENTS_PER_FACULTY;
+                }),
+            table("groups", List.of("group_id", "group_name", "department_id"), groups, (id, values) -> {
+                values[0] = id;
+                values[1] = "G_" + letters(departmentOfGroup(id)) + "-" + (1 + (id - 1) % GROUPS_PER_DEPARTMENT);
+                values[2] = departmentOfGroup(id);
+            }),
+            table("people", List.of("id", "first_name", "last_name", "gender", "birth_date", "email",
+                "phone_number", "password", "role"), people(), this::writePerson),
+            table("addresses", List.of("address_id", "country", "region", "city", "street", "apartment", "postcode",
+                "person_id"), people(), (id, values) -> {
+                values[0] = id;
+                values[1] = "Ukraine";
+                values[2] = REGIONS[id % REGIONS.length];
+                values[3] = CITIES[id / 7 % CITIES.length];
+                values[4] = STREETS[id / 3 % STREETS.length] + " " + (1 + id % 150);
+                values[5] = String.valueOf(1 + id % 300);
+                values[6] = String.format("%05d", 1000 + id % 99_000);
+                values[7] = id;
+            }),
+            table("students", List.of("id", "group_id", "education_form", "enrollment_date"), students,
+                (id, values) -> {
+                    values[0] = id;
+                    values[1] = groupOfStudent(id);
+                    values[2] = EDUCATION_FORMS[id % EDUCATION_FORMS.length];
+                    values[3] = TERM_START.minusYears(groupOfStudent(id) % 4).withDayOfMonth(1);
+                }),
+            table("employees", List.of("id", "department_id", "job_title", "employment_type", "employment_date"),
+                employees, (index, values) -> {
+                    values[0] = students + index;
+                    values[1] = 1 + (index - 1) % departments;
+                    values[2] = JOB_TITLES[index % JOB_TITLES.length];
+                    values[3] = EMPLOYMENT_TYPES[index % EMPLOYMENT_TYPES.length];
+                    values[4] = TERM_START.minusYears(1 + index % 30).minusMonths(index % 12);
+                }),
+            table("teachers", List.of("teacher_id", "degree", "employee_id"), teachers, (id, values) -> {
+                values[0] = id;
+                values[1] = DEGREES[id % DEGREES.length];
+                values[2] = students + id;
+            }),
+            table("lecture_rooms", List.of("room_id", "room_number", "capacity"), rooms, (id, values) -> {
+                values[0] = id;
+                values[1] = 100 * (1 + (id - 1) / 50) + id;
+                values[2] = GROUP_SIZE + id % 8 * 25;
+            }),
+            table("durations", List.of("duration_id", "start_time", "end_time"), DURATIONS.length, (id, values) -> {
+                values[0] = id;
+                values[1] = DURATIONS[id - 1][0];
+                values[2] = DURATIONS[id - 1][1];
+            }),
+            table("subjects", List.of("subject_id", "subject_name", "start_date", "end_date"), subjects,
+                (id, values) -> {
+                    values[0] = id;
+                    values[1] = SUBJECTS[(id - 1) % SUBJECTS_PER_GROUP] + " " + word(1 + (id - 1) / SUBJECTS_PER_GROUP);
+                    values[2] = TERM_START;
+                    values[3] = TERM_START.plusWeeks(16);
+                }),
+            table("teachers_subjects", List.of("teacher_id", "subject_id"), subjects * TEACHERS_PER_SUBJECT,
+                (row, values) -> {
+                    int subject = 1 + (row - 1) / TEACHERS_PER_SUBJECT;
+                    values[0] = teacherOfSubject(subject, (row - 1) % TEACHERS_PER_SUBJECT);
+                    values[1] = subject;
+                }),
+            table("groups_subjects", List.of("group_id", "subject_id"), groups * SUBJECTS_PER_GROUP,
+                (row, values) -> {
+                    int group = 1 + (row - 1) / SUBJECTS_PER_GROUP;
+                    values[0] = group;
+                    values[1] = subjectOfGroup(group, (row - 1) % SUBJECTS_PER_GROUP);
+                }),
+            table("lectures",
+                List.of("lecture_id", "subject_id", "teacher_id", "room_id", "duration_id", "start_time", "date"),
+                lectures, this::writeLecture),
+            table("groups_lectures", List.of("group_id", "lecture_id"), lectures, (id, values) -> {
+                values[0] = groupOfLecture(id);
+                values[1] = id;
+            }),
+            table("marks", List.of("mark_id", "mark_value", "student_id", "subject_id"), marks(), (id, values) -> {
+                int student = 1 + (id - 1) / MARKS_PER_STUDENT;
+                values[0] = id;
+                values[1] = MARK_VALUES[(id * 7 + student) % MARK_VALUES.length];
+                values[2] = student;
+                values[3] = subjectOfGroup(groupOfStudent(student), (id - 1) % MARKS_PER_STUDENT);
+            }));
+    }
+
+    public List<String> identityResets() {
+        return List.of(
+            restart("faculties", "faculty_id", faculties),
+            restart("departments", "department_id", departments),
+            restart("groups", "group_id", groups),
+            restart("people", "id", people()),
+            restart("addresses", "address_id", people()),
+            restart("teachers", "teacher_id", teachers),
+            restart("lecture_rooms", "room_id", rooms),
+            restart("durations", "duration_id", DURATIONS.length),
+            restart("subjects", "subject_id", subjects),
+            restart("marks", "mark_id", marks()),
+            "ALTER SEQUENCE lectures_id_seq RESTART WITH " + (lectures + LECTURE_ALLOCATION_SIZE));
+    }
+
+    public int students() {
+        return students;
+    }
+
+    public int groups() {
+        return groups;
+    }
+
+    public int departments() {
+        return departments;
+    }
+
+    public int faculties() {
+        return faculties;
+    }
+
+    public int employees() {
+        return employees;
+    }
+
+    public int teachers() {
+        return teachers;
+    }
+
+    public int people() {
+        return students + employees;
+    }
+
+    public int subjects() {
+        return subjects;
+    }
+
+    public int rooms() {
+        return rooms;
+    }
+
+    public int durations() {
+        return DURATIONS.length;
+    }
+
+    public int lectures() {
+        return lectures;
+    }
+
+    public int marks() {
+        return students * MARKS_PER_STUDENT;
+    }
+
+    public String studentEmail(int studentId) {
+        return "s" + studentId + EMAIL_DOMAIN;
+    }
+
+    public String adminEmail() {
+        return "e" + people() + EMAIL_DOMAIN;
+    }
+
+    public int groupOfStudent(int studentId) {
+        return 1 + (studentId - 1) / GROUP_SIZE;
+    }
+
+    public int subjectOfGroup(int groupId, int slot) {
+        return 1 + ((groupId - 1) / GROUPS_PER_DEPARTMENT * SUBJECTS_PER_GROUP + slot) % subjects;
+    }
+
+    private void writePerson(int id, Object[] values) {
+        boolean student = id <= students;
+        boolean female = id % 2 == 1;
+        values[0] = id;
+        values[1] = female ? FEMALE_NAMES[id / 2 % FEMALE_NAMES.length] : MALE_NAMES[id / 2 % MALE_NAMES.length];
+        values[2] = LAST_NAMES[id / 3 % LAST_NAMES.length];
+        values[3] = GENDERS[female ? 1 : 0];
+        values[4] = TERM_START.minusYears(student ? 17 + id % 8 : 25 + id % 40).minusDays(id % 365);
+        values[5] = student ? studentEmail(id) : "e" + id + EMAIL_DOMAIN;
+        values[6] = String.format("(0%02d)%07d", 50 + id % 50, id % 10_000_000);
+        values[7] = PASSWORD_HASH;
+        values[8] = roleOf(id).name();
+    }
+
+    private void writeLecture(int id, Object[] values) {
+        int group = groupOfLecture(id);
+        int slot = (id - 1) / LECTURE_WEEKS % SUBJECTS_PER_GROUP;
+        int week = (id - 1) % LECTURE_WEEKS;
+        int subject = subjectOfGroup(group, slot);
+        values[0] = id;
+        values[1] = subject;
+        values[2] = teacherOfSubject(subject, group % TEACHERS_PER_SUBJECT);
+        values[3] = 1 + (group + slot) % rooms;
+        int duration = (slot + group / 5) % DURATIONS.length;
+        values[4] = 1 + duration;
+        values[5] = DURATIONS[duration][0];
+        values[6] = TERM_START.plusWeeks(week).plusDays((slot + group) % 5);
+    }
+
+    private Role roleOf(int personId) {
+        if (personId <= students) {
+            return Role.ROLE_STUDENT;
+        }
+
+        if (personId == people()) {
+            return Role.ROLE_ADMIN;
+        }
+
+        return personId <= students + teachers ? Role.ROLE_TEACHER : Role.ROLE_EMPLOYEE;
+    }
+
+    private int departmentOfGroup(int groupId) {
+        return 1 + (groupId - 1) / GROUPS_PER_DEPARTMENT;
+    }
+
+    private int groupOfLecture(int lectureId) {
+        return 1 + (lectureId - 1) / (SUBJECTS_PER_GROUP * LECTURE_WEEKS);
+    }
+
+    private int teacherOfSubject(int subjectId, int slot) {
+        return 1 + ((subjectId - 1) * TEACHERS_PER_SUBJECT + slot) % teachers;
+    }
+
+    private static DatasetTable table(String name, List<String> columns, int rows, DatasetTable.RowWriter writer) {
+        return new DatasetTable(name, columns, rows, writer);
+    }
+
+    private static String restart(String table, String column, int lastId) {
+        return "ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + (lastId + 1);
+    }
+
+    private static String word(int number) {
+        String letters = letters(number);
+        return Character.toUpperCase(letters.charAt(0)) + letters.substring(1);
+    }
+
+    private static String letters(int number) {
+        StringBuilder letters = new StringBuilder();
+
+        for (int rest = number; rest > 0 || letters.length() < 2; rest /= 26) {
+            letters.append((char) ('a' + rest % 26));
+        }
+
+        return letters.reverse().toString();
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return Math.max(1, (dividend + divisor - 1) / divisor);
+    }
+}
@@ -0,0 +1,4 @@
+package ua.foxminded.university.util.events;
+
+public record CredentialsChangedEvent(int personId) {
+}
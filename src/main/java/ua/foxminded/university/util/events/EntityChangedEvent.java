@@ -0,0 +1,16 @@
+package ua.foxminded.university.util.events;
+
+public record EntityChangedEvent(Class<?> entityType, Integer deletedId) {
+
+    public EntityChangedEvent(Class<?> entityType) {
+        this(entityType, null);
+    }
+
+    public static EntityChangedEvent deleted(Class<?> entityType, int id) {
+        return new EntityChangedEvent(entityType, id);
+    }
+
+    public boolean isDeletion() {
+        return deletedId != null;
+    }
+}
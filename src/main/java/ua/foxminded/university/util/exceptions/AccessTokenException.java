@@ -0,0 +1,8 @@
+package ua.foxminded.university.util.exceptions;
+
+public class AccessTokenException extends ServiceException {
+
+    public AccessTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package ua.foxminded.university.util.exceptions;
+
+public class GradebookTooLargeException extends ServiceException {
+
+    public GradebookTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package ua.foxminded.university.util.exceptions;
+
+public class HashingRejectedException extends ServiceException {
+
+    public HashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package ua.foxminded.university.util.exceptions;
+
+public class SqlBudgetExceededException extends ServiceException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
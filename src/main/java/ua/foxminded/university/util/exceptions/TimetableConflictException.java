@@ -0,0 +1,22 @@
+package ua.foxminded.university.util.exceptions;
+
+import ua.foxminded.university.util.timetable.Conflict;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class TimetableConflictException extends EntityExistsException {
+
+    private final transient List<Conflict> conflicts;
+
+    public TimetableConflictException(List<Conflict> conflicts) {
+        super(conflicts.stream()
+            .map(Conflict::getMessage)
+            .collect(Collectors.joining("; ")));
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    public List<Conflict> getConflicts() {
+        return conflicts;
+    }
+}
@@ -0,0 +1,135 @@
+package ua.foxminded.university.util.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.dto.mark.GradebookFormat;
+import ua.foxminded.university.util.analytics.Gradebook;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+@Component
+public class GradebookExporter {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String CSV_STUDENT_HEADERS = "student_id,student";
+
+    private final JsonFactory jsonFactory;
+
+    @Autowired
+    public GradebookExporter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public ResponseEntity<StreamingResponseBody> export(String name, Gradebook gradebook, GradebookFormat format) {
+        StreamingResponseBody body = outputStream -> {
+            switch (format) {
+                case JSON -> writeJson(gradebook, outputStream);
+                case CSV -> writeCsv(gradebook, outputStream);
+            }
+            log.debug("Exported {} with {} students and {} subjects", name, gradebook.rows(), gradebook.columns());
+        };
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(name + "." + format.getExtension()).build().toString())
+            .body(body);
+    }
+
+    void writeJson(Gradebook gradebook, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("subjects");
+
+            for (int column = 0; column < gradebook.columns(); column++) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", gradebook.subjectId(column));
+                generator.writeStringField("name", gradebook.subjectName(column));
+                generator.writeEndObject();
+            }
+
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("students");
+
+            for (int row = 0; row < gradebook.rows(); row++) {
+                generator.writeStartObject();
+                generator.writeNumberField("id", gradebook.studentId(row));
+                generator.writeStringField("name", gradebook.studentName(row));
+                generator.writeArrayFieldStart("marks");
+
+                for (int column = 0; column < gradebook.columns(); column++) {
+                    MarkValue value = gradebook.get(row, column);
+
+                    if (value == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeString(value.name());
+                    }
+                }
+
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    void writeCsv(Gradebook gradebook, OutputStream outputStream) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8))) {
+            writer.write(CSV_STUDENT_HEADERS);
+
+            for (int column = 0; column < gradebook.columns(); column++) {
+                writer.write(SEPARATOR);
+                writeCsvField(writer, gradebook.subjectName(column));
+            }
+
+            for (int row = 0; row < gradebook.rows(); row++) {
+                writer.write('\n');
+                writer.write(Integer.toString(gradebook.studentId(row)));
+                writer.write(SEPARATOR);
+                writeCsvField(writer, gradebook.studentName(row));
+
+                for (int column = 0; column < gradebook.columns(); column++) {
+                    writer.write(SEPARATOR);
+                    MarkValue value = gradebook.get(row, column);
+
+                    if (value != null) {
+                        writer.write(value.name());
+                    }
+                }
+            }
+
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value.indexOf(SEPARATOR) < 0 && value.indexOf(QUOTE) < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write(QUOTE);
+        writer.write(value.replace("\"", "\"\""));
+        writer.write(QUOTE);
+    }
+}
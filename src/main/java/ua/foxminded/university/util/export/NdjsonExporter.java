@@ -0,0 +1,96 @@
+package ua.foxminded.university.util.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class NdjsonExporter {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+
+    private final ObjectWriter writer;
+    private final CallableProcessingInterceptor timeoutInterceptor;
+
+    @Autowired
+    public NdjsonExporter(ObjectMapper objectMapper, @Value("${university.export.timeout:30m}") Duration timeout) {
+        this.timeoutInterceptor = new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                ((AsyncWebRequest) request).setTimeout(timeout.toMillis());
+            }
+        };
+        this.writer = objectMapper.writer()
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("\n");
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, Consumer<Consumer<T>> source) {
+        extendTimeout();
+        StreamingResponseBody body = outputStream -> {
+            AtomicLong count = new AtomicLong();
+            try (SequenceWriter sequenceWriter = writer.writeValues(outputStream)) {
+                source.accept(value -> {
+                    write(sequenceWriter, value);
+                    count.incrementAndGet();
+                });
+                sequenceWriter.flush();
+
+                if (count.get() > 0) {
+                    outputStream.write('\n');
+                }
+            }
+            log.debug("Exported {} {}", count.get(), name);
+        };
+        return ResponseEntity.ok()
+            .contentType(NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(name + ".ndjson").build().toString())
+            .body(body);
+    }
+
+    /*
+     * Only the export gets the long timeout: the interceptor sets it on this request just before the streaming body is
+     * handed to the async executor, every other async request keeps the container default.
+     */
+    private void extendTimeout() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            WebAsyncUtils.getAsyncManager(attributes.getRequest())
+                .registerCallableInterceptor(NdjsonExporter.class, timeoutInterceptor);
+        }
+    }
+
+    private <T> void write(SequenceWriter sequenceWriter, T value) {
+        try {
+            sequenceWriter.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -15,26 +15,31 @@ import java.util.List;
 public class DepartmentMapper {
 
     private final DepartmentService departmentService;
+    private final ModelMapper modelMapper = new ModelMapper();
 
     @Autowired
     public DepartmentMapper(DepartmentService departmentService) {
         this.departmentService = departmentService;
+        modelMapper.createTypeMap(DepartmentRequestDTO.class, Department.class);
+        modelMapper.createTypeMap(Department.class, DepartmentResponseDTO.class);
+        modelMapper.createTypeMap(Department.class, DepartmentRequestDTO.class);
+        modelMapper.createTypeMap(Department.class, DepartmentNestedDTO.class);
     }
 
     public Department convertToDepartment(DepartmentRequestDTO departmentDTO) {
-        return new ModelMapper().map(departmentDTO, Department.class);
+        return modelMapper.map(departmentDTO, Department.class);
     }
 
     public DepartmentResponseDTO convertToDepartmentResponseDTO(Department department) {
-        return new ModelMapper().map(department, DepartmentResponseDTO.class);
+        return modelMapper.map(department, DepartmentResponseDTO.class);
     }
 
     public DepartmentRequestDTO convertToDepartmentRequestDTO(Department department) {
-        return new ModelMapper().map(department, DepartmentRequestDTO.class);
+        return modelMapper.map(department, DepartmentRequestDTO.class);
     }
 
     public DepartmentNestedDTO convertToDepartmentNestedDTO(Department department) {
-        return new ModelMapper().map(department, DepartmentNestedDTO.class);
+        return modelMapper.map(department, DepartmentNestedDTO.class);
     }
 
     public List<DepartmentNestedDTO> getDepartmentsDTO() {
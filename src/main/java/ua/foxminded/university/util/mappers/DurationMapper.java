@@ -3,10 +3,13 @@ package ua.foxminded.university.util.mappers;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import ua.foxminded.university.domain.Duration;
-import ua.foxminded.university.dto.duration.DurationResponseDTO;
 import ua.foxminded.university.dto.duration.DurationRequestDTO;
+import ua.foxminded.university.dto.duration.DurationResponseDTO;
 import ua.foxminded.university.service.interfaces.DurationService;
+import ua.foxminded.university.util.cache.ListSnapshot;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 
 import java.util.List;
 
@@ -14,25 +17,40 @@ import java.util.List;
 public class DurationMapper {
 
     private final DurationService durationService;
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ListSnapshot<DurationRequestDTO> durationsSnapshot =
+        new ListSnapshot<>(this::loadDurationsDTO, Duration.class);
 
     @Autowired
     public DurationMapper(DurationService durationService) {
         this.durationService = durationService;
+        modelMapper.createTypeMap(DurationRequestDTO.class, Duration.class);
+        modelMapper.createTypeMap(Duration.class, DurationResponseDTO.class);
+        modelMapper.createTypeMap(Duration.class, DurationRequestDTO.class);
     }
 
     public Duration convertToDuration(DurationRequestDTO durationDTO) {
-        return new ModelMapper().map(durationDTO, Duration.class);
+        return modelMapper.map(durationDTO, Duration.class);
     }
 
     public DurationResponseDTO convertToDurationResponseDTO(Duration duration) {
-        return new ModelMapper().map(duration, DurationResponseDTO.class);
+        return modelMapper.map(duration, DurationResponseDTO.class);
     }
 
     public DurationRequestDTO convertToDurationRequestDTO(Duration duration) {
-        return new ModelMapper().map(duration, DurationRequestDTO.class);
+        return modelMapper.map(duration, DurationRequestDTO.class);
     }
 
     public List<DurationRequestDTO> getDurationsDTO() {
+        return durationsSnapshot.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        durationsSnapshot.invalidate(event.entityType());
+    }
+
+    private List<DurationRequestDTO> loadDurationsDTO() {
         return durationService.findAll().stream()
             .map(this::convertToDurationRequestDTO)
             .toList();
@@ -2,6 +2,7 @@ package ua.foxminded.university.util.mappers;
 
 import org.modelmapper.ModelMapper;
 import org.modelmapper.PropertyMap;
+import org.modelmapper.TypeMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.ui.Model;
@@ -18,10 +19,21 @@ import static ua.foxminded.university.util.validators.ValidatorMessages.NO_TEACH
 public class EmployeeMapper {
 
     private final EmployeeService employeeService;
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final TypeMap<Employee, EmployeeDTO> findOneTypeMap;
 
     @Autowired
     public EmployeeMapper(EmployeeService employeeService) {
         this.employeeService = employeeService;
+        PropertyMap<Employee, EmployeeDTO> findOne = new PropertyMap<>() {
+            @Override
+            protected void configure() {
+                skip(destination.getPassword());
+                skip(destination.getDepartmentId());
+            }
+        };
+        findOneTypeMap = new ModelMapper().addMappings(findOne);
+        modelMapper.createTypeMap(EmployeeDTO.class, Employee.class);
     }
 
     public EmployeeDTO convertToDTOWhenFindAll(Employee employee) {
@@ -36,21 +48,13 @@ public class EmployeeMapper {
     }
 
     public EmployeeDTO convertToDTOWhenFindOne(Employee employee) {
-        PropertyMap<Employee, EmployeeDTO> FindOne = new PropertyMap<>() {
-            @Override
-            protected void configure() {
-                skip(destination.getPassword());
-                skip(destination.getDepartmentId());
-            }
-        };
-
-        EmployeeDTO employeeDTO = new ModelMapper().addMappings(FindOne).map(employee);
+        EmployeeDTO employeeDTO = findOneTypeMap.map(employee);
         onDeleteDepartmentSetNull(employee, employeeDTO);
         return employeeDTO;
     }
 
     public Employee convertToEmployee(EmployeeDTO employeeDTO) {
-        return new ModelMapper().map(employeeDTO, Employee.class);
+        return modelMapper.map(employeeDTO, Employee.class);
     }
 
     public List<EmployeeDTO> getNoTeachersDTO(Model model) {
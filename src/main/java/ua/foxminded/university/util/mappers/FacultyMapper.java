@@ -14,22 +14,26 @@ import java.util.List;
 public class FacultyMapper {
 
     private final FacultyService facultyService;
+    private final ModelMapper modelMapper = new ModelMapper();
 
     @Autowired
     public FacultyMapper(FacultyService facultyService) {
         this.facultyService = facultyService;
+        modelMapper.createTypeMap(FacultyRequestDTO.class, Faculty.class);
+        modelMapper.createTypeMap(Faculty.class, FacultyResponseDTO.class);
+        modelMapper.createTypeMap(Faculty.class, FacultyRequestDTO.class);
     }
 
     public Faculty convertToFaculty(FacultyRequestDTO facultyDTO) {
-        return new ModelMapper().map(facultyDTO, Faculty.class);
+        return modelMapper.map(facultyDTO, Faculty.class);
     }
 
     public FacultyResponseDTO convertToFacultyResponseDTO(Faculty faculty) {
-        return new ModelMapper().map(faculty, FacultyResponseDTO.class);
+        return modelMapper.map(faculty, FacultyResponseDTO.class);
     }
 
     public FacultyRequestDTO convertToFacultyRequestDTO(Faculty faculty) {
-        return new ModelMapper().map(faculty, FacultyRequestDTO.class);
+        return modelMapper.map(faculty, FacultyRequestDTO.class);
     }
 
     public List<FacultyResponseDTO> getFacultiesDTO() {
@@ -2,15 +2,20 @@ package ua.foxminded.university.util.mappers;
 
 import org.modelmapper.ModelMapper;
 import org.modelmapper.PropertyMap;
+import org.modelmapper.TypeMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.foxminded.university.domain.Department;
 import ua.foxminded.university.domain.Group;
 import ua.foxminded.university.dto.group.GroupNestedDTO;
-import ua.foxminded.university.dto.group.GroupResponseDTO;
 import ua.foxminded.university.dto.group.GroupRequestDTO;
+import ua.foxminded.university.dto.group.GroupResponseDTO;
 import ua.foxminded.university.service.interfaces.GroupService;
 import ua.foxminded.university.service.interfaces.LectureService;
 import ua.foxminded.university.service.interfaces.SubjectService;
+import ua.foxminded.university.util.cache.ListSnapshot;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 
 import java.util.List;
 import java.util.Objects;
@@ -21,6 +26,11 @@ public class GroupMapper {
     private final GroupService groupService;
     private final SubjectService subjectService;
     private final LectureService lectureService;
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ListSnapshot<GroupNestedDTO> groupsSnapshot =
+        new ListSnapshot<>(this::loadGroupsDTO, Group.class, Department.class);
+    private final TypeMap<GroupRequestDTO, Group> groupTypeMap;
+    private final TypeMap<Group, GroupResponseDTO> findAllTypeMap;
 
     @Autowired
     public GroupMapper(GroupService groupService,
@@ -29,20 +39,32 @@ public class GroupMapper {
         this.groupService = groupService;
         this.subjectService = subjectService;
         this.lectureService = lectureService;
-    }
-
-    public Group convertToGroup(GroupRequestDTO groupDTO) {
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration().setAmbiguityIgnored(true);
-        PropertyMap<GroupRequestDTO, Group> propertyMap = new PropertyMap<>() {
+        ModelMapper groupModelMapper = new ModelMapper();
+        groupModelMapper.getConfiguration().setAmbiguityIgnored(true);
+        PropertyMap<GroupRequestDTO, Group> groupPropertyMap = new PropertyMap<>() {
             @Override
             protected void configure() {
                 skip(destination.getDepartment().getName());
                 skip(destination.getStudents());
             }
         };
+        groupTypeMap = groupModelMapper.addMappings(groupPropertyMap);
+        PropertyMap<Group, GroupResponseDTO> findAllPropertyMap = new PropertyMap<>() {
+            @Override
+            protected void configure() {
+                skip(destination.getStudents());
+                skip(destination.getSubjects());
+                skip(destination.getLectures());
+            }
+        };
+        findAllTypeMap = new ModelMapper().addMappings(findAllPropertyMap);
+        modelMapper.createTypeMap(Group.class, GroupRequestDTO.class);
+        modelMapper.createTypeMap(Group.class, GroupResponseDTO.class);
+        modelMapper.createTypeMap(Group.class, GroupNestedDTO.class);
+    }
 
-        Group group = modelMapper.addMappings(propertyMap).map(groupDTO);
+    public Group convertToGroup(GroupRequestDTO groupDTO) {
+        Group group = groupTypeMap.map(groupDTO);
         group.setSubjects(group.getSubjects()
             .stream()
             .map(subject -> subjectService.find(subject.getId()))
@@ -59,30 +81,31 @@ public class GroupMapper {
     }
 
     public GroupRequestDTO convertToGroupRequestDTO(Group group) {
-        return new ModelMapper().map(group, GroupRequestDTO.class);
+        return modelMapper.map(group, GroupRequestDTO.class);
     }
 
     public GroupResponseDTO convertToGroupResponseDTO(Group group) {
-        return new ModelMapper().map(group, GroupResponseDTO.class);
+        return modelMapper.map(group, GroupResponseDTO.class);
     }
 
     public GroupResponseDTO convertToGroupResponseDTOWhenFindAll(Group group) {
-        PropertyMap<Group, GroupResponseDTO> propertyMap = new PropertyMap<>() {
-            @Override
-            protected void configure() {
-                skip(destination.getStudents());
-                skip(destination.getSubjects());
-                skip(destination.getLectures());
-            }
-        };
-        return new ModelMapper().addMappings(propertyMap).map(group);
+        return findAllTypeMap.map(group);
     }
 
     public GroupNestedDTO convertToGroupNestedDTO(Group group) {
-        return new ModelMapper().map(group, GroupNestedDTO.class);
+        return modelMapper.map(group, GroupNestedDTO.class);
     }
 
     public List<GroupNestedDTO> getGroupsDTO() {
+        return groupsSnapshot.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        groupsSnapshot.invalidate(event.entityType());
+    }
+
+    private List<GroupNestedDTO> loadGroupsDTO() {
         return groupService.findAll().stream()
             .map(this::convertToGroupNestedDTO)
             .toList();
@@ -0,0 +1,84 @@
+package ua.foxminded.university.util.mappers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import ua.foxminded.university.dto.group.GroupNestedDTO;
+import ua.foxminded.university.dto.lecture.LectureGroupRow;
+import ua.foxminded.university.dto.lecture.LecturePageDTO;
+import ua.foxminded.university.dto.lecture.LectureResponseDTO;
+import ua.foxminded.university.dto.lecture.LectureRow;
+import ua.foxminded.university.service.interfaces.LectureService;
+import ua.foxminded.university.util.pagination.LectureCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+@Component
+public class LectureAssembler {
+
+    private final LectureService lectureService;
+
+    @Autowired
+    public LectureAssembler(LectureService lectureService) {
+        this.lectureService = lectureService;
+    }
+
+    public List<LectureResponseDTO> assemble(List<LectureRow> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, List<GroupNestedDTO>> groups = lectureService
+            .findGroupRows(rows.stream().map(LectureRow::getId).toList())
+            .stream()
+            .collect(groupingBy(LectureGroupRow::getLectureId, mapping(this::convertToGroupNestedDTO, toList())));
+
+        return rows.stream()
+            .map(row -> convertToLectureResponseDTO(row, groups.getOrDefault(row.getId(), new ArrayList<>())))
+            .toList();
+    }
+
+    public LecturePageDTO assemblePage(Slice<LectureRow> page) {
+        String nextCursor = null;
+
+        if (page.hasNext()) {
+            LectureRow last = page.getContent().get(page.getNumberOfElements() - 1);
+            String startTime = Objects.requireNonNullElse(last.getDurationStartTime(), "");
+            int durationId = Objects.requireNonNullElse(last.getDurationId(), LectureCursor.NO_DURATION);
+            nextCursor = new LectureCursor(last.getDate(), startTime, durationId, last.getId()).encode();
+        }
+
+        return LecturePageDTO.builder()
+            .lectures(assemble(page.getContent()))
+            .nextCursor(nextCursor)
+            .build();
+    }
+
+    private LectureResponseDTO convertToLectureResponseDTO(LectureRow row, List<GroupNestedDTO> groups) {
+        return LectureResponseDTO.builder()
+            .id(row.getId())
+            .subjectName(row.getSubjectName())
+            .date(row.getDate())
+            .durationStartTime(row.getDurationStartTime())
+            .lectureRoomNumber(row.getLectureRoomNumber())
+            .groups(groups)
+            .teacherEmployeeLastName(row.getTeacherEmployeeLastName())
+            .teacherEmployeeFirstName(row.getTeacherEmployeeFirstName())
+            .build();
+    }
+
+    private GroupNestedDTO convertToGroupNestedDTO(LectureGroupRow row) {
+        return GroupNestedDTO.builder()
+            .id(row.getId())
+            .name(row.getName())
+            .departmentName(row.getDepartmentName())
+            .build();
+    }
+}
@@ -4,39 +4,54 @@ import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import ua.foxminded.university.domain.Lecture;
+import ua.foxminded.university.dto.lecture.LectureBulkResultDTO;
 import ua.foxminded.university.dto.lecture.LectureRequestDTO;
 import ua.foxminded.university.dto.lecture.LectureResponseDTO;
 import ua.foxminded.university.service.interfaces.LectureService;
+import ua.foxminded.university.util.timetable.LectureBulkResult;
+import ua.foxminded.university.util.timetable.LectureBulkStatus;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
 public class LectureMapper {
 
     private final LectureService lectureService;
+    private final LectureAssembler lectureAssembler;
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ModelMapper requestModelMapper = new ModelMapper();
 
     @Autowired
-    public LectureMapper(LectureService lectureService) {
+    public LectureMapper(LectureService lectureService, LectureAssembler lectureAssembler) {
         this.lectureService = lectureService;
+        this.lectureAssembler = lectureAssembler;
+        requestModelMapper.getConfiguration().setAmbiguityIgnored(true);
+        requestModelMapper.createTypeMap(LectureRequestDTO.class, Lecture.class);
+        modelMapper.createTypeMap(Lecture.class, LectureResponseDTO.class);
+        modelMapper.createTypeMap(Lecture.class, LectureRequestDTO.class);
     }
 
     public Lecture convertToLecture(LectureRequestDTO lectureDTO) {
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration().setAmbiguityIgnored(true);
-        return modelMapper.map(lectureDTO, Lecture.class);
+        return requestModelMapper.map(lectureDTO, Lecture.class);
     }
 
     public LectureResponseDTO convertToLectureResponseDTO(Lecture lecture) {
-        return new ModelMapper().map(lecture, LectureResponseDTO.class);
+        return modelMapper.map(lecture, LectureResponseDTO.class);
     }
 
     public LectureRequestDTO convertToLectureRequestDTO(Lecture lecture) {
-        return new ModelMapper().map(lecture, LectureRequestDTO.class);
+        return modelMapper.map(lecture, LectureRequestDTO.class);
+    }
+
+    public LectureBulkResultDTO convertToLectureBulkResultDTO(int index, LectureBulkResult result) {
+        List<String> errors = new ArrayList<>(result.errors());
+        result.conflicts().forEach(conflict -> errors.add(conflict.getMessage()));
+        Integer id = result.status() == LectureBulkStatus.CREATED ? result.lecture().getId() : null;
+        return new LectureBulkResultDTO(index, result.status(), id, errors);
     }
 
     public List<LectureResponseDTO> getLecturesDTO() {
-        return lectureService.findAll().stream()
-            .map(this::convertToLectureResponseDTO)
-            .toList();
+        return lectureAssembler.assemble(lectureService.findRows());
     }
 }
@@ -9,15 +9,23 @@ import ua.foxminded.university.dto.mark.MarkResponseDTO;
 @Component
 public class MarkMapper {
 
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    public MarkMapper() {
+        modelMapper.createTypeMap(MarkRequestDTO.class, Mark.class);
+        modelMapper.createTypeMap(Mark.class, MarkResponseDTO.class);
+        modelMapper.createTypeMap(Mark.class, MarkRequestDTO.class);
+    }
+
     public Mark convertToMark(MarkRequestDTO markDTO) {
-        return new ModelMapper().map(markDTO, Mark.class);
+        return modelMapper.map(markDTO, Mark.class);
     }
 
     public MarkResponseDTO convertToMarkResponseDTO(Mark mark) {
-        return new ModelMapper().map(mark, MarkResponseDTO.class);
+        return modelMapper.map(mark, MarkResponseDTO.class);
     }
 
     public MarkRequestDTO convertToMarkRequestDTO(Mark mark) {
-        return new ModelMapper().map(mark, MarkRequestDTO.class);
+        return modelMapper.map(mark, MarkRequestDTO.class);
     }
 }
@@ -3,10 +3,13 @@ package ua.foxminded.university.util.mappers;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import ua.foxminded.university.domain.LectureRoom;
-import ua.foxminded.university.dto.room.RoomResponseDTO;
 import ua.foxminded.university.dto.room.RoomRequestDTO;
+import ua.foxminded.university.dto.room.RoomResponseDTO;
 import ua.foxminded.university.service.interfaces.LectureRoomService;
+import ua.foxminded.university.util.cache.ListSnapshot;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 
 import java.util.List;
 
@@ -14,25 +17,40 @@ import java.util.List;
 public class RoomMapper {
 
     private final LectureRoomService roomService;
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ListSnapshot<RoomRequestDTO> roomsSnapshot =
+        new ListSnapshot<>(this::loadRoomsDTO, LectureRoom.class);
 
     @Autowired
     public RoomMapper(LectureRoomService roomService) {
         this.roomService = roomService;
+        modelMapper.createTypeMap(RoomRequestDTO.class, LectureRoom.class);
+        modelMapper.createTypeMap(LectureRoom.class, RoomResponseDTO.class);
+        modelMapper.createTypeMap(LectureRoom.class, RoomRequestDTO.class);
     }
 
     public LectureRoom convertToRoom(RoomRequestDTO roomDTO) {
-        return new ModelMapper().map(roomDTO, LectureRoom.class);
+        return modelMapper.map(roomDTO, LectureRoom.class);
     }
 
     public RoomResponseDTO convertToRoomResponseDTO(LectureRoom room) {
-        return new ModelMapper().map(room, RoomResponseDTO.class);
+        return modelMapper.map(room, RoomResponseDTO.class);
     }
 
     public RoomRequestDTO convertToRoomRequestDTO(LectureRoom room) {
-        return new ModelMapper().map(room, RoomRequestDTO.class);
+        return modelMapper.map(room, RoomRequestDTO.class);
     }
 
     public List<RoomRequestDTO> getRoomsDTO() {
+        return roomsSnapshot.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        roomsSnapshot.invalidate(event.entityType());
+    }
+
+    private List<RoomRequestDTO> loadRoomsDTO() {
         return roomService.findAll().stream()
             .map(this::convertToRoomRequestDTO)
             .toList();
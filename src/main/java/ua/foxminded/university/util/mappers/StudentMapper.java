@@ -2,6 +2,7 @@ package ua.foxminded.university.util.mappers;
 
 import org.modelmapper.ModelMapper;
 import org.modelmapper.PropertyMap;
+import org.modelmapper.TypeMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import ua.foxminded.university.domain.Student;
@@ -16,21 +17,27 @@ import java.util.List;
 public class StudentMapper {
 
     private final StudentService studentService;
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final TypeMap<Student, StudentResponseDTO> findOneTypeMap;
 
     @Autowired
     public StudentMapper(StudentService studentService) {
         this.studentService = studentService;
-    }
-
-    public StudentResponseDTO convertToDTOWhenFindOne(Student student) {
-        PropertyMap<Student, StudentResponseDTO> FindOne = new PropertyMap<>() {
+        PropertyMap<Student, StudentResponseDTO> findOne = new PropertyMap<>() {
             @Override
             protected void configure() {
                 skip(destination.getPassword());
             }
         };
+        findOneTypeMap = new ModelMapper().addMappings(findOne);
+        modelMapper.createTypeMap(Student.class, StudentRequestDTO.class)
+            .addMappings(mapper -> mapper.skip(StudentRequestDTO::setPassword));
+        modelMapper.createTypeMap(StudentRequestDTO.class, Student.class);
+        modelMapper.createTypeMap(Student.class, StudentNestedDTO.class);
+    }
 
-        return new ModelMapper().addMappings(FindOne).map(student);
+    public StudentResponseDTO convertToDTOWhenFindOne(Student student) {
+        return findOneTypeMap.map(student);
     }
 
     public StudentResponseDTO convertToDTOWhenFindAll(Student student) {
@@ -44,15 +51,15 @@ public class StudentMapper {
     }
 
     public StudentRequestDTO convertToStudentRequestDTO(Student student) {
-        return new ModelMapper().map(student, StudentRequestDTO.class);
+        return modelMapper.map(student, StudentRequestDTO.class);
     }
 
     public Student convertToStudent(StudentRequestDTO studentDTO) {
-        return new ModelMapper().map(studentDTO, Student.class);
+        return modelMapper.map(studentDTO, Student.class);
     }
 
     public StudentNestedDTO convertToStudentNestedDTO(Student student) {
-        return new ModelMapper().map(student, StudentNestedDTO.class);
+        return modelMapper.map(student, StudentNestedDTO.class);
     }
 
     public List<StudentNestedDTO> getStudentDTO() {
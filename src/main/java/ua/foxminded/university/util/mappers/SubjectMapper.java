@@ -2,13 +2,19 @@ package ua.foxminded.university.util.mappers;
 
 import org.modelmapper.ModelMapper;
 import org.modelmapper.PropertyMap;
+import org.modelmapper.TypeMap;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.foxminded.university.domain.Department;
+import ua.foxminded.university.domain.Group;
 import ua.foxminded.university.domain.Subject;
+import ua.foxminded.university.dto.subject.SubjectNestedDTO;
 import ua.foxminded.university.dto.subject.SubjectRequestDTO;
 import ua.foxminded.university.dto.subject.SubjectResponseDTO;
-import ua.foxminded.university.dto.subject.SubjectNestedDTO;
 import ua.foxminded.university.service.interfaces.SubjectService;
+import ua.foxminded.university.util.cache.ListSnapshot;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 
 import java.util.List;
 
@@ -16,43 +22,60 @@ import java.util.List;
 public class SubjectMapper {
 
     private final SubjectService subjectService;
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ListSnapshot<SubjectNestedDTO> subjectsSnapshot =
+        new ListSnapshot<>(this::loadSubjectsDTO, Subject.class, Group.class, Department.class);
+    private final ModelMapper requestModelMapper = new ModelMapper();
+    private final TypeMap<Subject, SubjectResponseDTO> findAllTypeMap;
 
     @Autowired
     public SubjectMapper(SubjectService subjectService) {
         this.subjectService = subjectService;
+        requestModelMapper.getConfiguration().setAmbiguityIgnored(true);
+        requestModelMapper.createTypeMap(SubjectRequestDTO.class, Subject.class);
+        PropertyMap<Subject, SubjectResponseDTO> findAll = new PropertyMap<>() {
+            @Override
+            protected void configure() {
+                skip(destination.getLectures());
+                skip(destination.getTeachers());
+            }
+        };
+        findAllTypeMap = new ModelMapper().addMappings(findAll);
+        modelMapper.createTypeMap(Subject.class, SubjectRequestDTO.class);
+        modelMapper.createTypeMap(Subject.class, SubjectResponseDTO.class);
+        modelMapper.createTypeMap(Subject.class, SubjectNestedDTO.class);
     }
 
     public Subject convertToSubject(SubjectRequestDTO subjectDTO) {
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration().setAmbiguityIgnored(true);
-        return modelMapper.map(subjectDTO, Subject.class);
+        return requestModelMapper.map(subjectDTO, Subject.class);
     }
 
     public SubjectRequestDTO convertToSubjectRequestDTO(Subject subject) {
-        return new ModelMapper().map(subject, SubjectRequestDTO.class);
+        return modelMapper.map(subject, SubjectRequestDTO.class);
     }
 
     public SubjectResponseDTO convertToSubjectResponseDTO(Subject subject) {
-        return new ModelMapper().map(subject, SubjectResponseDTO.class);
+        return modelMapper.map(subject, SubjectResponseDTO.class);
     }
 
     public SubjectResponseDTO convertToSubjectResponseDTOWhenFindAll(Subject subject) {
-        PropertyMap<Subject, SubjectResponseDTO> FindOne = new PropertyMap<>() {
-            @Override
-            protected void configure() {
-                skip(destination.getLectures());
-                skip(destination.getTeachers());
-            }
-        };
-
-        return new ModelMapper().addMappings(FindOne).map(subject);
+        return findAllTypeMap.map(subject);
     }
 
     public SubjectNestedDTO convertToSubjectNestedDTO(Subject subject) {
-        return new ModelMapper().map(subject, SubjectNestedDTO.class);
+        return modelMapper.map(subject, SubjectNestedDTO.class);
     }
 
     public List<SubjectNestedDTO> getSubjectsDTO() {
+        return subjectsSnapshot.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        subjectsSnapshot.invalidate(event.entityType());
+    }
+
+    private List<SubjectNestedDTO> loadSubjectsDTO() {
         return subjectService.findAll().stream()
             .map(this::convertToSubjectNestedDTO)
             .toList();
@@ -3,12 +3,17 @@ package ua.foxminded.university.util.mappers;
 import org.modelmapper.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ua.foxminded.university.domain.Department;
+import ua.foxminded.university.domain.Employee;
 import ua.foxminded.university.domain.Teacher;
 import ua.foxminded.university.dto.teacher.TeacherNestedDTO;
 import ua.foxminded.university.dto.teacher.TeacherRequestDTO;
 import ua.foxminded.university.dto.teacher.TeacherResponseDTO;
 import ua.foxminded.university.service.interfaces.SubjectService;
 import ua.foxminded.university.service.interfaces.TeacherService;
+import ua.foxminded.university.util.cache.ListSnapshot;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 
 import java.util.List;
 
@@ -17,15 +22,16 @@ public class TeacherMapper {
 
     private final TeacherService teacherService;
     private final SubjectService subjectService;
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final ListSnapshot<TeacherNestedDTO> teachersSnapshot =
+        new ListSnapshot<>(this::loadTeachersDTO, Teacher.class, Employee.class, Department.class);
+    private final TypeMap<Teacher, TeacherResponseDTO> responseTypeMap;
 
     @Autowired
     public TeacherMapper(TeacherService teacherService, SubjectService subjectService) {
         this.teacherService = teacherService;
         this.subjectService = subjectService;
-    }
-
-    public TeacherResponseDTO convertToTeacherResponseDTO(Teacher teacher) {
-        PropertyMap<Teacher, TeacherResponseDTO> FindOne = new PropertyMap<>() {
+        PropertyMap<Teacher, TeacherResponseDTO> findOne = new PropertyMap<>() {
             @Override
             protected void configure() {
                 skip(destination.getEmployee().getId());
@@ -37,15 +43,22 @@ public class TeacherMapper {
                 skip(destination.getEmployee().getEmploymentType());
             }
         };
-        return new ModelMapper().addMappings(FindOne).map(teacher);
+        responseTypeMap = new ModelMapper().addMappings(findOne);
+        modelMapper.createTypeMap(Teacher.class, TeacherRequestDTO.class);
+        modelMapper.createTypeMap(TeacherRequestDTO.class, Teacher.class);
+        modelMapper.createTypeMap(Teacher.class, TeacherNestedDTO.class);
+    }
+
+    public TeacherResponseDTO convertToTeacherResponseDTO(Teacher teacher) {
+        return responseTypeMap.map(teacher);
     }
 
     public TeacherRequestDTO convertToTeacherDTO(Teacher teacher) {
-        return new ModelMapper().map(teacher, TeacherRequestDTO.class);
+        return modelMapper.map(teacher, TeacherRequestDTO.class);
     }
 
     public Teacher convertToTeacher(TeacherRequestDTO teacherDTO) {
-        Teacher teacher = new ModelMapper().map(teacherDTO, Teacher.class);
+        Teacher teacher = modelMapper.map(teacherDTO, Teacher.class);
         teacher.setSubjects(teacher.getSubjects()
             .stream()
             .map(subject -> subjectService.find(subject.getId()))
@@ -54,10 +67,19 @@ public class TeacherMapper {
     }
 
     public TeacherNestedDTO convertToTeacherNestedDTO(Teacher teacher) {
-        return new ModelMapper().map(teacher, TeacherNestedDTO.class);
+        return modelMapper.map(teacher, TeacherNestedDTO.class);
     }
 
     public List<TeacherNestedDTO> getTeachersDTO() {
+        return teachersSnapshot.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        teachersSnapshot.invalidate(event.entityType());
+    }
+
+    private List<TeacherNestedDTO> loadTeachersDTO() {
         return teacherService.findAll().stream()
             .map(this::convertToTeacherNestedDTO)
             .toList();
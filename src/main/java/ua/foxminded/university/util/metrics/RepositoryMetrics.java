@@ -0,0 +1,62 @@
+package ua.foxminded.university.util.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Rows returned and entities loaded per repository method, next to the spring.data.repository.invocations timer that
+ * Boot records for the same calls. Entities are counted per thread through the Hibernate post-load event, so they
+ * include entities resolved from the second-level cache.
+ */
+@Component
+public class RepositoryMetrics implements PostLoadEventListener {
+
+    public static final String ROWS = "spring.data.repository.rows.returned";
+    public static final String ENTITIES = "spring.data.repository.entities.loaded";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+    private final ThreadLocal<long[]> entitiesLoaded = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Autowired
+    public RepositoryMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public MethodMetrics forMethod(String repository, String method) {
+        return methods.computeIfAbsent(repository + '.' + method, key -> new MethodMetrics(
+            DistributionSummary.builder(ROWS)
+                .description("Rows returned by successful repository method invocations")
+                .tags("repository", repository, "method", method)
+                .register(meterRegistry),
+            Counter.builder(ENTITIES)
+                .description("Entities loaded by successful repository method invocations")
+                .tags("repository", repository, "method", method)
+                .register(meterRegistry)));
+    }
+
+    public long entitiesLoaded() {
+        return entitiesLoaded.get()[0];
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        entitiesLoaded.get()[0]++;
+    }
+
+    public record MethodMetrics(DistributionSummary rows, Counter entities) {
+
+        public void record(long rows, long entities) {
+            this.rows.record(rows);
+            this.entities.increment(entities);
+        }
+    }
+}
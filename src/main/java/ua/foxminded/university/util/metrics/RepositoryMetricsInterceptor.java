@@ -0,0 +1,71 @@
+package ua.foxminded.university.util.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final String repository;
+    private final Supplier<RepositoryMetrics> repositoryMetrics;
+    private final Map<Method, RepositoryMetrics.MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsInterceptor(Class<?> repositoryInterface, Supplier<RepositoryMetrics> repositoryMetrics) {
+        this.repository = repositoryInterface.getSimpleName();
+        this.repositoryMetrics = repositoryMetrics;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        RepositoryMetrics metrics = repositoryMetrics.get();
+        RepositoryMetrics.MethodMetrics methodMetrics = methods.computeIfAbsent(method,
+            key -> metrics.forMethod(repository, key.getName()));
+        long entities = metrics.entitiesLoaded();
+        Object result = invocation.proceed();
+        long loaded = metrics.entitiesLoaded() - entities;
+
+        /* A stream is only read after the call returns, so its rows are recorded when it is closed */
+        if (result instanceof Stream<?> stream) {
+            LongAdder rows = new LongAdder();
+            return stream.peek(row -> rows.increment())
+                .onClose(() -> methodMetrics.record(rows.sum(), loaded));
+        }
+
+        methodMetrics.record(rows(result), loaded);
+        return result;
+    }
+
+    static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        } else if (result instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        } else if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        } else if (result instanceof Map<?, ?> map) {
+            return map.size();
+        } else if (result.getClass().isArray()) {
+            return Array.getLength(result);
+        }
+
+        return 1;
+    }
+}
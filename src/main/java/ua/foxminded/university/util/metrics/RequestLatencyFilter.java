@@ -0,0 +1,192 @@
+package ua.foxminded.university.util.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import ua.foxminded.university.domain.Role;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Times every request from the outermost filter and records it under its route template. The security context is
+ * cleared before the filter chain returns, so the role is captured by the same object acting as a handler interceptor.
+ * The timer replaces the one of Boot's own request metrics, which cannot tell the role apart. Its percentiles expire
+ * over the log interval, so each scheduled summary reads roughly the requests of the interval it reports.
+ */
+@Slf4j
+public class RequestLatencyFilter extends OncePerRequestFilter implements HandlerInterceptor {
+
+    public static final String ROLE_ATTRIBUTE = RequestLatencyFilter.class.getName() + ".role";
+    public static final String LATENCY = "http.server.requests";
+    public static final String UNKNOWN_ROUTE = "UNKNOWN";
+    public static final String ANONYMOUS = "ANONYMOUS";
+
+    private static final Role[] ROLES = Role.values();
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry registry;
+    private final Duration slo;
+    private final Duration logInterval;
+    private final Map<Series, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Series, Long> logged = new HashMap<>();
+
+    public RequestLatencyFilter(MeterRegistry registry, Duration slo, Duration logInterval) {
+        this.registry = registry;
+        this.slo = slo;
+        this.logInterval = logInterval;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        long start = System.nanoTime();
+        boolean completed = false;
+
+        try {
+            chain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, start));
+            } else {
+                record(request, completed ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR, start);
+            }
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && request.getAttribute(ROLE_ATTRIBUTE) == null) {
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                for (Role role : ROLES) {
+                    if (role.name().equals(authority.getAuthority())) {
+                        request.setAttribute(ROLE_ATTRIBUTE, role);
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private void record(HttpServletRequest request, int status, long start) {
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+
+        if (method == null) {
+            return;
+        }
+
+        String route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Role role = (Role) request.getAttribute(ROLE_ATTRIBUTE);
+        Series series = new Series(method.name(), route == null ? UNKNOWN_ROUTE : route,
+            STATUS_CLASSES[Math.min(Math.max(status / 100, 1), STATUS_CLASSES.length) - 1],
+            role == null ? ANONYMOUS : role.name());
+        timers.computeIfAbsent(series, this::register).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Scheduled(fixedRateString = "${university.latency.log-interval:PT1M}",
+        initialDelayString = "${university.latency.log-interval:PT1M}")
+    public synchronized void logSummary() {
+        timers.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey(Comparator.comparing(Series::route).thenComparing(Series::method)
+                .thenComparing(Series::status).thenComparing(Series::role)))
+            .forEach(entry -> logSummary(entry.getKey(), entry.getValue()));
+    }
+
+    private void logSummary(Series series, Timer timer) {
+        long count = timer.count();
+        Long previous = logged.put(series, count);
+        long requests = previous == null ? count : count - previous;
+
+        if (requests == 0) {
+            return;
+        }
+
+        ValueAtPercentile[] percentiles = timer.takeSnapshot().percentileValues();
+        double p99 = percentiles[1].value(TimeUnit.MILLISECONDS);
+        String summary = String.format(Locale.ROOT, "%s: %d requests, p50 %.1f ms, p99 %.1f ms, p999 %.1f ms",
+            series, requests, percentiles[0].value(TimeUnit.MILLISECONDS), p99,
+            percentiles[2].value(TimeUnit.MILLISECONDS));
+
+        if (p99 > slo.toMillis()) {
+            log.warn("{}, over the p99 objective of {} ms", summary, slo.toMillis());
+        } else {
+            log.info(summary);
+        }
+    }
+
+    private Timer register(Series series) {
+        return Timer.builder(LATENCY)
+            .description("Request latency by route, status class and role")
+            .tags("method", series.method(), "uri", series.route(), "status", series.status(), "role", series.role())
+            .publishPercentiles(PERCENTILES)
+            .publishPercentileHistogram()
+            .serviceLevelObjectives(slo)
+            .distributionStatisticExpiry(logInterval)
+            .register(registry);
+    }
+
+    private record Series(String method, String route, String status, String role) {
+
+        @Override
+        public String toString() {
+            return method + ' ' + route + ' ' + status + ' ' + role;
+        }
+    }
+
+    private class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long start;
+
+        CompletionListener(HttpServletRequest request, HttpServletResponse response, long start) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response.getStatus(), start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ua.foxminded.university.util.metrics;
+
+import java.time.Instant;
+import java.util.List;
+
+/*
+ * A statement that ran at least the slow-query threshold. Rows is -1 when the driver did not report a count.
+ */
+public record SlowQuery(Instant executedAt, double millis, long rows, String sql, List<String> parameters,
+                        String repositoryMethod, String callSite) {
+
+    SlowQuery withRows(long rows) {
+        return new SlowQuery(executedAt, millis, rows, sql, parameters, repositoryMethod, callSite);
+    }
+}
@@ -0,0 +1,230 @@
+package ua.foxminded.university.util.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Ring buffer of the latest slow statements. Bind values of the people.password column are redacted, the column is
+ * found from the insert column list or a comparison such as password=? in updates and where clauses.
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    public static final String REDACTED = "*****";
+
+    private static final String APPLICATION_PACKAGE = "ua.foxminded.university.";
+    private static final String METRICS_PACKAGE = SlowQueryLog.class.getPackageName() + '.';
+    private static final String PASSWORD_COLUMN = "password";
+    private static final Pattern PEOPLE = Pattern.compile("\\bpeople\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INSERT_COLUMNS = Pattern.compile(
+        "insert\\s+into\\s+people\\s*\\(([^)]*)\\)\\s*values\\s*\\(", Pattern.CASE_INSENSITIVE);
+    private static final Pattern COMPARED_COLUMN = Pattern.compile(
+        "([\\w.\"]+)\\s*(?:=|<>|!=|\\blike\\b)\\s*\\?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_PARAMETER_LENGTH = 200;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final SlowQueryProperties properties;
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowQuery> entries;
+    private final AtomicLong recorded = new AtomicLong();
+
+    @Autowired
+    public SlowQueryLog(SlowQueryProperties properties) {
+        this.properties = properties;
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.entries = new AtomicReferenceArray<>(Math.max(properties.getCapacity(), 1));
+    }
+
+    static Set<Integer> sensitiveParameters(String sql) {
+        if (!PEOPLE.matcher(sql).find()) {
+            return Set.of();
+        }
+
+        List<Integer> placeholders = placeholders(sql);
+        Set<Integer> sensitive = new HashSet<>();
+        Matcher insert = INSERT_COLUMNS.matcher(sql);
+
+        if (insert.find()) {
+            String[] columns = insert.group(1).split(",");
+            int depth = 0;
+            int column = 0;
+
+            for (int i = insert.end(); i < sql.length() && depth >= 0; i++) {
+                char c = sql.charAt(i);
+
+                if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                } else if (c == ',' && depth == 0) {
+                    column++;
+                } else if (c == '?' && column < columns.length && isPassword(columns[column])) {
+                    sensitive.add(placeholders.indexOf(i) + 1);
+                }
+            }
+        }
+
+        Matcher compared = COMPARED_COLUMN.matcher(sql);
+
+        while (compared.find()) {
+            int placeholder = placeholders.indexOf(compared.end() - 1);
+
+            if (placeholder >= 0 && isPassword(compared.group(1))) {
+                sensitive.add(placeholder + 1);
+            }
+        }
+
+        return sensitive;
+    }
+
+    private static List<Integer> placeholders(String sql) {
+        List<Integer> placeholders = new ArrayList<>();
+        boolean quoted = false;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == '?' && !quoted) {
+                placeholders.add(i);
+            }
+        }
+
+        return placeholders;
+    }
+
+    private static boolean isPassword(String column) {
+        String name = column.trim().replace("\"", "");
+        return name.substring(name.lastIndexOf('.') + 1).equalsIgnoreCase(PASSWORD_COLUMN);
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "null";
+        } else if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+
+        String text = value instanceof CharSequence ? "'" + value + "'" : String.valueOf(value);
+        return text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text;
+    }
+
+    private static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+            .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                && !frame.getClassName().startsWith(METRICS_PACKAGE)
+                && !frame.getClassName().contains("$$"))
+            .findFirst()
+            .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1) + '.'
+                + frame.getMethodName() + ':' + frame.getLineNumber())
+            .orElse(null));
+    }
+
+    /* Spring Data exposes the invocation of every repository proxy, outside of one there is no invocation to report */
+    private static String repositoryMethod() {
+        MethodInvocation invocation;
+
+        try {
+            invocation = ExposeInvocationInterceptor.currentInvocation();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+
+        if (invocation instanceof ProxyMethodInvocation proxyInvocation) {
+            for (Class<?> type : proxyInvocation.getProxy().getClass().getInterfaces()) {
+                if (Repository.class.isAssignableFrom(type)) {
+                    return type.getSimpleName() + '.' + invocation.getMethod().getName();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    public boolean sample() {
+        double rate = properties.getSampleRate();
+        return rate >= 1 || rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    public boolean isSlow(long nanos) {
+        return nanos >= thresholdNanos;
+    }
+
+    public SlowQuery capture(String sql, Object[] parameters, long nanos) {
+        String text = sql == null ? null : WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        Set<Integer> sensitive = text == null ? Set.of() : sensitiveParameters(text);
+        List<String> values = new ArrayList<>();
+
+        for (int i = 0; parameters != null && i < parameters.length; i++) {
+            values.add(sensitive.contains(i + 1) ? REDACTED : format(parameters[i]));
+        }
+
+        return new SlowQuery(Instant.now(), nanos / NANOS_PER_MILLI, -1, text, values,
+            repositoryMethod(), callSite());
+    }
+
+    public void record(SlowQuery query) {
+        long sequence = recorded.getAndIncrement();
+        entries.set((int) (sequence % entries.length()), query);
+
+        if (properties.getFile() != null) {
+            append(properties.getFile(), query);
+        }
+    }
+
+    public List<SlowQuery> recent() {
+        long end = recorded.get();
+        List<SlowQuery> recent = new ArrayList<>();
+
+        for (long sequence = end - 1; sequence >= Math.max(end - entries.length(), 0); sequence--) {
+            SlowQuery query = entries.get((int) (sequence % entries.length()));
+
+            if (query != null) {
+                recent.add(query);
+            }
+        }
+
+        return recent;
+    }
+
+    private synchronized void append(Path file, SlowQuery query) {
+        String line = String.format(Locale.ROOT, "%s %.1f ms, %d rows, %s via %s: %s %s%n", query.executedAt(),
+            query.millis(), query.rows(), query.callSite(), query.repositoryMethod(), query.sql(), query.parameters());
+
+        try {
+            if (Files.exists(file) && Files.size(file) >= properties.getMaxFileSize().toBytes()) {
+                Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Files.writeString(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Could not append a slow query to {}", file, e);
+        }
+    }
+}
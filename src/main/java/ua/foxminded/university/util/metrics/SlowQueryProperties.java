@@ -0,0 +1,26 @@
+package ua.foxminded.university.util.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/*
+ * Statements running at least the threshold are kept, capacity bounds how many of the latest are held in memory. The
+ * sample rate is the fraction of statements watched at all; when a file is set, entries are also appended to it and it
+ * is rolled over to file.1 once it grows past the maximum size.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "university.slow-query")
+public class SlowQueryProperties {
+
+    private Duration threshold = Duration.ofMillis(200);
+    private int capacity = 100;
+    private double sampleRate = 1;
+    private Path file;
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+}
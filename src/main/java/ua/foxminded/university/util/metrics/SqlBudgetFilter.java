@@ -0,0 +1,109 @@
+package ua.foxminded.university.util.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import ua.foxminded.university.util.exceptions.SqlBudgetExceededException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Integer> budgets = new ConcurrentHashMap<>();
+    private final SqlBudgetProperties properties;
+
+    public SqlBudgetFilter(SqlBudgetProperties properties) {
+        this.properties = properties;
+    }
+
+    public static String serverTiming(SqlStatistics statistics) {
+        return String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d statements\"",
+            statistics.nanos() / NANOS_PER_MILLI, statistics.statements());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatistics.start();
+        ServerTimingResponse timingResponse = new ServerTimingResponse(response, statistics);
+
+        try {
+            chain.doFilter(request, timingResponse);
+        } finally {
+            SqlStatistics.stop();
+            timingResponse.writeServerTiming();
+        }
+
+        checkBudget(request, statistics);
+    }
+
+    private int budgetFor(String pattern) {
+        return budgets.computeIfAbsent(pattern, key -> properties.getEndpoints().entrySet().stream()
+            .filter(endpoint -> pathMatcher.match(endpoint.getKey(), key))
+            .min(Map.Entry.comparingByKey(pathMatcher.getPatternComparator(key)))
+            .map(Map.Entry::getValue)
+            .orElse(properties.getStatements()));
+    }
+
+    private void checkBudget(HttpServletRequest request, SqlStatistics statistics) {
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        int budget = pattern == null ? properties.getStatements() : budgetFor(pattern);
+
+        if (statistics.statements() <= budget) {
+            return;
+        }
+
+        String message = String.format(Locale.ROOT, "%s %s executed %d SQL statements in %.1f ms, its budget is %d",
+            request.getMethod(), pattern == null ? request.getRequestURI() : pattern, statistics.statements(),
+            statistics.nanos() / NANOS_PER_MILLI, budget);
+
+        if (properties.isFailOnViolation()) {
+            throw new SqlBudgetExceededException(message);
+        }
+
+        log.warn(message);
+    }
+
+    private static class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final SqlStatistics statistics;
+
+        ServerTimingResponse(HttpServletResponse response, SqlStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeServerTiming();
+        }
+
+        void writeServerTiming() {
+            if (isDisableOnResponseCommitted()) {
+                return;
+            }
+
+            disableOnResponseCommitted();
+
+            if (!isCommitted()) {
+                ((HttpServletResponse) getResponse()).addHeader(SERVER_TIMING, serverTiming(statistics));
+            }
+        }
+    }
+}
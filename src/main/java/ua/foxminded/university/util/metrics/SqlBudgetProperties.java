@@ -0,0 +1,22 @@
+package ua.foxminded.university.util.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Statement budgets per request. Endpoint keys are route templates or Ant patterns over them, for example
+ * university.sql-budget.endpoints.[/api/groups/**]=5; the most specific matching key wins over the default.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "university.sql-budget")
+public class SqlBudgetProperties {
+
+    private int statements = 50;
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+    private boolean failOnViolation;
+}
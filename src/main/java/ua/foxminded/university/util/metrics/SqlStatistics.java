@@ -0,0 +1,40 @@
+package ua.foxminded.university.util.metrics;
+
+/*
+ * Counts JDBC statement executions and the time spent in them on the current thread between start and stop. A batch
+ * is counted as one statement, since it is one round trip to the database.
+ */
+public class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    static void record(long nanos) {
+        SqlStatistics statistics = CURRENT.get();
+
+        if (statistics != null) {
+            statistics.statements++;
+            statistics.nanos += nanos;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+}
@@ -0,0 +1,198 @@
+package ua.foxminded.university.util.metrics;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/*
+ * Wraps a data source so that the connections and statements it hands out report every execute call to
+ * SqlStatistics. Unwrap calls reach the driver objects, so vendor APIs such as the PostgreSQL copy manager keep
+ * working. Sampled statements also remember their SQL and bind values, so that a slow execution can be handed to the
+ * SlowQueryLog; a slow query's rows are counted while its result set is read and recorded when it is closed.
+ */
+public class SqlTimingProxy implements InvocationHandler {
+
+    private static final String EXECUTE_PREFIX = "execute";
+    private static final String SET_PREFIX = "set";
+    private static final Object[] NO_PARAMETERS = {};
+
+    private final Object target;
+    private final Supplier<SlowQueryLog> slowQueryLog;
+    private final String sql;
+    private final boolean sampled;
+    private Object[] parameters = NO_PARAMETERS;
+    private int parameterCount;
+    private RowCounter rowCounter;
+
+    private SqlTimingProxy(Object target, Supplier<SlowQueryLog> slowQueryLog, String sql, boolean sampled) {
+        this.target = target;
+        this.slowQueryLog = slowQueryLog;
+        this.sql = sql;
+        this.sampled = sampled;
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return wrap(dataSource, () -> null);
+    }
+
+    public static DataSource wrap(DataSource dataSource, Supplier<SlowQueryLog> slowQueryLog) {
+        ClassLoader classLoader = SqlTimingProxy.class.getClassLoader();
+        return (DataSource) Proxy.newProxyInstance(classLoader,
+            ClassUtils.getAllInterfacesForClass(dataSource.getClass(), classLoader),
+            new SqlTimingProxy(dataSource, SingletonSupplier.of(slowQueryLog), null, false));
+    }
+
+    private static long rows(Object result) {
+        if (result instanceof Number count) {
+            return count.longValue();
+        } else if (result instanceof int[] counts) {
+            return Arrays.stream(counts).filter(count -> count >= 0).asLongStream().sum();
+        } else if (result instanceof long[] counts) {
+            return Arrays.stream(counts).filter(count -> count >= 0).sum();
+        }
+
+        return -1;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+
+        if (name.equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        } else if (sampled && target instanceof PreparedStatement && name.startsWith(SET_PREFIX) && args != null
+            && args.length >= 2 && args[0] instanceof Integer index) {
+            bind(index, name.equals("setNull") ? null : args[1]);
+        } else if (sampled && name.equals("clearParameters")) {
+            Arrays.fill(parameters, null);
+            parameterCount = 0;
+        } else if (rowCounter != null && name.equals("close")) {
+            rowCounter.finish();
+        }
+
+        boolean timed = target instanceof Statement && name.startsWith(EXECUTE_PREFIX);
+        long start = timed ? System.nanoTime() : 0;
+        long nanos = 0;
+        Object result;
+
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            if (timed) {
+                nanos = System.nanoTime() - start;
+                SqlStatistics.record(nanos);
+            }
+        }
+
+        if (timed && sampled && slowQueryLog.get().isSlow(nanos)) {
+            return recordSlow(args, result, nanos);
+        }
+
+        return wrapResult(method.getReturnType(), args, result);
+    }
+
+    private void bind(int index, Object value) {
+        if (index < 1) {
+            return;
+        }
+
+        if (index > parameters.length) {
+            parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+        }
+
+        parameters[index - 1] = value;
+        parameterCount = Math.max(parameterCount, index);
+    }
+
+    private Object recordSlow(Object[] args, Object result, long nanos) {
+        SlowQueryLog log = slowQueryLog.get();
+        String statementSql = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+        SlowQuery query = log.capture(statementSql, Arrays.copyOf(parameters, parameterCount), nanos);
+
+        if (rowCounter != null) {
+            rowCounter.finish();
+        }
+
+        if (result instanceof ResultSet resultSet) {
+            rowCounter = new RowCounter(resultSet, log, query);
+            return Proxy.newProxyInstance(SqlTimingProxy.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                rowCounter);
+        }
+
+        log.record(query.withRows(rows(result)));
+        return result;
+    }
+
+    private Object wrapResult(Class<?> type, Object[] args, Object result) {
+        boolean connection = target instanceof DataSource && type == Connection.class;
+        boolean statement = target instanceof Connection && Statement.class.isAssignableFrom(type);
+
+        if (result == null || !connection && !statement) {
+            return result;
+        }
+
+        SlowQueryLog log = slowQueryLog.get();
+        String statementSql = statement && args != null && args.length > 0 && args[0] instanceof String text
+            ? text : null;
+        return Proxy.newProxyInstance(SqlTimingProxy.class.getClassLoader(), new Class<?>[]{type},
+            new SqlTimingProxy(result, slowQueryLog, statementSql, statement && log != null && log.sample()));
+    }
+
+    private static class RowCounter implements InvocationHandler {
+
+        private final ResultSet resultSet;
+        private final SlowQueryLog log;
+        private final SlowQuery query;
+        private long rows;
+        private boolean finished;
+
+        RowCounter(ResultSet resultSet, SlowQueryLog log, SlowQuery query) {
+            this.resultSet = resultSet;
+            this.log = log;
+            this.query = query;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            } else if (method.getName().equals("close")) {
+                finish();
+            }
+
+            Object result;
+
+            try {
+                result = method.invoke(resultSet, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            }
+
+            return result;
+        }
+
+        void finish() {
+            if (!finished) {
+                finished = true;
+                log.record(query.withRows(rows));
+            }
+        }
+    }
+}
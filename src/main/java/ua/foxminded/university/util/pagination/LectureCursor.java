@@ -0,0 +1,43 @@
+package ua.foxminded.university.util.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/*
+ * Position of the last returned lecture in (date, start time, duration id, lecture id) order, so the feed reads in
+ * timetable order. Lectures without a duration come last in a day and are marked with NO_DURATION.
+ */
+public record LectureCursor(LocalDate date, String startTime, int durationId, int id) {
+
+    public static final int NO_DURATION = Integer.MAX_VALUE;
+
+    private static final String SEPARATOR = "|";
+
+    public static LectureCursor startingFrom(LocalDate date) {
+        return new LectureCursor(date, "", 0, 0);
+    }
+
+    public static LectureCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = value.split("\\" + SEPARATOR, -1);
+
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid lecture cursor " + cursor);
+            }
+
+            return new LectureCursor(LocalDate.parse(parts[0]), parts[1], Integer.parseInt(parts[2]),
+                Integer.parseInt(parts[3]));
+
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid lecture cursor " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String value = date + SEPARATOR + startTime + SEPARATOR + durationId + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,15 @@
+package ua.foxminded.university.util.pagination;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Builder
+public record LecturePageRequest(LectureCursor cursor,
+                                 LocalDate from,
+                                 LocalDate to,
+                                 int groupId,
+                                 int teacherId,
+                                 int roomId,
+                                 int size) {
+}
@@ -0,0 +1,47 @@
+package ua.foxminded.university.util.timetable;
+
+import ua.foxminded.university.domain.Group;
+import ua.foxminded.university.domain.Lecture;
+import ua.foxminded.university.util.timetable.Conflict.Resource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record Booking(int lectureId, LocalDate date, Integer durationId, Integer roomId, Integer teacherId,
+                      Set<Integer> groupIds) {
+
+    public static Booking of(Lecture lecture) {
+        List<Group> groups = Objects.requireNonNullElse(lecture.getGroups(), List.of());
+        return new Booking(lecture.getId(),
+            lecture.getDate(),
+            lecture.getDuration() == null ? null : lecture.getDuration().getId(),
+            lecture.getRoom() == null ? null : lecture.getRoom().getId(),
+            lecture.getTeacher() == null ? null : lecture.getTeacher().getId(),
+            groups.stream().map(Group::getId).collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public Booking withLectureId(int id) {
+        return new Booking(id, date, durationId, roomId, teacherId, groupIds);
+    }
+
+    public boolean uses(Resource resource, int resourceId) {
+        return switch (resource) {
+            case ROOM -> roomId != null && roomId == resourceId;
+            case TEACHER -> teacherId != null && teacherId == resourceId;
+            case GROUP -> groupIds.contains(resourceId);
+        };
+    }
+
+    public Booking without(Resource resource, int resourceId) {
+        return switch (resource) {
+            case ROOM -> new Booking(lectureId, date, durationId, null, teacherId, groupIds);
+            case TEACHER -> new Booking(lectureId, date, durationId, roomId, null, groupIds);
+            case GROUP -> new Booking(lectureId, date, durationId, roomId, teacherId, groupIds.stream()
+                .filter(groupId -> groupId != resourceId)
+                .collect(Collectors.toUnmodifiableSet()));
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package ua.foxminded.university.util.timetable;
+
+import static java.lang.String.format;
+
+public record Conflict(Resource resource, int resourceId, Booking booking) {
+
+    public enum Resource {
+        ROOM("Room"),
+        TEACHER("Teacher"),
+        GROUP("Group");
+
+        private final String resourceValue;
+
+        Resource(String resourceValue) {
+            this.resourceValue = resourceValue;
+        }
+
+        public String getResourceValue() {
+            return resourceValue;
+        }
+    }
+
+    public String getMessage() {
+        String owner = booking.lectureId() == 0 ? "a lecture being saved" : "lecture " + booking.lectureId();
+        return format("%s with id=%d is already booked on %s in the same time by %s",
+            resource.getResourceValue(), resourceId, booking.date(), owner);
+    }
+}
@@ -0,0 +1,25 @@
+package ua.foxminded.university.util.timetable;
+
+import ua.foxminded.university.domain.Lecture;
+
+import java.util.List;
+
+public record LectureBulkResult(LectureBulkStatus status, Lecture lecture, List<Conflict> conflicts,
+                                List<String> errors) {
+
+    public static LectureBulkResult created(Lecture lecture) {
+        return new LectureBulkResult(LectureBulkStatus.CREATED, lecture, List.of(), List.of());
+    }
+
+    public static LectureBulkResult invalid(Lecture lecture, List<String> errors) {
+        return new LectureBulkResult(LectureBulkStatus.INVALID, lecture, List.of(), List.copyOf(errors));
+    }
+
+    public static LectureBulkResult exists(Lecture lecture, String error) {
+        return new LectureBulkResult(LectureBulkStatus.EXISTS, lecture, List.of(), List.of(error));
+    }
+
+    public static LectureBulkResult conflict(Lecture lecture, List<Conflict> conflicts) {
+        return new LectureBulkResult(LectureBulkStatus.CONFLICT, lecture, List.copyOf(conflicts), List.of());
+    }
+}
@@ -0,0 +1,9 @@
+package ua.foxminded.university.util.timetable;
+
+public enum LectureBulkStatus {
+
+    CREATED,
+    INVALID,
+    EXISTS,
+    CONFLICT
+}
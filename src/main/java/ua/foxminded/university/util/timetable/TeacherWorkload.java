@@ -0,0 +1,126 @@
+package ua.foxminded.university.util.timetable;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TeacherWorkload {
+
+    private final Map<Key, Load> loads = new ConcurrentHashMap<>();
+
+    public enum Period {
+
+        WEEK {
+            @Override
+            public LocalDate start(LocalDate date) {
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            }
+
+            @Override
+            public LocalDate end(LocalDate date) {
+                return start(date).plusDays(6);
+            }
+        },
+        MONTH {
+            @Override
+            public LocalDate start(LocalDate date) {
+                return date.withDayOfMonth(1);
+            }
+
+            @Override
+            public LocalDate end(LocalDate date) {
+                return date.with(TemporalAdjusters.lastDayOfMonth());
+            }
+        },
+        SEMESTER {
+            @Override
+            public LocalDate start(LocalDate date) {
+                if (date.getMonth() == Month.JANUARY) {
+                    return LocalDate.of(date.getYear() - 1, Month.SEPTEMBER, 1);
+                }
+
+                return date.getMonthValue() < Month.SEPTEMBER.getValue()
+                    ? LocalDate.of(date.getYear(), Month.FEBRUARY, 1)
+                    : LocalDate.of(date.getYear(), Month.SEPTEMBER, 1);
+            }
+
+            @Override
+            public LocalDate end(LocalDate date) {
+                LocalDate start = start(date);
+                return start.getMonth() == Month.SEPTEMBER
+                    ? LocalDate.of(start.getYear() + 1, Month.JANUARY, 31)
+                    : LocalDate.of(start.getYear(), Month.AUGUST, 31);
+            }
+        };
+
+        public abstract LocalDate start(LocalDate date);
+
+        public abstract LocalDate end(LocalDate date);
+    }
+
+    public record Load(int lectures, long minutes) {
+
+        private static final Load EMPTY = new Load(0, 0);
+
+        Load plus(Load other) {
+            return new Load(lectures + other.lectures, minutes + other.minutes);
+        }
+
+        Load minus(Load other) {
+            return new Load(lectures - other.lectures, minutes - other.minutes);
+        }
+
+        boolean isEmpty() {
+            return lectures <= 0;
+        }
+    }
+
+    public record Workload(Period period, LocalDate from, LocalDate to, Load load) {
+    }
+
+    private record Key(int teacherId, Period period, LocalDate start) {
+    }
+
+    public void add(Booking booking, long minutes) {
+        if (booking.teacherId() != null && booking.date() != null) {
+            Load load = new Load(1, minutes);
+
+            for (Period period : Period.values()) {
+                loads.merge(key(booking, period), load, Load::plus);
+            }
+        }
+    }
+
+    public void remove(Booking booking, long minutes) {
+        if (booking.teacherId() != null && booking.date() != null) {
+            Load load = new Load(1, minutes);
+
+            for (Period period : Period.values()) {
+                loads.computeIfPresent(key(booking, period), (key, current) -> {
+                    Load remaining = current.minus(load);
+                    return remaining.isEmpty() ? null : remaining;
+                });
+            }
+        }
+    }
+
+    public void clear() {
+        loads.clear();
+    }
+
+    public List<Workload> find(int teacherId, LocalDate date) {
+        return Arrays.stream(Period.values())
+            .map(period -> new Workload(period, period.start(date), period.end(date),
+                loads.getOrDefault(new Key(teacherId, period, period.start(date)), Load.EMPTY)))
+            .toList();
+    }
+
+    private Key key(Booking booking, Period period) {
+        return new Key(booking.teacherId(), period, period.start(booking.date()));
+    }
+}
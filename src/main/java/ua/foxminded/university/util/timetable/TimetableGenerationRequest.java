@@ -0,0 +1,16 @@
+package ua.foxminded.university.util.timetable;
+
+import lombok.Builder;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record TimetableGenerationRequest(LocalDate from,
+                                         LocalDate to,
+                                         int facultyId,
+                                         List<Integer> subjectIds,
+                                         int lecturesPerWeek,
+                                         Duration timeBudget) {
+}
@@ -0,0 +1,352 @@
+package ua.foxminded.university.util.timetable;
+
+import ua.foxminded.university.util.timetable.TimetableIndex.Slot;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+public class TimetableGenerator {
+
+    public static final int DAYS_PER_WEEK = 5;
+    private static final int MAX_SLOTS_PER_DAY = Long.SIZE;
+
+    private final List<Room> rooms;
+    private final List<Integer> durationIds;
+    private final Map<Integer, Integer> durationIndexes = new HashMap<>();
+    private final long[] overlaps;
+
+    public record Room(int id, int capacity) {
+    }
+
+    public record Session(LocalDate weekStart, int subjectId, int groupId, int headcount, List<Integer> teacherIds,
+                          LocalDate firstDate, LocalDate lastDate) {
+    }
+
+    public record Placement(Session session, LocalDate date, int durationId, int roomId, int teacherId) {
+    }
+
+    public record Plan(List<Placement> placements, List<Session> unplaced, int attempts, boolean timedOut) {
+    }
+
+    private record WeekPlan(LocalDate weekStart, List<Placement> placements, List<Session> unplaced, int attempts) {
+    }
+
+    public TimetableGenerator(Collection<Room> rooms, Map<Integer, Slot> slots) {
+        this.rooms = rooms.stream()
+            .sorted(Comparator.comparingInt(Room::capacity).thenComparingInt(Room::id))
+            .toList();
+        this.durationIds = slots.keySet().stream()
+            .sorted(Comparator.comparing((Integer id) -> slots.get(id).start()).thenComparing(Comparator.naturalOrder()))
+            .limit(MAX_SLOTS_PER_DAY)
+            .toList();
+        this.overlaps = new long[this.durationIds.size()];
+
+        for (int i = 0; i < this.durationIds.size(); i++) {
+            durationIndexes.put(this.durationIds.get(i), i);
+            Slot slot = slots.get(this.durationIds.get(i));
+
+            for (int j = 0; j < this.durationIds.size(); j++) {
+                Slot other = slots.get(this.durationIds.get(j));
+
+                if (i == j || slot.overlaps(other)) {
+                    overlaps[i] |= 1L << j;
+                }
+            }
+        }
+    }
+
+    public static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    public Plan generate(List<Session> sessions, Collection<Booking> bookings, java.time.Duration budget,
+                         int parallelism) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        Map<LocalDate, List<Session>> sessionsByWeek = sessions.stream()
+            .collect(Collectors.groupingBy(Session::weekStart, TreeMap::new, Collectors.toList()));
+        Map<LocalDate, List<Booking>> bookingsByWeek = bookings.stream()
+            .collect(Collectors.groupingBy(booking -> weekStart(booking.date())));
+        int searchesPerWeek = Math.max(1, parallelism / Math.max(1, sessionsByWeek.size()));
+        List<Callable<WeekPlan>> searches = new ArrayList<>();
+
+        sessionsByWeek.forEach((week, weekSessions) -> {
+            WeekSearch search = new WeekSearch(week, weekSessions, bookingsByWeek.getOrDefault(week, List.of()));
+            AtomicBoolean solved = new AtomicBoolean();
+
+            for (int seed = 0; seed < searchesPerWeek; seed++) {
+                long searchSeed = seed;
+                searches.add(() -> search.run(searchSeed, deadline, solved));
+            }
+        });
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            return combine(pool.invokeAll(searches), deadline);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Plan combine(List<Future<WeekPlan>> futures, long deadline) {
+        Map<LocalDate, WeekPlan> best = new TreeMap<>();
+        int attempts = 0;
+
+        for (Future<WeekPlan> future : futures) {
+            WeekPlan plan = join(future);
+            attempts += plan.attempts();
+            best.merge(plan.weekStart(), plan,
+                (current, candidate) -> candidate.unplaced().size() < current.unplaced().size() ? candidate : current);
+        }
+
+        List<Placement> placements = new ArrayList<>();
+        List<Session> unplaced = new ArrayList<>();
+        best.values().forEach(plan -> {
+            placements.addAll(plan.placements());
+            unplaced.addAll(plan.unplaced());
+        });
+        return new Plan(placements, unplaced, attempts, !unplaced.isEmpty() && System.nanoTime() >= deadline);
+    }
+
+    private WeekPlan join(Future<WeekPlan> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Timetable generation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Timetable generation failed", e.getCause());
+        }
+    }
+
+    private final class WeekSearch {
+
+        private final LocalDate weekStart;
+        private final List<Session> sessions;
+        private final Map<Integer, Integer> roomIndexes = new HashMap<>();
+        private final Map<Integer, Integer> teacherIndexes = new HashMap<>();
+        private final Map<Integer, Integer> groupIndexes = new HashMap<>();
+        private final long[][] bookedRooms;
+        private final long[][] bookedTeachers;
+        private final long[][] bookedGroups;
+
+        WeekSearch(LocalDate weekStart, List<Session> sessions, List<Booking> bookings) {
+            this.weekStart = weekStart;
+            this.sessions = sessions;
+
+            for (int i = 0; i < rooms.size(); i++) {
+                roomIndexes.put(rooms.get(i).id(), i);
+            }
+
+            sessions.forEach(session -> {
+                session.teacherIds().forEach(id -> teacherIndexes.putIfAbsent(id, teacherIndexes.size()));
+                groupIndexes.putIfAbsent(session.groupId(), groupIndexes.size());
+            });
+            bookedRooms = new long[roomIndexes.size()][DAYS_PER_WEEK];
+            bookedTeachers = new long[teacherIndexes.size()][DAYS_PER_WEEK];
+            bookedGroups = new long[groupIndexes.size()][DAYS_PER_WEEK];
+            bookings.forEach(this::occupy);
+        }
+
+        WeekPlan run(long seed, long deadline, AtomicBoolean solved) {
+            Random random = new Random(seed);
+            List<Session> order = new ArrayList<>(sessions);
+
+            if (seed > 0) {
+                Collections.shuffle(order, random);
+            }
+
+            order.sort(Comparator.comparingInt((Session session) -> session.teacherIds().size())
+                .thenComparing(Comparator.comparingInt(Session::headcount).reversed()));
+            WeekPlan best = null;
+            int attempts = 0;
+
+            do {
+                WeekPlan plan = attempt(order, random, seed > 0 || attempts > 0);
+                attempts++;
+
+                if (best == null || plan.unplaced().size() < best.unplaced().size()) {
+                    best = plan;
+                }
+
+                if (best.unplaced().isEmpty()) {
+                    solved.set(true);
+                    break;
+                }
+
+                order = unplacedFirst(order, plan.unplaced(), random);
+            } while (System.nanoTime() < deadline && !solved.get());
+
+            return new WeekPlan(weekStart, best.placements(), best.unplaced(), attempts);
+        }
+
+        private List<Session> unplacedFirst(List<Session> order, List<Session> unplaced, Random random) {
+            Set<Session> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+            failed.addAll(unplaced);
+            List<Session> rest = new ArrayList<>(order.size());
+            order.stream().filter(session -> !failed.contains(session)).forEach(rest::add);
+            Collections.shuffle(rest, random);
+            List<Session> reordered = new ArrayList<>(unplaced);
+            reordered.addAll(rest);
+            return reordered;
+        }
+
+        private WeekPlan attempt(List<Session> order, Random random, boolean randomize) {
+            long[][] roomsTaken = copy(bookedRooms);
+            long[][] teachersTaken = copy(bookedTeachers);
+            long[][] groupsTaken = copy(bookedGroups);
+            int[] teacherLoads = new int[teacherIndexes.size()];
+            Map<Long, Integer> subjectDays = new HashMap<>();
+            List<Placement> placements = new ArrayList<>(order.size());
+            List<Session> unplaced = new ArrayList<>();
+
+            for (Session session : order) {
+                Placement placement = place(session, roomsTaken, teachersTaken, groupsTaken, teacherLoads,
+                    subjectDays, random, randomize);
+
+                if (placement == null) {
+                    unplaced.add(session);
+                } else {
+                    placements.add(placement);
+                }
+            }
+
+            return new WeekPlan(weekStart, placements, unplaced, 1);
+        }
+
+        private Placement place(Session session, long[][] roomsTaken, long[][] teachersTaken, long[][] groupsTaken,
+                                int[] teacherLoads, Map<Long, Integer> subjectDays, Random random,
+                                boolean randomize) {
+            int group = groupIndexes.get(session.groupId());
+            long subjectKey = ((long) session.subjectId() << Integer.SIZE) | session.groupId();
+            int usedDays = subjectDays.getOrDefault(subjectKey, 0);
+            List<Integer> days = orderDays(session, groupsTaken[group], random, randomize);
+
+            for (boolean spread : new boolean[]{true, false}) {
+                for (int day : days) {
+                    if (spread && (usedDays & (1 << day)) != 0) {
+                        continue;
+                    }
+
+                    for (int slot = 0; slot < durationIds.size(); slot++) {
+                        if ((groupsTaken[group][day] & overlaps[slot]) != 0) {
+                            continue;
+                        }
+
+                        int teacher = findTeacher(session, teachersTaken, teacherLoads, day, slot);
+                        int room = teacher < 0 ? -1 : findRoom(session, roomsTaken, day, slot);
+
+                        if (room < 0) {
+                            continue;
+                        }
+
+                        int teacherIndex = teacherIndexes.get(teacher);
+                        roomsTaken[room][day] |= 1L << slot;
+                        teachersTaken[teacherIndex][day] |= 1L << slot;
+                        groupsTaken[group][day] |= 1L << slot;
+                        teacherLoads[teacherIndex]++;
+                        subjectDays.put(subjectKey, usedDays | (1 << day));
+                        return new Placement(session, weekStart.plusDays(day), durationIds.get(slot),
+                            rooms.get(room).id(), teacher);
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        private List<Integer> orderDays(Session session, long[] groupDays, Random random, boolean randomize) {
+            int first = (int) Math.max(0, ChronoUnit.DAYS.between(weekStart, session.firstDate()));
+            int last = (int) Math.min(DAYS_PER_WEEK - 1, ChronoUnit.DAYS.between(weekStart, session.lastDate()));
+            List<Integer> days = new ArrayList<>();
+
+            for (int day = first; day <= last; day++) {
+                days.add(day);
+            }
+
+            if (randomize) {
+                Collections.shuffle(days, random);
+            }
+
+            days.sort(Comparator.comparingInt(day -> Long.bitCount(groupDays[day])));
+            return days;
+        }
+
+        private int findTeacher(Session session, long[][] teachersTaken, int[] teacherLoads, int day, int slot) {
+            int found = -1;
+            int foundLoad = Integer.MAX_VALUE;
+
+            for (int teacherId : session.teacherIds()) {
+                int teacher = teacherIndexes.get(teacherId);
+
+                if ((teachersTaken[teacher][day] & overlaps[slot]) == 0 && teacherLoads[teacher] < foundLoad) {
+                    found = teacherId;
+                    foundLoad = teacherLoads[teacher];
+                }
+            }
+
+            return found;
+        }
+
+        private int findRoom(Session session, long[][] roomsTaken, int day, int slot) {
+            for (int room = 0; room < rooms.size(); room++) {
+                if (rooms.get(room).capacity() >= session.headcount() && (roomsTaken[room][day] & overlaps[slot]) == 0) {
+                    return room;
+                }
+            }
+
+            return -1;
+        }
+
+        private void occupy(Booking booking) {
+            Integer slot = booking.durationId() == null ? null : durationIndexes.get(booking.durationId());
+            int day = (int) ChronoUnit.DAYS.between(weekStart, booking.date());
+
+            if (slot == null || day >= DAYS_PER_WEEK) {
+                return;
+            }
+
+            long bit = 1L << slot;
+            mark(bookedRooms, roomIndexes, booking.roomId(), day, bit);
+            mark(bookedTeachers, teacherIndexes, booking.teacherId(), day, bit);
+            booking.groupIds().forEach(groupId -> mark(bookedGroups, groupIndexes, groupId, day, bit));
+        }
+
+        private void mark(long[][] taken, Map<Integer, Integer> indexes, Integer id, int day, long bit) {
+            Integer index = id == null ? null : indexes.get(id);
+
+            if (index != null) {
+                taken[index][day] |= bit;
+            }
+        }
+
+        private long[][] copy(long[][] taken) {
+            long[][] copy = new long[taken.length][];
+
+            for (int i = 0; i < taken.length; i++) {
+                copy[i] = taken[i].clone();
+            }
+
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package ua.foxminded.university.util.timetable;
+
+import ua.foxminded.university.util.timetable.Conflict.Resource;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+public class TimetableIndex {
+
+    private final Map<LocalDate, Day> days = new ConcurrentHashMap<>();
+    private final Map<Integer, Booking> bookingsByLecture = new ConcurrentHashMap<>();
+    private final Set<Booking> pending = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private final Queue<Runnable> journal = new ConcurrentLinkedQueue<>();
+    private final TeacherWorkload workload = new TeacherWorkload();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Map<Integer, Slot> slots = Map.of();
+    private volatile SlotMasks masks = SlotMasks.EMPTY;
+    private volatile boolean loading;
+
+    public record Slot(LocalTime start, LocalTime end) {
+
+        public static Optional<Slot> parse(String start, String end) {
+            try {
+                return Optional.of(new Slot(LocalTime.parse(start), LocalTime.parse(end)));
+            } catch (DateTimeParseException | NullPointerException e) {
+                return Optional.empty();
+            }
+        }
+
+        public boolean overlaps(Slot other) {
+            return start.isBefore(other.end) && other.start.isBefore(end);
+        }
+
+        public long minutes() {
+            return Math.max(0, Duration.between(start, end).toMinutes());
+        }
+    }
+
+    private record SlotMasks(Map<Integer, Long> bits, Map<Integer, Long> blocking) {
+
+        private static final SlotMasks EMPTY = new SlotMasks(Map.of(), Map.of());
+
+        static SlotMasks of(Map<Integer, Slot> slots) {
+            List<Integer> durationIds = slots.keySet().stream()
+                .sorted(Comparator.comparing((Integer id) -> slots.get(id).start()).thenComparing(Comparator.naturalOrder()))
+                .limit(Long.SIZE)
+                .toList();
+            Map<Integer, Long> bits = new HashMap<>();
+            Map<Integer, Long> blocking = new HashMap<>();
+
+            for (int i = 0; i < durationIds.size(); i++) {
+                Slot slot = slots.get(durationIds.get(i));
+                long mask = 0;
+
+                for (int j = 0; j < durationIds.size(); j++) {
+                    if (i == j || slot.overlaps(slots.get(durationIds.get(j)))) {
+                        mask |= 1L << j;
+                    }
+                }
+
+                bits.put(durationIds.get(i), 1L << i);
+                blocking.put(durationIds.get(i), mask);
+            }
+
+            return new SlotMasks(Map.copyOf(bits), Map.copyOf(blocking));
+        }
+
+        long blocking(Integer durationId) {
+            return durationId == null ? 0 : blocking.getOrDefault(durationId, 0L);
+        }
+    }
+
+    public void setSlots(Map<Integer, Slot> slots) {
+        this.slots = Map.copyOf(slots);
+        this.masks = SlotMasks.of(slots);
+    }
+
+    public boolean isIndexed(int durationId) {
+        return masks.bits().containsKey(durationId);
+    }
+
+    public Map<Integer, Slot> getSlots() {
+        return slots;
+    }
+
+    public List<Conflict> findConflicts(Booking booking) {
+        return read(() -> {
+            Day day = days.get(booking.date());
+            return day == null ? List.of() : day.findConflicts(booking);
+        });
+    }
+
+    public List<Conflict> reserve(Booking booking) {
+        return read(() -> {
+            List<Conflict> conflicts = day(booking.date()).reserve(booking);
+
+            if (conflicts.isEmpty()) {
+                pending.add(booking);
+            }
+
+            return conflicts;
+        });
+    }
+
+    public void commit(Booking reserved, Booking committed) {
+        read(() -> {
+            pending.remove(reserved);
+            day(reserved.date()).replace(reserved, committed);
+            remember(committed);
+            journal(() -> {
+                day(committed.date()).add(committed);
+                remember(committed);
+            });
+            return null;
+        });
+    }
+
+    public void cancel(Booking reserved) {
+        read(() -> {
+            pending.remove(reserved);
+            day(reserved.date()).remove(reserved);
+            return null;
+        });
+    }
+
+    public void release(int lectureId) {
+        read(() -> {
+            forget(lectureId);
+            journal(() -> forget(lectureId));
+            return null;
+        });
+    }
+
+    public void releaseResource(Resource resource, int resourceId) {
+        read(() -> {
+            detach(resource, resourceId);
+            journal(() -> detach(resource, resourceId));
+            return null;
+        });
+    }
+
+    public void startLoading() {
+        write(() -> {
+            loading = true;
+            journal.clear();
+        });
+    }
+
+    public void load(Collection<Booking> bookings) {
+        write(() -> {
+            days.clear();
+            bookingsByLecture.clear();
+            workload.clear();
+            bookings.forEach(booking -> {
+                day(booking.date()).add(booking);
+                remember(booking);
+            });
+            pending.forEach(booking -> day(booking.date()).add(booking));
+            journal.forEach(Runnable::run);
+            journal.clear();
+            loading = false;
+        });
+    }
+
+    public List<Booking> findBetween(LocalDate from, LocalDate to) {
+        return read(() -> {
+            Set<Booking> bookings = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                Day day = days.get(date);
+
+                if (day != null) {
+                    day.collectBookings(bookings);
+                }
+            }
+
+            return List.copyOf(bookings);
+        });
+    }
+
+    public List<Integer> findFreeRooms(LocalDate from, LocalDate to, int durationId, List<Integer> roomIds) {
+        return read(() -> {
+            long bit = masks.bits().getOrDefault(durationId, 0L);
+
+            if (bit == 0) {
+                return List.of();
+            }
+
+            List<Integer> free = new ArrayList<>(roomIds);
+
+            for (LocalDate date = from; !date.isAfter(to) && !free.isEmpty(); date = date.plusDays(1)) {
+                Day day = days.get(date);
+
+                if (day != null) {
+                    day.removeBusyRooms(free, bit);
+                }
+            }
+
+            return free;
+        });
+    }
+
+    public List<TeacherWorkload.Workload> findWorkload(int teacherId, LocalDate date) {
+        return read(() -> workload.find(teacherId, date));
+    }
+
+    public Optional<Booking> find(int lectureId) {
+        return Optional.ofNullable(bookingsByLecture.get(lectureId));
+    }
+
+    public int size() {
+        return bookingsByLecture.size();
+    }
+
+    private Day day(LocalDate date) {
+        return days.computeIfAbsent(date, key -> new Day());
+    }
+
+    private void remember(Booking booking) {
+        Booking previous = bookingsByLecture.put(booking.lectureId(), booking);
+
+        if (previous == booking) {
+            return;
+        }
+
+        if (previous != null) {
+            day(previous.date()).remove(previous);
+            workload.remove(previous, minutes(previous));
+        }
+
+        workload.add(booking, minutes(booking));
+    }
+
+    private void forget(int lectureId) {
+        Booking booking = bookingsByLecture.remove(lectureId);
+
+        if (booking != null) {
+            day(booking.date()).remove(booking);
+            workload.remove(booking, minutes(booking));
+        }
+    }
+
+    private void detach(Resource resource, int resourceId) {
+        bookingsByLecture.values().stream()
+            .filter(booking -> booking.uses(resource, resourceId))
+            .toList()
+            .forEach(booking -> {
+                Booking detached = booking.without(resource, resourceId);
+                day(detached.date()).add(detached);
+                remember(detached);
+            });
+    }
+
+    private long minutes(Booking booking) {
+        Slot slot = booking.durationId() == null ? null : slots.get(booking.durationId());
+        return slot == null ? 0 : slot.minutes();
+    }
+
+    private void journal(Runnable change) {
+        if (loading) {
+            journal.add(change);
+        }
+    }
+
+    private <T> T read(Supplier<T> action) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+
+        try {
+            return action.get();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void write(Runnable action) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+
+        try {
+            action.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean overlaps(Booking first, Booking second) {
+        if (first.durationId() == null || second.durationId() == null) {
+            return false;
+        }
+
+        if (first.durationId().equals(second.durationId())) {
+            return true;
+        }
+
+        Slot firstSlot = slots.get(first.durationId());
+        Slot secondSlot = slots.get(second.durationId());
+        return firstSlot != null && secondSlot != null && firstSlot.overlaps(secondSlot);
+    }
+
+    private boolean isSameLecture(Booking first, Booking second) {
+        return first == second || (first.lectureId() != 0 && first.lectureId() == second.lectureId());
+    }
+
+    private final class Day {
+
+        private final Map<Integer, List<Booking>> rooms = new HashMap<>();
+        private final Map<Integer, List<Booking>> teachers = new HashMap<>();
+        private final Map<Integer, List<Booking>> groups = new HashMap<>();
+        private final Map<Integer, Long> busyRooms = new HashMap<>();
+
+        synchronized List<Conflict> findConflicts(Booking booking) {
+            List<Conflict> conflicts = new ArrayList<>();
+            collectConflicts(rooms, Resource.ROOM, booking.roomId(), booking, conflicts);
+            collectConflicts(teachers, Resource.TEACHER, booking.teacherId(), booking, conflicts);
+            booking.groupIds().forEach(groupId -> collectConflicts(groups, Resource.GROUP, groupId, booking, conflicts));
+            return conflicts;
+        }
+
+        synchronized List<Conflict> reserve(Booking booking) {
+            List<Conflict> conflicts = findConflicts(booking);
+
+            if (conflicts.isEmpty()) {
+                add(booking);
+            }
+
+            return conflicts;
+        }
+
+        synchronized void add(Booking booking) {
+            put(rooms, booking.roomId(), booking);
+            markBusy(booking.roomId());
+            put(teachers, booking.teacherId(), booking);
+            booking.groupIds().forEach(groupId -> put(groups, groupId, booking));
+        }
+
+        synchronized void remove(Booking booking) {
+            delete(rooms, booking.roomId(), booking);
+            markBusy(booking.roomId());
+            delete(teachers, booking.teacherId(), booking);
+            booking.groupIds().forEach(groupId -> delete(groups, groupId, booking));
+        }
+
+        synchronized void collectBookings(Set<Booking> bookings) {
+            rooms.values().forEach(bookings::addAll);
+            teachers.values().forEach(bookings::addAll);
+            groups.values().forEach(bookings::addAll);
+        }
+
+        synchronized void replace(Booking reserved, Booking committed) {
+            remove(reserved);
+            add(committed);
+        }
+
+        synchronized void removeBusyRooms(List<Integer> roomIds, long bit) {
+            roomIds.removeIf(roomId -> (busyRooms.getOrDefault(roomId, 0L) & bit) != 0);
+        }
+
+        private void markBusy(Integer roomId) {
+            if (roomId == null) {
+                return;
+            }
+
+            SlotMasks current = masks;
+            long busy = 0;
+
+            for (Booking booking : rooms.getOrDefault(roomId, List.of())) {
+                busy |= current.blocking(booking.durationId());
+            }
+
+            if (busy == 0) {
+                busyRooms.remove(roomId);
+            } else {
+                busyRooms.put(roomId, busy);
+            }
+        }
+
+        private void collectConflicts(Map<Integer, List<Booking>> occupancy, Resource resource, Integer resourceId,
+                                      Booking booking, List<Conflict> conflicts) {
+            if (resourceId == null) {
+                return;
+            }
+
+            for (Booking booked : occupancy.getOrDefault(resourceId, List.of())) {
+                if (!isSameLecture(booked, booking) && overlaps(booked, booking)) {
+                    conflicts.add(new Conflict(resource, resourceId, booked));
+                }
+            }
+        }
+
+        private void put(Map<Integer, List<Booking>> occupancy, Integer resourceId, Booking booking) {
+            if (resourceId != null) {
+                occupancy.computeIfAbsent(resourceId, id -> new ArrayList<>()).add(booking);
+            }
+        }
+
+        private void delete(Map<Integer, List<Booking>> occupancy, Integer resourceId, Booking booking) {
+            if (resourceId == null) {
+                return;
+            }
+
+            List<Booking> booked = occupancy.get(resourceId);
+
+            if (booked != null) {
+                booked.removeIf(candidate -> candidate == booking);
+
+                if (booked.isEmpty()) {
+                    occupancy.remove(resourceId);
+                }
+            }
+        }
+    }
+}
@@ -7,11 +7,16 @@ import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 public class PasswordValidator implements ConstraintValidator<Password, String> {
 
     @Override
     public boolean isValid(String s, ConstraintValidatorContext constraintValidatorContext) {
+        if (Objects.isNull(s) || s.isEmpty()) {
+            return true;
+        }
+
         org.passay.PasswordValidator validator = new org.passay.PasswordValidator(Arrays.asList(
             new LengthRule(5, 10),
             new WhitespaceRule()
@@ -16,6 +16,7 @@ import java.util.Optional;
 import static java.lang.String.format;
 import static ua.foxminded.university.util.exceptions.ExceptionConstants.ENTITY_NOT_FOUND;
 import static ua.foxminded.university.util.validators.ValidatorMessages.EMAIL_EXISTS_MESSAGE;
+import static ua.foxminded.university.util.validators.ValidatorMessages.NOT_EMPTY_MESSAGE;
 
 @Component
 public class PersonValidator implements Validator {
@@ -39,6 +40,11 @@ public class PersonValidator implements Validator {
         PersonDTO updatedPerson = (PersonDTO) target;
         Optional<Person> existedPerson = personRepository.findByEmail(updatedPerson.getEmail());
 
+        if (isNew(updatedPerson) && (Objects.isNull(updatedPerson.getPassword())
+            || updatedPerson.getPassword().isEmpty())) {
+            errors.rejectValue("password", "", NOT_EMPTY_MESSAGE);
+        }
+
         if (existedPerson.isPresent()) {
 
             if (Objects.isNull(updatedPerson.getId())) {
@@ -55,4 +61,8 @@ public class PersonValidator implements Validator {
             }
         }
     }
+
+    private boolean isNew(PersonDTO person) {
+        return Objects.isNull(person.getId()) || person.getId() == 0;
+    }
 }
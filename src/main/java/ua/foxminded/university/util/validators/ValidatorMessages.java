@@ -16,4 +16,5 @@ public final class ValidatorMessages {
     public static final String PHONE_NUMBER_PATTERN_MESSAGE = "Should be in this format: (050)5555555";
     public static final String NO_TEACHERS_MESSAGE = "Should first add an employee who isn't a teacher";
     public static final String EXISTS_MESSAGE = "%s is already exist";
+    public static final String DATE_RANGE_MESSAGE = "Should be on or after the first date and within a year of it";
 }
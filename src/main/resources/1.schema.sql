@@ -1,5 +1,6 @@
 DROP TABLE IF EXISTS groups_lectures, groups_subjects, teachers_subjects, lectures, marks, subjects, durations,
     lecture_rooms, teachers, employees, students, addresses, groups, departments, faculties CASCADE;
+DROP SEQUENCE IF EXISTS lectures_id_seq;
 
 CREATE TABLE IF NOT EXISTS faculties
 (
@@ -101,13 +102,16 @@ CREATE TABLE IF NOT EXISTS marks
 
 );
 
+CREATE SEQUENCE IF NOT EXISTS lectures_id_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS lectures
 (
-    lecture_id  int GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    lecture_id  int DEFAULT nextval('lectures_id_seq') PRIMARY KEY,
     subject_id  int  REFERENCES subjects (subject_id) ON DELETE SET NULL,
     teacher_id  int  REFERENCES teachers (teacher_id) ON DELETE SET NULL,
     room_id     int  REFERENCES lecture_rooms (room_id) ON DELETE SET NULL,
     duration_id int  REFERENCES durations (duration_id) ON DELETE SET NULL,
+    start_time  varchar(10),
     date        date NOT NULL
 );
 
@@ -131,3 +135,7 @@ CREATE TABLE IF NOT EXISTS groups_lectures
     lecture_id int REFERENCES lectures (lecture_id) ON UPDATE CASCADE ON DELETE CASCADE,
     UNIQUE (group_id, lecture_id)
 );
+
+CREATE INDEX IF NOT EXISTS lectures_date_idx ON lectures (date, start_time, duration_id, lecture_id);
+CREATE INDEX IF NOT EXISTS people_natural_key_idx ON people (last_name, first_name, birth_date, phone_number, gender);
+CREATE INDEX IF NOT EXISTS subjects_natural_key_idx ON subjects (subject_name, start_date, end_date);
@@ -175,16 +175,17 @@ VALUES ('16:10', '17:30');
 INSERT INTO durations(start_time, end_time)
 VALUES ('17:40', '19:00');
 
-INSERT INTO lectures(subject_id, teacher_id, room_id, duration_id, date)
-VALUES (1, 1, 4, 1, '2022-12-01');
-INSERT INTO lectures(subject_id, teacher_id, room_id, duration_id, date)
-VALUES (2, 2, 1, 1, '2022-12-01');
-INSERT INTO lectures(subject_id, teacher_id, room_id, duration_id, date)
-VALUES (3, 2, 3, 3, '2022-12-01');
-INSERT INTO lectures(subject_id, teacher_id, room_id, duration_id, date)
-VALUES (1, 1, 2, 4, '2022-12-01');
-INSERT INTO lectures(subject_id, teacher_id, room_id, duration_id, date)
-VALUES (4, 3, 1, 5, '2022-12-01');
+INSERT INTO lectures(lecture_id, subject_id, teacher_id, room_id, duration_id, start_time, date)
+VALUES (1, 1, 1, 4, 1, '09:00', '2022-12-01');
+INSERT INTO lectures(lecture_id, subject_id, teacher_id, room_id, duration_id, start_time, date)
+VALUES (2, 2, 2, 1, 1, '09:00', '2022-12-01');
+INSERT INTO lectures(lecture_id, subject_id, teacher_id, room_id, duration_id, start_time, date)
+VALUES (3, 3, 2, 3, 3, '12:30', '2022-12-01');
+INSERT INTO lectures(lecture_id, subject_id, teacher_id, room_id, duration_id, start_time, date)
+VALUES (4, 1, 1, 2, 4, '14:20', '2022-12-01');
+INSERT INTO lectures(lecture_id, subject_id, teacher_id, room_id, duration_id, start_time, date)
+VALUES (5, 4, 3, 1, 5, '16:10', '2022-12-01');
+SELECT setval('lectures_id_seq', (SELECT MAX(lecture_id) FROM lectures));
 
 INSERT INTO groups_lectures(group_id, lecture_id)
 VALUES (2, 1);
@@ -12,10 +12,20 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ua.foxminded.university.domain.*;
+import ua.foxminded.university.dto.duration.DurationRequestDTO;
+import ua.foxminded.university.dto.group.GroupNestedDTO;
+import ua.foxminded.university.dto.room.RoomRequestDTO;
+import ua.foxminded.university.dto.subject.SubjectNestedDTO;
+import ua.foxminded.university.dto.teacher.TeacherNestedDTO;
+import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 import ua.foxminded.university.util.exceptions.ServiceException;
 import ua.foxminded.university.service.interfaces.*;
+import ua.foxminded.university.util.mappers.*;
+
+import java.util.List;
 
 import static org.mockito.Mockito.*;
+import static ua.foxminded.university.data.DTOData.setLectureResponseDTOs;
 import static ua.foxminded.university.data.EntityData.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,7 +33,7 @@ class LecturesControllerTest {
 
     private static final String LECTURES_URL = "/lectures";
     private static final String LECTURES_BY_DURATION_URL = "/lectures/duration/list/?id=1";
-    private static final String LECTURES_BY_ROOM_URL = "/lectures/room/list/?number=1";
+    private static final String LECTURES_BY_ROOM_URL = "/lectures/room/list/?id=1";
     private static final String LECTURES_BY_SUBJECT_URL = "/lectures/subject/list/?id=1";
     private static final String LECTURES_BY_GROUP_URL = "/lectures/group/list/?id=1";
     private static final String LECTURES_BY_TEACHER_URL = "/lectures/teacher/list/?id=5";
@@ -51,6 +61,15 @@ class LecturesControllerTest {
     private static final String GROUP_ATTRIBUTE = "group";
     private static final String TEACHERS_ATTRIBUTE = "teachers";
     private static final String TEACHER_ATTRIBUTE = "teacher";
+    private static final String TITLE_ATTRIBUTE = "title";
+    private static final String TITLE = "Lectures";
+    private static final String NOT_FOUND = "Not found";
+
+    private static final List<SubjectNestedDTO> SUBJECTS = List.of(SubjectNestedDTO.builder().id(1).build());
+    private static final List<TeacherNestedDTO> TEACHERS = List.of(TeacherNestedDTO.builder().id(1).build());
+    private static final List<GroupNestedDTO> GROUPS = List.of(GroupNestedDTO.builder().id(1).build());
+    private static final List<RoomRequestDTO> ROOMS = List.of(RoomRequestDTO.builder().id(1).build());
+    private static final List<DurationRequestDTO> DURATIONS = List.of(DurationRequestDTO.builder().id(1).build());
 
     private static final int ACTUAL_ID = 1;
     private static final int TEACHER_ID = 5;
@@ -60,6 +79,24 @@ class LecturesControllerTest {
     @Mock
     private LectureService lectureService;
 
+    @Mock
+    private LectureAssembler lectureAssembler;
+
+    @Mock
+    private SubjectMapper subjectMapper;
+
+    @Mock
+    private TeacherMapper teacherMapper;
+
+    @Mock
+    private GroupMapper groupMapper;
+
+    @Mock
+    private RoomMapper roomMapper;
+
+    @Mock
+    private DurationMapper durationMapper;
+
     @Mock
     private DurationService durationService;
 
@@ -87,30 +124,31 @@ class LecturesControllerTest {
 
     @Test
     void whenFindLectures_thenAllView() throws Exception {
-        when(lectureService.findAll()).thenReturn(setExpectedLectures());
-        mockLectureController();
+        when(lectureService.findRows()).thenReturn(setExpectedLectureRows());
+        when(lectureAssembler.assemble(setExpectedLectureRows())).thenReturn(setLectureResponseDTOs());
+        mockListMappers();
 
         this.mockMvc
             .perform(MockMvcRequestBuilders.get(LECTURES_URL))
             .andExpect(MockMvcResultMatchers.status().isOk())
             .andExpect(MockMvcResultMatchers.view().name(ALL_VIEW))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURE_ATTRIBUTE, new Lecture()))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURES_ATTRIBUTE, setExpectedLectures()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATION_ATTRIBUTE, new Duration()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATIONS_ATTRIBUTE, setExpectedDurations()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOM_ATTRIBUTE, new LectureRoom()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOMS_ATTRIBUTE, setExpectedRooms()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECT_ATTRIBUTE, new Subject()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECTS_ATTRIBUTE, setExpectedSubjects()))
-            .andExpect(MockMvcResultMatchers.model().attributeExists(GROUP_ATTRIBUTE))
-            .andExpect(MockMvcResultMatchers.model().attribute(GROUPS_ATTRIBUTE, setExpectedGroups()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHER_ATTRIBUTE, new Teacher()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHERS_ATTRIBUTE, setExpectedTeachers()));
+            .andExpect(MockMvcResultMatchers.model().attribute(LECTURES_ATTRIBUTE, setLectureResponseDTOs()))
+            .andExpect(MockMvcResultMatchers.model().attribute(DURATION_ATTRIBUTE, new DurationRequestDTO()))
+            .andExpect(MockMvcResultMatchers.model().attribute(DURATIONS_ATTRIBUTE, DURATIONS))
+            .andExpect(MockMvcResultMatchers.model().attribute(ROOM_ATTRIBUTE, new RoomRequestDTO()))
+            .andExpect(MockMvcResultMatchers.model().attribute(ROOMS_ATTRIBUTE, ROOMS))
+            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECT_ATTRIBUTE, new SubjectNestedDTO()))
+            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECTS_ATTRIBUTE, SUBJECTS))
+            .andExpect(MockMvcResultMatchers.model().attribute(GROUP_ATTRIBUTE, new GroupNestedDTO()))
+            .andExpect(MockMvcResultMatchers.model().attribute(GROUPS_ATTRIBUTE, GROUPS))
+            .andExpect(MockMvcResultMatchers.model().attribute(TEACHER_ATTRIBUTE, new TeacherNestedDTO()))
+            .andExpect(MockMvcResultMatchers.model().attribute(TEACHERS_ATTRIBUTE, TEACHERS))
+            .andExpect(MockMvcResultMatchers.model().attribute(TITLE_ATTRIBUTE, TITLE));
     }
 
     @Test
-    void whenFindLectures_thenServiceException() throws Exception {
-        when(lectureService.findAll()).thenThrow(new ServiceException());
+    void whenFindLectures_thenNotFoundView() throws Exception {
+        when(lectureService.findRows()).thenThrow(new EntityNotFoundException(NOT_FOUND));
 
         this.mockMvc
             .perform(MockMvcRequestBuilders.get(LECTURES_URL))
@@ -120,7 +158,7 @@ class LecturesControllerTest {
 
     @Test
     void whenFindLectures_thenServerError() throws Exception {
-        when(lectureService.findAll()).thenThrow(new RuntimeException());
+        when(lectureService.findRows()).thenThrow(new RuntimeException());
 
         this.mockMvc
             .perform(MockMvcRequestBuilders.get(LECTURES_URL))
@@ -130,218 +168,107 @@ class LecturesControllerTest {
 
     @Test
     void whenFindByDurationId_thenByIdView() throws Exception {
-        when(lectureService.findByDuration(ACTUAL_ID)).thenReturn(setExpectedLectures());
-        mockLectureController();
+        when(lectureService.findRowsByDuration(ACTUAL_ID)).thenReturn(setExpectedLectureRows());
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_DURATION_URL))
-            .andExpect(MockMvcResultMatchers.status().isOk())
-            .andExpect(MockMvcResultMatchers.view().name(BY_ID_VIEW))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURE_ATTRIBUTE, new Lecture()))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURES_ATTRIBUTE, setExpectedLectures()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATION_ATTRIBUTE, new Duration()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATIONS_ATTRIBUTE, setExpectedDurations()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOM_ATTRIBUTE, new LectureRoom()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOMS_ATTRIBUTE, setExpectedRooms()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECT_ATTRIBUTE, new Subject()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECTS_ATTRIBUTE, setExpectedSubjects()))
-            .andExpect(MockMvcResultMatchers.model().attributeExists(GROUP_ATTRIBUTE))
-            .andExpect(MockMvcResultMatchers.model().attribute(GROUPS_ATTRIBUTE, setExpectedGroups()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHER_ATTRIBUTE, new Teacher()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHERS_ATTRIBUTE, setExpectedTeachers()));
+        assertByIdView(LECTURES_BY_DURATION_URL);
     }
 
     @Test
-    void whenFindByDurationId_thenServiceException() throws Exception {
-        when(lectureService.findByDuration(ACTUAL_ID)).thenThrow(new ServiceException());
+    void whenFindByDurationId_thenNotFoundView() throws Exception {
+        when(lectureService.findRowsByDuration(ACTUAL_ID)).thenThrow(new EntityNotFoundException(NOT_FOUND));
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_DURATION_URL))
-            .andExpect(MockMvcResultMatchers.status().is4xxClientError())
-            .andExpect(MockMvcResultMatchers.view().name(NOT_FOUND_VIEW));
+        assertNotFoundView(LECTURES_BY_DURATION_URL);
     }
 
     @Test
     void whenFindByDurationId_thenServerError() throws Exception {
-        when(lectureService.findByDuration(ACTUAL_ID)).thenThrow(new RuntimeException());
+        when(lectureService.findRowsByDuration(ACTUAL_ID)).thenThrow(new RuntimeException());
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_DURATION_URL))
-            .andExpect(MockMvcResultMatchers.status().is5xxServerError())
-            .andExpect(MockMvcResultMatchers.view().name(GENERAL_ERROR_VIEW));
+        assertServerError(LECTURES_BY_DURATION_URL);
     }
 
     @Test
-    void whenFindByRoomNumber_thenByIdView() throws Exception {
-        when(lectureService.findByRoom(ACTUAL_ID)).thenReturn(setExpectedLectures());
-        mockLectureController();
+    void whenFindByRoomId_thenByIdView() throws Exception {
+        when(lectureService.findRowsByRoom(ACTUAL_ID)).thenReturn(setExpectedLectureRows());
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_ROOM_URL))
-            .andExpect(MockMvcResultMatchers.status().isOk())
-            .andExpect(MockMvcResultMatchers.view().name(BY_ID_VIEW))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURE_ATTRIBUTE, new Lecture()))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURES_ATTRIBUTE, setExpectedLectures()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATION_ATTRIBUTE, new Duration()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATIONS_ATTRIBUTE, setExpectedDurations()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOM_ATTRIBUTE, new LectureRoom()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOMS_ATTRIBUTE, setExpectedRooms()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECT_ATTRIBUTE, new Subject()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECTS_ATTRIBUTE, setExpectedSubjects()))
-            .andExpect(MockMvcResultMatchers.model().attributeExists(GROUP_ATTRIBUTE))
-            .andExpect(MockMvcResultMatchers.model().attribute(GROUPS_ATTRIBUTE, setExpectedGroups()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHER_ATTRIBUTE, new Teacher()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHERS_ATTRIBUTE, setExpectedTeachers()));
+        assertByIdView(LECTURES_BY_ROOM_URL);
     }
 
     @Test
-    void whenFindByRoomNumber_thenServiceException() throws Exception {
-        when(lectureService.findByRoom(ACTUAL_ID)).thenThrow(new ServiceException());
+    void whenFindByRoomId_thenNotFoundView() throws Exception {
+        when(lectureService.findRowsByRoom(ACTUAL_ID)).thenThrow(new EntityNotFoundException(NOT_FOUND));
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_ROOM_URL))
-            .andExpect(MockMvcResultMatchers.status().is4xxClientError())
-            .andExpect(MockMvcResultMatchers.view().name(NOT_FOUND_VIEW));
+        assertNotFoundView(LECTURES_BY_ROOM_URL);
     }
 
     @Test
-    void whenFindByRoomNumber_thenServerError() throws Exception {
-        when(lectureService.findByRoom(ACTUAL_ID)).thenThrow(new RuntimeException());
+    void whenFindByRoomId_thenServerError() throws Exception {
+        when(lectureService.findRowsByRoom(ACTUAL_ID)).thenThrow(new RuntimeException());
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_ROOM_URL))
-            .andExpect(MockMvcResultMatchers.status().is5xxServerError())
-            .andExpect(MockMvcResultMatchers.view().name(GENERAL_ERROR_VIEW));
+        assertServerError(LECTURES_BY_ROOM_URL);
     }
 
     @Test
     void whenFindBySubjectId_thenByIdView() throws Exception {
-        when(lectureService.findBySubject(ACTUAL_ID)).thenReturn(setExpectedLectures());
-        mockLectureController();
+        when(lectureService.findRowsBySubject(ACTUAL_ID)).thenReturn(setExpectedLectureRows());
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_SUBJECT_URL))
-            .andExpect(MockMvcResultMatchers.status().isOk())
-            .andExpect(MockMvcResultMatchers.view().name(BY_ID_VIEW))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURE_ATTRIBUTE, new Lecture()))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURES_ATTRIBUTE, setExpectedLectures()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATION_ATTRIBUTE, new Duration()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATIONS_ATTRIBUTE, setExpectedDurations()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOM_ATTRIBUTE, new LectureRoom()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOMS_ATTRIBUTE, setExpectedRooms()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECT_ATTRIBUTE, new Subject()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECTS_ATTRIBUTE, setExpectedSubjects()))
-            .andExpect(MockMvcResultMatchers.model().attributeExists(GROUP_ATTRIBUTE))
-            .andExpect(MockMvcResultMatchers.model().attribute(GROUPS_ATTRIBUTE, setExpectedGroups()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHER_ATTRIBUTE, new Teacher()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHERS_ATTRIBUTE, setExpectedTeachers()));
+        assertByIdView(LECTURES_BY_SUBJECT_URL);
     }
 
     @Test
-    void whenFindBySubjectId_thenServiceException() throws Exception {
-        when(lectureService.findBySubject(ACTUAL_ID)).thenThrow(new ServiceException());
+    void whenFindBySubjectId_thenNotFoundView() throws Exception {
+        when(lectureService.findRowsBySubject(ACTUAL_ID)).thenThrow(new EntityNotFoundException(NOT_FOUND));
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_SUBJECT_URL))
-            .andExpect(MockMvcResultMatchers.status().is4xxClientError())
-            .andExpect(MockMvcResultMatchers.view().name(NOT_FOUND_VIEW));
+        assertNotFoundView(LECTURES_BY_SUBJECT_URL);
     }
 
     @Test
     void whenFindBySubjectId_thenServerError() throws Exception {
-        when(lectureService.findBySubject(ACTUAL_ID)).thenThrow(new RuntimeException());
+        when(lectureService.findRowsBySubject(ACTUAL_ID)).thenThrow(new RuntimeException());
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_SUBJECT_URL))
-            .andExpect(MockMvcResultMatchers.status().is5xxServerError())
-            .andExpect(MockMvcResultMatchers.view().name(GENERAL_ERROR_VIEW));
+        assertServerError(LECTURES_BY_SUBJECT_URL);
     }
 
-
     @Test
     void whenFindByGroupId_thenByIdView() throws Exception {
-        when(lectureService.findByGroup(ACTUAL_ID)).thenReturn(setExpectedLectures());
-        mockLectureController();
+        when(lectureService.findRowsByGroup(ACTUAL_ID)).thenReturn(setExpectedLectureRows());
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_GROUP_URL))
-            .andExpect(MockMvcResultMatchers.status().isOk())
-            .andExpect(MockMvcResultMatchers.view().name(BY_ID_VIEW))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURE_ATTRIBUTE, new Lecture()))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURES_ATTRIBUTE, setExpectedLectures()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATION_ATTRIBUTE, new Duration()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATIONS_ATTRIBUTE, setExpectedDurations()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOM_ATTRIBUTE, new LectureRoom()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOMS_ATTRIBUTE, setExpectedRooms()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECT_ATTRIBUTE, new Subject()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECTS_ATTRIBUTE, setExpectedSubjects()))
-            .andExpect(MockMvcResultMatchers.model().attributeExists(GROUP_ATTRIBUTE))
-            .andExpect(MockMvcResultMatchers.model().attribute(GROUPS_ATTRIBUTE, setExpectedGroups()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHER_ATTRIBUTE, new Teacher()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHERS_ATTRIBUTE, setExpectedTeachers()));
+        assertByIdView(LECTURES_BY_GROUP_URL);
     }
 
     @Test
-    void whenFindByGroupId_thenServiceException() throws Exception {
-        when(lectureService.findByGroup(ACTUAL_ID)).thenThrow(new ServiceException());
+    void whenFindByGroupId_thenNotFoundView() throws Exception {
+        when(lectureService.findRowsByGroup(ACTUAL_ID)).thenThrow(new EntityNotFoundException(NOT_FOUND));
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_GROUP_URL))
-            .andExpect(MockMvcResultMatchers.status().is4xxClientError())
-            .andExpect(MockMvcResultMatchers.view().name(NOT_FOUND_VIEW));
+        assertNotFoundView(LECTURES_BY_GROUP_URL);
     }
 
     @Test
     void whenFindByGroupId_thenServerError() throws Exception {
-        when(lectureService.findByGroup(ACTUAL_ID)).thenThrow(new RuntimeException());
+        when(lectureService.findRowsByGroup(ACTUAL_ID)).thenThrow(new RuntimeException());
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_GROUP_URL))
-            .andExpect(MockMvcResultMatchers.status().is5xxServerError())
-            .andExpect(MockMvcResultMatchers.view().name(GENERAL_ERROR_VIEW));
+        assertServerError(LECTURES_BY_GROUP_URL);
     }
 
     @Test
     void whenFindByTeacherId_thenByIdView() throws Exception {
-        when(lectureService.findByTeacher(TEACHER_ID)).thenReturn(setExpectedLectures());
-        mockLectureController();
+        when(lectureService.findRowsByTeacher(TEACHER_ID)).thenReturn(setExpectedLectureRows());
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_TEACHER_URL))
-            .andExpect(MockMvcResultMatchers.status().isOk())
-            .andExpect(MockMvcResultMatchers.view().name(BY_ID_VIEW))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURE_ATTRIBUTE, new Lecture()))
-            .andExpect(MockMvcResultMatchers.model().attribute(LECTURES_ATTRIBUTE, setExpectedLectures()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATION_ATTRIBUTE, new Duration()))
-            .andExpect(MockMvcResultMatchers.model().attribute(DURATIONS_ATTRIBUTE, setExpectedDurations()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOM_ATTRIBUTE, new LectureRoom()))
-            .andExpect(MockMvcResultMatchers.model().attribute(ROOMS_ATTRIBUTE, setExpectedRooms()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECT_ATTRIBUTE, new Subject()))
-            .andExpect(MockMvcResultMatchers.model().attribute(SUBJECTS_ATTRIBUTE, setExpectedSubjects()))
-            .andExpect(MockMvcResultMatchers.model().attributeExists(GROUP_ATTRIBUTE))
-            .andExpect(MockMvcResultMatchers.model().attribute(GROUPS_ATTRIBUTE, setExpectedGroups()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHER_ATTRIBUTE, new Teacher()))
-            .andExpect(MockMvcResultMatchers.model().attribute(TEACHERS_ATTRIBUTE, setExpectedTeachers()));
+        assertByIdView(LECTURES_BY_TEACHER_URL);
     }
 
     @Test
-    void whenFindByTeacherId_thenServiceException() throws Exception {
-        when(lectureService.findByTeacher(TEACHER_ID)).thenThrow(new ServiceException());
+    void whenFindByTeacherId_thenNotFoundView() throws Exception {
+        when(lectureService.findRowsByTeacher(TEACHER_ID)).thenThrow(new EntityNotFoundException(NOT_FOUND));
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_TEACHER_URL))
-            .andExpect(MockMvcResultMatchers.status().is4xxClientError())
-            .andExpect(MockMvcResultMatchers.view().name(NOT_FOUND_VIEW));
+        assertNotFoundView(LECTURES_BY_TEACHER_URL);
     }
 
     @Test
     void whenFindByTeacherId_thenServerError() throws Exception {
-        when(lectureService.findByTeacher(TEACHER_ID)).thenThrow(new RuntimeException());
+        when(lectureService.findRowsByTeacher(TEACHER_ID)).thenThrow(new RuntimeException());
 
-        this.mockMvc
-            .perform(MockMvcRequestBuilders.get(LECTURES_BY_TEACHER_URL))
-            .andExpect(MockMvcResultMatchers.status().is5xxServerError())
-            .andExpect(MockMvcResultMatchers.view().name(GENERAL_ERROR_VIEW));
+        assertServerError(LECTURES_BY_TEACHER_URL);
     }
 
     @Test
@@ -476,6 +403,39 @@ class LecturesControllerTest {
             .andExpect(MockMvcResultMatchers.view().name(GENERAL_ERROR_VIEW));
     }
 
+    private void assertByIdView(String url) throws Exception {
+        when(lectureAssembler.assemble(setExpectedLectureRows())).thenReturn(setLectureResponseDTOs());
+
+        this.mockMvc
+            .perform(MockMvcRequestBuilders.get(url))
+            .andExpect(MockMvcResultMatchers.status().isOk())
+            .andExpect(MockMvcResultMatchers.view().name(BY_ID_VIEW))
+            .andExpect(MockMvcResultMatchers.model().attribute(LECTURES_ATTRIBUTE, setLectureResponseDTOs()))
+            .andExpect(MockMvcResultMatchers.model().attribute(TITLE_ATTRIBUTE, TITLE));
+    }
+
+    private void assertNotFoundView(String url) throws Exception {
+        this.mockMvc
+            .perform(MockMvcRequestBuilders.get(url))
+            .andExpect(MockMvcResultMatchers.status().is4xxClientError())
+            .andExpect(MockMvcResultMatchers.view().name(NOT_FOUND_VIEW));
+    }
+
+    private void assertServerError(String url) throws Exception {
+        this.mockMvc
+            .perform(MockMvcRequestBuilders.get(url))
+            .andExpect(MockMvcResultMatchers.status().is5xxServerError())
+            .andExpect(MockMvcResultMatchers.view().name(GENERAL_ERROR_VIEW));
+    }
+
+    private void mockListMappers() {
+        when(subjectMapper.getSubjectsDTO()).thenReturn(SUBJECTS);
+        when(teacherMapper.getTeachersDTO()).thenReturn(TEACHERS);
+        when(groupMapper.getGroupsDTO()).thenReturn(GROUPS);
+        when(roomMapper.getRoomsDTO()).thenReturn(ROOMS);
+        when(durationMapper.getDurationsDTO()).thenReturn(DURATIONS);
+    }
+
     private void mockLectureController() {
         when(durationService.findAll()).thenReturn(setExpectedDurations());
         when(roomService.findAll()).thenReturn(setExpectedRooms());
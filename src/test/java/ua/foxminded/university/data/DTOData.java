@@ -15,6 +15,7 @@ import ua.foxminded.university.dto.student.StudentRequestDTO;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
 
 public final class DTOData {
 
@@ -137,4 +138,12 @@ public final class DTOData {
             .enrollmentDate(LocalDate.of(2022,9,1))
             .build();
     }
+
+    public static List<LectureResponseDTO> setLectureResponseDTOs() {
+        return List.of(
+            LectureResponseDTO.builder().id(1).subjectName("Chemistry").date(LocalDate.of(2021, 9, 1))
+                .durationStartTime("09:00").lectureRoomNumber(104).build(),
+            LectureResponseDTO.builder().id(2).subjectName("Chemistry").date(LocalDate.of(2021, 9, 1))
+                .durationStartTime("10:30").lectureRoomNumber(104).build());
+    }
 }
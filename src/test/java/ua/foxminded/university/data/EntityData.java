@@ -1,6 +1,7 @@
 package ua.foxminded.university.data;
 
 import ua.foxminded.university.domain.*;
+import ua.foxminded.university.dto.lecture.LectureRow;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -201,6 +202,13 @@ public final class EntityData {
         return lectures;
     }
 
+    public static List<LectureRow> setExpectedLectureRows() {
+        List<LectureRow> rows = new ArrayList<>();
+        rows.add(new LectureRow(1, "Chemistry", LocalDate.of(2021, 9, 1), 1, "09:00", 104, "Ivanenko", "Ivan"));
+        rows.add(new LectureRow(2, "Chemistry", LocalDate.of(2021, 9, 1), 2, "10:30", 104, "Petrenko", "Petro"));
+        return rows;
+    }
+
     public static List<Duration> setExpectedDurations() {
         List<Duration> durations = new ArrayList<>();
         durations.add(Duration.builder()
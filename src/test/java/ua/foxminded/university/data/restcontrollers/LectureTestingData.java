@@ -15,11 +15,15 @@ import java.util.Collections;
 public class LectureTestingData {
 
     public static final String SHOW_ALL_URL = "/api/lectures";
+    public static final String EXPORT_URL = "/api/lectures/export";
     public static final String SHOW_BY_SUBJECT_URL = "/api/lectures/subject/list";
     public static final String SHOW_BY_TEACHER_URL = "/api/lectures/teacher/list";
     public static final String SHOW_BY_GROUP_URL = "/api/lectures/group/list";
     public static final String SHOW_BY_ROOM_URL = "/api/lectures/room/list";
     public static final String SHOW_BY_DURATION_URL = "/api/lectures/duration/list";
+    public static final String SHOW_FEED_URL = "/api/lectures/feed";
+    public static final String BULK_URL = "/api/lectures/bulk";
+    public static final String CONFLICTS_URL = "/api/lectures/conflicts";
     public static final String UPDATE_URL = "/api/lectures/{id}";
     public static final String EDIT_URL = "/api/lectures/{id}/edit";
     public static final String DELETE_URL = "/api/lectures/{id}/delete";
@@ -27,6 +31,8 @@ public class LectureTestingData {
     public static final String NOT_FOUND_MESSAGE = "Lecture not found";
     public static final String LIST_NOT_FOUND_MESSAGE = "Not found";
     public static final String EXISTS_MESSAGE = "Lecture already exists";
+    public static final String ROOM_CONFLICT_MESSAGE =
+        "Room with id=1 is already booked on 2030-09-02 in the same time by a lecture being saved";
 
     public static final int LIST_SIZE = 5;
     public static final int LIST_BY_SUBJECT_SIZE = 2;
@@ -34,6 +40,8 @@ public class LectureTestingData {
     public static final int LIST_BY_GROUP_SIZE = 2;
     public static final int LIST_BY_ROOM_SIZE = 2;
     public static final int LIST_BY_DURATION_SIZE = 2;
+    public static final int FEED_PAGE_SIZE = 2;
+    public static final int BULK_CREATED_ID = 6;
     public static final int ID = 3;
     public static final int PARAM_ID = 1;
     public static final int NOT_FOUND_ID = 10;
@@ -55,6 +63,17 @@ public class LectureTestingData {
             .build();
     }
 
+    public LectureRequestDTO generateLectureForCheck(int teacherId) {
+        return LectureRequestDTO.builder()
+            .id(0)
+            .date(LocalDate.of(2030, 9, 2))
+            .subject(SubjectNestedDTO.builder().id(5).build())
+            .duration(DurationNestedDTO.builder().id(1).build())
+            .room(RoomNestedDTO.builder().id(1).build())
+            .teacher(TeacherNestedDTO.builder().id(teacherId).build())
+            .build();
+    }
+
     public LectureRequestDTO generateLectureForUpdate() {
         return LectureRequestDTO.builder()
             .id(3)
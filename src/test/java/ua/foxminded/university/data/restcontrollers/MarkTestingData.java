@@ -8,6 +8,9 @@ import ua.foxminded.university.dto.subject.SubjectNestedDTO;
 public class MarkTestingData {
 
     public static final String SHOW_ALL_URL = "/api/marks";
+    public static final String EXPORT_URL = "/api/marks/export";
+    public static final String STATISTICS_URL = "/api/marks/statistics";
+    public static final String GRADEBOOK_URL = "/api/marks/gradebook";
     public static final String SHOW_BY_SUBJECT_URL = "/api/marks/subject/list";
     public static final String SHOW_BY_STUDENT_URL = "/api/marks/subject/list";
     public static final String UPDATE_URL = "/api/marks/{id}";
@@ -26,6 +29,12 @@ public class MarkTestingData {
     public static final int NOT_FOUND_ID = 20;
     public static final int ID_TO_UPDATE = 2;
     public static final String INVALID_DATA = "a";
+    public static final int GROUP_MARKS_COUNT = 3;
+    public static final double GROUP_AVERAGE = 4.0;
+    public static final String INVALID_PERCENTILES = "50,101";
+    public static final int GRADEBOOK_SUBJECTS_SIZE = 3;
+    public static final String GRADEBOOK_CSV = "student_id,student,Chemistry,Cosmetic Chemistry,Medical Chemistry\n" +
+        "1,Ivanenko Ivan,A,B,C\n";
 
     public final static String VALIDATION_ERROR_RESPONSE = "{\"errorMessage\":[{\"fieldName\":\"value\"," +
         "\"rejectedValue\":null,\"messageError\":\"Should not be empty\"}]}";
@@ -9,6 +9,7 @@ public class RoomTestingData {
     public static final String SHOW_URL = "/api/rooms/{id}";
     public static final String EDIT_URL = "/api/rooms/{id}/edit";
     public static final String DELETE_URL = "/api/rooms/{id}/delete";
+    public static final String FREE_URL = "/api/rooms/free";
 
     public static final String NOT_FOUND_MESSAGE = "LectureRoom not found";
     public static final String LIST_NOT_FOUND_MESSAGE = "Not found";
@@ -18,6 +19,11 @@ public class RoomTestingData {
     public static final int NOT_FOUND_ID = 10;
     public static final int ID_TO_UPDATE = 2;
     public static final String INVALID_DATA = "a";
+    public static final String BOOKED_DATE = "2022-12-01";
+    public static final String BOOKED_DURATION_ID = "1";
+    public static final String FREE_CAPACITY = "15";
+    public static final int FREE_LIST_SIZE = 2;
+    public static final int SMALLEST_FREE_NUMBER = 102;
 
     public final static String VALIDATION_ERROR_RESPONSE = "{\"errorMessage\":[{\"fieldName\":\"number\"," +
         "\"rejectedValue\":null,\"messageError\":\"Should not be empty\"}]}";
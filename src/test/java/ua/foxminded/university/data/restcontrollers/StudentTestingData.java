@@ -13,6 +13,7 @@ import static ua.foxminded.university.domain.Role.ROLE_STUDENT;
 public class StudentTestingData {
 
     public static final String SHOW_ALL_URL = "/api/students";
+    public static final String EXPORT_URL = "/api/students/export";
     public static final String SHOW_BY_GROUP_URL = "/api/students/group/list";
     public static final String SHOW_URL = "/api/students/{id}";
     public static final String EDIT_URL = "/api/students/{id}/edit";
@@ -14,6 +14,8 @@ public class TeacherTestingData {
     public static final String SHOW_ALL_URL = "/api/teachers";
     public static final String SHOW_BY_DEPARTMENT_URL = "/api/teachers/department/list";
     public static final String SHOW_BY_SUBJECT_URL = "/api/teachers/subject/list";
+    public static final String WORKLOAD_BY_DEPARTMENT_URL = "/api/teachers/department/workload";
+    public static final String WORKLOAD_URL = "/api/teachers/{id}/workload";
     public static final String SHOW_URL = "/api/teachers/{id}";
     public static final String EDIT_URL = "/api/teachers/{id}/edit";
     public static final String DELETE_URL = "/api/teachers/{id}/delete";
@@ -28,6 +30,9 @@ public class TeacherTestingData {
     public static final int PARAM_ID = 1;
     public static final int NOT_FOUND_ID = 10;
     public static final int ID_TO_UPDATE = 3;
+    public static final String WORKLOAD_DATE = "2022-12-01";
+    public static final int WORKLOAD_LECTURES = 2;
+    public static final int WORKLOAD_MINUTES = 160;
     public static final String INVALID_DATA = "a";
 
     public final static String VALIDATION_ERROR_RESPONSE = "{\"errorMessage\":[{\"fieldName\":\"degree\"," +
@@ -0,0 +1,111 @@
+package ua.foxminded.university.rest_controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.web.servlet.MockMvc;
+import ua.foxminded.university.config.SecurityConfig;
+import ua.foxminded.university.dto.person.PersonCredentials;
+import ua.foxminded.university.security.AccessTokenProvider;
+import ua.foxminded.university.security.CredentialCache;
+import ua.foxminded.university.security.PasswordHashingExecutor;
+import ua.foxminded.university.security.TokenDenyList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ua.foxminded.university.domain.Role.ROLE_ADMIN;
+import static ua.foxminded.university.domain.Role.ROLE_STUDENT;
+
+@WebMvcTest(AuthenticationRestController.class)
+@Import({SecurityConfig.class, AccessTokenProvider.class, TokenDenyList.class})
+class AuthenticationRestControllerTest {
+
+    private static final String REFRESH_URL = "/api/auth/token/refresh";
+    private static final String REVOKE_URL = "/api/auth/token/revoke";
+    private static final String ADMIN_URL = "/api/cache/statistics";
+    private static final String ACTUATOR_URL = "/actuator/prometheus";
+    private static final PersonCredentials STUDENT = new PersonCredentials(1, "student@mail.com", null, ROLE_STUDENT);
+    private static final PersonCredentials ADMIN = new PersonCredentials(2, "admin@mail.com", null, ROLE_ADMIN);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccessTokenProvider accessTokenProvider;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    @MockBean
+    private CredentialCache credentialCache;
+
+    @MockBean
+    private PasswordHashingExecutor hashingExecutor;
+
+    @Test
+    void givenAccessToken_whenRefresh_thenNewTokenAndPresentedOneRevoked() throws Exception {
+        String token = issue(STUDENT);
+
+        mockMvc.perform(post(REFRESH_URL).header(HttpHeaders.AUTHORIZATION, bearer(token)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tokenType", is(AccessTokenProvider.TOKEN_TYPE)))
+            .andExpect(jsonPath("$.accessToken", not(is(token))));
+
+        mockMvc.perform(post(REFRESH_URL).header(HttpHeaders.AUTHORIZATION, bearer(token)))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void givenAccessToken_whenRevoke_thenNoContentAndTokenRejected() throws Exception {
+        String token = issue(STUDENT);
+
+        mockMvc.perform(post(REVOKE_URL).header(HttpHeaders.AUTHORIZATION, bearer(token)))
+            .andExpect(status().isNoContent());
+
+        assertTrue(accessTokenProvider.verify(token).isEmpty());
+        mockMvc.perform(post(REVOKE_URL).header(HttpHeaders.AUTHORIZATION, bearer(token)))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void givenNoAccessToken_whenRefresh_thenUnauthorized() throws Exception {
+        mockMvc.perform(post(REFRESH_URL).with(csrf()))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void givenStudentToken_whenAdminApi_thenForbidden() throws Exception {
+        mockMvc.perform(get(ADMIN_URL).header(HttpHeaders.AUTHORIZATION, bearer(issue(STUDENT))))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void givenAdminToken_whenAdminApi_thenPassesSecurity() throws Exception {
+        mockMvc.perform(get(ADMIN_URL).header(HttpHeaders.AUTHORIZATION, bearer(issue(ADMIN))))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void givenStudentToken_whenActuator_thenForbidden() throws Exception {
+        mockMvc.perform(get(ACTUATOR_URL).header(HttpHeaders.AUTHORIZATION, bearer(issue(STUDENT))))
+            .andExpect(status().isForbidden());
+    }
+
+    private String issue(PersonCredentials credentials) {
+        return accessTokenProvider.issue(credentials).getAccessToken();
+    }
+
+    private static String bearer(String token) {
+        return AccessTokenProvider.TOKEN_TYPE + " " + token;
+    }
+}
@@ -17,6 +17,7 @@ import ua.foxminded.university.util.exceptions.EntityExistsException;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 import ua.foxminded.university.util.exceptions.ValidationException;
 
+import java.util.List;
 import java.util.Objects;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -24,8 +25,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static ua.foxminded.university.util.export.NdjsonExporter.NDJSON;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -48,6 +49,41 @@ class LecturesRestControllerTest extends LectureTestingData {
             .andExpect(jsonPath("$.size()", is(LIST_SIZE)));
     }
 
+    @Test
+    void whenExportLectures_thenOneJsonLinePerRow() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(EXPORT_URL))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        assertEquals(LIST_SIZE, content.lines().count());
+    }
+
+    @Test
+    void givenLimit_whenGetLecturesFeed_thenPageWithNextCursor() throws Exception {
+        MvcResult firstPage = mockMvc.perform(get(SHOW_FEED_URL).param("limit", String.valueOf(FEED_PAGE_SIZE)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lectures.size()", is(FEED_PAGE_SIZE)))
+            .andReturn();
+        String nextCursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+            .get("nextCursor").asText();
+
+        mockMvc.perform(get(SHOW_FEED_URL).param("cursor", nextCursor).param("limit", String.valueOf(LIST_SIZE)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lectures.size()", is(LIST_SIZE - FEED_PAGE_SIZE)));
+    }
+
+    @Test
+    void givenInvalidCursor_whenGetLecturesFeed_thenServerError() throws Exception {
+        mockMvc.perform(get(SHOW_FEED_URL).param("cursor", INVALID_DATA))
+            .andExpect(status().is5xxServerError())
+            .andExpect(result -> assertTrue(result.getResolvedException() instanceof RuntimeException));
+    }
+
     @Test
     void givenSubjectId_whenGetLecturesBySubject_thenLecturesList() throws Exception {
         mockMvc.perform(get(SHOW_BY_SUBJECT_URL).param("id", String.valueOf(PARAM_ID)))
@@ -196,6 +232,33 @@ class LecturesRestControllerTest extends LectureTestingData {
                 Objects.requireNonNull(result.getResolvedException()).getMessage()));
     }
 
+    @Test
+    void givenLectures_whenCreateLecturesInBulk_thenReportForEveryItem() throws Exception {
+        mockMvc.perform(post(BULK_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    List.of(generateLectureForCreate(), generateExistedLecture(), generateInvalidLecture()))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].status", is("CREATED")))
+            .andExpect(jsonPath("$[0].id", is(BULK_CREATED_ID)))
+            .andExpect(jsonPath("$[1].status", is("EXISTS")))
+            .andExpect(jsonPath("$[1].errors[0]", is(EXISTS_MESSAGE)))
+            .andExpect(jsonPath("$[2].status", is("INVALID")));
+    }
+
+    @Test
+    void givenLecturesInSameRoom_whenCheckConflicts_thenSecondLectureConflicts() throws Exception {
+        mockMvc.perform(post(CONFLICTS_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    List.of(generateLectureForCheck(1), generateLectureForCheck(2), generateInvalidLecture()))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].available", is(true)))
+            .andExpect(jsonPath("$[1].available", is(false)))
+            .andExpect(jsonPath("$[1].conflicts[0]", is(ROOM_CONFLICT_MESSAGE)))
+            .andExpect(jsonPath("$[2].available", is(false)));
+    }
+
     @Test
     void givenLectureId_whenGetLectureToUpdate_thenReturnLecture() throws Exception {
         mockMvc.perform(get(EDIT_URL, ID))
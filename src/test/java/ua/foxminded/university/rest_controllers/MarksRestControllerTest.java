@@ -24,8 +24,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static ua.foxminded.university.util.export.NdjsonExporter.NDJSON;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -48,6 +48,84 @@ class MarksRestControllerTest extends MarkTestingData {
             .andExpect(jsonPath("$.size()", is(LIST_SIZE)));
     }
 
+    @Test
+    void givenGroupId_whenGetStatistics_thenDistributionOfGroupMarks() throws Exception {
+        mockMvc.perform(get(STATISTICS_URL)
+                .param("dimension", "GROUP")
+                .param("id", String.valueOf(PARAM_ID))
+                .param("percentiles", "50"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.count", is(GROUP_MARKS_COUNT)))
+            .andExpect(jsonPath("$.average", is(GROUP_AVERAGE)))
+            .andExpect(jsonPath("$.distribution.A", is(1)))
+            .andExpect(jsonPath("$.percentiles.50", is("B")));
+    }
+
+    @Test
+    void givenPercentileOutOfRange_whenGetStatistics_thenValidationException() throws Exception {
+        mockMvc.perform(get(STATISTICS_URL)
+                .param("dimension", "SUBJECT")
+                .param("id", String.valueOf(PARAM_ID))
+                .param("percentiles", INVALID_PERCENTILES))
+            .andExpect(status().is4xxClientError())
+            .andExpect(result -> assertTrue(result.getResolvedException() instanceof ValidationException));
+    }
+
+    @Test
+    void givenGroupId_whenExportGradebook_thenMarksOfEveryStudentBySubject() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(GRADEBOOK_URL)
+                .param("scope", "GROUP")
+                .param("id", String.valueOf(PARAM_ID)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.subjects.size()", is(GRADEBOOK_SUBJECTS_SIZE)))
+            .andExpect(jsonPath("$.students[0].id", is(ID)))
+            .andExpect(jsonPath("$.students[0].marks[0]", is("A")));
+    }
+
+    @Test
+    void givenCsvFormat_whenExportGradebook_thenCsvRowPerStudent() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(GRADEBOOK_URL)
+                .param("scope", "GROUP")
+                .param("id", String.valueOf(PARAM_ID))
+                .param("format", "CSV"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertEquals(GRADEBOOK_CSV, content);
+    }
+
+    @Test
+    void givenUnknownGroupId_whenExportGradebook_thenEntityNotFoundException() throws Exception {
+        mockMvc.perform(get(GRADEBOOK_URL)
+                .param("scope", "GROUP")
+                .param("id", String.valueOf(NOT_FOUND_ID)))
+            .andExpect(status().is4xxClientError())
+            .andExpect(result -> assertTrue(result.getResolvedException() instanceof EntityNotFoundException));
+    }
+
+    @Test
+    void whenExportMarks_thenOneJsonLinePerRow() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(EXPORT_URL))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        assertEquals(LIST_SIZE, content.lines().count());
+    }
+
     @Test
     void givenSubjectId_whenGetMarksBySubject_thenMarksList() throws Exception {
         mockMvc.perform(get(SHOW_BY_SUBJECT_URL).param("id", String.valueOf(PARAM_ID)))
@@ -47,6 +47,17 @@ class RoomsRestControllerTest extends RoomTestingData {
             .andExpect(jsonPath("$.size()", is(LIST_SIZE)));
     }
 
+    @Test
+    void givenBookedSlot_whenGetFreeRooms_thenOnlyUnbookedRoomsThatFit() throws Exception {
+        mockMvc.perform(get(FREE_URL)
+                .param("from", BOOKED_DATE)
+                .param("durationId", BOOKED_DURATION_ID)
+                .param("capacity", FREE_CAPACITY))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.size()", is(FREE_LIST_SIZE)))
+            .andExpect(jsonPath("$[0].number", is(SMALLEST_FREE_NUMBER)));
+    }
+
     @Test
     void givenRoomId_whenGetRoomById_thenReturnRoom() throws Exception {
         mockMvc.perform(get(SHOW_URL, ID))
@@ -24,8 +24,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.annotation.DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static ua.foxminded.university.util.export.NdjsonExporter.NDJSON;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -48,6 +48,20 @@ class StudentsRestControllerTest extends StudentTestingData {
             .andExpect(jsonPath("$.size()", is(LIST_SIZE)));
     }
 
+    @Test
+    void whenExportStudents_thenOneJsonLinePerRow() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(EXPORT_URL))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String content = mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(NDJSON))
+            .andReturn().getResponse().getContentAsString();
+
+        assertEquals(LIST_SIZE, content.lines().count());
+    }
+
     @Test
     void givenGroupId_whenGetStudentsByGroup_thenStudentsList() throws Exception {
         mockMvc.perform(get(SHOW_BY_GROUP_URL).param("id", String.valueOf(PARAM_ID)))
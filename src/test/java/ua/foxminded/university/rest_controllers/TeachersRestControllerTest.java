@@ -63,6 +63,27 @@ class TeachersRestControllerTest extends TeacherTestingData {
                 Objects.requireNonNull(result.getResolvedException()).getMessage()));
     }
 
+    @Test
+    void givenDepartmentId_whenGetWorkloadByDepartment_thenWorkloadOfEveryTeacher() throws Exception {
+        mockMvc.perform(get(WORKLOAD_BY_DEPARTMENT_URL)
+                .param("id", String.valueOf(PARAM_ID))
+                .param("date", WORKLOAD_DATE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.size()", is(LIST_BY_DEPARTMENT_SIZE)))
+            .andExpect(jsonPath("$[0].workloads[0].period", is("WEEK")))
+            .andExpect(jsonPath("$[0].workloads[0].lectures", is(WORKLOAD_LECTURES)))
+            .andExpect(jsonPath("$[0].workloads[0].minutes", is(WORKLOAD_MINUTES)));
+    }
+
+    @Test
+    void givenTeacherId_whenGetWorkload_thenEntityNotFoundException() throws Exception {
+        mockMvc.perform(get(WORKLOAD_URL, NOT_FOUND_ID))
+            .andExpect(status().is4xxClientError())
+            .andExpect(result -> assertTrue(result.getResolvedException() instanceof EntityNotFoundException))
+            .andExpect(result -> assertEquals(NOT_FOUND_MESSAGE,
+                Objects.requireNonNull(result.getResolvedException()).getMessage()));
+    }
+
     @Test
     void givenInvalidData_whenGetTeachersByDepartment_thenServerError() throws Exception {
         mockMvc.perform(get(SHOW_BY_DEPARTMENT_URL).param("id", INVALID_DATA))
@@ -0,0 +1,149 @@
+package ua.foxminded.university.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ua.foxminded.university.dto.person.PersonCredentials;
+import ua.foxminded.university.dto.security.AccessTokenDTO;
+import ua.foxminded.university.util.events.CredentialsChangedEvent;
+import ua.foxminded.university.util.exceptions.AccessTokenException;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ua.foxminded.university.domain.Role.ROLE_STUDENT;
+
+class AccessTokenProviderTest {
+
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes();
+    private static final PersonCredentials CREDENTIALS = new PersonCredentials(1, "student@mail.com", null, ROLE_STUDENT);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2030-09-02T09:00:00Z"));
+    private TokenDenyList denyList;
+    private AccessTokenProvider accessTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        denyList = new TokenDenyList(clock);
+        accessTokenProvider = new AccessTokenProvider(new SecretKeySpec(KEY, "HmacSHA256"), denyList, clock);
+    }
+
+    @Test
+    void givenIssuedToken_whenVerify_thenPersonAndRole() {
+        AccessTokenDTO issued = accessTokenProvider.issue(CREDENTIALS);
+
+        AccessToken actual = accessTokenProvider.verify(issued.getAccessToken()).orElseThrow();
+
+        assertEquals(CREDENTIALS.getId(), actual.personId());
+        assertEquals(CREDENTIALS.getEmail(), actual.email());
+        assertEquals(ROLE_STUDENT, actual.role());
+        assertEquals(issued.getExpiresAt(), actual.expiresAt());
+    }
+
+    @Test
+    void givenTamperedOrForeignToken_whenVerify_thenEmpty() {
+        String token = accessTokenProvider.issue(CREDENTIALS).getAccessToken();
+        String tampered = (token.charAt(0) == 'A' ? 'B' : 'A') + token.substring(1);
+        AccessTokenProvider foreign = new AccessTokenProvider(
+            new SecretKeySpec("fedcba9876543210fedcba9876543210".getBytes(), "HmacSHA256"), denyList, clock);
+
+        assertEquals(Optional.empty(), accessTokenProvider.verify(tampered));
+        assertEquals(Optional.empty(), accessTokenProvider.verify(foreign.issue(CREDENTIALS).getAccessToken()));
+        assertEquals(Optional.empty(), accessTokenProvider.verify("not-a-token"));
+    }
+
+    @Test
+    void givenExpiredToken_whenVerify_thenEmpty() {
+        String token = accessTokenProvider.issue(CREDENTIALS).getAccessToken();
+        clock.instant = clock.instant.plus(AccessTokenProvider.TIME_TO_LIVE);
+
+        assertEquals(Optional.empty(), accessTokenProvider.verify(token));
+    }
+
+    @Test
+    void givenRefreshedToken_whenVerify_thenOnlyNewTokenValid() {
+        String token = accessTokenProvider.issue(CREDENTIALS).getAccessToken();
+        AccessToken accessToken = accessTokenProvider.verify(token).orElseThrow();
+
+        String refreshed = accessTokenProvider.refresh(accessToken).getAccessToken();
+
+        assertEquals(Optional.empty(), accessTokenProvider.verify(token));
+        assertTrue(accessTokenProvider.verify(refreshed).isPresent());
+    }
+
+    @Test
+    void givenRefreshedToken_whenVerify_thenOriginalAuthenticationTimeKept() {
+        AccessToken accessToken = accessTokenProvider.verify(
+            accessTokenProvider.issue(CREDENTIALS).getAccessToken()).orElseThrow();
+        clock.instant = clock.instant.plus(AccessTokenProvider.TIME_TO_LIVE.dividedBy(2));
+
+        AccessToken actual = accessTokenProvider.verify(
+            accessTokenProvider.refresh(accessToken).getAccessToken()).orElseThrow();
+
+        assertEquals(accessToken.authenticatedAt(), actual.authenticatedAt());
+        assertEquals(clock.instant, actual.issuedAt());
+    }
+
+    @Test
+    void givenTokenNearSessionEnd_whenRefresh_thenExpiresWithSession() {
+        AccessToken accessToken = accessTokenProvider.verify(
+            accessTokenProvider.issue(CREDENTIALS).getAccessToken()).orElseThrow();
+        Instant sessionEnd = accessToken.authenticatedAt().plus(AccessTokenProvider.SESSION_LIFETIME);
+        clock.instant = sessionEnd.minusSeconds(60);
+
+        AccessTokenDTO actual = accessTokenProvider.refresh(accessToken);
+
+        assertEquals(sessionEnd, actual.getExpiresAt());
+        assertEquals(60, actual.getExpiresIn());
+    }
+
+    @Test
+    void givenSessionLifetimePassed_whenRefresh_thenAccessTokenExceptionAndTokenDenied() {
+        String token = accessTokenProvider.issue(CREDENTIALS).getAccessToken();
+        AccessToken accessToken = accessTokenProvider.verify(token).orElseThrow();
+        clock.instant = clock.instant.plus(AccessTokenProvider.SESSION_LIFETIME);
+
+        assertThrows(AccessTokenException.class, () -> accessTokenProvider.refresh(accessToken));
+        assertTrue(denyList.isDenied(accessToken));
+    }
+
+    @Test
+    void givenCredentialsChanged_whenVerify_thenEarlierTokensDenied() {
+        String token = accessTokenProvider.issue(CREDENTIALS).getAccessToken();
+        clock.instant = clock.instant.plusSeconds(1);
+
+        denyList.onCredentialsChanged(new CredentialsChangedEvent(CREDENTIALS.getId()));
+        clock.instant = clock.instant.plusSeconds(1);
+
+        assertEquals(Optional.empty(), accessTokenProvider.verify(token));
+        assertTrue(accessTokenProvider.verify(accessTokenProvider.issue(CREDENTIALS).getAccessToken()).isPresent());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
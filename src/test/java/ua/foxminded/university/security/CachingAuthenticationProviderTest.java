@@ -0,0 +1,54 @@
+package ua.foxminded.university.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import ua.foxminded.university.dto.person.PersonCredentials;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+import static ua.foxminded.university.domain.Role.ROLE_STUDENT;
+
+class CachingAuthenticationProviderTest {
+
+    private static final int INVOCATION_NUMBER = 1;
+    private static final String EMAIL = "student@mail.com";
+    private static final String PASSWORD = "secret";
+    private static final String HASH = "$2a$10$hash";
+    private static final PersonCredentials CREDENTIALS = new PersonCredentials(1, EMAIL, HASH, ROLE_STUDENT);
+
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final CachingAuthenticationProvider authenticationProvider =
+        new CachingAuthenticationProvider(userDetailsService, passwordEncoder, new CredentialCache());
+
+    @Test
+    void givenVerifiedCredentials_whenAuthenticateAgain_thenNoLookupOrHashing() {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(new PersonDetails(CREDENTIALS));
+        when(passwordEncoder.matches(PASSWORD, HASH)).thenReturn(true);
+
+        authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD));
+        Authentication actual =
+            authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD));
+
+        assertEquals(EMAIL, actual.getName());
+        assertEquals(ROLE_STUDENT.toString(), actual.getAuthorities().iterator().next().getAuthority());
+        verify(userDetailsService, times(INVOCATION_NUMBER)).loadUserByUsername(EMAIL);
+        verify(passwordEncoder, times(INVOCATION_NUMBER)).matches(PASSWORD, HASH);
+    }
+
+    @Test
+    void givenWrongPassword_whenAuthenticate_thenNotCached() {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(new PersonDetails(CREDENTIALS));
+        when(passwordEncoder.matches(any(), eq(HASH))).thenReturn(false);
+        UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(EMAIL, PASSWORD);
+
+        assertThrows(BadCredentialsException.class, () -> authenticationProvider.authenticate(token));
+        assertThrows(BadCredentialsException.class, () -> authenticationProvider.authenticate(token));
+        verify(passwordEncoder, times(2)).matches(PASSWORD, HASH);
+    }
+}
@@ -0,0 +1,53 @@
+package ua.foxminded.university.security;
+
+import org.junit.jupiter.api.Test;
+import ua.foxminded.university.dto.person.PersonCredentials;
+import ua.foxminded.university.util.events.CredentialsChangedEvent;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static ua.foxminded.university.domain.Role.ROLE_STUDENT;
+
+class CredentialCacheTest {
+
+    private static final String EMAIL = "student@mail.com";
+    private static final String PASSWORD = "secret";
+    private static final PersonCredentials CREDENTIALS = new PersonCredentials(1, EMAIL, "$2a$10$hash", ROLE_STUDENT);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final CredentialCache credentialCache = new CredentialCache(nanos::get);
+
+    @Test
+    void givenVerifiedCredentials_whenFind_thenCachedCredentials() {
+        credentialCache.put(CREDENTIALS, PASSWORD);
+
+        assertEquals(Optional.of(CREDENTIALS), credentialCache.find(EMAIL, PASSWORD));
+    }
+
+    @Test
+    void givenOtherPassword_whenFind_thenEmpty() {
+        credentialCache.put(CREDENTIALS, PASSWORD);
+
+        assertEquals(Optional.empty(), credentialCache.find(EMAIL, PASSWORD + "1"));
+        assertEquals(Optional.empty(), credentialCache.find("other@mail.com", PASSWORD));
+    }
+
+    @Test
+    void givenExpiredEntry_whenFind_thenEmpty() {
+        credentialCache.put(CREDENTIALS, PASSWORD);
+        nanos.addAndGet(CredentialCache.TIME_TO_LIVE.toNanos() + 1);
+
+        assertEquals(Optional.empty(), credentialCache.find(EMAIL, PASSWORD));
+    }
+
+    @Test
+    void givenCredentialsChanged_whenFind_thenEmpty() {
+        credentialCache.put(CREDENTIALS, PASSWORD);
+
+        credentialCache.onCredentialsChanged(new CredentialsChangedEvent(CREDENTIALS.getId()));
+
+        assertEquals(Optional.empty(), credentialCache.find(EMAIL, PASSWORD));
+    }
+}
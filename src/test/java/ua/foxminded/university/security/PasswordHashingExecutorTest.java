@@ -0,0 +1,75 @@
+package ua.foxminded.university.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ua.foxminded.university.dto.security.HashingStatisticsDTO;
+import ua.foxminded.university.util.exceptions.HashingRejectedException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private static final String HASH = "hash";
+    private static final int TIMEOUT_SECONDS = 5;
+
+    private final PasswordHashingExecutor hashingExecutor = new PasswordHashingExecutor(1, 1);
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void givenTask_whenCall_thenResultReturnedAndCounted() {
+        assertEquals(HASH, hashingExecutor.call(() -> HASH));
+
+        HashingStatisticsDTO statistics = hashingExecutor.getStatistics();
+        assertEquals(1, statistics.getPoolSize());
+        assertEquals(0, statistics.getRejectedCount());
+    }
+
+    @Test
+    void givenBusyThreadAndFullQueue_whenCall_thenHashingRejectedException() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hashingExecutor.call(() -> {
+            started.countDown();
+            await(release);
+            return HASH;
+        }));
+        assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hashingExecutor.call(() -> HASH));
+
+        while (hashingExecutor.getStatistics().getQueueSize() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(HashingRejectedException.class, () -> hashingExecutor.call(() -> HASH));
+        release.countDown();
+        assertEquals(HASH, running.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(HASH, queued.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, hashingExecutor.getStatistics().getRejectedCount());
+    }
+
+    @Test
+    void givenFailingTask_whenCall_thenCauseRethrown() {
+        IllegalArgumentException exception = new IllegalArgumentException(HASH);
+
+        assertSame(exception, assertThrows(IllegalArgumentException.class,
+            () -> hashingExecutor.call(() -> {
+                throw exception;
+            })));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ua.foxminded.university.service;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import ua.foxminded.university.dto.cache.CacheRegionStatisticsDTO;
+import ua.foxminded.university.service.interfaces.CacheStatisticsService;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import(CacheStatisticsServiceImpl.class)
+class CacheStatisticsServiceTest {
+
+    private static final int INVOCATION_NUMBER = 1;
+    private static final String GROUPS_REGION = "groups";
+    private static final String FACULTIES_REGION = "faculties";
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @MockBean
+    private EntityManagerFactory entityManagerFactory;
+
+    private final SessionFactory sessionFactory = mock(SessionFactory.class);
+    private final Statistics statistics = mock(Statistics.class);
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+    }
+
+    @Test
+    void whenFindRegionStatistics_thenStatisticsSortedByRegion() {
+        CacheRegionStatistics groups = mockRegion(3, 1, 1);
+        CacheRegionStatistics faculties = mockRegion(0, 0, 0);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{GROUPS_REGION, FACULTIES_REGION});
+        when(statistics.getCacheRegionStatistics(GROUPS_REGION)).thenReturn(groups);
+        when(statistics.getCacheRegionStatistics(FACULTIES_REGION)).thenReturn(faculties);
+        List<CacheRegionStatisticsDTO> expected = List.of(
+            new CacheRegionStatisticsDTO(FACULTIES_REGION, 0, 0, 0, 0),
+            new CacheRegionStatisticsDTO(GROUPS_REGION, 3, 1, 1, 0.75));
+
+        List<CacheRegionStatisticsDTO> actual = cacheStatisticsService.findRegionStatistics();
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void whenClear_thenRegionsEvictedAndStatisticsCleared() {
+        Cache cache = mock(Cache.class);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        cacheStatisticsService.clear();
+
+        verify(cache, times(INVOCATION_NUMBER)).evictAllRegions();
+        verify(statistics, times(INVOCATION_NUMBER)).clear();
+    }
+
+    private CacheRegionStatistics mockRegion(long hits, long misses, long puts) {
+        CacheRegionStatistics region = mock(CacheRegionStatistics.class);
+        when(region.getHitCount()).thenReturn(hits);
+        when(region.getMissCount()).thenReturn(misses);
+        when(region.getPutCount()).thenReturn(puts);
+        return region;
+    }
+}
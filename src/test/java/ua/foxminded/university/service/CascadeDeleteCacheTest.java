@@ -0,0 +1,87 @@
+package ua.foxminded.university.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ua.foxminded.university.repository.DepartmentRepository;
+import ua.foxminded.university.repository.GroupRepository;
+import ua.foxminded.university.service.interfaces.DepartmentService;
+import ua.foxminded.university.service.interfaces.FacultyService;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.url=jdbc:h2:mem:cascade;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=GROUPS,VALUE,DATE",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:1.schema.sql"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({FacultyServiceImpl.class, DepartmentServiceImpl.class})
+class CascadeDeleteCacheTest {
+
+    private static final int ID = 1;
+    private static final String DEPARTMENT_NAME = "Mathematics";
+
+    @Autowired
+    private FacultyService facultyService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM groups");
+        jdbcTemplate.update("DELETE FROM departments");
+        jdbcTemplate.update("DELETE FROM faculties");
+        jdbcTemplate.update("INSERT INTO faculties (faculty_id, faculty_name) VALUES (1, 'Science')");
+        jdbcTemplate.update("INSERT INTO departments (department_id, department_name, faculty_id) VALUES (1, ?, 1)",
+            DEPARTMENT_NAME);
+        jdbcTemplate.update("INSERT INTO groups (group_id, group_name, department_id) VALUES (1, 'MA-01', 1)");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void givenCachedGroup_whenDeleteFaculty_thenGroupLoadedWithoutFaculty() {
+        assertEquals(ID, groupRepository.findById(ID).orElseThrow().getDepartment().getFaculty().getId());
+        assertNotNull(departmentRepository.findByName(DEPARTMENT_NAME).orElseThrow().getFaculty());
+
+        facultyService.delete(ID);
+
+        assertNull(groupRepository.findById(ID).orElseThrow().getDepartment().getFaculty());
+        assertNull(departmentRepository.findByName(DEPARTMENT_NAME).orElseThrow().getFaculty());
+    }
+
+    @Test
+    void givenCachedGroup_whenDeleteDepartment_thenGroupLoadedWithoutDepartment() {
+        assertNotNull(groupRepository.findById(ID).orElseThrow().getDepartment());
+
+        departmentService.delete(ID);
+
+        assertNull(groupRepository.findById(ID).orElseThrow().getDepartment());
+    }
+}
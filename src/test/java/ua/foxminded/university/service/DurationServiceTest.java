@@ -52,6 +52,8 @@ class DurationServiceTest {
         durationService.update(ACTUAL_ID, EXPECTED_DURATION);
 
         verify(durationRepository, times(INVOCATION_NUMBER)).save(EXPECTED_DURATION);
+        verify(durationRepository, times(INVOCATION_NUMBER)).updateLectureStartTimes(ACTUAL_ID,
+            EXPECTED_DURATION.getStartTime());
     }
 
     @Test
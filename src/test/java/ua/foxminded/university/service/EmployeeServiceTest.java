@@ -8,6 +8,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import ua.foxminded.university.domain.Employee;
+import ua.foxminded.university.dto.person.PersonCredentials;
 import ua.foxminded.university.repository.AddressRepository;
 import ua.foxminded.university.repository.EmployeeRepository;
 import ua.foxminded.university.repository.PersonRepository;
@@ -24,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 import static ua.foxminded.university.data.EntityData.*;
+import static ua.foxminded.university.domain.Role.ROLE_EMPLOYEE;
 
 @ExtendWith(SpringExtension.class)
 @Import(EmployeeServiceImpl.class)
@@ -32,6 +34,10 @@ class EmployeeServiceTest {
     private static final int ACTUAL_ID = 5;
     private static final int INVOCATION_NUMBER = 1;
     private static final String MESSAGE = "ERROR";
+    private static final String NEW_PASSWORD = "password";
+    private static final String HASH = "$2a$10$hash";
+    private static final PersonCredentials STORED_CREDENTIALS =
+        new PersonCredentials(ACTUAL_ID, "person@mail.com", HASH, ROLE_EMPLOYEE);
     private static final Employee EXPECTED_EMPLOYEE = setExpectedEmployees().get(0);
 
     @Autowired
@@ -52,14 +58,14 @@ class EmployeeServiceTest {
     @Test
     void givenEmployee_whenAddEmployee_thenEmployee() {
         when(employeeRepository.save(any(Employee.class))).thenReturn(EXPECTED_EMPLOYEE);
-        when(personRepository.findAll()).thenReturn(new ArrayList<>());
+        when(personRepository.existsSamePerson(any(), any(), any(), any(), any(), anyInt())).thenReturn(false);
         when(passwordEncoder.encode(EXPECTED_EMPLOYEE.getPassword())).thenReturn(EXPECTED_EMPLOYEE.getPassword());
         EXPECTED_EMPLOYEE.setId(0);
 
         employeeService.add(EXPECTED_EMPLOYEE);
 
         verify(employeeRepository, times(INVOCATION_NUMBER)).save(EXPECTED_EMPLOYEE);
-        verify(personRepository, times(INVOCATION_NUMBER)).findAll();
+        verify(personRepository, times(INVOCATION_NUMBER)).existsSamePerson(any(), any(), any(), any(), any(), anyInt());
         verify(passwordEncoder, times(INVOCATION_NUMBER)).encode(EXPECTED_EMPLOYEE.getPassword());
     }
 
@@ -68,16 +74,32 @@ class EmployeeServiceTest {
         when(addressRepository.findByPersonId(ACTUAL_ID)).thenReturn(setExpectedAddresses().get(0));
         when(employeeRepository.save(any(Employee.class))).thenReturn(EXPECTED_EMPLOYEE);
         when(employeeRepository.existsById(ACTUAL_ID)).thenReturn(true);
-        when(personRepository.findById(ACTUAL_ID)).thenReturn(Optional.ofNullable(EXPECTED_EMPLOYEE));
-        when(personRepository.findAll()).thenReturn(new ArrayList<>());
-        when(passwordEncoder.encode(EXPECTED_EMPLOYEE.getPassword())).thenReturn(EXPECTED_EMPLOYEE.getPassword());
+        when(personRepository.existsSamePerson(any(), any(), any(), any(), any(), anyInt())).thenReturn(false);
+        EXPECTED_EMPLOYEE.setPassword(NEW_PASSWORD);
+        when(personRepository.findCredentialsById(ACTUAL_ID)).thenReturn(STORED_CREDENTIALS);
+        when(passwordEncoder.encode(NEW_PASSWORD)).thenReturn(HASH);
 
         employeeService.update(ACTUAL_ID, EXPECTED_EMPLOYEE);
 
         verify(addressRepository, times(INVOCATION_NUMBER)).findByPersonId(ACTUAL_ID);
         verify(employeeRepository, times(INVOCATION_NUMBER)).save(any(Employee.class));
         verify(employeeRepository, times(INVOCATION_NUMBER)).existsById(ACTUAL_ID);
-        verify(passwordEncoder, times(INVOCATION_NUMBER)).encode(EXPECTED_EMPLOYEE.getPassword());
+        verify(passwordEncoder, times(INVOCATION_NUMBER)).encode(NEW_PASSWORD);
+        assertEquals(HASH, EXPECTED_EMPLOYEE.getPassword());
+    }
+
+    @Test
+    void givenEmptyPassword_whenUpdateEmployee_thenStoredHashKept() {
+        Employee employee = setExpectedEmployees().get(0);
+        employee.setPassword("");
+        when(addressRepository.findByPersonId(ACTUAL_ID)).thenReturn(setExpectedAddresses().get(0));
+        when(employeeRepository.existsById(ACTUAL_ID)).thenReturn(true);
+        when(personRepository.findCredentialsById(ACTUAL_ID)).thenReturn(STORED_CREDENTIALS);
+
+        employeeService.update(ACTUAL_ID, employee);
+
+        assertEquals(HASH, employee.getPassword());
+        verify(passwordEncoder, never()).encode(any());
     }
 
     @Test
@@ -133,7 +155,7 @@ class EmployeeServiceTest {
     @Test
     void givenEmployee_whenAddEmployee_thenEntityExistsException() {
         EXPECTED_EMPLOYEE.setId(0);
-        when(personRepository.findAll()).thenReturn(Collections.singletonList(EXPECTED_EMPLOYEE));
+        when(personRepository.existsSamePerson(any(), any(), any(), any(), any(), anyInt())).thenReturn(true);
 
         assertThrows(EntityExistsException.class, () -> employeeService.add(EXPECTED_EMPLOYEE));
     }
@@ -142,9 +164,7 @@ class EmployeeServiceTest {
     @Test
     void givenEmployee_whenUpdateEmployee_thenEntityExistsException() {
         when(employeeRepository.existsById(ACTUAL_ID)).thenReturn(true);
-        when(personRepository.findById(ACTUAL_ID))
-            .thenReturn(Optional.ofNullable(setExpectedEmployees().get(1)));
-        when(personRepository.findAll()).thenReturn(Collections.singletonList(EXPECTED_EMPLOYEE));
+        when(personRepository.existsSamePerson(any(), any(), any(), any(), any(), anyInt())).thenReturn(true);
 
         assertThrows(EntityExistsException.class, () -> employeeService.update(ACTUAL_ID, EXPECTED_EMPLOYEE));
     }
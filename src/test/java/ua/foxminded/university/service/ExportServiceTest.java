@@ -0,0 +1,96 @@
+package ua.foxminded.university.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import ua.foxminded.university.domain.Mark;
+import ua.foxminded.university.domain.Student;
+import ua.foxminded.university.dto.lecture.LectureRow;
+import ua.foxminded.university.repository.LectureRepository;
+import ua.foxminded.university.repository.MarkRepository;
+import ua.foxminded.university.repository.StudentRepository;
+import ua.foxminded.university.service.interfaces.ExportService;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+import static ua.foxminded.university.data.EntityData.*;
+
+@ExtendWith(SpringExtension.class)
+@Import(ExportServiceImpl.class)
+class ExportServiceTest {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int ROWS_NUMBER = 1200;
+    private static final int CLEARS_NUMBER = 2;
+    private static final List<Integer> EXPECTED_CHUNK_SIZES = List.of(500, 500, 200);
+
+    @Autowired
+    private ExportService exportService;
+
+    @MockBean
+    private StudentRepository studentRepository;
+
+    @MockBean
+    private MarkRepository markRepository;
+
+    @MockBean
+    private LectureRepository lectureRepository;
+
+    @MockBean
+    private EntityManager entityManager;
+
+    @Test
+    void whenForEachStudent_thenEveryStudentVisitedAndContextCleared() {
+        List<Student> expected = Collections.nCopies(ROWS_NUMBER, setExpectedStudents().get(0));
+        when(studentRepository.streamAll()).thenReturn(expected.stream());
+        List<Student> actual = new ArrayList<>();
+
+        exportService.forEachStudent(actual::add);
+
+        assertEquals(expected, actual);
+        verify(entityManager, times(CLEARS_NUMBER)).clear();
+    }
+
+    @Test
+    void whenForEachMark_thenEveryMarkVisited() {
+        List<Mark> expected = setExpectedMarks();
+        when(markRepository.streamAll()).thenReturn(expected.stream());
+        List<Mark> actual = new ArrayList<>();
+
+        exportService.forEachMark(actual::add);
+
+        assertEquals(expected, actual);
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void whenForEachLectureChunk_thenRowsSplitIntoChunks() {
+        LectureRow row = setExpectedLectureRows().get(0);
+        when(lectureRepository.streamRows()).thenReturn(IntStream.range(0, ROWS_NUMBER).mapToObj(i -> row));
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        exportService.forEachLectureChunk(chunk -> chunkSizes.add(chunk.size()));
+
+        assertEquals(EXPECTED_CHUNK_SIZES, chunkSizes);
+    }
+
+    @Test
+    void givenNoLectures_whenForEachLectureChunk_thenNoChunks() {
+        when(lectureRepository.streamRows()).thenReturn(Stream.empty());
+        List<List<LectureRow>> chunks = new ArrayList<>();
+
+        exportService.forEachLectureChunk(chunks::add);
+
+        assertEquals(List.of(), chunks);
+    }
+}
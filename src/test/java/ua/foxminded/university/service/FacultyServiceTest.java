@@ -5,10 +5,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import ua.foxminded.university.domain.Department;
 import ua.foxminded.university.domain.Faculty;
 import ua.foxminded.university.repository.FacultyRepository;
 import ua.foxminded.university.service.interfaces.FacultyService;
+import ua.foxminded.university.util.events.EntityChangedEvent;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
 import java.util.ArrayList;
@@ -22,6 +26,7 @@ import static ua.foxminded.university.data.EntityData.setExpectedFaculties;
 
 @ExtendWith(SpringExtension.class)
 @Import(FacultyServiceImpl.class)
+@RecordApplicationEvents
 class FacultyServiceTest {
 
     private static final int ACTUAL_ID = 1;
@@ -32,6 +37,9 @@ class FacultyServiceTest {
     @Autowired
     private FacultyService facultyService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockBean
     private FacultyRepository facultyRepository;
 
@@ -91,6 +99,18 @@ class FacultyServiceTest {
         assertThrows(EntityNotFoundException.class, () -> facultyService.update(ACTUAL_ID, EXPECTED_FACULTY));
     }
 
+    @Test
+    void givenFacultyId_whenDeleteFaculty_thenFacultyDeletedAndDepartmentsChanged() {
+        when(facultyRepository.existsById(ACTUAL_ID)).thenReturn(true);
+
+        facultyService.delete(ACTUAL_ID);
+
+        List<EntityChangedEvent> expected = List.of(
+            EntityChangedEvent.deleted(Faculty.class, ACTUAL_ID), new EntityChangedEvent(Department.class));
+        assertEquals(expected, applicationEvents.stream(EntityChangedEvent.class).toList());
+        verify(facultyRepository, times(INVOCATION_NUMBER)).deleteById(ACTUAL_ID);
+    }
+
     @Test
     void givenFaculty_whenDeleteFaculty_thenEntityNotFoundException() {
         when(facultyRepository.existsById(ACTUAL_ID)).thenReturn(false);
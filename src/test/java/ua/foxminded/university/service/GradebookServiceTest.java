@@ -0,0 +1,93 @@
+package ua.foxminded.university.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.dto.mark.GradebookCell;
+import ua.foxminded.university.dto.mark.GradebookHeader;
+import ua.foxminded.university.repository.GroupRepository;
+import ua.foxminded.university.repository.MarkRepository;
+import ua.foxminded.university.repository.StudentRepository;
+import ua.foxminded.university.repository.SubjectRepository;
+import ua.foxminded.university.service.interfaces.GradebookService;
+import ua.foxminded.university.util.analytics.Gradebook;
+import ua.foxminded.university.util.exceptions.EntityNotFoundException;
+import ua.foxminded.university.util.exceptions.GradebookTooLargeException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static ua.foxminded.university.dto.mark.GradebookScope.DEPARTMENT;
+import static ua.foxminded.university.dto.mark.GradebookScope.GROUP;
+
+@ExtendWith(SpringExtension.class)
+@Import(GradebookServiceImpl.class)
+class GradebookServiceTest {
+
+    private static final int ID = 1;
+    private static final List<Integer> GROUP_IDS = List.of(1, 2);
+    private static final String NOT_FOUND_MESSAGE = "Not found";
+
+    @Autowired
+    private GradebookService gradebookService;
+
+    @MockBean
+    private GroupRepository groupRepository;
+
+    @MockBean
+    private StudentRepository studentRepository;
+
+    @MockBean
+    private SubjectRepository subjectRepository;
+
+    @MockBean
+    private MarkRepository markRepository;
+
+    @Test
+    void givenDepartmentId_whenFind_thenCellsOfAllGroupsFilled() {
+        when(groupRepository.findIdsByDepartmentId(ID)).thenReturn(GROUP_IDS);
+        when(studentRepository.findGradebookHeaders(GROUP_IDS))
+            .thenReturn(List.of(new GradebookHeader(1, "Doe John"), new GradebookHeader(2, "Roe Jane")));
+        when(subjectRepository.findGradebookHeaders(GROUP_IDS)).thenReturn(List.of(new GradebookHeader(5, "Math")));
+        when(markRepository.streamGradebookCells(GROUP_IDS)).thenReturn(Stream.of(
+            new GradebookCell(1, 5, MarkValue.A),
+            new GradebookCell(2, 5, MarkValue.D)));
+
+        Gradebook gradebook = gradebookService.find(DEPARTMENT, ID);
+
+        assertEquals(2, gradebook.rows());
+        assertEquals(MarkValue.A, gradebook.get(0, 0));
+        assertEquals(MarkValue.D, gradebook.get(1, 0));
+    }
+
+    @Test
+    void givenUnknownGroupId_whenFind_thenEntityNotFoundException() {
+        when(groupRepository.existsById(ID)).thenReturn(false);
+
+        EntityNotFoundException exception =
+            assertThrows(EntityNotFoundException.class, () -> gradebookService.find(GROUP, ID));
+
+        assertEquals(NOT_FOUND_MESSAGE, exception.getMessage());
+        verify(markRepository, never()).streamGradebookCells(any());
+    }
+
+    @Test
+    void givenTooManyCells_whenFind_thenGradebookTooLargeException() {
+        List<GradebookHeader> students = Collections.nCopies(GradebookServiceImpl.MAX_CELLS / 2 + 1,
+            new GradebookHeader(1, "Doe John"));
+        when(groupRepository.existsById(ID)).thenReturn(true);
+        when(studentRepository.findGradebookHeaders(List.of(ID))).thenReturn(students);
+        when(subjectRepository.findGradebookHeaders(List.of(ID)))
+            .thenReturn(List.of(new GradebookHeader(1, "Math"), new GradebookHeader(2, "Art")));
+
+        assertThrows(GradebookTooLargeException.class, () -> gradebookService.find(GROUP, ID));
+        verify(markRepository, never()).streamGradebookCells(any());
+    }
+}
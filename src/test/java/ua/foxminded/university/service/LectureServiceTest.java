@@ -2,24 +2,46 @@ package ua.foxminded.university.service;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.invocation.InvocationOnMock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import ua.foxminded.university.domain.Duration;
 import ua.foxminded.university.domain.Lecture;
+import ua.foxminded.university.dto.lecture.LectureGroupRow;
+import ua.foxminded.university.dto.lecture.LectureKey;
+import ua.foxminded.university.dto.lecture.LectureRow;
 import ua.foxminded.university.repository.LectureRepository;
 import ua.foxminded.university.service.interfaces.LectureService;
+import ua.foxminded.university.service.interfaces.TimetableService;
 import ua.foxminded.university.util.exceptions.EntityExistsException;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
+import ua.foxminded.university.util.exceptions.TimetableConflictException;
+import ua.foxminded.university.util.pagination.LectureCursor;
+import ua.foxminded.university.util.pagination.LecturePageRequest;
+import ua.foxminded.university.util.timetable.Booking;
+import ua.foxminded.university.util.timetable.Conflict;
+import ua.foxminded.university.util.timetable.LectureBulkResult;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
+import static ua.foxminded.university.util.timetable.LectureBulkStatus.*;
+import static ua.foxminded.university.data.EntityData.setExpectedLectureRows;
 import static ua.foxminded.university.data.EntityData.setExpectedLectures;
 
 @ExtendWith(SpringExtension.class)
@@ -29,6 +51,10 @@ class LectureServiceTest {
     private static final int ACTUAL_ID = 1;
     private static final int INVOCATION_NUMBER = 1;
     private static final String MESSAGE = "ERROR";
+    private static final int PAGE_SIZE = 2;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int IDS_NUMBER = 2500;
+    private static final int CHUNKS_NUMBER = 3;
     private static final Lecture EXPECTED_LECTURE = setExpectedLectures().get(0);
 
     @Autowired
@@ -37,6 +63,9 @@ class LectureServiceTest {
     @MockBean
     private LectureRepository lectureRepository;
 
+    @MockBean
+    private TimetableService timetableService;
+
     @Test
     void givenLecture_whenAddLecture_thenLecture() {
         when(lectureRepository.existsSameLecture(any(LocalDate.class), anyInt(), anyInt(), anyInt(), anyInt()))
@@ -51,6 +80,96 @@ class LectureServiceTest {
         verify(lectureRepository, times(INVOCATION_NUMBER)).save(any(Lecture.class));
     }
 
+    @Test
+    void givenDurationReference_whenAddLecture_thenLectureSavedWithLoadedDuration() {
+        Lecture lecture = setExpectedLectures().get(0);
+        lecture.setId(0);
+        Duration duration = Duration.builder().id(lecture.getDuration().getId()).startTime("09:00").build();
+        lecture.setDuration(Duration.builder().id(duration.getId()).build());
+        when(lectureRepository.findDurations(List.of(duration.getId()))).thenReturn(List.of(duration));
+
+        lectureService.add(lecture);
+
+        assertSame(duration, lecture.getDuration());
+        verify(lectureRepository, times(INVOCATION_NUMBER)).save(lecture);
+    }
+
+    @Test
+    void givenLecture_whenAddLecture_thenTimetableConflictException() {
+        Conflict conflict = new Conflict(Conflict.Resource.ROOM, ACTUAL_ID, Booking.of(setExpectedLectures().get(1)));
+        when(lectureRepository.existsSameLecture(any(LocalDate.class), anyInt(), anyInt(), anyInt(), anyInt()))
+            .thenReturn(false);
+        when(timetableService.book(any(Lecture.class))).thenReturn(List.of(conflict));
+        EXPECTED_LECTURE.setId(0);
+
+        TimetableConflictException exception =
+            assertThrows(TimetableConflictException.class, () -> lectureService.add(EXPECTED_LECTURE));
+
+        assertEquals(conflict.getMessage(), exception.getMessage());
+        verify(lectureRepository, never()).save(any(Lecture.class));
+    }
+
+    @Test
+    void givenNewAndExistingLectures_whenAddAll_thenOnlyNewLecturesSaved() {
+        List<Lecture> lectures = setExpectedLectures();
+        List<Lecture> newLectures = lectures.subList(1, lectures.size());
+        givenReferencesExist();
+        when(lectureRepository.findKeysByDateIn(anyCollection())).thenReturn(List.of(LectureKey.of(lectures.get(0))));
+        when(lectureRepository.saveAll(newLectures)).thenReturn(newLectures);
+
+        List<LectureBulkResult> actual = lectureService.addAll(lectures);
+
+        assertEquals(EXISTS, actual.get(0).status());
+        assertEquals(CREATED, actual.get(1).status());
+        assertSame(newLectures.get(0), actual.get(1).lecture());
+        verify(lectureRepository, times(INVOCATION_NUMBER)).findKeysByDateIn(anyCollection());
+        verify(lectureRepository, times(INVOCATION_NUMBER)).saveAll(newLectures);
+    }
+
+    @Test
+    void givenSameLectureTwice_whenAddAll_thenSavedOnce() {
+        List<Lecture> lectures = List.of(setExpectedLectures().get(0), setExpectedLectures().get(0));
+        givenReferencesExist();
+        when(lectureRepository.findKeysByDateIn(anyCollection())).thenReturn(new ArrayList<>());
+
+        lectureService.addAll(lectures);
+
+        verify(lectureRepository, times(INVOCATION_NUMBER)).saveAll(List.of(lectures.get(0)));
+    }
+
+    @Test
+    void givenConflictingLecture_whenAddAll_thenConflictReportedAndNotSaved() {
+        List<Lecture> lectures = setExpectedLectures();
+        Conflict conflict = new Conflict(Conflict.Resource.TEACHER, ACTUAL_ID, Booking.of(lectures.get(0)));
+        givenReferencesExist();
+        when(lectureRepository.findKeysByDateIn(anyCollection())).thenReturn(new ArrayList<>());
+        when(timetableService.book(any(Lecture.class))).thenReturn(List.of(), List.of(conflict));
+
+        List<LectureBulkResult> actual = lectureService.addAll(lectures);
+
+        assertEquals(CONFLICT, actual.get(1).status());
+        assertEquals(List.of(conflict), actual.get(1).conflicts());
+        verify(lectureRepository, times(INVOCATION_NUMBER)).saveAll(List.of(lectures.get(0)));
+    }
+
+    @Test
+    void givenLectureWithMissingTeacher_whenAddAll_thenInvalidReportedAndRestSaved() {
+        List<Lecture> lectures = setExpectedLectures();
+        givenReferencesExist();
+        when(lectureRepository.findExistingTeacherIds(anyCollection())).thenReturn(Set.of(1));
+        when(lectureRepository.findKeysByDateIn(anyCollection())).thenReturn(new ArrayList<>());
+        when(lectureRepository.saveAll(List.of(lectures.get(0)))).thenReturn(List.of(lectures.get(0)));
+
+        List<LectureBulkResult> actual = lectureService.addAll(lectures);
+
+        assertEquals(CREATED, actual.get(0).status());
+        assertSame(lectures.get(0), actual.get(0).lecture());
+        assertEquals(INVALID, actual.get(1).status());
+        assertEquals(List.of("teacher: Teacher not found (id=2)"), actual.get(1).errors());
+        verify(timetableService, times(INVOCATION_NUMBER)).book(any(Lecture.class));
+        verify(lectureRepository, times(INVOCATION_NUMBER)).saveAll(List.of(lectures.get(0)));
+    }
+
     @Test
     void givenLecture_whenUpdateLecture_thenUpdatedLecture() {
         when(lectureRepository.existsById(ACTUAL_ID)).thenReturn(true);
@@ -75,6 +194,7 @@ class LectureServiceTest {
         lectureService.delete(ACTUAL_ID);
 
         verify(lectureRepository, times(INVOCATION_NUMBER)).existsById(ACTUAL_ID);
+        verify(timetableService, times(INVOCATION_NUMBER)).release(ACTUAL_ID);
         verify(lectureRepository, times(INVOCATION_NUMBER)).deleteById(ACTUAL_ID);
     }
 
@@ -148,6 +268,98 @@ class LectureServiceTest {
         verify(lectureRepository, times(INVOCATION_NUMBER)).findByDurationId(ACTUAL_ID);
     }
 
+    @Test
+    void whenFindLectureRows_thenListOfLectureRows() {
+        when(lectureRepository.findRows()).thenReturn(setExpectedLectureRows());
+
+        List<LectureRow> actualRows = lectureService.findRows();
+
+        assertEquals(setExpectedLectureRows(), actualRows);
+        verify(lectureRepository, times(INVOCATION_NUMBER)).findRows();
+    }
+
+    @Test
+    void givenGroupId_whenFindLectureRowsByGroup_thenListOfLectureRows() {
+        when(lectureRepository.findRowsByGroupId(ACTUAL_ID)).thenReturn(setExpectedLectureRows());
+
+        List<LectureRow> actualRows = lectureService.findRowsByGroup(ACTUAL_ID);
+
+        assertEquals(setExpectedLectureRows(), actualRows);
+        verify(lectureRepository, times(INVOCATION_NUMBER)).findRowsByGroupId(ACTUAL_ID);
+    }
+
+    @Test
+    void givenTeacherId_whenFindLectureRowsByTeacher_thenEntityNotFoundException() {
+        when(lectureRepository.findRowsByTeacherId(ACTUAL_ID)).thenReturn(new ArrayList<>());
+
+        assertThrows(EntityNotFoundException.class, () -> lectureService.findRowsByTeacher(ACTUAL_ID));
+    }
+
+    @Test
+    void givenLectureIds_whenFindGroupRows_thenGroupRowsOfEveryChunk() {
+        List<Integer> ids = IntStream.rangeClosed(1, IDS_NUMBER).boxed().toList();
+        when(lectureRepository.findGroupRows(anyCollection()))
+            .thenReturn(List.of(new LectureGroupRow(ACTUAL_ID, ACTUAL_ID, "Org_ch-1", "Organic Chemistry")));
+
+        List<LectureGroupRow> actualRows = lectureService.findGroupRows(ids);
+
+        assertEquals(CHUNKS_NUMBER, actualRows.size());
+        verify(lectureRepository, times(CHUNKS_NUMBER)).findGroupRows(anyCollection());
+    }
+
+    @Test
+    void givenCursor_whenFindLecturesPage_thenSliceOfLectures() {
+        LectureCursor cursor = new LectureCursor(LocalDate.of(2021, 9, 1), "09:00", 1, ACTUAL_ID);
+        Slice<LectureRow> expectedPage = new SliceImpl<>(setExpectedLectureRows(), PageRequest.ofSize(PAGE_SIZE), true);
+        when(lectureRepository.findPageAfter(eq(cursor.date()), eq(cursor.startTime()), eq(cursor.durationId()),
+            eq(cursor.id()), any(LocalDate.class), any(LocalDate.class), eq(0), eq(0), eq(0), eq(PageRequest.ofSize(PAGE_SIZE))))
+            .thenReturn(expectedPage);
+
+        Slice<LectureRow> actualPage = lectureService.findPage(LecturePageRequest.builder()
+            .cursor(cursor)
+            .size(PAGE_SIZE)
+            .build());
+
+        assertEquals(expectedPage, actualPage);
+        verify(lectureRepository, times(INVOCATION_NUMBER)).findPageAfter(any(LocalDate.class), anyString(),
+            anyInt(), anyInt(), any(LocalDate.class), any(LocalDate.class), anyInt(), anyInt(), anyInt(), any(Pageable.class));
+    }
+
+    @Test
+    void givenNoCursor_whenFindLecturesPage_thenPageStartsFromWindow() {
+        LocalDate from = LocalDate.of(2021, 9, 1);
+        when(lectureRepository.findPageAfter(any(LocalDate.class), anyString(), anyInt(), anyInt(), any(LocalDate.class),
+            any(LocalDate.class), anyInt(), anyInt(), anyInt(), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(new ArrayList<>()));
+
+        lectureService.findPage(LecturePageRequest.builder()
+            .from(from)
+            .size(MAX_PAGE_SIZE + 1)
+            .build());
+
+        verify(lectureRepository, times(INVOCATION_NUMBER)).findPageAfter(eq(from), eq(""), eq(0), eq(0), eq(from),
+            any(LocalDate.class), eq(0), eq(0), eq(0), eq(PageRequest.ofSize(MAX_PAGE_SIZE)));
+    }
+
+    @Test
+    void givenCursor_whenEncodeAndDecode_thenSameCursor() {
+        LectureCursor cursor = new LectureCursor(LocalDate.of(2021, 9, 1), "09:00", 1, ACTUAL_ID);
+
+        assertEquals(cursor, LectureCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void givenCursorWithoutDuration_whenEncodeAndDecode_thenSameCursor() {
+        LectureCursor cursor = new LectureCursor(LocalDate.of(2021, 9, 1), "", LectureCursor.NO_DURATION, ACTUAL_ID);
+
+        assertEquals(cursor, LectureCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void givenInvalidCursor_whenDecode_thenIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> LectureCursor.decode(MESSAGE));
+    }
+
     @Test
     void givenLecture_whenAddLecture_thenEntityExistsException() {
         EXPECTED_LECTURE.setId(0);
@@ -230,4 +442,16 @@ class LectureServiceTest {
 
         assertThrows(EntityNotFoundException.class, () -> lectureService.findByDuration(ACTUAL_ID));
     }
+
+    private void givenReferencesExist() {
+        when(lectureRepository.findExistingSubjectIds(anyCollection())).thenAnswer(LectureServiceTest::allIds);
+        when(lectureRepository.findExistingTeacherIds(anyCollection())).thenAnswer(LectureServiceTest::allIds);
+        when(lectureRepository.findExistingRoomIds(anyCollection())).thenAnswer(LectureServiceTest::allIds);
+        when(lectureRepository.findExistingDurationIds(anyCollection())).thenAnswer(LectureServiceTest::allIds);
+        when(lectureRepository.findExistingGroupIds(anyCollection())).thenAnswer(LectureServiceTest::allIds);
+    }
+
+    private static Set<Integer> allIds(InvocationOnMock invocation) {
+        return Set.copyOf(invocation.<Collection<Integer>>getArgument(0));
+    }
 }
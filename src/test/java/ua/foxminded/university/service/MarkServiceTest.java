@@ -10,6 +10,7 @@ import ua.foxminded.university.domain.Mark;
 import ua.foxminded.university.domain.MarkValue;
 import ua.foxminded.university.repository.MarkRepository;
 import ua.foxminded.university.service.interfaces.MarkService;
+import ua.foxminded.university.service.interfaces.MarkStatisticsService;
 import ua.foxminded.university.util.exceptions.EntityExistsException;
 import ua.foxminded.university.util.exceptions.EntityNotFoundException;
 
@@ -37,6 +38,9 @@ class MarkServiceTest {
     @MockBean
     private MarkRepository markRepository;
 
+    @MockBean
+    private MarkStatisticsService markStatisticsService;
+
     @Test
     void givenMark_whenAddMark_thenMark() {
         when(markRepository.existsSameMark(any(MarkValue.class), anyInt(), anyInt()))
@@ -47,6 +51,7 @@ class MarkServiceTest {
         markService.add(EXPECTED_MARK);
 
         verify(markRepository, times(INVOCATION_NUMBER)).save(EXPECTED_MARK);
+        verify(markStatisticsService, times(INVOCATION_NUMBER)).record(EXPECTED_MARK);
         verify(markRepository, times(INVOCATION_NUMBER))
             .existsSameMark(any(MarkValue.class), anyInt(), anyInt());
     }
@@ -74,6 +79,7 @@ class MarkServiceTest {
         markService.delete(ACTUAL_ID);
 
         verify(markRepository, times(INVOCATION_NUMBER)).deleteById(ACTUAL_ID);
+        verify(markStatisticsService, times(INVOCATION_NUMBER)).remove(ACTUAL_ID);
     }
 
     @Test
@@ -0,0 +1,152 @@
+package ua.foxminded.university.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.foxminded.university.domain.Mark;
+import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.domain.Student;
+import ua.foxminded.university.domain.Subject;
+import ua.foxminded.university.dto.mark.MarkDimension;
+import ua.foxminded.university.dto.mark.MarkFact;
+import ua.foxminded.university.dto.mark.MarkStatisticsDTO;
+import ua.foxminded.university.repository.AddressRepository;
+import ua.foxminded.university.repository.MarkRepository;
+import ua.foxminded.university.repository.PersonRepository;
+import ua.foxminded.university.repository.StudentRepository;
+import ua.foxminded.university.service.interfaces.MarkStatisticsService;
+import ua.foxminded.university.service.interfaces.StudentService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import({MarkStatisticsServiceImpl.class, StudentServiceImpl.class})
+class MarkStatisticsServiceTest {
+
+    private static final int INVOCATION_NUMBER = 1;
+    private static final int ID = 1;
+    private static final List<Integer> PERCENTILES = List.of(50);
+
+    @Autowired
+    private MarkStatisticsService markStatisticsService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @MockBean
+    private MarkRepository markRepository;
+
+    @MockBean
+    private StudentRepository studentRepository;
+
+    @MockBean
+    private PersonRepository personRepository;
+
+    @MockBean
+    private AddressRepository addressRepository;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        when(markRepository.streamFacts()).thenAnswer(invocation -> Stream.of(
+            new MarkFact(1, 1, 1, MarkValue.A),
+            new MarkFact(2, 2, 1, MarkValue.C),
+            new MarkFact(3, 1, 2, MarkValue.B),
+            new MarkFact(4, null, 2, MarkValue.E)));
+        markStatisticsService.reload();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void givenGroupId_whenFind_thenMarksOfGroupStudents() {
+        when(studentRepository.findIdsByGroupId(ID)).thenReturn(List.of(1));
+
+        MarkStatisticsDTO actual = markStatisticsService.find(MarkDimension.GROUP, ID, PERCENTILES);
+
+        assertEquals(2, actual.getCount());
+        assertEquals(4.5, actual.getAverage());
+        assertEquals(Map.of(50, MarkValue.B), actual.getPercentiles());
+        verify(studentRepository, times(INVOCATION_NUMBER)).findIdsByGroupId(ID);
+        verify(markRepository, times(INVOCATION_NUMBER)).streamFacts();
+    }
+
+    @Test
+    void givenSubjectWithoutMarks_whenFind_thenEmptyStatistics() {
+        MarkStatisticsDTO actual = markStatisticsService.find(MarkDimension.SUBJECT, 10, PERCENTILES);
+
+        assertEquals(0, actual.getCount());
+        assertNull(actual.getAverage());
+        assertTrue(actual.getPercentiles().isEmpty());
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    void givenCommittedMark_whenFind_thenMarkCounted() {
+        markStatisticsService.record(mark(5, MarkValue.E));
+
+        assertEquals(2, markStatisticsService.find(MarkDimension.SUBJECT, ID, PERCENTILES).getCount());
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(3, markStatisticsService.find(MarkDimension.SUBJECT, ID, PERCENTILES).getCount());
+    }
+
+    @Test
+    void givenRolledBackRemoval_whenFind_thenMarkKept() {
+        markStatisticsService.remove(1);
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(2, markStatisticsService.find(MarkDimension.SUBJECT, ID, PERCENTILES).getCount());
+    }
+
+    @Test
+    void givenDeletedStudent_whenFind_thenMarksKeptBySubjectOnly() {
+        when(studentRepository.existsById(ID)).thenReturn(true);
+        when(studentRepository.findIdsByGroupId(ID)).thenReturn(List.of(ID));
+
+        studentService.delete(ID);
+
+        assertEquals(2, markStatisticsService.find(MarkDimension.SUBJECT, ID, PERCENTILES).getCount());
+        assertEquals(0, markStatisticsService.find(MarkDimension.GROUP, ID, PERCENTILES).getCount());
+        verify(studentRepository, times(INVOCATION_NUMBER)).deleteById(ID);
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private Mark mark(int id, MarkValue value) {
+        return Mark.builder()
+            .id(id)
+            .value(value)
+            .student(Student.builder().id(3).build())
+            .subject(Subject.builder().id(ID).build())
+            .build();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import ua.foxminded.university.domain.Person;
+import ua.foxminded.university.dto.person.PersonCredentials;
 import ua.foxminded.university.repository.PersonRepository;
 
 import java.util.Optional;
@@ -26,6 +27,8 @@ class PersonDetailsServiceTest {
     private static final int INVOCATION_NUMBER = 1;
     private static final String MESSAGE = "User not found";
     private static final Person EXPECTED_PERSON = setExpectedStudents().get(0);
+    private static final PersonCredentials EXPECTED_CREDENTIALS = new PersonCredentials(EXPECTED_PERSON.getId(),
+        EXPECTED_PERSON.getEmail(), EXPECTED_PERSON.getPassword(), EXPECTED_PERSON.getRole());
 
     @Autowired
     private UserDetailsService personDetailsService;
@@ -35,19 +38,20 @@ class PersonDetailsServiceTest {
 
     @Test
     void givenUser() {
-        when(personRepository.findByEmail(EXPECTED_PERSON.getEmail()))
-            .thenReturn(Optional.of(EXPECTED_PERSON));
+        when(personRepository.findCredentialsByEmail(EXPECTED_PERSON.getEmail()))
+            .thenReturn(Optional.of(EXPECTED_CREDENTIALS));
 
         UserDetails actualPerson = personDetailsService.loadUserByUsername(EXPECTED_PERSON.getEmail());
 
         assertEquals(actualPerson.getUsername(), EXPECTED_PERSON.getEmail());
-        verify(personRepository, times(INVOCATION_NUMBER)).findByEmail(EXPECTED_PERSON.getEmail());
+        verify(personRepository, times(INVOCATION_NUMBER)).findCredentialsByEmail(EXPECTED_PERSON.getEmail());
+        verify(personRepository, never()).findByEmail(any());
     }
 
 
     @Test
     void givenStudent_whenAddStudent_thenEntityExistsException() {
-        when(personRepository.findByEmail(EXPECTED_PERSON.getEmail()))
+        when(personRepository.findCredentialsByEmail(EXPECTED_PERSON.getEmail()))
             .thenThrow(new UsernameNotFoundException(MESSAGE));
 
         assertThrows(UsernameNotFoundException.class, () -> personDetailsService
@@ -8,6 +8,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import ua.foxminded.university.domain.Student;
+import ua.foxminded.university.dto.person.PersonCredentials;
 import ua.foxminded.university.repository.AddressRepository;
 import ua.foxminded.university.repository.PersonRepository;
 import ua.foxminded.university.repository.StudentRepository;
@@ -24,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 import static ua.foxminded.university.data.EntityData.*;
+import static ua.foxminded.university.domain.Role.ROLE_STUDENT;
 
 @ExtendWith(SpringExtension.class)
 @Import(StudentServiceImpl.class)
@@ -32,6 +34,10 @@ class StudentServiceTest {
     private static final int ACTUAL_ID = 1;
     private static final int INVOCATION_NUMBER = 1;
     private static final String MESSAGE = "ERROR";
+    private static final String NEW_PASSWORD = "password";
+    private static final String HASH = "$2a$10$hash";
+    private static final PersonCredentials STORED_CREDENTIALS =
+        new PersonCredentials(ACTUAL_ID, "person@mail.com", HASH, ROLE_STUDENT);
     private static final Student EXPECTED_STUDENT = setExpectedStudents().get(0);
 
     @Autowired
@@ -51,7 +57,7 @@ class StudentServiceTest {
 
     @Test
     void givenStudent_whenAddStudent_thenStudent() {
-        when(personRepository.findAll()).thenReturn(new ArrayList<>());
+        when(personRepository.existsSamePerson(any(), any(), any(), any(), any(), anyInt())).thenReturn(false);
         when(passwordEncoder.encode(EXPECTED_STUDENT.getPassword())).thenReturn(EXPECTED_STUDENT.getPassword());
         when(studentRepository.save(any(Student.class))).thenReturn(EXPECTED_STUDENT);
         EXPECTED_STUDENT.setId(0);
@@ -59,7 +65,7 @@ class StudentServiceTest {
         studentService.add(EXPECTED_STUDENT);
 
         verify(studentRepository, times(INVOCATION_NUMBER)).save(EXPECTED_STUDENT);
-        verify(personRepository, times(INVOCATION_NUMBER)).findAll();
+        verify(personRepository, times(INVOCATION_NUMBER)).existsSamePerson(any(), any(), any(), any(), any(), anyInt());
         verify(passwordEncoder, times(INVOCATION_NUMBER)).encode(EXPECTED_STUDENT.getPassword());
     }
 
@@ -68,16 +74,32 @@ class StudentServiceTest {
         when(addressRepository.findByPersonId(ACTUAL_ID)).thenReturn(setExpectedAddresses().get(0));
         when(studentRepository.save(any(Student.class))).thenReturn(EXPECTED_STUDENT);
         when(studentRepository.existsById(ACTUAL_ID)).thenReturn(true);
-        when(personRepository.findById(ACTUAL_ID)).thenReturn(Optional.ofNullable(EXPECTED_STUDENT));
-        when(personRepository.findAll()).thenReturn(new ArrayList<>());
-        when(passwordEncoder.encode(EXPECTED_STUDENT.getPassword())).thenReturn(EXPECTED_STUDENT.getPassword());
+        when(personRepository.existsSamePerson(any(), any(), any(), any(), any(), anyInt())).thenReturn(false);
+        EXPECTED_STUDENT.setPassword(NEW_PASSWORD);
+        when(personRepository.findCredentialsById(ACTUAL_ID)).thenReturn(STORED_CREDENTIALS);
+        when(passwordEncoder.encode(NEW_PASSWORD)).thenReturn(HASH);
 
         studentService.update(ACTUAL_ID, EXPECTED_STUDENT);
 
         verify(addressRepository, times(INVOCATION_NUMBER)).findByPersonId(ACTUAL_ID);
         verify(studentRepository, times(INVOCATION_NUMBER)).save(any(Student.class));
         verify(studentRepository, times(INVOCATION_NUMBER)).existsById(ACTUAL_ID);
-        verify(passwordEncoder, times(INVOCATION_NUMBER)).encode(EXPECTED_STUDENT.getPassword());
+        verify(passwordEncoder, times(INVOCATION_NUMBER)).encode(NEW_PASSWORD);
+        assertEquals(HASH, EXPECTED_STUDENT.getPassword());
+    }
+
+    @Test
+    void givenEmptyPassword_whenUpdateStudent_thenStoredHashKept() {
+        Student student = setExpectedStudents().get(0);
+        student.setPassword("");
+        when(addressRepository.findByPersonId(ACTUAL_ID)).thenReturn(setExpectedAddresses().get(0));
+        when(studentRepository.existsById(ACTUAL_ID)).thenReturn(true);
+        when(personRepository.findCredentialsById(ACTUAL_ID)).thenReturn(STORED_CREDENTIALS);
+
+        studentService.update(ACTUAL_ID, student);
+
+        assertEquals(HASH, student.getPassword());
+        verify(passwordEncoder, never()).encode(any());
     }
 
     @Test
@@ -123,7 +145,7 @@ class StudentServiceTest {
     @Test
     void givenStudent_whenAddStudent_thenEntityExistsException() {
         EXPECTED_STUDENT.setId(0);
-        when(personRepository.findAll()).thenReturn(Collections.singletonList(EXPECTED_STUDENT));
+        when(personRepository.existsSamePerson(any(), any(), any(), any(), any(), anyInt())).thenReturn(true);
 
         assertThrows(EntityExistsException.class, () -> studentService.add(EXPECTED_STUDENT));
     }
@@ -132,9 +154,7 @@ class StudentServiceTest {
     @Test
     void givenStudent_whenUpdateStudent_thenEntityExistsException() {
         when(studentRepository.existsById(ACTUAL_ID)).thenReturn(true);
-        when(personRepository.findById(ACTUAL_ID))
-            .thenReturn(Optional.ofNullable(setExpectedStudents().get(1)));
-        when(personRepository.findAll()).thenReturn(Collections.singletonList(EXPECTED_STUDENT));
+        when(personRepository.existsSamePerson(any(), any(), any(), any(), any(), anyInt())).thenReturn(true);
 
         assertThrows(EntityExistsException.class, () -> studentService.update(ACTUAL_ID, EXPECTED_STUDENT));
     }
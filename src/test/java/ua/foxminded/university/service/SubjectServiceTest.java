@@ -38,28 +38,27 @@ class SubjectServiceTest {
 
     @Test
     void givenSubject_whenAddSubject_thenSubject() {
-        when(subjectRepository.findAll()).thenReturn(new ArrayList<>());
+        when(subjectRepository.existsSameSubject(any(), any(), any(), anyInt())).thenReturn(false);
         when(subjectRepository.save(any(Subject.class))).thenReturn(EXPECTED_SUBJECT);
         EXPECTED_SUBJECT.setId(0);
 
         subjectService.add(EXPECTED_SUBJECT);
 
-        verify(subjectRepository, times(INVOCATION_NUMBER)).findAll();
+        verify(subjectRepository, times(INVOCATION_NUMBER)).existsSameSubject(any(), any(), any(), anyInt());
         verify(subjectRepository, times(INVOCATION_NUMBER)).save(any(Subject.class));
     }
 
     @Test
     void givenSubject_whenUpdateSubject_thenUpdatedSubject() {
         when(subjectRepository.existsById(ACTUAL_ID)).thenReturn(true);
-        when(subjectRepository.findAll()).thenReturn(new ArrayList<>());
-        when(subjectRepository.findById(ACTUAL_ID)).thenReturn(Optional.ofNullable(EXPECTED_SUBJECT));
+        when(subjectRepository.existsSameSubject(any(), any(), any(), anyInt())).thenReturn(false);
         when(subjectRepository.save(any(Subject.class))).thenReturn(EXPECTED_SUBJECT);
 
         subjectService.update(ACTUAL_ID, EXPECTED_SUBJECT);
 
         verify(subjectRepository, times(INVOCATION_NUMBER)).save(any(Subject.class));
         verify(subjectRepository, times(INVOCATION_NUMBER)).existsById(ACTUAL_ID);
-        verify(subjectRepository, times(INVOCATION_NUMBER)).findAll();
+        verify(subjectRepository, times(INVOCATION_NUMBER)).existsSameSubject(any(), any(), any(), anyInt());
     }
 
     @Test
@@ -116,7 +115,7 @@ class SubjectServiceTest {
     @Test
     void givenSubject_whenAddSubject_thenEntityExistsException() {
         EXPECTED_SUBJECT.setId(0);
-        when(subjectRepository.findAll()).thenReturn(setExpectedSubjects());
+        when(subjectRepository.existsSameSubject(any(), any(), any(), anyInt())).thenReturn(true);
 
         assertThrows(EntityExistsException.class, () -> subjectService.add(EXPECTED_SUBJECT));
     }
@@ -131,8 +130,7 @@ class SubjectServiceTest {
     @Test
     void givenSubject_whenUpdateSubject_thenEntityExistsException() {
         when(subjectRepository.existsById(ACTUAL_ID)).thenReturn(true);
-        when(subjectRepository.findAll()).thenReturn(setExpectedSubjects());
-        when(subjectRepository.findById(ACTUAL_ID)).thenReturn(Optional.ofNullable(setExpectedSubjects().get(1)));
+        when(subjectRepository.existsSameSubject(any(), any(), any(), anyInt())).thenReturn(true);
 
         assertThrows(EntityExistsException.class, () -> subjectService.update(ACTUAL_ID, EXPECTED_SUBJECT));
     }
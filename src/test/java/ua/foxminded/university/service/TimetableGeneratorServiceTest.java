@@ -0,0 +1,90 @@
+package ua.foxminded.university.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import ua.foxminded.university.domain.Lecture;
+import ua.foxminded.university.domain.LectureRoom;
+import ua.foxminded.university.dto.lecture.TimetableGenerationResultDTO;
+import ua.foxminded.university.dto.subject.SubjectDemand;
+import ua.foxminded.university.dto.subject.SubjectTeacherLink;
+import ua.foxminded.university.repository.LectureRoomRepository;
+import ua.foxminded.university.repository.SubjectRepository;
+import ua.foxminded.university.service.interfaces.LectureService;
+import ua.foxminded.university.service.interfaces.TimetableGeneratorService;
+import ua.foxminded.university.service.interfaces.TimetableService;
+import ua.foxminded.university.util.timetable.LectureBulkResult;
+import ua.foxminded.university.util.timetable.TimetableGenerationRequest;
+import ua.foxminded.university.util.timetable.TimetableIndex.Slot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import(TimetableGeneratorServiceImpl.class)
+class TimetableGeneratorServiceTest {
+
+    private static final int INVOCATION_NUMBER = 1;
+    private static final int SUBJECT_ID = 1;
+    private static final int LECTURES_NUMBER = 4;
+    private static final LocalDate FROM = LocalDate.of(2030, 9, 2);
+    private static final LocalDate TO = LocalDate.of(2030, 9, 13);
+
+    @Autowired
+    private TimetableGeneratorService timetableGeneratorService;
+
+    @MockBean
+    private SubjectRepository subjectRepository;
+
+    @MockBean
+    private LectureRoomRepository roomRepository;
+
+    @MockBean
+    private TimetableService timetableService;
+
+    @MockBean
+    private LectureService lectureService;
+
+    @Test
+    void givenSubjectWithTwoGroups_whenGenerate_thenLectureForEveryGroupAndWeekSaved() {
+        when(subjectRepository.findDemand(FROM, TO, 0)).thenReturn(List.of(
+            new SubjectDemand(SUBJECT_ID, FROM, TO, 1, 20),
+            new SubjectDemand(SUBJECT_ID, FROM, TO, 2, 25)));
+        when(subjectRepository.findTeacherLinks(List.of(SUBJECT_ID)))
+            .thenReturn(List.of(new SubjectTeacherLink(SUBJECT_ID, 1)));
+        when(roomRepository.findAll()).thenReturn(List.of(LectureRoom.builder().id(1).capacity(30).build()));
+        when(timetableService.findSlots())
+            .thenReturn(Map.of(1, new Slot(LocalTime.of(9, 0), LocalTime.of(10, 20))));
+        when(timetableService.findBookings(FROM, TO)).thenReturn(List.of());
+        when(lectureService.addAll(anyList())).thenAnswer(invocation -> {
+            List<Lecture> lectures = invocation.getArgument(0);
+            return IntStream.range(0, lectures.size())
+                .mapToObj(i -> LectureBulkResult.created(lectures.get(i)))
+                .toList();
+        });
+
+        TimetableGenerationResultDTO actual = timetableGeneratorService.generate(TimetableGenerationRequest.builder()
+            .from(FROM)
+            .to(TO)
+            .lecturesPerWeek(1)
+            .timeBudget(Duration.ofSeconds(1))
+            .build());
+
+        assertEquals(LECTURES_NUMBER, actual.getRequested());
+        assertEquals(LECTURES_NUMBER, actual.getCreated());
+        assertTrue(actual.getUnplaced().isEmpty());
+        verify(lectureService, times(INVOCATION_NUMBER)).addAll(anyList());
+        verify(subjectRepository, never()).findDemandBySubjectIds(any(), any(), anyInt(), anyCollection());
+    }
+}
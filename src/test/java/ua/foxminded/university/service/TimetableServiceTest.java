@@ -0,0 +1,173 @@
+package ua.foxminded.university.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ua.foxminded.university.domain.*;
+import ua.foxminded.university.dto.lecture.LectureSlot;
+import ua.foxminded.university.repository.DurationRepository;
+import ua.foxminded.university.repository.LectureRepository;
+import ua.foxminded.university.service.interfaces.TimetableService;
+import ua.foxminded.university.util.events.EntityChangedEvent;
+import ua.foxminded.university.util.exceptions.EntityNotFoundException;
+import ua.foxminded.university.util.timetable.Conflict;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static ua.foxminded.university.data.EntityData.setExpectedDurations;
+
+@ExtendWith(SpringExtension.class)
+@Import(TimetableServiceImpl.class)
+class TimetableServiceTest {
+
+    private static final int INVOCATION_NUMBER = 1;
+    private static final LocalDate DATE = LocalDate.of(2030, 9, 2);
+    private static final int BOOKED_LECTURE_ID = 1;
+    private static final int NEW_LECTURE_ID = 6;
+
+    @Autowired
+    private TimetableService timetableService;
+
+    @MockBean
+    private LectureRepository lectureRepository;
+
+    @MockBean
+    private DurationRepository durationRepository;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        when(durationRepository.findAll()).thenReturn(setExpectedDurations());
+        when(lectureRepository.findSlots()).thenReturn(List.of(
+            new LectureSlot(BOOKED_LECTURE_ID, DATE, 1, 1, 1, 1),
+            new LectureSlot(BOOKED_LECTURE_ID, DATE, 1, 1, 1, 2)));
+        timetableService.reload();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void givenLectureInBookedGroup_whenBook_thenGroupConflict() {
+        List<Conflict> actual = timetableService.book(lecture(0, 2, 2, 2));
+
+        assertEquals(1, actual.size());
+        assertEquals(Conflict.Resource.GROUP, actual.get(0).resource());
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    @Test
+    void givenCommittedBooking_whenCheck_thenSlotIsTaken() {
+        Lecture lecture = lecture(0, 2, 2, 3);
+        assertTrue(timetableService.book(lecture).isEmpty());
+        lecture.setId(NEW_LECTURE_ID);
+
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        List<Conflict> actual = timetableService.check(List.of(lecture(0, 2, 4, 4))).get(0);
+        assertEquals(NEW_LECTURE_ID, actual.get(0).booking().lectureId());
+    }
+
+    @Test
+    void givenRolledBackBooking_whenCheck_thenSlotIsFree() {
+        assertTrue(timetableService.book(lecture(0, 2, 2, 3)).isEmpty());
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(timetableService.check(List.of(lecture(0, 2, 4, 4))).get(0).isEmpty());
+    }
+
+    @Test
+    void givenBatchWithSameRoomTwice_whenCheck_thenSecondConflicts() {
+        List<List<Conflict>> actual = timetableService.check(List.of(lecture(0, 3, 3, 3), lecture(0, 3, 4, 4)));
+
+        assertTrue(actual.get(0).isEmpty());
+        assertEquals(Conflict.Resource.ROOM, actual.get(1).get(0).resource());
+        verify(lectureRepository, times(INVOCATION_NUMBER)).findSlots();
+    }
+
+    @Test
+    void givenBookedRoom_whenFindFreeRooms_thenRoomExcluded() {
+        assertEquals(List.of(2, 3), timetableService.findFreeRooms(DATE, DATE, 1, List.of(1, 2, 3)));
+    }
+
+    @Test
+    void givenUnknownDuration_whenFindFreeRooms_thenEntityNotFoundException() {
+        List<Integer> roomIds = List.of(1);
+
+        assertThrows(EntityNotFoundException.class, () -> timetableService.findFreeRooms(DATE, DATE, 100, roomIds));
+    }
+
+    @Test
+    void givenNoTransaction_whenBook_thenIllegalStateException() {
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThrows(IllegalStateException.class, () -> timetableService.book(lecture(0, 2, 2, 3)));
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @Test
+    void givenSavedRoomTeacherAndGroup_whenEntityChanged_thenIndexNotReloaded() {
+        TimetableServiceImpl service = (TimetableServiceImpl) timetableService;
+
+        service.onEntityChanged(new EntityChangedEvent(LectureRoom.class));
+        service.onEntityChanged(new EntityChangedEvent(Teacher.class));
+        service.onEntityChanged(new EntityChangedEvent(Group.class));
+
+        verify(lectureRepository, times(INVOCATION_NUMBER)).findSlots();
+    }
+
+    @Test
+    void givenChangedDuration_whenEntityChanged_thenIndexReloaded() {
+        ((TimetableServiceImpl) timetableService).onEntityChanged(new EntityChangedEvent(Duration.class));
+
+        verify(lectureRepository, times(INVOCATION_NUMBER + 1)).findSlots();
+    }
+
+    @Test
+    void givenDeletedRoomAndGroup_whenEntityChanged_thenBookingsReleasedWithoutReload() {
+        TimetableServiceImpl service = (TimetableServiceImpl) timetableService;
+
+        service.onEntityChanged(EntityChangedEvent.deleted(LectureRoom.class, 1));
+        service.onEntityChanged(EntityChangedEvent.deleted(Group.class, 2));
+
+        assertEquals(List.of(1), timetableService.findFreeRooms(DATE, DATE, 1, List.of(1)));
+        List<Conflict> actual = timetableService.book(lecture(0, 1, 2, 2));
+        assertTrue(actual.isEmpty());
+        verify(lectureRepository, times(INVOCATION_NUMBER)).findSlots();
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private Lecture lecture(int id, int roomId, int teacherId, int groupId) {
+        return Lecture.builder()
+            .id(id)
+            .date(DATE)
+            .duration(Duration.builder().id(1).build())
+            .room(LectureRoom.builder().id(roomId).build())
+            .teacher(Teacher.builder().id(teacherId).build())
+            .groups(new ArrayList<>(List.of(Group.builder().id(groupId).build())))
+            .build();
+    }
+}
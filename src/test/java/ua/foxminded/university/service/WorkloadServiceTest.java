@@ -0,0 +1,78 @@
+package ua.foxminded.university.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import ua.foxminded.university.dto.teacher.TeacherNestedDTO;
+import ua.foxminded.university.dto.teacher.TeacherWorkloadDTO;
+import ua.foxminded.university.repository.TeacherRepository;
+import ua.foxminded.university.service.interfaces.TimetableService;
+import ua.foxminded.university.service.interfaces.WorkloadService;
+import ua.foxminded.university.util.exceptions.EntityNotFoundException;
+import ua.foxminded.university.util.timetable.TeacherWorkload.Load;
+import ua.foxminded.university.util.timetable.TeacherWorkload.Period;
+import ua.foxminded.university.util.timetable.TeacherWorkload.Workload;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+@Import(WorkloadServiceImpl.class)
+class WorkloadServiceTest {
+
+    private static final int INVOCATION_NUMBER = 1;
+    private static final int ID = 1;
+    private static final LocalDate DATE = LocalDate.of(2030, 9, 2);
+
+    @Autowired
+    private WorkloadService workloadService;
+
+    @MockBean
+    private TeacherRepository teacherRepository;
+
+    @MockBean
+    private TimetableService timetableService;
+
+    @Test
+    void givenDepartmentId_whenFindByDepartment_thenWorkloadOfEveryTeacher() {
+        when(teacherRepository.findNestedByDepartmentId(ID)).thenReturn(List.of(teacher(1), teacher(2)));
+        when(timetableService.findWorkload(anyInt(), eq(DATE)))
+            .thenReturn(List.of(new Workload(Period.WEEK, DATE, DATE.plusDays(6), new Load(3, 240))));
+
+        List<TeacherWorkloadDTO> actual = workloadService.findByDepartment(ID, DATE);
+
+        assertEquals(2, actual.size());
+        assertEquals(4.0, actual.get(1).getWorkloads().get(0).getHours());
+        verify(teacherRepository, times(INVOCATION_NUMBER)).findNestedByDepartmentId(ID);
+        verify(teacherRepository, never()).findByDepartmentId(anyInt());
+    }
+
+    @Test
+    void givenEmptyDepartment_whenFindByDepartment_thenEntityNotFoundException() {
+        when(teacherRepository.findNestedByDepartmentId(ID)).thenReturn(List.of());
+
+        assertThrows(EntityNotFoundException.class, () -> workloadService.findByDepartment(ID, DATE));
+        verify(timetableService, never()).findWorkload(anyInt(), any());
+    }
+
+    @Test
+    void givenTeacherId_whenFindByTeacher_thenEntityNotFoundException() {
+        when(teacherRepository.findNestedById(ID)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> workloadService.findByTeacher(ID, DATE));
+    }
+
+    private TeacherNestedDTO teacher(int id) {
+        return TeacherNestedDTO.builder()
+            .id(id)
+            .build();
+    }
+}
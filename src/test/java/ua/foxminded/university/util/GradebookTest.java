@@ -0,0 +1,43 @@
+package ua.foxminded.university.util;
+
+import org.junit.jupiter.api.Test;
+import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.dto.mark.GradebookHeader;
+import ua.foxminded.university.util.analytics.Gradebook;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradebookTest {
+
+    private final Gradebook gradebook = new Gradebook(
+        List.of(new GradebookHeader(7, "Doe John"), new GradebookHeader(3, "Roe Jane")),
+        List.of(new GradebookHeader(20, "Math"), new GradebookHeader(10, "Physics"), new GradebookHeader(30, "Art")));
+
+    @Test
+    void givenHeaders_whenCreate_thenRowsAndColumnsInHeaderOrder() {
+        assertEquals(2, gradebook.rows());
+        assertEquals(3, gradebook.columns());
+        assertEquals(3, gradebook.studentId(1));
+        assertEquals("Roe Jane", gradebook.studentName(1));
+        assertEquals(10, gradebook.subjectId(1));
+        assertEquals("Art", gradebook.subjectName(2));
+    }
+
+    @Test
+    void givenMarks_whenGet_thenValueInCellOfStudentAndSubject() {
+        assertTrue(gradebook.put(3, 10, MarkValue.B));
+        assertTrue(gradebook.put(7, 30, MarkValue.E));
+
+        assertEquals(MarkValue.B, gradebook.get(1, 1));
+        assertEquals(MarkValue.E, gradebook.get(0, 2));
+        assertNull(gradebook.get(0, 0));
+    }
+
+    @Test
+    void givenUnknownStudentOrSubject_whenPut_thenIgnored() {
+        assertFalse(gradebook.put(5, 10, MarkValue.A));
+        assertFalse(gradebook.put(7, 40, MarkValue.A));
+    }
+}
@@ -0,0 +1,84 @@
+package ua.foxminded.university.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ua.foxminded.university.domain.Department;
+import ua.foxminded.university.domain.Duration;
+import ua.foxminded.university.domain.Group;
+import ua.foxminded.university.util.cache.ListSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListSnapshotTest {
+
+    private static final int ONE_LOAD = 1;
+    private static final int TWO_LOADS = 2;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private ListSnapshot<String> snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new ListSnapshot<>(() -> List.of("group-" + loads.incrementAndGet()), Group.class, Department.class);
+    }
+
+    @Test
+    void whenGetTwice_thenLoadedOnce() {
+        List<String> first = snapshot.get();
+        List<String> second = snapshot.get();
+
+        assertSame(first, second);
+        assertEquals(ONE_LOAD, loads.get());
+    }
+
+    @Test
+    void givenDependencyChanged_whenGet_thenReloaded() {
+        snapshot.get();
+        snapshot.invalidate(Department.class);
+
+        List<String> actual = snapshot.get();
+
+        assertEquals(List.of("group-2"), actual);
+        assertEquals(TWO_LOADS, loads.get());
+    }
+
+    @Test
+    void givenUnrelatedEntityChanged_whenGet_thenNotReloaded() {
+        snapshot.get();
+        snapshot.invalidate(Duration.class);
+
+        snapshot.get();
+
+        assertEquals(ONE_LOAD, loads.get());
+    }
+
+    @Test
+    void whenGet_thenSnapshotIsUnmodifiable() {
+        List<String> source = new ArrayList<>(List.of("group"));
+        ListSnapshot<String> copied = new ListSnapshot<>(() -> source, Group.class);
+
+        List<String> actual = copied.get();
+        source.add("another");
+
+        assertEquals(List.of("group"), actual);
+        assertThrows(UnsupportedOperationException.class, () -> actual.add("another"));
+    }
+
+    @Test
+    void givenLoaderFails_whenGet_thenNothingCachedAndNextCallRetries() {
+        AtomicInteger attempts = new AtomicInteger();
+        ListSnapshot<String> failing = new ListSnapshot<>(() -> {
+            if (attempts.incrementAndGet() == ONE_LOAD) {
+                throw new IllegalStateException();
+            }
+            return List.of("group");
+        }, Group.class);
+
+        assertThrows(IllegalStateException.class, failing::get);
+        assertEquals(List.of("group"), failing.get());
+    }
+}
@@ -0,0 +1,91 @@
+package ua.foxminded.university.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.util.analytics.MarkColumns;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkColumnsTest {
+
+    private static final int SUBJECT_ID = 1;
+    private static final int OTHER_SUBJECT_ID = 2;
+    private static final int ROWS = 200_000;
+
+    private MarkColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        columns = new MarkColumns(1);
+        columns.put(1, 1, SUBJECT_ID, MarkValue.A);
+        columns.put(2, 2, SUBJECT_ID, MarkValue.C);
+        columns.put(3, 1, OTHER_SUBJECT_ID, MarkValue.E);
+    }
+
+    @Test
+    void givenMarks_whenCountBySubject_thenDistributionOfSubject() {
+        assertArrayEquals(new long[]{1, 0, 1, 0, 0}, columns.countBySubject(SUBJECT_ID));
+    }
+
+    @Test
+    void givenMarks_whenCountByStudents_thenDistributionOfStudents() {
+        BitSet students = new BitSet();
+        students.set(1);
+
+        assertArrayEquals(new long[]{1, 0, 0, 0, 1}, columns.countByStudents(students));
+    }
+
+    @Test
+    void givenUpdatedMark_whenCountBySubject_thenMarkMovedInPlace() {
+        columns.put(1, 1, OTHER_SUBJECT_ID, MarkValue.B);
+
+        assertEquals(3, columns.size());
+        assertArrayEquals(new long[]{0, 0, 1, 0, 0}, columns.countBySubject(SUBJECT_ID));
+        assertArrayEquals(new long[]{0, 1, 0, 0, 1}, columns.countBySubject(OTHER_SUBJECT_ID));
+    }
+
+    @Test
+    void givenDetachedStudent_whenCount_thenMarksCountedBySubjectOnly() {
+        BitSet students = new BitSet();
+        students.set(1);
+
+        columns.detachStudent(1);
+
+        assertEquals(3, columns.size());
+        assertArrayEquals(new long[]{0, 0, 0, 0, 0}, columns.countByStudents(students));
+        assertArrayEquals(new long[]{1, 0, 1, 0, 0}, columns.countBySubject(SUBJECT_ID));
+    }
+
+    @Test
+    void givenRemovedMark_whenCountBySubject_thenLastRowKeepsItsMark() {
+        columns.remove(1);
+        columns.remove(1);
+        columns.put(3, 2, OTHER_SUBJECT_ID, MarkValue.D);
+
+        assertEquals(2, columns.size());
+        assertArrayEquals(new long[]{0, 0, 1, 0, 0}, columns.countBySubject(SUBJECT_ID));
+        assertArrayEquals(new long[]{0, 0, 0, 1, 0}, columns.countBySubject(OTHER_SUBJECT_ID));
+    }
+
+    @Test
+    void givenMarksInManyChunks_whenCountBySubject_thenEveryChunkCounted() {
+        MarkColumns manyColumns = new MarkColumns();
+
+        for (int id = 1; id <= ROWS; id++) {
+            manyColumns.put(id, id, id % 2 == 0 ? SUBJECT_ID : OTHER_SUBJECT_ID, MarkValue.values()[id % 5]);
+        }
+
+        long[] actual = manyColumns.countBySubject(SUBJECT_ID);
+
+        assertEquals(ROWS / 2, actual[0] + actual[1] + actual[2] + actual[3] + actual[4]);
+        assertEquals(ROWS / 10, actual[MarkValue.A.ordinal()]);
+    }
+
+    @Test
+    void givenNotPositiveMarkId_whenPut_thenIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> columns.put(0, 1, SUBJECT_ID, MarkValue.A));
+    }
+}
@@ -0,0 +1,42 @@
+package ua.foxminded.university.util;
+
+import org.junit.jupiter.api.Test;
+import ua.foxminded.university.domain.MarkValue;
+import ua.foxminded.university.util.analytics.MarkStatistics;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkStatisticsTest {
+
+    private final MarkStatistics statistics = new MarkStatistics(new long[]{2, 1, 1, 0, 0});
+
+    @Test
+    void givenCounts_whenAverage_thenMeanOnFivePointScale() {
+        assertEquals(4, statistics.total());
+        assertEquals(OptionalDouble.of(4.25), statistics.average());
+    }
+
+    @Test
+    void givenCounts_whenPercentile_thenMarkCountingFromLowest() {
+        assertEquals(Optional.of(MarkValue.C), statistics.percentile(25));
+        assertEquals(Optional.of(MarkValue.B), statistics.percentile(50));
+        assertEquals(Optional.of(MarkValue.A), statistics.percentile(51));
+        assertEquals(Optional.of(MarkValue.A), statistics.percentile(100));
+    }
+
+    @Test
+    void givenNoMarks_whenAverageAndPercentile_thenEmpty() {
+        MarkStatistics empty = new MarkStatistics(new long[5]);
+
+        assertTrue(empty.average().isEmpty());
+        assertTrue(empty.percentile(50).isEmpty());
+    }
+
+    @Test
+    void givenPercentileOutOfRange_whenPercentile_thenIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> statistics.percentile(0));
+    }
+}
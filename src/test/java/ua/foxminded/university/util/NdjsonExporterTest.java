@@ -0,0 +1,67 @@
+package ua.foxminded.university.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ua.foxminded.university.util.export.NdjsonExporter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class NdjsonExporterTest {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+    private final NdjsonExporter exporter = new NdjsonExporter(new ObjectMapper(), TIMEOUT);
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lectures/export");
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void whenExport_thenExportTimeoutSetOnThisRequestOnly() throws Exception {
+        AsyncWebRequest asyncWebRequest = mock(AsyncWebRequest.class);
+
+        exporter.export("lectures", (Consumer<Map<String, Integer>> values) -> values.accept(Map.of("id", 1)));
+        CallableProcessingInterceptor interceptor = WebAsyncUtils.getAsyncManager(request)
+            .getCallableInterceptor(NdjsonExporter.class);
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+
+        verify(asyncWebRequest).setTimeout(TIMEOUT.toMillis());
+    }
+
+    @Test
+    void whenExport_thenOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ResponseEntity<StreamingResponseBody> response = exporter.export("lectures",
+            (Consumer<Map<String, Integer>> values) -> List.of(1, 2).forEach(id -> values.accept(Map.of("id", id))));
+        response.getBody().writeTo(outputStream);
+
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", outputStream.toString(StandardCharsets.UTF_8));
+    }
+}
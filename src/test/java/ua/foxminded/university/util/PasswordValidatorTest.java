@@ -46,6 +46,15 @@ class PasswordValidatorTest {
         assertTrue(constraintViolations.isEmpty());
     }
 
+    @Test
+    void givenStudent_whenValidation_thenEmptyPasswordKeptAsUnchanged() {
+        STUDENT_DTO.setPassword("");
+
+        Set<ConstraintViolation<StudentRequestDTO>> constraintViolations = validator.validate(STUDENT_DTO);
+
+        assertTrue(constraintViolations.isEmpty());
+    }
+
     @Test
     void givenStudent_whenValidation_thenShortPassword() {
         STUDENT_DTO.setPassword(SHORT_PASSWORD);
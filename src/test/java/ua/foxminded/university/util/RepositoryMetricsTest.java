@@ -0,0 +1,115 @@
+package ua.foxminded.university.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import ua.foxminded.university.util.metrics.RepositoryMetrics;
+import ua.foxminded.university.util.metrics.RepositoryMetricsInterceptor;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryMetricsTest {
+
+    private static final String REPOSITORY = "SampleRepository";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RepositoryMetrics metrics = new RepositoryMetrics(meterRegistry);
+    private SampleRepository repository;
+
+    interface SampleRepository {
+
+        List<String> findAll();
+
+        Optional<String> findById(int id);
+
+        Stream<String> streamAll();
+
+        void fail();
+    }
+
+    @BeforeEach
+    void setUp() {
+        SampleRepository target = new SampleRepository() {
+
+            @Override
+            public List<String> findAll() {
+                metrics.onPostLoad(null);
+                metrics.onPostLoad(null);
+                return List.of("first", "second");
+            }
+
+            @Override
+            public Optional<String> findById(int id) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Stream<String> streamAll() {
+                return Stream.of("first", "second", "third");
+            }
+
+            @Override
+            public void fail() {
+                throw new IllegalStateException();
+            }
+        };
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(SampleRepository.class);
+        proxyFactory.addAdvice(new RepositoryMetricsInterceptor(SampleRepository.class, () -> metrics));
+        repository = (SampleRepository) proxyFactory.getProxy();
+    }
+
+    @Test
+    void whenFindAll_thenRowsAndEntitiesRecordedPerMethod() {
+        repository.findAll();
+        repository.findAll();
+
+        assertEquals(2, rows("findAll").count());
+        assertEquals(4, rows("findAll").totalAmount());
+        assertEquals(4, entities("findAll").count());
+    }
+
+    @Test
+    void whenFindByIdEmpty_thenNoRowsRecorded() {
+        repository.findById(1);
+
+        assertEquals(1, rows("findById").count());
+        assertEquals(0, rows("findById").totalAmount());
+    }
+
+    @Test
+    void whenStreamClosed_thenRowsRecordedAsConsumed() {
+        try (Stream<String> stream = repository.streamAll()) {
+            assertEquals(3, stream.toList().size());
+            assertEquals(0, rows("streamAll").count());
+        }
+
+        assertEquals(1, rows("streamAll").count());
+        assertEquals(3, rows("streamAll").totalAmount());
+    }
+
+    @Test
+    void whenMethodThrows_thenNothingRecordedAndRethrown() {
+        assertThrows(IllegalStateException.class, () -> repository.fail());
+
+        assertEquals(0, rows("fail").count());
+        assertEquals(0, entities("fail").count());
+    }
+
+    private DistributionSummary rows(String method) {
+        return meterRegistry.get(RepositoryMetrics.ROWS).tags("repository", REPOSITORY, "method", method).summary();
+    }
+
+    private Counter entities(String method) {
+        return meterRegistry.get(RepositoryMetrics.ENTITIES).tags("repository", REPOSITORY, "method", method)
+            .counter();
+    }
+}
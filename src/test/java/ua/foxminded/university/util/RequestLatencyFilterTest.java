@@ -0,0 +1,119 @@
+package ua.foxminded.university.util;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+import ua.foxminded.university.domain.Role;
+import ua.foxminded.university.util.metrics.RequestLatencyFilter;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+class RequestLatencyFilterTest {
+
+    private static final String LECTURE_PATTERN = "/api/lectures/{id}";
+
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    private final RequestLatencyFilter filter = new RequestLatencyFilter(registry, Duration.ofMillis(500),
+        Duration.ofMinutes(1));
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lectures/1");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void whenRequestHandled_thenRecordedByRouteStatusClassAndRole() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("teacher", null,
+            List.of(new SimpleGrantedAuthority(Role.ROLE_TEACHER.name()))));
+
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            filter.preHandle(request, response, new Object());
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, LECTURE_PATTERN);
+            response.setStatus(404);
+        });
+
+        assertEquals(1, registry.get(RequestLatencyFilter.LATENCY)
+            .tags("method", "GET", "uri", LECTURE_PATTERN, "status", "4xx", "role", "ROLE_TEACHER")
+            .timer()
+            .count());
+    }
+
+    @Test
+    void whenChainThrows_thenRecordedAsServerErrorForUnknownRoute() {
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request, response,
+            (servletRequest, servletResponse) -> {
+                throw new IllegalStateException();
+            }));
+
+        assertEquals(1, registry.get(RequestLatencyFilter.LATENCY)
+            .tags("method", "GET", "uri", RequestLatencyFilter.UNKNOWN_ROUTE, "status", "5xx",
+                "role", RequestLatencyFilter.ANONYMOUS)
+            .timer()
+            .count());
+    }
+
+    @Test
+    void whenRequestHandled_thenPercentilesHistogramAndObjectivePublished() throws Exception {
+        filter.doFilter(request, response, (servletRequest, servletResponse) ->
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, LECTURE_PATTERN));
+
+        String actual = registry.scrape();
+
+        for (String quantile : List.of("0.5", "0.99", "0.999")) {
+            assertTrue(actual.contains("quantile=\"" + quantile + "\""));
+        }
+
+        assertTrue(actual.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(actual.contains("le=\"0.5\""));
+    }
+
+    @Test
+    void whenSameSeriesRequestedTwice_thenOneTimerReused() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) ->
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, LECTURE_PATTERN));
+        }
+
+        assertEquals(1, registry.find(RequestLatencyFilter.LATENCY).timers().size());
+        assertEquals(2, registry.get(RequestLatencyFilter.LATENCY).timer().count());
+    }
+
+    @Test
+    void whenSeriesOverObjective_thenSummaryWarnsOnlyForNewRequests(CapturedOutput output) throws Exception {
+        RequestLatencyFilter slowFilter = new RequestLatencyFilter(registry, Duration.ofMillis(1),
+            Duration.ofMinutes(1));
+        slowFilter.doFilter(request, response, (servletRequest, servletResponse) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, LECTURE_PATTERN);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        slowFilter.logSummary();
+        slowFilter.logSummary();
+
+        String summary = "GET " + LECTURE_PATTERN + " 2xx ANONYMOUS: 1 requests";
+        String actual = output.getOut();
+        assertTrue(actual.contains(summary));
+        assertEquals(actual.indexOf(summary), actual.lastIndexOf(summary));
+        assertTrue(actual.contains("over the p99 objective of 1 ms"));
+    }
+}
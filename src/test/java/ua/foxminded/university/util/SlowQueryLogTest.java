@@ -0,0 +1,167 @@
+package ua.foxminded.university.util;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.unit.DataSize;
+import ua.foxminded.university.util.metrics.SlowQuery;
+import ua.foxminded.university.util.metrics.SlowQueryLog;
+import ua.foxminded.university.util.metrics.SlowQueryProperties;
+import ua.foxminded.university.util.metrics.SqlTimingProxy;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    private final SlowQueryProperties properties = new SlowQueryProperties();
+    private SlowQueryLog slowQueryLog;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        properties.setThreshold(Duration.ZERO);
+        properties.setCapacity(3);
+        slowQueryLog = new SlowQueryLog(properties);
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:slow-query;DB_CLOSE_DELAY=-1");
+        dataSource = SqlTimingProxy.wrap(h2, () -> slowQueryLog);
+
+        try (Connection connection = h2.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists people");
+            statement.execute("create table people(id int, email varchar(50), password varchar(60))");
+        }
+    }
+
+    @Test
+    void whenInsertIntoPeople_thenPasswordRedacted() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "insert into people (id, password, email) values (?, ?, ?)")) {
+            statement.setInt(1, 1);
+            statement.setString(2, "secret");
+            statement.setString(3, "student@university.ua");
+            statement.executeUpdate();
+        }
+
+        SlowQuery actual = slowQueryLog.recent().get(0);
+
+        assertEquals(List.of("1", SlowQueryLog.REDACTED, "'student@university.ua'"), actual.parameters());
+        assertEquals(1, actual.rows());
+        assertNull(actual.repositoryMethod());
+        assertTrue(actual.callSite().startsWith("SlowQueryLogTest.whenInsertIntoPeople_thenPasswordRedacted:"));
+    }
+
+    @Test
+    void whenQueryResultRead_thenRowsCountedOnClose() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("insert into people values (1, 'a', 'x'), (2, 'b', 'y')");
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "select p.id from people p where p.email like ? and p.password = ?")) {
+            statement.setString(1, "%");
+            statement.setString(2, "x");
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    assertTrue(resultSet.getInt(1) > 0);
+                }
+            }
+        }
+
+        SlowQuery actual = slowQueryLog.recent().get(0);
+
+        assertEquals(1, actual.rows());
+        assertEquals(List.of("'%'", SlowQueryLog.REDACTED), actual.parameters());
+    }
+
+    @Test
+    void whenRunByRepositoryProxy_thenRepositoryMethodRecorded() throws SQLException {
+        ProxyFactory proxyFactory = new ProxyFactory((PersonRepository) () -> {
+            executeSelect();
+            return 1;
+        });
+        proxyFactory.addInterface(PersonRepository.class);
+        proxyFactory.addAdvisor(ExposeInvocationInterceptor.ADVISOR);
+
+        ((PersonRepository) proxyFactory.getProxy()).countPeople();
+
+        assertEquals("PersonRepository.countPeople", slowQueryLog.recent().get(0).repositoryMethod());
+    }
+
+    @Test
+    void whenCapacityExceeded_thenOnlyLatestKeptNewestFirst() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (int i = 1; i <= 5; i++) {
+                statement.executeQuery("select " + i).close();
+            }
+        }
+
+        assertEquals(List.of("select 5", "select 4", "select 3"),
+            slowQueryLog.recent().stream().map(SlowQuery::sql).toList());
+    }
+
+    @Test
+    void whenBelowThreshold_thenNotRecorded() throws SQLException {
+        properties.setThreshold(Duration.ofMinutes(1));
+        slowQueryLog = new SlowQueryLog(properties);
+
+        executeSelect();
+
+        assertTrue(slowQueryLog.recent().isEmpty());
+    }
+
+    @Test
+    void whenNotSampled_thenNotRecorded() throws SQLException {
+        properties.setSampleRate(0);
+        slowQueryLog = new SlowQueryLog(properties);
+
+        executeSelect();
+
+        assertTrue(slowQueryLog.recent().isEmpty());
+    }
+
+    @Test
+    void whenFileSet_thenEntriesAppendedAndRolledOver() throws Exception {
+        Path file = Files.createTempFile("slow-query", ".log");
+        properties.setFile(file);
+        properties.setMaxFileSize(DataSize.ofBytes(1));
+        slowQueryLog = new SlowQueryLog(properties);
+
+        executeSelect();
+        executeSelect();
+
+        assertTrue(Files.readString(file).contains("select 1"));
+        assertTrue(Files.exists(file.resolveSibling(file.getFileName() + ".1")));
+    }
+
+    private void executeSelect() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeQuery("select 1").close();
+        }
+    }
+
+    private interface PersonRepository extends Repository<Object, Integer> {
+
+        int countPeople() throws SQLException;
+    }
+}
@@ -0,0 +1,144 @@
+package ua.foxminded.university.util;
+
+import org.h2.jdbc.JdbcConnection;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+import ua.foxminded.university.util.exceptions.SqlBudgetExceededException;
+import ua.foxminded.university.util.metrics.SqlBudgetFilter;
+import ua.foxminded.university.util.metrics.SqlBudgetProperties;
+import ua.foxminded.university.util.metrics.SqlTimingProxy;
+
+import javax.servlet.FilterChain;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlBudgetFilterTest {
+
+    private static final String LECTURE_PATTERN = "/api/lectures/{id}";
+
+    private final SqlBudgetProperties properties = new SqlBudgetProperties();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lectures/1");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql-budget;DB_CLOSE_DELAY=-1");
+        dataSource = SqlTimingProxy.wrap(h2);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists marks(mark int)");
+        }
+
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, LECTURE_PATTERN);
+        properties.setStatements(3);
+    }
+
+    @Test
+    void whenStatementsExecuted_thenServerTimingReportsThem() throws Exception {
+        new SqlBudgetFilter(properties).doFilter(request, response, executing(3));
+
+        assertTrue(response.getHeader(SqlBudgetFilter.SERVER_TIMING)
+            .matches("db;dur=\\d+\\.\\d{3};desc=\"3 statements\""));
+    }
+
+    @Test
+    void whenBatchExecuted_thenCountedAsOneStatement() throws Exception {
+        FilterChain chain = (servletRequest, servletResponse) -> {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("insert into marks values (?)")) {
+                for (int i = 0; i < 10; i++) {
+                    statement.setInt(1, i);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        new SqlBudgetFilter(properties).doFilter(request, response, chain);
+
+        assertTrue(response.getHeader(SqlBudgetFilter.SERVER_TIMING).endsWith("desc=\"1 statements\""));
+    }
+
+    @Test
+    void whenResponseCommittedEarly_thenServerTimingWrittenBeforeCommit() throws Exception {
+        FilterChain chain = (servletRequest, servletResponse) -> {
+            executing(1).doFilter(servletRequest, servletResponse);
+            servletResponse.flushBuffer();
+            executing(1).doFilter(servletRequest, servletResponse);
+        };
+
+        new SqlBudgetFilter(properties).doFilter(request, response, chain);
+
+        assertTrue(response.isCommitted());
+        assertTrue(response.getHeader(SqlBudgetFilter.SERVER_TIMING).endsWith("desc=\"1 statements\""));
+    }
+
+    @Test
+    void whenBudgetExceeded_thenOnlyWarned() throws Exception {
+        new SqlBudgetFilter(properties).doFilter(request, response, executing(4));
+
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void whenBudgetExceededAndFailOnViolation_thenExceptionNamesEndpoint() {
+        properties.setFailOnViolation(true);
+        SqlBudgetFilter filter = new SqlBudgetFilter(properties);
+
+        SqlBudgetExceededException exception = assertThrows(SqlBudgetExceededException.class,
+            () -> filter.doFilter(request, response, executing(4)));
+
+        assertTrue(exception.getMessage().startsWith("GET /api/lectures/{id} executed 4 SQL statements"));
+        assertTrue(exception.getMessage().endsWith("its budget is 3"));
+    }
+
+    @Test
+    void whenEndpointBudgetsMatch_thenMostSpecificWins() throws Exception {
+        properties.setFailOnViolation(true);
+        properties.setEndpoints(Map.of("/api/**", 1, "/api/lectures/**", 5));
+
+        new SqlBudgetFilter(properties).doFilter(request, response, executing(5));
+
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/groups");
+        SqlBudgetFilter filter = new SqlBudgetFilter(properties);
+        assertThrows(SqlBudgetExceededException.class,
+            () -> filter.doFilter(request, new MockHttpServletResponse(), executing(2)));
+    }
+
+    @Test
+    void whenUnwrapped_thenDriverConnectionReturned() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            assertTrue(connection.isWrapperFor(JdbcConnection.class));
+            assertInstanceOf(JdbcConnection.class, connection.unwrap(JdbcConnection.class));
+            assertEquals(connection, connection);
+        }
+    }
+
+    private FilterChain executing(int statements) {
+        return (servletRequest, servletResponse) -> {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                for (int i = 0; i < statements; i++) {
+                    statement.executeQuery("select 1").close();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package ua.foxminded.university.util;
+
+import org.junit.jupiter.api.Test;
+import ua.foxminded.university.util.timetable.Booking;
+import ua.foxminded.university.util.timetable.TimetableGenerator;
+import ua.foxminded.university.util.timetable.TimetableGenerator.Placement;
+import ua.foxminded.university.util.timetable.TimetableGenerator.Plan;
+import ua.foxminded.university.util.timetable.TimetableGenerator.Room;
+import ua.foxminded.university.util.timetable.TimetableGenerator.Session;
+import ua.foxminded.university.util.timetable.TimetableIndex.Slot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimetableGeneratorTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 9, 2);
+    private static final LocalDate FRIDAY = MONDAY.plusDays(4);
+    private static final Duration BUDGET = Duration.ofSeconds(5);
+    private static final int PARALLELISM = 2;
+    private static final Map<Integer, Slot> SLOTS = Map.of(
+        1, new Slot(LocalTime.of(9, 0), LocalTime.of(10, 20)),
+        2, new Slot(LocalTime.of(10, 30), LocalTime.of(11, 50)));
+
+    @Test
+    void givenSessions_whenGenerate_thenNoRoomTeacherOrGroupClashes() {
+        TimetableGenerator generator = new TimetableGenerator(List.of(new Room(1, 30), new Room(2, 30)), SLOTS);
+        List<Session> sessions = new ArrayList<>();
+
+        for (int group = 1; group <= 4; group++) {
+            for (int subject = 1; subject <= 4; subject++) {
+                sessions.add(new Session(MONDAY, subject, group, 20, List.of(subject, subject + 10), MONDAY, FRIDAY));
+            }
+        }
+
+        Plan plan = generator.generate(sessions, List.of(), BUDGET, PARALLELISM);
+
+        assertTrue(plan.unplaced().isEmpty());
+        assertEquals(sessions.size(), plan.placements().size());
+        assertNoClashes(plan.placements());
+    }
+
+    @Test
+    void givenBookedSlot_whenGenerate_thenSlotAvoided() {
+        TimetableGenerator generator = new TimetableGenerator(List.of(new Room(1, 30)), SLOTS);
+        Session session = new Session(MONDAY, 1, 1, 20, List.of(1), MONDAY, MONDAY);
+        Booking booking = new Booking(5, MONDAY, 1, 1, 7, Set.of());
+
+        Plan plan = generator.generate(List.of(session), List.of(booking), BUDGET, PARALLELISM);
+
+        assertEquals(2, plan.placements().get(0).durationId());
+    }
+
+    @Test
+    void givenNoRoomLargeEnough_whenGenerate_thenSessionUnplaced() {
+        TimetableGenerator generator = new TimetableGenerator(List.of(new Room(1, 30)), SLOTS);
+        Session session = new Session(MONDAY, 1, 1, 50, List.of(1), MONDAY, FRIDAY);
+
+        Plan plan = generator.generate(List.of(session), List.of(), Duration.ofMillis(50), PARALLELISM);
+
+        assertEquals(List.of(session), plan.unplaced());
+        assertTrue(plan.timedOut());
+    }
+
+    @Test
+    void givenSubjectWindow_whenGenerate_thenPlacedInsideWindow() {
+        TimetableGenerator generator = new TimetableGenerator(List.of(new Room(1, 30)), SLOTS);
+        LocalDate wednesday = MONDAY.plusDays(2);
+        Session session = new Session(MONDAY, 1, 1, 20, List.of(1), wednesday, wednesday);
+
+        Plan plan = generator.generate(List.of(session), List.of(), BUDGET, PARALLELISM);
+
+        assertEquals(wednesday, plan.placements().get(0).date());
+    }
+
+    private void assertNoClashes(List<Placement> placements) {
+        Set<String> taken = new HashSet<>();
+
+        for (Placement placement : placements) {
+            String slot = placement.date() + "/" + placement.durationId();
+            assertTrue(taken.add(slot + "/room/" + placement.roomId()));
+            assertTrue(taken.add(slot + "/teacher/" + placement.teacherId()));
+            assertTrue(taken.add(slot + "/group/" + placement.session().groupId()));
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package ua.foxminded.university.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ua.foxminded.university.util.timetable.Booking;
+import ua.foxminded.university.util.timetable.Conflict;
+import ua.foxminded.university.util.timetable.Conflict.Resource;
+import ua.foxminded.university.util.timetable.TeacherWorkload.Load;
+import ua.foxminded.university.util.timetable.TeacherWorkload.Period;
+import ua.foxminded.university.util.timetable.TeacherWorkload.Workload;
+import ua.foxminded.university.util.timetable.TimetableIndex;
+import ua.foxminded.university.util.timetable.TimetableIndex.Slot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimetableIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 9, 2);
+    private static final int FIRST_SLOT = 1;
+    private static final int SECOND_SLOT = 2;
+    private static final int OVERLAPPING_SLOT = 3;
+    private static final int THREADS = 16;
+
+    private TimetableIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TimetableIndex();
+        index.setSlots(Map.of(
+            FIRST_SLOT, new Slot(LocalTime.of(9, 0), LocalTime.of(10, 20)),
+            SECOND_SLOT, new Slot(LocalTime.of(10, 30), LocalTime.of(11, 50)),
+            OVERLAPPING_SLOT, new Slot(LocalTime.of(10, 0), LocalTime.of(11, 0))));
+        index.load(List.of(new Booking(1, DATE, FIRST_SLOT, 1, 1, Set.of(1, 2))));
+    }
+
+    @Test
+    void givenSameRoomAndSlot_whenReserve_thenRoomConflict() {
+        List<Conflict> actual = index.reserve(new Booking(0, DATE, FIRST_SLOT, 1, 2, Set.of(3)));
+
+        assertEquals(List.of(Resource.ROOM), actual.stream().map(Conflict::resource).toList());
+        assertEquals(1, actual.get(0).booking().lectureId());
+    }
+
+    @Test
+    void givenSameTeacherAndGroupInOverlappingSlot_whenReserve_thenTeacherAndGroupConflicts() {
+        List<Conflict> actual = index.reserve(new Booking(0, DATE, OVERLAPPING_SLOT, 2, 1, Set.of(2)));
+
+        assertEquals(List.of(Resource.TEACHER, Resource.GROUP), actual.stream().map(Conflict::resource).toList());
+    }
+
+    @Test
+    void givenFreeSlot_whenReserve_thenNoConflictsAndSlotTaken() {
+        Booking booking = new Booking(0, DATE, SECOND_SLOT, 1, 1, Set.of(1));
+
+        assertTrue(index.reserve(booking).isEmpty());
+        assertFalse(index.findConflicts(new Booking(0, DATE, SECOND_SLOT, 1, 5, Set.of())).isEmpty());
+    }
+
+    @Test
+    void givenBookedRoom_whenFindFreeRooms_thenRoomExcludedInOverlappingSlots() {
+        List<Integer> roomIds = List.of(1, 2, 3);
+
+        assertEquals(List.of(2, 3), index.findFreeRooms(DATE, DATE, FIRST_SLOT, roomIds));
+        assertEquals(roomIds, index.findFreeRooms(DATE, DATE, SECOND_SLOT, roomIds));
+        assertEquals(List.of(1, 2, 3), index.findFreeRooms(DATE.plusDays(1), DATE.plusDays(1), FIRST_SLOT, roomIds));
+    }
+
+    @Test
+    void givenRoomBookedOnOneDateOfRange_whenFindFreeRooms_thenRoomExcluded() {
+        index.reserve(new Booking(0, DATE.plusDays(3), OVERLAPPING_SLOT, 3, 3, Set.of()));
+
+        assertEquals(List.of(2), index.findFreeRooms(DATE, DATE.plusDays(4), SECOND_SLOT, List.of(2, 3)));
+    }
+
+    @Test
+    void givenReleasedLecture_whenFindFreeRooms_thenRoomIsFree() {
+        index.release(1);
+
+        assertEquals(List.of(1), index.findFreeRooms(DATE, DATE, OVERLAPPING_SLOT, List.of(1)));
+    }
+
+    @Test
+    void givenReleasedRoom_whenReserve_thenOnlyOtherResourcesConflict() {
+        index.releaseResource(Resource.ROOM, 1);
+
+        List<Conflict> actual = index.reserve(new Booking(0, DATE, FIRST_SLOT, 1, 1, Set.of(3)));
+
+        assertEquals(List.of(Resource.TEACHER), actual.stream().map(Conflict::resource).toList());
+        assertEquals(Set.of(1, 2), index.find(1).orElseThrow().groupIds());
+    }
+
+    @Test
+    void givenReleasedGroup_whenReserve_thenGroupFreeAndOtherGroupStillBooked() {
+        index.releaseResource(Resource.GROUP, 1);
+
+        assertTrue(index.findConflicts(new Booking(0, DATE, FIRST_SLOT, 2, 2, Set.of(1))).isEmpty());
+        assertFalse(index.findConflicts(new Booking(0, DATE, FIRST_SLOT, 2, 2, Set.of(2))).isEmpty());
+    }
+
+    @Test
+    void givenReleasedTeacher_whenFindWorkload_thenNoLoad() {
+        index.releaseResource(Resource.TEACHER, 1);
+
+        assertEquals(new Load(0, 0), index.findWorkload(1, DATE).get(2).load());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void givenLoadedLecture_whenFindWorkload_thenCountedInEveryPeriod() {
+        List<Workload> actual = index.findWorkload(1, DATE);
+
+        assertEquals(List.of(Period.WEEK, Period.MONTH, Period.SEMESTER), actual.stream().map(Workload::period).toList());
+        actual.forEach(workload -> assertEquals(new Load(1, 80), workload.load()));
+    }
+
+    @Test
+    void givenCommittedAndMovedLectures_whenFindWorkload_thenUpdatedIncrementally() {
+        Booking added = new Booking(0, DATE, SECOND_SLOT, 2, 1, Set.of());
+        Booking moved = new Booking(1, DATE.plusDays(7), FIRST_SLOT, 1, 1, Set.of(1, 2));
+        index.reserve(added);
+        index.commit(added, added.withLectureId(2));
+        index.reserve(moved);
+        index.commit(moved, moved);
+
+        List<Workload> actual = index.findWorkload(1, DATE);
+
+        assertEquals(new Load(1, 80), actual.get(0).load());
+        assertEquals(new Load(2, 160), actual.get(1).load());
+    }
+
+    @Test
+    void givenReleasedLecture_whenFindWorkload_thenNoLoad() {
+        index.release(1);
+
+        assertEquals(new Load(0, 0), index.findWorkload(1, DATE).get(2).load());
+    }
+
+    @Test
+    void givenDates_whenFindSemester_thenAutumnRunsIntoJanuary() {
+        assertEquals(LocalDate.of(2030, 9, 1), Period.SEMESTER.start(LocalDate.of(2031, 1, 20)));
+        assertEquals(LocalDate.of(2031, 1, 31), Period.SEMESTER.end(DATE));
+        assertEquals(LocalDate.of(2031, 2, 1), Period.SEMESTER.start(LocalDate.of(2031, 5, 1)));
+        assertEquals(LocalDate.of(2030, 9, 8), Period.WEEK.end(DATE));
+    }
+
+    @Test
+    void givenSameLecture_whenReserve_thenNoConflictWithItself() {
+        assertTrue(index.reserve(new Booking(1, DATE, OVERLAPPING_SLOT, 1, 1, Set.of(1))).isEmpty());
+    }
+
+    @Test
+    void givenCancelledReservation_whenReserve_thenSlotIsFree() {
+        Booking booking = new Booking(0, DATE, SECOND_SLOT, 1, 1, Set.of());
+        index.reserve(booking);
+
+        index.cancel(booking);
+
+        assertTrue(index.reserve(new Booking(0, DATE, SECOND_SLOT, 1, 1, Set.of())).isEmpty());
+    }
+
+    @Test
+    void givenUpdatedLecture_whenCommit_thenPreviousBookingReleased() {
+        Booking moved = new Booking(1, DATE, SECOND_SLOT, 1, 1, Set.of(1, 2));
+        index.reserve(moved);
+
+        index.commit(moved, moved);
+
+        assertTrue(index.findConflicts(new Booking(0, DATE, FIRST_SLOT, 1, 1, Set.of(1))).isEmpty());
+        assertEquals(moved, index.find(1).orElseThrow());
+    }
+
+    @Test
+    void givenReleasedLecture_whenReserve_thenSlotIsFree() {
+        index.release(1);
+
+        assertTrue(index.reserve(new Booking(0, DATE, FIRST_SLOT, 1, 1, Set.of(1))).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void givenChangesWhileLoading_whenLoad_thenChangesKeptOverStaleSnapshot() {
+        Booking reserved = new Booking(0, DATE, SECOND_SLOT, 2, 2, Set.of());
+        index.startLoading();
+        index.reserve(reserved);
+        index.commit(reserved, reserved.withLectureId(7));
+        index.release(1);
+
+        index.load(List.of(new Booking(1, DATE, FIRST_SLOT, 1, 1, Set.of(1, 2))));
+
+        assertTrue(index.find(1).isEmpty());
+        assertTrue(index.find(7).isPresent());
+        assertFalse(index.findConflicts(new Booking(0, DATE, SECOND_SLOT, 2, 3, Set.of())).isEmpty());
+    }
+
+    @Test
+    void givenConcurrentReservationsOfSameRoom_whenReserve_thenOnlyOneSucceeds() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+
+        try {
+            List<Future<Object>> futures = IntStream.range(0, THREADS)
+                .mapToObj(teacherId -> executor.submit(() -> {
+                    start.await();
+
+                    if (index.reserve(new Booking(0, DATE, SECOND_SLOT, 9, teacherId, Set.of())).isEmpty()) {
+                        reserved.incrementAndGet();
+                    }
+
+                    return null;
+                }))
+                .toList();
+            start.countDown();
+
+            for (Future<Object> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, reserved.get());
+    }
+}
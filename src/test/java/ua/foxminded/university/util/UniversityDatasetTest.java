@@ -0,0 +1,139 @@
+package ua.foxminded.university.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import ua.foxminded.university.util.dataset.DatasetLoader;
+import ua.foxminded.university.util.dataset.UniversityDataset;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static ua.foxminded.university.util.validators.ValidatorPatterns.*;
+
+class UniversityDatasetTest {
+
+    private static final String URL = "jdbc:h2:mem:dataset;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+        + "NON_KEYWORDS=GROUPS,VALUE,DATE";
+    private static final int STUDENTS = 1_000;
+
+    private final UniversityDataset dataset = new UniversityDataset(STUDENTS);
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(URL, "sa", "");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM 'classpath:/1.schema.sql'");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void whenLoad_thenEveryTableHoldsItsCardinality() throws SQLException {
+        long rows = new DatasetLoader(connection).load(dataset);
+
+        assertEquals(STUDENTS, count("students"));
+        assertEquals(dataset.people(), count("people"));
+        assertEquals(dataset.people(), count("addresses"));
+        assertEquals(dataset.groups(), count("groups"));
+        assertEquals(dataset.teachers(), count("teachers"));
+        assertEquals(dataset.lectures(), count("groups_lectures"));
+        assertEquals(dataset.marks(), count("marks"));
+        assertEquals(rows, dataset.tables().stream().mapToLong(table -> table.rows()).sum());
+    }
+
+    @Test
+    void whenLoad_thenMarksBelongToSubjectsOfTheStudentsGroup() throws SQLException {
+        new DatasetLoader(connection).load(dataset);
+
+        assertEquals(0, count("marks m JOIN students s ON s.id = m.student_id WHERE NOT EXISTS "
+            + "(SELECT 1 FROM groups_subjects gs WHERE gs.group_id = s.group_id AND gs.subject_id = m.subject_id)"));
+        assertEquals(dataset.subjectOfGroup(dataset.groupOfStudent(STUDENTS), 0),
+            single("SELECT min(subject_id) FROM marks WHERE student_id = " + STUDENTS));
+    }
+
+    @Test
+    void whenLoad_thenIdentitiesContinueAfterLoadedIds() throws SQLException {
+        new DatasetLoader(connection).load(dataset);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO faculties (faculty_name) VALUES ('Added')");
+        }
+
+        assertEquals(dataset.faculties() + 1, single("SELECT faculty_id FROM faculties WHERE faculty_name = 'Added'"));
+    }
+
+    @Test
+    void whenLoad_thenPeopleSignInWithDatasetPassword() throws SQLException {
+        new DatasetLoader(connection).load(dataset);
+
+        List<String> hashes = strings("SELECT DISTINCT password FROM people");
+
+        assertEquals(1, hashes.size());
+        assertTrue(new BCryptPasswordEncoder().matches(UniversityDataset.PASSWORD, hashes.get(0)));
+        assertEquals(1, count("people WHERE role = 'ROLE_ADMIN' AND email = '" + dataset.adminEmail() + "'"));
+    }
+
+    @Test
+    void whenLoad_thenGeneratedValuesPassValidation() throws SQLException {
+        new DatasetLoader(connection).load(dataset);
+
+        assertAllMatch("SELECT faculty_name FROM faculties", NAME_PATTERN);
+        assertAllMatch("SELECT department_name FROM departments", NAME_PATTERN);
+        assertAllMatch("SELECT subject_name FROM subjects", NAME_PATTERN);
+        assertAllMatch("SELECT group_name FROM groups", GROUP_NAME_PATTERN);
+        assertAllMatch("SELECT first_name || ' ' || last_name FROM people", NAME_PATTERN);
+        assertAllMatch("SELECT phone_number FROM people", PHONE_NUMBER_PATTERN);
+        assertAllMatch("SELECT street FROM addresses", STREET_PATTERN);
+        assertAllMatch("SELECT postcode FROM addresses", POSTCODE_PATTERN);
+    }
+
+    @Test
+    void givenNoStudents_whenCreate_thenIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UniversityDataset(0));
+    }
+
+    private void assertAllMatch(String query, String pattern) throws SQLException {
+        for (String value : strings(query)) {
+            assertTrue(value.matches(pattern), value + " does not match " + pattern);
+        }
+    }
+
+    private int count(String from) throws SQLException {
+        return single("SELECT count(*) FROM " + from);
+    }
+
+    private int single(String query) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(query)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private List<String> strings(String query) throws SQLException {
+        List<String> values = new ArrayList<>();
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(query)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        }
+
+        return values;
+    }
+}